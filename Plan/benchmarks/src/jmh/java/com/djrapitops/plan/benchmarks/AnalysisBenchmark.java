@@ -0,0 +1,167 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.PlaceholderKey;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.AnalysisKeys;
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.access.queries.containers.ServerContainerQuery;
+import com.djrapitops.plan.db.access.queries.containers.ServerPlayerContainersQuery;
+import com.djrapitops.plan.db.access.queries.objects.GeoInfoQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerSummaryQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import com.djrapitops.plan.system.HtmlUtilities;
+import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.utilities.formatting.Formatters;
+import com.djrapitops.plan.utilities.html.graphs.special.SpecialGraphFactory;
+import com.djrapitops.plan.utilities.html.tables.PlayersTableJSONParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utilities.FieldFetcher;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for the calculations done when the server page is rendered.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalysisBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        AnalysisContainer.Factory analysisContainerFactory;
+        List<Key<?>> analysisKeys;
+        Formatters formatters;
+        SpecialGraphFactory specialGraphs;
+
+        List<PlayerContainer> playerContainers;
+        List<PlayerSummary> playerSummaries;
+        Map<UUID, String> geolocations;
+        SessionColumns sessionColumns;
+        List<Session> sessions;
+        long now;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkDatabase database) throws IllegalAccessException {
+            PlanSystem system = database.system;
+            HtmlUtilities htmlUtilities = system.getHtmlUtilities();
+            analysisContainerFactory = new AnalysisContainer.Factory(
+                    "1.0.0",
+                    system.getConfigSystem().getConfig(),
+                    system.getLocaleSystem().getLocale(),
+                    system.getConfigSystem().getTheme(),
+                    system.getServerInfo().getServerProperties(),
+                    htmlUtilities.getFormatters(),
+                    htmlUtilities.getGraphs(),
+                    htmlUtilities.getHtmlTables(),
+                    htmlUtilities.getAccordions(),
+                    htmlUtilities.getAnalysisPluginsTabContentCreator()
+            );
+            analysisKeys = new ArrayList<>();
+            for (Key<?> key : FieldFetcher.getPublicStaticFields(AnalysisKeys.class, Key.class)) {
+                // Third party plugin data is not part of the generated data set.
+                if (key instanceof PlaceholderKey && key != AnalysisKeys.PLUGINS_TAB && key != AnalysisKeys.PLUGINS_TAB_NAV) {
+                    analysisKeys.add(key);
+                }
+            }
+            formatters = htmlUtilities.getFormatters();
+            specialGraphs = htmlUtilities.getGraphs().special();
+
+            SQLDB db = database.db;
+            UUID serverUUID = database.serverUUID;
+            playerContainers = db.query(new ServerPlayerContainersQuery(serverUUID));
+            playerSummaries = db.query(PlayerSummaryQueries.fetchAllPlayerSummaries()).stream()
+                    .filter(summary -> serverUUID.equals(summary.getServerUUID()))
+                    .collect(Collectors.toList());
+            geolocations = db.query(GeoInfoQueries.fetchMostRecentGeolocations(
+                    playerSummaries.stream().map(PlayerSummary::getPlayerUUID).collect(Collectors.toList())
+            ));
+            sessionColumns = db.query(SessionQueries.fetchSessionColumnsOfServer(serverUUID));
+            sessions = db.query(SessionQueries.fetchSessionsOfServer(serverUUID)).values().stream()
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toList());
+            now = System.currentTimeMillis();
+        }
+    }
+
+    @Benchmark
+    public void analysisContainerKeys(BenchmarkDatabase database, Inputs inputs, Blackhole blackhole) {
+        ServerContainer serverContainer = database.db.query(new ServerContainerQuery(database.serverUUID));
+        AnalysisContainer analysisContainer = inputs.analysisContainerFactory.forServerContainer(serverContainer);
+        for (Key<?> key : inputs.analysisKeys) {
+            blackhole.consume(analysisContainer.getValue(key));
+        }
+    }
+
+    @Benchmark
+    public String playersTableFromContainers(Inputs inputs) {
+        // The parser sorts the given list, a copy keeps the input the same between invocations.
+        List<PlayerContainer> players = new ArrayList<>(inputs.playerContainers);
+        return new PlayersTableJSONParser(
+                players, Collections.emptyMap(),
+                players.size(), SyntheticData.PLAYTIME_THRESHOLD, SyntheticData.LOGIN_THRESHOLD, false,
+                inputs.formatters
+        ).toJSONString();
+    }
+
+    @Benchmark
+    public String playersTableFromSummaries(Inputs inputs) {
+        int total = inputs.playerSummaries.size();
+        return new PlayersTableJSONParser(
+                inputs.playerSummaries, inputs.geolocations,
+                Collections.emptyList(), Collections.emptyMap(),
+                false, inputs.formatters
+        ).toJSONString(1, total, total);
+    }
+
+    @Benchmark
+    public double activityIndexFromContainers(Inputs inputs) {
+        double sum = 0.0;
+        for (PlayerContainer player : inputs.playerContainers) {
+            sum += new ActivityIndex(player, inputs.now, SyntheticData.PLAYTIME_THRESHOLD, SyntheticData.LOGIN_THRESHOLD).getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double activityIndexFromColumns(Inputs inputs) {
+        SessionColumns columns = inputs.sessionColumns;
+        double sum = 0.0;
+        for (int i = 0; i < columns.getPlayerCount(); i++) {
+            sum += new ActivityIndex(columns, i, inputs.now, SyntheticData.PLAYTIME_THRESHOLD, SyntheticData.LOGIN_THRESHOLD).getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String punchCard(Inputs inputs) {
+        return inputs.specialGraphs.punchCard(inputs.sessions).toHighChartsSeries();
+    }
+}
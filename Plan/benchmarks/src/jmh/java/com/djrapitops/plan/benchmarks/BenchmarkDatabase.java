@@ -0,0 +1,70 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.system.PlanSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Benchmark state that enables a mocked PlanSystem and fills its database with {@link SyntheticData}.
+ * <p>
+ * The database is set up once per trial, so benchmarks that use this state must not modify the data.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    @Param({"SQLite", "H2"})
+    public String database;
+
+    @Param({"100", "1000"})
+    public int players;
+
+    @Param({"10"})
+    public int sessionsPerPlayer;
+
+    @Param({"20"})
+    public int pingsPerPlayer;
+
+    public PlanSystem system;
+    public SQLDB db;
+    public UUID serverUUID;
+
+    private Path tempDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tempDir = Files.createTempDirectory("plan-benchmark");
+        system = BenchmarkSystem.enableSystem(tempDir, database);
+
+        db = (SQLDB) system.getDatabaseSystem().getActiveDatabaseByName(database);
+        serverUUID = system.getServerInfo().getServerUUID();
+        new SyntheticData(serverUUID, players, sessionsPerPlayer, pingsPerPlayer).storeInto(db);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkSystem.disableSystem(system, tempDir);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
+import com.djrapitops.plan.system.settings.paths.WebserverSettings;
+import org.openjdk.jmh.annotations.*;
+import utilities.RandomData;
+import utilities.mocks.PluginMockComponent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark state that enables a mocked PlanSystem without any generated data.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+public class BenchmarkSystem {
+
+    public PlanSystem system;
+
+    private Path tempDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tempDir = Files.createTempDirectory("plan-benchmark");
+        system = enableSystem(tempDir, "SQLite");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        disableSystem(system, tempDir);
+    }
+
+    static PlanSystem enableSystem(Path tempDir, String database) throws Exception {
+        PlanSystem system = new PluginMockComponent(tempDir).getPlanSystem();
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(WebserverSettings.PORT, RandomData.randomInt(9005, 9500));
+        config.set(DatabaseSettings.TYPE, database);
+        system.enable();
+        return system;
+    }
+
+    static void disableSystem(PlanSystem system, Path tempDir) throws IOException {
+        if (system != null) {
+            system.disable();
+        }
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
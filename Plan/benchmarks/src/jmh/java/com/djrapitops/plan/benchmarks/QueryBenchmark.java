@@ -0,0 +1,60 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
+import com.djrapitops.plan.db.access.queries.containers.ServerPlayerContainersQuery;
+import com.djrapitops.plan.db.access.queries.objects.PlayerSummaryQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the queries that extract server data from the database.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryBenchmark {
+
+    @Benchmark
+    public Map<UUID, List<Session>> fetchSessionsOfServer(BenchmarkDatabase database) {
+        return database.db.query(SessionQueries.fetchSessionsOfServer(database.serverUUID));
+    }
+
+    @Benchmark
+    public List<PlayerContainer> serverPlayerContainers(BenchmarkDatabase database) {
+        return database.db.query(new ServerPlayerContainersQuery(database.serverUUID));
+    }
+
+    @Benchmark
+    public List<PlayerSummary> playersTablePage(BenchmarkDatabase database) {
+        return database.db.query(PlayerSummaryQueries.fetchPage(
+                database.serverUUID, "", PlayerSummaryQueries.SortColumn.LAST_SEEN, true, 0, 25
+        ));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.system.locale.lang.*;
+import com.djrapitops.plan.utilities.formatting.MultiPatternReplacer;
+import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
+import org.apache.commons.text.StringSubstitutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link MultiPatternReplacer} against the String.replace loop and StringSubstitutor it replaced.
+ * <p>
+ * The text is the server page html, translated with a locale that changes every html Lang value.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReplacerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        String html;
+
+        Map<String, String> translations;
+        List<Map.Entry<String, String>> translationsLongestFirst;
+        MultiPatternReplacer translationReplacer;
+
+        Map<String, String> placeholders;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkSystem benchmarkSystem) throws IOException {
+            html = benchmarkSystem.system.getPlanFiles().getCustomizableResourceOrDefault("web/server.html").asString();
+
+            translations = new HashMap<>();
+            Lang[][] langs = new Lang[][]{
+                    NetworkPageLang.values(),
+                    PlayerPageLang.values(),
+                    ServerPageLang.values(),
+                    CommonHtmlLang.values()
+            };
+            for (Lang[] langArray : langs) {
+                for (Lang lang : langArray) {
+                    String defaultValue = lang.getDefault();
+                    translations.putIfAbsent(defaultValue, new StringBuilder(defaultValue).reverse().toString());
+                }
+            }
+            translationsLongestFirst = new ArrayList<>(translations.entrySet());
+            translationsLongestFirst.sort((one, two) -> Integer.compare(two.getKey().length(), one.getKey().length()));
+            translationReplacer = new MultiPatternReplacer(translations);
+
+            placeholders = new HashMap<>();
+            Matcher matcher = Pattern.compile("\\$\\{(\\w+)}").matcher(html);
+            while (matcher.find()) {
+                placeholders.put(matcher.group(1), "value of " + matcher.group(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public String translateWithReplaceLoop(Inputs inputs) {
+        String replaced = inputs.html;
+        for (Map.Entry<String, String> entry : inputs.translationsLongestFirst) {
+            replaced = replaced.replace(entry.getKey(), entry.getValue());
+        }
+        return replaced;
+    }
+
+    @Benchmark
+    public String translateWithCompiledReplacer(Inputs inputs) {
+        return inputs.translationReplacer.apply(inputs.html);
+    }
+
+    @Benchmark
+    public String translateWithNewReplacer(Inputs inputs) {
+        return new MultiPatternReplacer(inputs.translations).apply(inputs.html);
+    }
+
+    @Benchmark
+    public String placeholdersWithStringSubstitutor(Inputs inputs) {
+        StringSubstitutor sub = new StringSubstitutor(inputs.placeholders);
+        sub.setEnableSubstitutionInVariables(true);
+        return sub.replace(inputs.html);
+    }
+
+    @Benchmark
+    public String placeholdersWithPlaceholderReplacer(Inputs inputs) {
+        PlaceholderReplacer replacer = new PlaceholderReplacer();
+        replacer.putAll(inputs.placeholders);
+        return replacer.apply(inputs.html);
+    }
+}
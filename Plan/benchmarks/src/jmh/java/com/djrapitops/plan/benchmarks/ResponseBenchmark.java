@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.sun.net.httpserver.Headers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for sending a server page sized Response.
+ *
+ * @author Rsl1122
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        Locale locale;
+        Theme theme;
+        String html;
+        Response rendered;
+        Headers gzipRequest;
+        Headers identityRequest;
+        Headers conditionalRequest;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkSystem benchmarkSystem) throws IOException {
+            PlanSystem system = benchmarkSystem.system;
+            locale = system.getLocaleSystem().getLocale();
+            theme = system.getConfigSystem().getTheme();
+            html = system.getPlanFiles().getCustomizableResourceOrDefault("web/server.html").asString();
+
+            gzipRequest = new Headers();
+            gzipRequest.set("Accept-Encoding", "gzip, deflate");
+            identityRequest = new Headers();
+
+            rendered = createResponse(html);
+            BenchmarkExchange first = new BenchmarkExchange(gzipRequest);
+            rendered.send(first, locale, theme);
+            conditionalRequest = new Headers();
+            conditionalRequest.set("Accept-Encoding", "gzip, deflate");
+            conditionalRequest.set("If-None-Match", first.getResponseHeaders().getFirst("ETag"));
+        }
+    }
+
+    static Response createResponse(String content) {
+        Response response = new Response() {
+        };
+        response.setHeader("HTTP/1.1 200 OK");
+        response.setContent(content);
+        return response;
+    }
+
+    @Benchmark
+    public long sendNewGzipped(Inputs inputs) throws IOException {
+        BenchmarkExchange exchange = new BenchmarkExchange(inputs.gzipRequest);
+        createResponse(inputs.html).send(exchange, inputs.locale, inputs.theme);
+        return exchange.getBytesWritten();
+    }
+
+    @Benchmark
+    public long sendNewIdentity(Inputs inputs) throws IOException {
+        BenchmarkExchange exchange = new BenchmarkExchange(inputs.identityRequest);
+        createResponse(inputs.html).send(exchange, inputs.locale, inputs.theme);
+        return exchange.getBytesWritten();
+    }
+
+    @Benchmark
+    public long sendRenderedGzipped(Inputs inputs) throws IOException {
+        BenchmarkExchange exchange = new BenchmarkExchange(inputs.gzipRequest);
+        inputs.rendered.send(exchange, inputs.locale, inputs.theme);
+        return exchange.getBytesWritten();
+    }
+
+    @Benchmark
+    public int sendNotModified(Inputs inputs) throws IOException {
+        BenchmarkExchange exchange = new BenchmarkExchange(inputs.conditionalRequest);
+        inputs.rendered.send(exchange, inputs.locale, inputs.theme);
+        return exchange.getResponseCode();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmarks;
+
+import com.djrapitops.plan.data.container.*;
+import com.djrapitops.plan.data.time.GMTimes;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.access.transactions.UpdateActivityIndexTransaction;
+import com.djrapitops.plan.db.patches.ActivityRollupPatch;
+import com.djrapitops.plan.db.patches.PlayerSummaryPatch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a deterministic data set of players, sessions and pings for a single server.
+ * <p>
+ * The random generator is seeded so that every benchmark run measures the same data.
+ *
+ * @author Rsl1122
+ */
+public class SyntheticData {
+
+    public static final long PLAYTIME_THRESHOLD = TimeUnit.HOURS.toMillis(12L);
+    public static final int LOGIN_THRESHOLD = 2;
+
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end"};
+    private static final String[] COUNTRIES = {"Finland", "Germany", "United States", "Brazil", "Japan"};
+    private static final long MAX_SESSION_LENGTH = TimeUnit.HOURS.toMillis(3L);
+    private static final long TIME_SPAN = TimeUnit.DAYS.toMillis(90L);
+
+    private final UUID serverUUID;
+    private final int players;
+    private final int sessionsPerPlayer;
+    private final int pingsPerPlayer;
+    private final Random random;
+
+    private final long now;
+
+    private final List<BaseUser> users;
+    private final List<UserInfo> userInfo;
+    private final Map<UUID, List<GeoInfo>> geoInfo;
+    private final List<Session> sessions;
+    private final Map<UUID, List<Ping>> pings;
+
+    public SyntheticData(UUID serverUUID, int players, int sessionsPerPlayer, int pingsPerPlayer) {
+        this.serverUUID = serverUUID;
+        this.players = players;
+        this.sessionsPerPlayer = sessionsPerPlayer;
+        this.pingsPerPlayer = pingsPerPlayer;
+        this.random = new Random(1122L);
+        this.now = System.currentTimeMillis();
+
+        users = new ArrayList<>(players);
+        userInfo = new ArrayList<>(players);
+        geoInfo = new HashMap<>();
+        sessions = new ArrayList<>(players * sessionsPerPlayer);
+        pings = new HashMap<>();
+        generate();
+    }
+
+    private void generate() {
+        String[] gms = GMTimes.getGMKeyArray();
+        for (int i = 0; i < players; i++) {
+            String name = "Player" + i;
+            UUID playerUUID = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+            long registered = now - TIME_SPAN + (long) (random.nextDouble() * TIME_SPAN);
+
+            users.add(new BaseUser(playerUUID, name, registered, 0));
+            userInfo.add(new UserInfo(playerUUID, serverUUID, registered, i % 100 == 0, i % 50 == 0));
+            String ip = "10.0." + (i / 256 % 256) + "." + (i % 256);
+            geoInfo.put(playerUUID, Collections.singletonList(new GeoInfo(ip, COUNTRIES[i % COUNTRIES.length], registered)));
+
+            for (int j = 0; j < sessionsPerPlayer; j++) {
+                long start = registered + (long) (random.nextDouble() * (now - registered - MAX_SESSION_LENGTH));
+                long end = start + (long) (random.nextDouble() * MAX_SESSION_LENGTH);
+                Session session = new Session(playerUUID, serverUUID, start, WORLDS[random.nextInt(WORLDS.length)], gms[random.nextInt(gms.length)]);
+                session.endSession(end);
+                sessions.add(session);
+            }
+
+            List<Ping> playerPings = new ArrayList<>(pingsPerPlayer);
+            for (int j = 0; j < pingsPerPlayer; j++) {
+                long date = registered + (long) (random.nextDouble() * (now - registered));
+                int min = 20 + random.nextInt(50);
+                int max = min + random.nextInt(200);
+                playerPings.add(new Ping(date, serverUUID, min, max, (min + max) / 2.0));
+            }
+            pings.put(playerUUID, playerPings);
+        }
+    }
+
+    /**
+     * Store the generated data and fill the aggregate tables the same way an upgraded database is filled.
+     *
+     * @param db Database to store the data into, should not contain data of the same server.
+     * @throws ExecutionException   If a transaction fails.
+     * @throws InterruptedException If the thread is interrupted while waiting for the transactions.
+     */
+    public void storeInto(SQLDB db) throws ExecutionException, InterruptedException {
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(LargeStoreQueries.storeAllWorldNames(Collections.singletonMap(serverUUID, Arrays.asList(WORLDS))));
+                execute(LargeStoreQueries.storeAllCommonUserInformation(users));
+                execute(LargeStoreQueries.storePerServerUserInformation(Collections.singletonMap(serverUUID, userInfo)));
+                execute(LargeStoreQueries.storeAllGeoInformation(geoInfo));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                execute(LargeStoreQueries.storeAllPingData(pings));
+            }
+        }).get();
+        db.executeTransaction(new ActivityRollupPatch()).get();
+        db.executeTransaction(new PlayerSummaryPatch()).get();
+        db.executeTransaction(new UpdateActivityIndexTransaction(serverUUID, now, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD)).get();
+    }
+}
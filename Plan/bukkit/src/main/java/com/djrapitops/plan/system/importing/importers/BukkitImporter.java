@@ -21,9 +21,11 @@ import com.djrapitops.plan.data.container.BaseUser;
 import com.djrapitops.plan.data.container.GeoInfo;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
 import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
@@ -158,10 +160,41 @@ public abstract class BukkitImporter implements Importer {
                 execute(LargeStoreQueries.storePerServerUserInformation(userInformation));
                 execute(LargeStoreQueries.storeAllNicknameData(Collections.singletonMap(serverUUID.get(), nickNames)));
                 execute(LargeStoreQueries.storeAllGeoInformation(geoInfo));
+
+                // Counters kept up to date by the session and registration transactions.
+                for (ActivityRollup rollup : toActivityRollups(userInfo, sessions)) {
+                    execute(DataStoreQueries.storeActivityRollup(rollup));
+                }
+                for (UserInfo info : userInfo) {
+                    execute(DataStoreQueries.registerPlayerSummary(info.getPlayerUuid(), info.getServerUUID(), info.getRegistered()));
+                }
+                for (Session session : sessions) {
+                    execute(DataStoreQueries.storeSessionInPlayerSummary(session));
+                }
             }
         });
     }
 
+    private Collection<ActivityRollup> toActivityRollups(List<UserInfo> userInfo, List<Session> sessions) {
+        Map<Long, ActivityRollup> byHour = new HashMap<>();
+        for (UserInfo info : userInfo) {
+            addActivityRollup(byHour, ActivityRollup.forNewPlayer(info.getServerUUID(), info.getRegistered()));
+        }
+        for (Session session : sessions) {
+            addActivityRollup(byHour, ActivityRollup.forSession(session));
+        }
+        return byHour.values();
+    }
+
+    private void addActivityRollup(Map<Long, ActivityRollup> byHour, ActivityRollup rollup) {
+        ActivityRollup existing = byHour.get(rollup.getDate());
+        if (existing == null) {
+            byHour.put(rollup.getDate(), rollup);
+        } else {
+            existing.add(rollup);
+        }
+    }
+
     private void shutdownService(ExecutorService service) {
         service.shutdown();
         try {
@@ -17,8 +17,10 @@
 package com.djrapitops.plan.system.listeners.bukkit;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.transactions.UpdateActivityIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionServiceImplementation;
@@ -31,6 +33,7 @@ import com.djrapitops.plan.system.processing.Processing;
 import com.djrapitops.plan.system.processing.processors.Processors;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.status.Status;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
@@ -170,7 +173,7 @@ public class PlayerOnlineListener implements Listener {
 
         database.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, player::getFirstPlayed, playerName, serverUUID));
         sessionCache.cacheSession(playerUUID, new Session(playerUUID, serverUUID, time, world, gm))
-                .ifPresent(previousSession -> database.executeTransaction(new SessionEndTransaction(previousSession)));
+                .ifPresent(this::storeEndedSession);
 
         database.executeTransaction(new NicknameStoreTransaction(
                 playerUUID, new Nickname(displayName, time, serverUUID),
@@ -210,8 +213,21 @@ public class PlayerOnlineListener implements Listener {
         dbSystem.getDatabase().executeTransaction(new BanStatusTransaction(playerUUID, player::isBanned));
 
         sessionCache.endSession(playerUUID, time)
-                .ifPresent(endedSession -> dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(endedSession)));
+                .ifPresent(this::storeEndedSession);
 
         processing.submit(processors.info().playerPageUpdateProcessor(playerUUID));
     }
+
+    private void storeEndedSession(Session endedSession) {
+        Database database = dbSystem.getDatabase();
+        database.executeTransaction(new SessionEndTransaction(endedSession));
+        // Players table reads the activity index from the database, so it is updated as soon as the session is stored.
+        database.executeTransaction(new UpdateActivityIndexTransaction(
+                endedSession.getUnsafe(SessionKeys.SERVER_UUID),
+                endedSession.getUnsafe(SessionKeys.UUID),
+                System.currentTimeMillis(),
+                config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
+                config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
+        ));
+    }
 }
@@ -29,6 +29,8 @@ import com.djrapitops.plan.system.tasks.bukkit.PingCountTimerBukkit;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
 import com.djrapitops.plan.system.tasks.server.ConfigStoreTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderValueRefreshTask;
+import com.djrapitops.plan.system.tasks.server.ServerSummaryRefreshTask;
 import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -66,7 +68,8 @@ public class BukkitTaskSystem extends ServerTaskSystem {
             PeriodicAnalysisTask periodicAnalysisTask,
             PingCountTimerBukkit pingCountTimer,
             LogsFolderCleanTask logsFolderCleanTask,
-            PlayersPageRefreshTask playersPageRefreshTask,
+            PlaceholderValueRefreshTask placeholderValueRefreshTask,
+            ServerSummaryRefreshTask serverSummaryRefreshTask,
             ConfigStoreTask configStoreTask,
             DBCleanTask dbCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
@@ -78,7 +81,8 @@ public class BukkitTaskSystem extends ServerTaskSystem {
                 bootAnalysisTask,
                 periodicAnalysisTask,
                 logsFolderCleanTask,
-                playersPageRefreshTask);
+                placeholderValueRefreshTask,
+                serverSummaryRefreshTask);
         this.plugin = plugin;
         this.shutdownHook = shutdownHook;
         this.pingCountTimer = pingCountTimer;
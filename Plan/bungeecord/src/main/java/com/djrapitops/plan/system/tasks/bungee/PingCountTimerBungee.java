@@ -23,12 +23,13 @@
  */
 package com.djrapitops.plan.system.tasks.bungee;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.db.access.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingAccumulator;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -52,7 +53,7 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class PingCountTimerBungee extends AbsRunnable implements Listener {
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingAccumulator> playerHistory;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -76,12 +77,13 @@ public class PingCountTimerBungee extends AbsRunnable implements Listener {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Map<UUID, Ping> aggregates = new HashMap<>();
+        Iterator<Map.Entry<UUID, PingAccumulator>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingAccumulator> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingAccumulator accumulator = entry.getValue();
             ProxiedPlayer player = ProxyServer.getInstance().getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
@@ -89,21 +91,25 @@ public class PingCountTimerBungee extends AbsRunnable implements Listener {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                accumulator.add(time, ping);
+                if (accumulator.isIntervalFull()) {
+                    if (accumulator.hasValues()) {
+                        aggregates.put(uuid, accumulator.toPing(serverInfo.getServerUUID()));
+                    }
+                    accumulator.reset();
                 }
             } else {
                 iterator.remove();
             }
         }
+
+        if (!aggregates.isEmpty()) {
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(aggregates));
+        }
     }
 
     public void addPlayer(ProxiedPlayer player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingAccumulator());
     }
 
     public void removePlayer(ProxiedPlayer player) {
@@ -25,6 +25,7 @@ import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.database.databases.operation.FetchOperations;
 import com.djrapitops.plan.system.database.databases.sql.operation.SQLFetchOps;
@@ -38,6 +39,7 @@ import javax.inject.Singleton;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -51,6 +53,7 @@ public class CommonAPI implements PlanAPI {
     private final DBSystem dbSystem;
     private final UUIDUtility uuidUtility;
     private final HookHandler hookHandler;
+    private final PlaceholderValueCache placeholderValueCache;
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
 
@@ -59,12 +62,14 @@ public class CommonAPI implements PlanAPI {
             DBSystem dbSystem,
             UUIDUtility uuidUtility,
             HookHandler hookHandler,
+            PlaceholderValueCache placeholderValueCache,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
         this.dbSystem = dbSystem;
         this.uuidUtility = uuidUtility;
         this.hookHandler = hookHandler;
+        this.placeholderValueCache = placeholderValueCache;
         this.logger = logger;
         this.errorHandler = errorHandler;
         PlanAPIHolder.set(this);
@@ -120,6 +125,16 @@ public class CommonAPI implements PlanAPI {
         return queryDB(UserIdentifierQueries.fetchPlayerNameOf(playerUUID)).orElse(null);
     }
 
+    @Override
+    public Optional<String> getServerPlaceholderValue(String placeholder) {
+        return placeholderValueCache.getServerValue(placeholder);
+    }
+
+    @Override
+    public Optional<String> getPlayerPlaceholderValue(UUID playerUUID, String placeholder) {
+        return placeholderValueCache.getPlayerValue(playerUUID, placeholder);
+    }
+
     @Override
     public FetchOperations fetchFromPlanDB() {
         logger.warn("PlanAPI#fetchFromPlanDB has been deprecated and will be removed in the future. Stack trace to follow");
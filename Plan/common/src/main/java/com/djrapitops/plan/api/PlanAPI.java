@@ -91,6 +91,27 @@ public interface PlanAPI {
      */
     ServerContainer fetchServerContainer(UUID serverUUID);
 
+    /**
+     * Get a cached value of a server placeholder, eg. "players_total" or "tps_day".
+     * <p>
+     * Non-blocking operation, values are refreshed periodically on an async task.
+     *
+     * @param placeholder Name of the placeholder.
+     * @return Value of the placeholder or empty if the value is not available (yet).
+     */
+    Optional<String> getServerPlaceholderValue(String placeholder);
+
+    /**
+     * Get a cached value of a placeholder of an online player, eg. "playtime".
+     * <p>
+     * Non-blocking operation, values are refreshed periodically on an async task.
+     *
+     * @param playerUUID  UUID of the player.
+     * @param placeholder Name of the placeholder.
+     * @return Value of the placeholder or empty if the value is not available (yet).
+     */
+    Optional<String> getPlayerPlaceholderValue(UUID playerUUID, String placeholder);
+
     /**
      * Fetch server UUIDs.
      *
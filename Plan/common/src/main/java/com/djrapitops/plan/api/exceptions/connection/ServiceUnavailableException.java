@@ -0,0 +1,43 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.api.exceptions.connection;
+
+import com.djrapitops.plan.system.webserver.response.ResponseCode;
+
+/**
+ * Thrown when the other server is too busy to handle the InfoRequest.
+ *
+ * @author Rsl1122
+ */
+public class ServiceUnavailableException extends WebException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, ResponseCode.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get how long the other server asked to wait before sending the request again.
+     *
+     * @return Seconds from the Retry-After header, 0 if it was not given.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
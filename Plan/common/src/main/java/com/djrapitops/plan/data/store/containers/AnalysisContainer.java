@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.keys.AnalysisKeys;
@@ -23,6 +24,8 @@ import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.data.store.mutators.*;
 import com.djrapitops.plan.data.store.mutators.health.HealthInformation;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
 import com.djrapitops.plan.system.locale.Locale;
@@ -34,6 +37,7 @@ import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.graphs.Graphs;
 import com.djrapitops.plan.utilities.html.graphs.bar.BarGraph;
+import com.djrapitops.plan.utilities.html.graphs.line.LineGraph;
 import com.djrapitops.plan.utilities.html.graphs.line.PingGraph;
 import com.djrapitops.plan.utilities.html.graphs.pie.WorldPie;
 import com.djrapitops.plan.utilities.html.graphs.stack.StackGraph;
@@ -50,6 +54,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -105,14 +110,22 @@ public class AnalysisContainer extends DynamicDataContainer {
         addAnalysisSuppliers();
     }
 
+    private SessionColumns getSessionColumns() {
+        return getUnsafe(AnalysisKeys.SESSION_COLUMNS);
+    }
+
     public ServerContainer getServerContainer() {
         return serverContainer;
     }
 
     private void addAnalysisSuppliers() {
         putCachingSupplier(AnalysisKeys.SESSIONS_MUTATOR, () -> SessionsMutator.forContainer(serverContainer));
+        // Aggregates are calculated from the columns, full Session objects are only loaded for session lists.
+        putCachingSupplier(AnalysisKeys.SESSION_COLUMNS, () -> serverContainer.getValue(ServerKeys.SESSION_COLUMNS)
+                .orElseGet(() -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toColumns()));
         putCachingSupplier(AnalysisKeys.TPS_MUTATOR, () -> TPSMutator.forContainer(serverContainer));
         putCachingSupplier(AnalysisKeys.PLAYERS_MUTATOR, () -> PlayersMutator.forContainer(serverContainer));
+        putCachingSupplier(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR, () -> ActivityRollupMutator.forContainer(serverContainer));
 
         addConstants();
         addPlayerSuppliers();
@@ -191,9 +204,6 @@ public class AnalysisContainer extends DynamicDataContainer {
                         .map(dateObj -> formatters.year().apply(dateObj)).orElse("-")
         );
         putSupplier(AnalysisKeys.OPERATORS, () -> serverContainer.getValue(ServerKeys.OPERATORS).map(List::size).orElse(0));
-        putSupplier(AnalysisKeys.PLAYERS_TABLE, () ->
-                tables.playerTableForServerPage(getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).all()).parseHtml()
-        );
         putSupplier(AnalysisKeys.PING_TABLE, () ->
                 tables.pingTable(
                         getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
@@ -208,9 +218,9 @@ public class AnalysisContainer extends DynamicDataContainer {
         Key<PlayersMutator> newDay = new Key<>(PlayersMutator.class, "NEW_DAY");
         Key<PlayersMutator> newWeek = new Key<>(PlayersMutator.class, "NEW_WEEK");
         Key<PlayersMutator> newMonth = new Key<>(PlayersMutator.class, "NEW_MONTH");
-        Key<PlayersMutator> uniqueDay = new Key<>(PlayersMutator.class, "UNIQUE_DAY");
-        Key<PlayersMutator> uniqueWeek = new Key<>(PlayersMutator.class, "UNIQUE_WEEK");
-        Key<PlayersMutator> uniqueMonth = new Key<>(PlayersMutator.class, "UNIQUE_MONTH");
+        Key<ActivityRollupMutator> rollupsDay = new Key<>(ActivityRollupMutator.class, "ROLLUPS_DAY");
+        Key<ActivityRollupMutator> rollupsWeek = new Key<>(ActivityRollupMutator.class, "ROLLUPS_WEEK");
+        Key<ActivityRollupMutator> rollupsMonth = new Key<>(ActivityRollupMutator.class, "ROLLUPS_MONTH");
         putCachingSupplier(newDay, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
                 .filterRegisteredBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
@@ -220,29 +230,32 @@ public class AnalysisContainer extends DynamicDataContainer {
         putCachingSupplier(newMonth, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
                 .filterRegisteredBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
-        putCachingSupplier(uniqueDay, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        putCachingSupplier(rollupsDay, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR)
+                .filterBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
-        putCachingSupplier(uniqueWeek, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        putCachingSupplier(rollupsWeek, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR)
+                .filterBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
-        putCachingSupplier(uniqueMonth, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        putCachingSupplier(rollupsMonth, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR)
+                .filterBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
 
-        putSupplier(AnalysisKeys.PLAYERS_NEW_DAY, () -> getUnsafe(newDay).count());
-        putSupplier(AnalysisKeys.PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).count());
-        putSupplier(AnalysisKeys.PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).count());
-        putSupplier(AnalysisKeys.PLAYERS_DAY, () -> getUnsafe(uniqueDay).count());
-        putSupplier(AnalysisKeys.PLAYERS_WEEK, () -> getUnsafe(uniqueWeek).count());
-        putSupplier(AnalysisKeys.PLAYERS_MONTH, () -> getUnsafe(uniqueMonth).count());
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_DAY, () -> getUnsafe(newDay).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).averageNewPerDay(timeZone));
-
-        putSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).uniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).newPerDay(timeZone));
+        putSupplier(AnalysisKeys.PLAYERS_NEW_DAY, () -> getUnsafe(rollupsDay).toNewPlayerCount());
+        putSupplier(AnalysisKeys.PLAYERS_NEW_WEEK, () -> getUnsafe(rollupsWeek).toNewPlayerCount());
+        putSupplier(AnalysisKeys.PLAYERS_NEW_MONTH, () -> getUnsafe(rollupsMonth).toNewPlayerCount());
+        putSupplier(AnalysisKeys.PLAYERS_DAY, () -> getSessionColumns()
+                .toUniquePlayersBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME)));
+        putSupplier(AnalysisKeys.PLAYERS_WEEK, () -> getSessionColumns()
+                .toUniquePlayersBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME)));
+        putSupplier(AnalysisKeys.PLAYERS_MONTH, () -> getSessionColumns()
+                .toUniquePlayersBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME)));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).averageNewPerDay(timeZone));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_DAY, () -> getUnsafe(rollupsDay).averageNewPerDay(timeZone));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_WEEK, () -> getUnsafe(rollupsWeek).averageNewPerDay(timeZone));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, () -> getUnsafe(rollupsMonth).averageNewPerDay(timeZone));
+
+        putSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> getSessionColumns().uniquePlayersPerDay(timeZone, 0L, Long.MAX_VALUE));
+        putSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).newPerDay(timeZone));
         putSupplier(AnalysisKeys.UNIQUE_PLAYERS_SERIES, () -> graphs.line().lineGraph(
                 MutatorFunctions.toPointsWithRemovedOffset(getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY), timeZone)).toHighChartsSeries()
         );
@@ -253,7 +266,7 @@ public class AnalysisContainer extends DynamicDataContainer {
         Key<Integer> retentionDay = new Key<>(Integer.class, "RETENTION_DAY");
         // compareAndFindThoseLikelyToBeRetained can throw exception.
         putCachingSupplier(retentionDay, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).compareAndFindThoseLikelyToBeRetained(
-                getUnsafe(newDay).all(), getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO),
+                getSessionColumns(), getUnsafe(newDay).all(), getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO),
                 getUnsafe(AnalysisKeys.PLAYERS_ONLINE_RESOLVER),
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
@@ -268,12 +281,14 @@ public class AnalysisContainer extends DynamicDataContainer {
         });
         putCachingSupplier(AnalysisKeys.PLAYERS_RETAINED_WEEK, () ->
                 getUnsafe(newWeek).filterRetained(
+                        getSessionColumns(),
                         getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO),
                         getUnsafe(AnalysisKeys.ANALYSIS_TIME)
                 ).count()
         );
         putCachingSupplier(AnalysisKeys.PLAYERS_RETAINED_MONTH, () ->
                 getUnsafe(newMonth).filterRetained(
+                        getSessionColumns(),
                         getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO),
                         getUnsafe(AnalysisKeys.ANALYSIS_TIME)
                 ).count()
@@ -304,8 +319,11 @@ public class AnalysisContainer extends DynamicDataContainer {
 
     private void addSessionSuppliers() {
         Key<SessionAccordion> sessionAccordion = new Key<>(SessionAccordion.class, "SESSION_ACCORDION");
+        Key<List<Session>> recentSessions = new Key<>(new Type<List<Session>>() {}, "RECENT_SESSIONS");
+        putCachingSupplier(recentSessions, () -> serverContainer.getValue(ServerKeys.RECENT_SESSIONS)
+                .orElseGet(() -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).all()));
         putCachingSupplier(sessionAccordion, () -> accordions.serverSessionAccordion(
-                getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).all(),
+                getUnsafe(recentSessions),
                 () -> Collections.singletonMap(
                         serverContainer.getUnsafe(ServerKeys.SERVER_UUID),
                         serverContainer.getValue(ServerKeys.NAME).orElse("This server")
@@ -317,20 +335,15 @@ public class AnalysisContainer extends DynamicDataContainer {
 
         putSupplier(AnalysisKeys.RECENT_LOGINS, () -> new RecentLoginList(
                 serverContainer.getValue(ServerKeys.PLAYERS).orElse(new ArrayList<>()),
+                getSessionColumns(),
                 formatters.secondLong()).toHtml()
         );
-        putSupplier(AnalysisKeys.SESSION_TABLE, () -> tables.serverSessionTable(
-                getUnsafe(AnalysisKeys.PLAYER_NAMES), getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).all()).parseHtml()
-        );
 
-        putSupplier(AnalysisKeys.AVERAGE_SESSION_LENGTH_F,
-                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageSessionLength())
-        );
-        putSupplier(AnalysisKeys.SESSION_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).count());
-        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlaytime());
-        putSupplier(AnalysisKeys.DEATHS, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toDeathCount());
-        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toMobKillCount());
-        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlayerKillCount());
+        putSupplier(AnalysisKeys.SESSION_COUNT, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toSessionCount());
+        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toPlaytime());
+        putSupplier(AnalysisKeys.DEATHS, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toDeathCount());
+        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toMobKillCount());
+        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toPlayerKillCount());
         putSupplier(AnalysisKeys.PLAYTIME_F,
                 () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.PLAYTIME_TOTAL))
         );
@@ -342,27 +355,28 @@ public class AnalysisContainer extends DynamicDataContainer {
                 }
         );
         putSupplier(AnalysisKeys.AVERAGE_SESSION_LENGTH_F,
-                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageSessionLength())
+                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR).toAverageSessionLength())
         );
 
-        Key<SessionsMutator> sessionsDay = new Key<>(SessionsMutator.class, "SESSIONS_DAY");
-        Key<SessionsMutator> sessionsWeek = new Key<>(SessionsMutator.class, "SESSIONS_WEEK");
-        Key<SessionsMutator> sessionsMonth = new Key<>(SessionsMutator.class, "SESSIONS_MONTH");
-        putCachingSupplier(sessionsDay, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR)
-                .filterSessionsBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
-        );
-        putCachingSupplier(sessionsWeek, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR)
-                .filterSessionsBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
-        );
-        putCachingSupplier(sessionsMonth, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR)
-                .filterSessionsBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
-        );
+        putSupplier(AnalysisKeys.PUNCHCARD_SERIES, () -> graphs.special().punchCard(getUnsafe(AnalysisKeys.ACTIVITY_ROLLUP_MUTATOR)
+                .filterBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        ).toHighChartsSeries());
+        putSupplier(AnalysisKeys.AVG_PLAYERS, () -> MutatorFunctions.average(getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY)));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_DAY, () -> averageUniquePlayersPerDay(AnalysisKeys.ANALYSIS_TIME_DAY_AGO));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_WEEK, () -> averageUniquePlayersPerDay(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_MONTH, () -> averageUniquePlayersPerDay(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO));
+    }
 
-        putSupplier(AnalysisKeys.PUNCHCARD_SERIES, () -> graphs.special().punchCard(getUnsafe(sessionsMonth).all()).toHighChartsSeries());
-        putSupplier(AnalysisKeys.AVG_PLAYERS, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_DAY, () -> getUnsafe(sessionsDay).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_WEEK, () -> getUnsafe(sessionsWeek).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_MONTH, () -> getUnsafe(sessionsMonth).toAverageUniqueJoinsPerDay(timeZone));
+    private int averageUniquePlayersPerDay(Key<Long> after) {
+        return MutatorFunctions.average(getSessionColumns().uniquePlayersPerDay(timeZone, getUnsafe(after), getUnsafe(AnalysisKeys.ANALYSIS_TIME)));
+    }
+
+    private String tpsGraphSeries(TPSBuckets.Metric metric, Function<TPSMutator, LineGraph> mutatorGraph) {
+        // Buckets are aggregated by the database, individual TPS samples are only used if buckets are not available.
+        return serverContainer.getValue(ServerKeys.TPS_GRAPH_BUCKETS)
+                .map(buckets -> graphs.line().lineGraph(buckets, metric))
+                .orElseGet(() -> mutatorGraph.apply(getUnsafe(AnalysisKeys.TPS_MUTATOR)))
+                .toHighChartsSeries();
     }
 
     private void addGraphSuppliers() {
@@ -372,15 +386,13 @@ public class AnalysisContainer extends DynamicDataContainer {
         ));
         putSupplier(AnalysisKeys.WORLD_PIE_SERIES, () -> getUnsafe(worldPie).toHighChartsSeries());
         putSupplier(AnalysisKeys.GM_PIE_SERIES, () -> getUnsafe(worldPie).toHighChartsDrilldown());
-        putSupplier(AnalysisKeys.PLAYERS_ONLINE_SERIES, () ->
-                graphs.line().playersOnlineGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries()
-        );
-        putSupplier(AnalysisKeys.TPS_SERIES, () -> graphs.line().tpsGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
-        putSupplier(AnalysisKeys.CPU_SERIES, () -> graphs.line().cpuGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
-        putSupplier(AnalysisKeys.RAM_SERIES, () -> graphs.line().ramGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
-        putSupplier(AnalysisKeys.DISK_SERIES, () -> graphs.line().diskGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
-        putSupplier(AnalysisKeys.ENTITY_SERIES, () -> graphs.line().entityGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
-        putSupplier(AnalysisKeys.CHUNK_SERIES, () -> graphs.line().cpuGraph(getUnsafe(AnalysisKeys.TPS_MUTATOR)).toHighChartsSeries());
+        putSupplier(AnalysisKeys.PLAYERS_ONLINE_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.PLAYERS_ONLINE, graphs.line()::playersOnlineGraph));
+        putSupplier(AnalysisKeys.TPS_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.TPS, graphs.line()::tpsGraph));
+        putSupplier(AnalysisKeys.CPU_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.CPU, graphs.line()::cpuGraph));
+        putSupplier(AnalysisKeys.RAM_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.RAM, graphs.line()::ramGraph));
+        putSupplier(AnalysisKeys.DISK_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.FREE_DISK, graphs.line()::diskGraph));
+        putSupplier(AnalysisKeys.ENTITY_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.ENTITIES, graphs.line()::entityGraph));
+        putSupplier(AnalysisKeys.CHUNK_SERIES, () -> tpsGraphSeries(TPSBuckets.Metric.CHUNKS, graphs.line()::chunkGraph));
         putSupplier(AnalysisKeys.WORLD_MAP_SERIES, () ->
                 graphs.special().worldMap(getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)).toHighChartsSeries()
         );
@@ -398,12 +410,12 @@ public class AnalysisContainer extends DynamicDataContainer {
         putSupplier(AnalysisKeys.MIN_PING_SERIES, () -> getUnsafe(pingGraph).toMinSeries());
 
         putSupplier(AnalysisKeys.CALENDAR_SERIES, () -> graphs.calendar().serverCalendar(
-                getUnsafe(AnalysisKeys.PLAYERS_MUTATOR),
+                getSessionColumns(),
                 getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY),
                 getUnsafe(AnalysisKeys.NEW_PLAYERS_PER_DAY)
         ).toCalendarSeries());
 
-        putCachingSupplier(AnalysisKeys.ACTIVITY_DATA, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).toActivityDataMap(getUnsafe(AnalysisKeys.ANALYSIS_TIME), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD), config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)));
+        putCachingSupplier(AnalysisKeys.ACTIVITY_DATA, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).toActivityDataMap(getSessionColumns(), getUnsafe(AnalysisKeys.ANALYSIS_TIME), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD), config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)));
         Key<StackGraph> activityStackGraph = new Key<>(StackGraph.class, "ACTIVITY_STACK_GRAPH");
         putCachingSupplier(activityStackGraph, () -> graphs.stack().activityStackGraph(getUnsafe(AnalysisKeys.ACTIVITY_DATA)));
         putSupplier(AnalysisKeys.ACTIVITY_STACK_CATEGORIES, () -> getUnsafe(activityStackGraph).toHighChartsLabels());
@@ -21,6 +21,7 @@ import com.djrapitops.plan.utilities.formatting.Formatter;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -149,4 +150,14 @@ public interface DataContainer {
      * @return Map: Key - Object
      */
     Map<Key, Object> getMap();
+
+    /**
+     * Get the Keys of the data that has been placed into the container.
+     * <p>
+     * Unlike {@link DataContainer#getMap()} this method does not call any Suppliers,
+     * so values can be fetched one at a time with {@link DataContainer#getValue(Key)}.
+     *
+     * @return Set of Keys.
+     */
+    Set<Key> getKeys();
 }
@@ -18,8 +18,10 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.Key;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -104,4 +106,11 @@ public class DynamicDataContainer implements DataContainer {
         map.putAll(rawDataContainer.getMap());
         return map;
     }
+
+    @Override
+    public Set<Key> getKeys() {
+        Set<Key> keys = new HashSet<>(supplierDataContainer.getKeys());
+        keys.addAll(rawDataContainer.getKeys());
+        return keys;
+    }
 }
\ No newline at end of file
@@ -18,14 +18,18 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.keys.NetworkKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.TPSMutator;
 import com.djrapitops.plan.data.store.mutators.health.NetworkHealthInformation;
+import com.djrapitops.plan.data.store.objects.ServerSummary;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
+import com.djrapitops.plan.db.access.queries.objects.ServerSummaryQueries;
 import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
+import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
@@ -52,6 +56,9 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * DataContainer for the whole network.
+ * <p>
+ * Player information is built from summaries the servers store periodically
+ * and from aggregate queries, so the players of the network are not loaded.
  *
  * @author Rsl1122
  * @see com.djrapitops.plan.data.store.keys.NetworkKeys for Key objects
@@ -91,7 +98,17 @@ public class NetworkContainer extends DynamicDataContainer {
         this.formatters = formatters;
         this.graphs = graphs;
 
-        putCachingSupplier(NetworkKeys.PLAYERS_MUTATOR, () -> PlayersMutator.forContainer(bungeeContainer));
+        putCachingSupplier(NetworkKeys.PLAYER_NAMES, () -> database.query(UserIdentifierQueries.fetchAllPlayerNames()));
+        putCachingSupplier(NetworkKeys.SERVER_SUMMARIES, () -> database.query(ServerSummaryQueries.fetchServerSummaries(
+                getUnsafe(NetworkKeys.REFRESH_TIME) - getSummaryMaxAge()
+        )));
+        putCachingSupplier(NetworkKeys.NETWORK_SUMMARY, () -> {
+            ServerSummary networkSummary = new ServerSummary(
+                    bungeeContainer.getUnsafe(ServerKeys.SERVER_UUID), getUnsafe(NetworkKeys.REFRESH_TIME), new HashMap<>()
+            );
+            getUnsafe(NetworkKeys.SERVER_SUMMARIES).values().forEach(networkSummary::add);
+            return networkSummary;
+        });
 
         addConstants();
         addServerBoxes();
@@ -99,6 +116,11 @@ public class NetworkContainer extends DynamicDataContainer {
         addNetworkHealth();
     }
 
+    private long getSummaryMaxAge() {
+        // Summaries of servers that have been gone for longer than this would skew the network totals.
+        return Math.max(TimeUnit.DAYS.toMillis(2L), 3L * config.get(TimeSettings.SERVER_SUMMARY_REFRESH_PERIOD));
+    }
+
     private void addServerBoxes() {
         putSupplier(NetworkKeys.NETWORK_PLAYER_ONLINE_DATA, () -> database.query(TPSQueries.fetchPlayerOnlineDataOfServers(
                 getValue(NetworkKeys.BUKKIT_SERVERS).orElse(new ArrayList<>()))
@@ -139,8 +161,7 @@ public class NetworkContainer extends DynamicDataContainer {
                 locale,
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD),
-                formatters.timeAmount(), formatters.decimals(), formatters.percentage(),
-                config.get(TimeSettings.USE_SERVER_TIME) ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT")
+                formatters.timeAmount(), formatters.decimals(), formatters.percentage()
         ));
         putCachingSupplier(NetworkKeys.HEALTH_INDEX, () -> getUnsafe(healthInformation).getServerHealth());
         putCachingSupplier(NetworkKeys.HEALTH_NOTES, () -> getUnsafe(healthInformation).toHtml());
@@ -169,25 +190,30 @@ public class NetworkContainer extends DynamicDataContainer {
     }
 
     private void addPlayerInformation() {
-        putSupplier(NetworkKeys.PLAYERS_TOTAL, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR).count());
+        putSupplier(NetworkKeys.PLAYERS_TOTAL, () -> database.query(ServerAggregateQueries.baseUserCount()));
+        Key<Map<String, Integer>> geolocationCounts = new Key<>(new Type<Map<String, Integer>>() {}, "GEOLOCATION_COUNTS");
+        putCachingSupplier(geolocationCounts, () -> database.query(ServerAggregateQueries.networkGeolocationCounts()));
         putSupplier(NetworkKeys.WORLD_MAP_SERIES, () ->
-                graphs.special().worldMap(database.query(ServerAggregateQueries.networkGeolocationCounts())).toHighChartsSeries()
+                graphs.special().worldMap(getUnsafe(geolocationCounts)).toHighChartsSeries()
         );
         Key<BarGraph> geolocationBarChart = new Key<>(BarGraph.class, "GEOLOCATION_BAR_GRAPH");
-        putSupplier(geolocationBarChart, () -> graphs.bar().geolocationBarGraph(getUnsafe(NetworkKeys.PLAYERS_MUTATOR)));
+        putSupplier(geolocationBarChart, () -> graphs.bar().geolocationBarGraph(getUnsafe(geolocationCounts)));
         putSupplier(NetworkKeys.COUNTRY_CATEGORIES, () -> getUnsafe(geolocationBarChart).toHighChartsCategories());
         putSupplier(NetworkKeys.COUNTRY_SERIES, () -> getUnsafe(geolocationBarChart).toHighChartsSeries());
 
-        putSupplier(NetworkKeys.PLAYERS_ONLINE_SERIES, () ->
-                graphs.line().playersOnlineGraph(TPSMutator.forContainer(bungeeContainer)).toHighChartsSeries()
+        putSupplier(NetworkKeys.PLAYERS_ONLINE_SERIES, () -> bungeeContainer.getValue(ServerKeys.TPS_GRAPH_BUCKETS)
+                .map(buckets -> graphs.line().lineGraph(buckets, TPSBuckets.Metric.PLAYERS_ONLINE))
+                .orElseGet(() -> graphs.line().playersOnlineGraph(TPSMutator.forContainer(bungeeContainer)))
+                .toHighChartsSeries()
         );
         Key<StackGraph> activityStackGraph = new Key<>(StackGraph.class, "ACTIVITY_STACK_GRAPH");
-        putSupplier(NetworkKeys.ACTIVITY_DATA, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR).toActivityDataMap(getUnsafe(NetworkKeys.REFRESH_TIME), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD), config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)));
-        putSupplier(activityStackGraph, () -> graphs.stack().activityStackGraph(getUnsafe(NetworkKeys.ACTIVITY_DATA)));
+        // Players active on multiple servers are counted once per server in the summed activity groups.
+        putCachingSupplier(NetworkKeys.ACTIVITY_COUNTS, () -> getUnsafe(NetworkKeys.NETWORK_SUMMARY).toActivityCounts(getUnsafe(NetworkKeys.REFRESH_TIME)));
+        putSupplier(activityStackGraph, () -> graphs.stack().activityStackGraphOfCounts(getUnsafe(NetworkKeys.ACTIVITY_COUNTS)));
         putSupplier(NetworkKeys.ACTIVITY_STACK_CATEGORIES, () -> getUnsafe(activityStackGraph).toHighChartsLabels());
         putSupplier(NetworkKeys.ACTIVITY_STACK_SERIES, () -> getUnsafe(activityStackGraph).toHighChartsSeries());
-        putSupplier(NetworkKeys.ACTIVITY_PIE_SERIES, () -> graphs.pie().activityPie(
-                getUnsafe(NetworkKeys.ACTIVITY_DATA).get(getUnsafe(NetworkKeys.REFRESH_TIME))).toHighChartsSeries()
+        putSupplier(NetworkKeys.ACTIVITY_PIE_SERIES, () -> graphs.pie().activityPieOfCounts(
+                getUnsafe(NetworkKeys.ACTIVITY_COUNTS).get(getUnsafe(NetworkKeys.REFRESH_TIME))).toHighChartsSeries()
         );
 
         putSupplier(NetworkKeys.ALL_TIME_PEAK_TIME_F, () ->
@@ -207,37 +233,24 @@ public class NetworkContainer extends DynamicDataContainer {
     }
 
     private void addPlayerCounts() {
-        Key<PlayersMutator> newDay = new Key<>(PlayersMutator.class, "NEW_DAY");
-        Key<PlayersMutator> newWeek = new Key<>(PlayersMutator.class, "NEW_WEEK");
-        Key<PlayersMutator> newMonth = new Key<>(PlayersMutator.class, "NEW_MONTH");
-        Key<PlayersMutator> uniqueDay = new Key<>(PlayersMutator.class, "UNIQUE_DAY");
-        Key<PlayersMutator> uniqueWeek = new Key<>(PlayersMutator.class, "UNIQUE_WEEK");
-        Key<PlayersMutator> uniqueMonth = new Key<>(PlayersMutator.class, "UNIQUE_MONTH");
-        putCachingSupplier(newDay, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterRegisteredBetween(getUnsafe(NetworkKeys.REFRESH_TIME_DAY_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-        putCachingSupplier(newWeek, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterRegisteredBetween(getUnsafe(NetworkKeys.REFRESH_TIME_WEEK_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-        putCachingSupplier(newMonth, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterRegisteredBetween(getUnsafe(NetworkKeys.REFRESH_TIME_MONTH_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-        putCachingSupplier(uniqueDay, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(NetworkKeys.REFRESH_TIME_DAY_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-        putCachingSupplier(uniqueWeek, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(NetworkKeys.REFRESH_TIME_WEEK_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-        putCachingSupplier(uniqueMonth, () -> getUnsafe(NetworkKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(NetworkKeys.REFRESH_TIME_MONTH_AGO), getUnsafe(NetworkKeys.REFRESH_TIME))
-        );
-
-        putSupplier(NetworkKeys.PLAYERS_NEW_DAY, () -> getUnsafe(newDay).count());
-        putSupplier(NetworkKeys.PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).count());
-        putSupplier(NetworkKeys.PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).count());
-        putSupplier(NetworkKeys.PLAYERS_DAY, () -> getUnsafe(uniqueDay).count());
-        putSupplier(NetworkKeys.PLAYERS_WEEK, () -> getUnsafe(uniqueWeek).count());
-        putSupplier(NetworkKeys.PLAYERS_MONTH, () -> getUnsafe(uniqueMonth).count());
+        putSupplier(NetworkKeys.PLAYERS_NEW_DAY, () -> database.query(ServerAggregateQueries.networkNewUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_DAY_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
+        putSupplier(NetworkKeys.PLAYERS_NEW_WEEK, () -> database.query(ServerAggregateQueries.networkNewUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_WEEK_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
+        putSupplier(NetworkKeys.PLAYERS_NEW_MONTH, () -> database.query(ServerAggregateQueries.networkNewUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_MONTH_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
+        putSupplier(NetworkKeys.PLAYERS_DAY, () -> database.query(ServerAggregateQueries.networkUniqueUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_DAY_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
+        putSupplier(NetworkKeys.PLAYERS_WEEK, () -> database.query(ServerAggregateQueries.networkUniqueUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_WEEK_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
+        putSupplier(NetworkKeys.PLAYERS_MONTH, () -> database.query(ServerAggregateQueries.networkUniqueUserCount(
+                getUnsafe(NetworkKeys.REFRESH_TIME_MONTH_AGO), getUnsafe(NetworkKeys.REFRESH_TIME)
+        )));
     }
 
     public ServerContainer getBungeeContainer() {
@@ -25,6 +25,7 @@ import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Container for data about a player linked to a single server.
@@ -80,6 +81,18 @@ public class PerServerContainer extends HashMap<UUID, DataContainer> {
         }
     }
 
+    /**
+     * Put the sessions of a server as a supplier that is only called when the sessions are needed.
+     *
+     * @param serverUUID UUID of the server the sessions are from.
+     * @param sessions   Supplier for the sessions.
+     */
+    public void putSessions(UUID serverUUID, Supplier<List<Session>> sessions) {
+        DataContainer container = getOrDefault(serverUUID, new DynamicDataContainer());
+        container.putCachingSupplier(PerServerKeys.SESSIONS, sessions);
+        put(serverUUID, container);
+    }
+
     private void putSession(Session session) {
         if (session == null) {
             return;
@@ -16,9 +16,12 @@
  */
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.ActivityIndex;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.WeeklyActivity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,13 +36,40 @@ import java.util.Map;
 public class PlayerContainer extends DynamicDataContainer {
 
     private Map<Long, ActivityIndex> activityIndexCache;
+    // Thresholds the cached activity indexes were calculated with
+    private long cachedPlaytimeThreshold = -1L;
+    private int cachedLoginThreshold = -1;
+    private WeeklyActivity weeklyActivity;
 
     public PlayerContainer() {
         activityIndexCache = new HashMap<>();
     }
 
+    /**
+     * Get activity index of the player, memoized by date and thresholds.
+     * <p>
+     * Sessions are bucketed into weeks once, so activity indexes of dates whole weeks apart
+     * (like the weekly points of activity graphs) are calculated without going through the sessions again.
+     *
+     * @param date                Epoch ms to calculate the index at.
+     * @param playtimeMsThreshold Active playtime threshold per week in ms.
+     * @param loginThreshold      Login threshold per week.
+     * @return ActivityIndex of the player.
+     */
     public ActivityIndex getActivityIndex(long date, long playtimeMsThreshold, int loginThreshold) {
-        return activityIndexCache.computeIfAbsent(date, time -> new ActivityIndex(this, time, playtimeMsThreshold, loginThreshold));
+        if (playtimeMsThreshold != cachedPlaytimeThreshold || loginThreshold != cachedLoginThreshold) {
+            activityIndexCache.clear();
+            cachedPlaytimeThreshold = playtimeMsThreshold;
+            cachedLoginThreshold = loginThreshold;
+        }
+        return activityIndexCache.computeIfAbsent(date, time -> new ActivityIndex(getWeeklyActivity(time), time, playtimeMsThreshold, loginThreshold));
+    }
+
+    private WeeklyActivity getWeeklyActivity(long date) {
+        if (weeklyActivity == null || !weeklyActivity.covers(date)) {
+            weeklyActivity = WeeklyActivity.of(getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>()), date);
+        }
+        return weeklyActivity;
     }
 
     public boolean playedBetween(long after, long before) {
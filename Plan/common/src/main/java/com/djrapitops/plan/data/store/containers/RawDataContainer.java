@@ -21,6 +21,7 @@ import com.djrapitops.plan.data.store.Key;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -105,4 +106,9 @@ public class RawDataContainer implements DataContainer {
     public Map<Key, Object> getMap() {
         return map;
     }
+
+    @Override
+    public Set<Key> getKeys() {
+        return map.keySet();
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.djrapitops.plan.data.store.Key;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -135,4 +136,9 @@ public class SupplierDataContainer implements DataContainer {
         }
         return objectMap;
     }
+
+    @Override
+    public Set<Key> getKeys() {
+        return map.keySet();
+    }
 }
\ No newline at end of file
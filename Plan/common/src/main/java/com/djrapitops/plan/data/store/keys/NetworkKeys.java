@@ -20,7 +20,7 @@ import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.PlaceholderKey;
 import com.djrapitops.plan.data.store.Type;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
+import com.djrapitops.plan.data.store.objects.ServerSummary;
 import com.djrapitops.plan.system.info.server.Server;
 
 import java.util.*;
@@ -69,10 +69,12 @@ public class NetworkKeys {
     public static final Key<Long> REFRESH_TIME_DAY_AGO = new Key<>(Long.class, "REFRESH_TIME_DAY_AGO");
     public static final Key<Long> REFRESH_TIME_WEEK_AGO = new Key<>(Long.class, "REFRESH_TIME_WEEK_AGO");
     public static final Key<Long> REFRESH_TIME_MONTH_AGO = new Key<>(Long.class, "REFRESH_TIME_MONTH_AGO");
-    public static final Key<PlayersMutator> PLAYERS_MUTATOR = CommonKeys.PLAYERS_MUTATOR;
+    public static final Key<Map<UUID, String>> PLAYER_NAMES = new Key<>(new Type<Map<UUID, String>>() {}, "PLAYER_NAMES");
 
     public static final Key<Collection<Server>> BUKKIT_SERVERS = new Key<>(new Type<Collection<Server>>() {}, "BUKKIT_SERVERS");
-    public static final Key<TreeMap<Long, Map<String, Set<UUID>>>> ACTIVITY_DATA = CommonKeys.ACTIVITY_DATA;
+    public static final Key<TreeMap<Long, Map<String, Integer>>> ACTIVITY_COUNTS = new Key<>(new Type<TreeMap<Long, Map<String, Integer>>>() {}, "ACTIVITY_COUNTS");
+    public static final Key<Map<UUID, ServerSummary>> SERVER_SUMMARIES = new Key<>(new Type<Map<UUID, ServerSummary>>() {}, "SERVER_SUMMARIES");
+    public static final Key<ServerSummary> NETWORK_SUMMARY = new Key<>(ServerSummary.class, "NETWORK_SUMMARY");
     public static final Key<Map<Integer, List<TPS>>> NETWORK_PLAYER_ONLINE_DATA = new Key<>(new Type<Map<Integer, List<TPS>>>() {}, "NETWORK_PLAYER_ONLINE_DATA");
     @Deprecated
     public static final Key<Map<UUID, Integer>> SERVER_REGISTER_DATA = new Key<>(new Type<Map<UUID, Integer>>() {}, "SERVER_REGISTER_DATA");
@@ -23,7 +23,10 @@ import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.data.store.objects.DateObj;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.extension.implementation.results.server.ExtensionServerData;
 
@@ -52,6 +55,9 @@ public class ServerKeys {
     public static final Key<Integer> PLAYER_COUNT = new Key<>(Integer.class, "player_count");
 
     public static final Key<List<Session>> SESSIONS = CommonKeys.SESSIONS;
+    public static final Key<SessionColumns> SESSION_COLUMNS = new Key<>(SessionColumns.class, "session_columns");
+    public static final Key<List<Session>> RECENT_SESSIONS = new Key<>(new Type<List<Session>>() {}, "recent_sessions");
+    public static final Key<List<ActivityRollup>> ACTIVITY_ROLLUPS = new Key<>(new Type<List<ActivityRollup>>() {}, "activity_rollups");
     public static final Key<List<Ping>> PING = CommonKeys.PING;
     public static final Key<WorldTimes> WORLD_TIMES = CommonKeys.WORLD_TIMES;
 
@@ -61,6 +67,7 @@ public class ServerKeys {
     public static final Key<Integer> DEATH_COUNT = CommonKeys.DEATH_COUNT;
 
     public static final Key<List<TPS>> TPS = new Key<>(new Type<List<TPS>>() {}, "tps");
+    public static final Key<TPSBuckets> TPS_GRAPH_BUCKETS = new Key<>(TPSBuckets.class, "tps_graph_buckets");
     public static final Key<DateObj<Integer>> ALL_TIME_PEAK_PLAYERS = new Key<>(new Type<DateObj<Integer>>() {}, "all_time_peak_players");
     public static final Key<DateObj<Integer>> RECENT_PEAK_PLAYERS = new Key<>(new Type<DateObj<Integer>>() {}, "recent_peak_players");
     public static final Key<Map<String, Integer>> COMMAND_USAGE = new Key<>(new Type<Map<String, Integer>>() {}, "command_usage");
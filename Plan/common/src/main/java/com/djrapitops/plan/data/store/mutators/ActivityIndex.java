@@ -19,6 +19,8 @@ package com.djrapitops.plan.data.store.mutators;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.data.store.objects.WeeklyActivity;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plugin.api.TimeAmount;
 
@@ -27,6 +29,14 @@ import java.util.Optional;
 
 public class ActivityIndex {
 
+    /**
+     * Lowest value of each activity group, in the order of {@link #getGroups()}.
+     */
+    public static final double VERY_ACTIVE = 3.5;
+    public static final double ACTIVE = 1.75;
+    public static final double REGULAR = 1.0;
+    public static final double IRREGULAR = 0.5;
+
     private final double value;
 
     private final long playtimeMsThreshold;
@@ -42,6 +52,55 @@ public class ActivityIndex {
         value = calculate(container, date);
     }
 
+    /**
+     * Calculate activity index from columnar session data without creating any session objects.
+     *
+     * @param sessions            Columnar session data.
+     * @param playerIndex         Index of the player in the columns, -1 if the player has no sessions.
+     * @param date                Epoch ms to calculate the index at.
+     * @param playtimeMsThreshold Active playtime threshold per week in ms.
+     * @param loginThreshold      Login threshold per week.
+     */
+    public ActivityIndex(
+            SessionColumns sessions, int playerIndex, long date,
+            long playtimeMsThreshold, int loginThreshold
+    ) {
+        this.playtimeMsThreshold = playtimeMsThreshold;
+        this.loginThreshold = loginThreshold;
+
+        value = calculate(sessions, playerIndex, date);
+    }
+
+    /**
+     * Calculate activity index from weekly bucketed session data.
+     *
+     * @param weeklyActivity      Weekly activity of the player, needs to {@link WeeklyActivity#covers(long)} the date.
+     * @param date                Epoch ms to calculate the index at.
+     * @param playtimeMsThreshold Active playtime threshold per week in ms.
+     * @param loginThreshold      Login threshold per week.
+     */
+    public ActivityIndex(
+            WeeklyActivity weeklyActivity, long date,
+            long playtimeMsThreshold, int loginThreshold
+    ) {
+        this.playtimeMsThreshold = playtimeMsThreshold;
+        this.loginThreshold = loginThreshold;
+
+        value = calculate(weeklyActivity, date);
+    }
+
+    /**
+     * Wrap an already calculated activity index value, for example one read from the database.
+     *
+     * @param value Value of the activity index.
+     */
+    public ActivityIndex(double value) {
+        this.playtimeMsThreshold = -1;
+        this.loginThreshold = -1;
+
+        this.value = value;
+    }
+
     public static String[] getGroups() {
         return new String[]{"Very Active", "Active", "Regular", "Irregular", "Inactive"};
     }
@@ -52,9 +111,6 @@ public class ActivityIndex {
         long twoWeeksAgo = date - 2L * week;
         long threeWeeksAgo = date - 3L * week;
 
-        long activePlayThreshold = playtimeMsThreshold;
-        int activeLoginThreshold = loginThreshold;
-
         Optional<List<Session>> sessionsValue = container.getValue(PlayerKeys.SESSIONS);
         if (!sessionsValue.isPresent()) {
             return 0.0;
@@ -68,20 +124,62 @@ public class ActivityIndex {
         SessionsMutator weekTwo = sessionsMutator.filterSessionsBetween(twoWeeksAgo, weekAgo);
         SessionsMutator weekThree = sessionsMutator.filterSessionsBetween(threeWeeksAgo, twoWeeksAgo);
 
+        return calculate(
+                weekOne.toActivePlaytime(), weekTwo.toActivePlaytime(), weekThree.toActivePlaytime(),
+                weekOne.count(), weekTwo.count(), weekThree.count()
+        );
+    }
+
+    private double calculate(SessionColumns sessions, int playerIndex, long date) {
+        if (playerIndex == -1 || sessions.rangeStart(playerIndex) == sessions.rangeEnd(playerIndex)) {
+            return 0.0;
+        }
+
+        long week = TimeAmount.WEEK.toMillis(1L);
+        long weekAgo = date - week;
+        long twoWeeksAgo = date - 2L * week;
+        long threeWeeksAgo = date - 3L * week;
+
+        return calculate(
+                sessions.activePlaytimeBetween(playerIndex, weekAgo, date),
+                sessions.activePlaytimeBetween(playerIndex, twoWeeksAgo, weekAgo),
+                sessions.activePlaytimeBetween(playerIndex, threeWeeksAgo, twoWeeksAgo),
+                sessions.countBetween(playerIndex, weekAgo, date),
+                sessions.countBetween(playerIndex, twoWeeksAgo, weekAgo),
+                sessions.countBetween(playerIndex, threeWeeksAgo, twoWeeksAgo)
+        );
+    }
+
+    private double calculate(WeeklyActivity weeklyActivity, long date) {
+        int week = weeklyActivity.weekIndexOf(date);
+        return calculate(
+                weeklyActivity.getActivePlaytime(week),
+                weeklyActivity.getActivePlaytime(week + 1),
+                weeklyActivity.getActivePlaytime(week + 2),
+                weeklyActivity.getSessionCount(week),
+                weeklyActivity.getSessionCount(week + 1),
+                weeklyActivity.getSessionCount(week + 2)
+        );
+    }
+
+    private double calculate(
+            long playtimeWeek, long playtimeWeek2, long playtimeWeek3,
+            int loginsWeek, int loginsWeek2, int loginsWeek3
+    ) {
+        long activePlayThreshold = playtimeMsThreshold;
+        int activeLoginThreshold = loginThreshold;
+
         // Playtime per week multipliers, max out to avoid too high values.
         double max = 4.0;
 
-        long playtimeWeek = weekOne.toActivePlaytime();
         double weekPlay = (playtimeWeek * 1.0 / activePlayThreshold);
         if (weekPlay > max) {
             weekPlay = max;
         }
-        long playtimeWeek2 = weekTwo.toActivePlaytime();
         double week2Play = (playtimeWeek2 * 1.0 / activePlayThreshold);
         if (week2Play > max) {
             week2Play = max;
         }
-        long playtimeWeek3 = weekThree.toActivePlaytime();
         double week3Play = (playtimeWeek3 * 1.0 / activePlayThreshold);
         if (week3Play > max) {
             week3Play = max;
@@ -105,9 +203,9 @@ public class ActivityIndex {
 
         double playAvg = (weekPlay + week2Play + week3Play) / 3.0;
 
-        double weekLogin = weekOne.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week2Login = weekTwo.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week3Login = weekThree.count() >= activeLoginThreshold ? 1.0 : 0.5;
+        double weekLogin = loginsWeek >= activeLoginThreshold ? 1.0 : 0.5;
+        double week2Login = loginsWeek2 >= activeLoginThreshold ? 1.0 : 0.5;
+        double week3Login = loginsWeek3 >= activeLoginThreshold ? 1.0 : 0.5;
 
         double loginMultiplier = 1.0;
         double loginTotal = weekLogin + week2Login + week3Login;
@@ -130,13 +228,13 @@ public class ActivityIndex {
     }
 
     public String getGroup() {
-        if (value >= 3.5) {
+        if (value >= VERY_ACTIVE) {
             return "Very Active";
-        } else if (value >= 1.75) {
+        } else if (value >= ACTIVE) {
             return "Active";
-        } else if (value >= 1.0) {
+        } else if (value >= REGULAR) {
             return "Regular";
-        } else if (value >= 0.5) {
+        } else if (value >= IRREGULAR) {
             return "Irregular";
         } else {
             return "Inactive";
@@ -144,13 +242,13 @@ public class ActivityIndex {
     }
 
     public String getColor() {
-        if (value >= 3.5) {
+        if (value >= VERY_ACTIVE) {
             return "green";
-        } else if (value >= 1.75) {
+        } else if (value >= ACTIVE) {
             return "green";
-        } else if (value >= 1.0) {
+        } else if (value >= REGULAR) {
             return "lime";
-        } else if (value >= 0.5) {
+        } else if (value >= IRREGULAR) {
             return "amber";
         } else {
             return "blue-gray";
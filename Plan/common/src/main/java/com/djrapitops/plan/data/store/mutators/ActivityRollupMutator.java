@@ -0,0 +1,126 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Mutator for hourly {@link ActivityRollup} counters of a server.
+ * <p>
+ * Time ranges include every hour that overlaps the range, so totals of a range can include up to an hour
+ * of activity from outside either end.
+ *
+ * @author Rsl1122
+ */
+public class ActivityRollupMutator {
+
+    private final List<ActivityRollup> rollups;
+
+    public ActivityRollupMutator(List<ActivityRollup> rollups) {
+        this.rollups = rollups;
+    }
+
+    public static ActivityRollupMutator forContainer(DataContainer container) {
+        return new ActivityRollupMutator(container.getValue(ServerKeys.ACTIVITY_ROLLUPS).orElse(new ArrayList<>()));
+    }
+
+    public ActivityRollupMutator filterBy(Predicate<ActivityRollup> predicate) {
+        return new ActivityRollupMutator(rollups.stream().filter(predicate).collect(Collectors.toList()));
+    }
+
+    public ActivityRollupMutator filterBetween(long after, long before) {
+        return filterBy(rollup -> after < rollup.getDate() + ActivityRollup.HOUR_MS && rollup.getDate() <= before);
+    }
+
+    public List<ActivityRollup> all() {
+        return rollups;
+    }
+
+    public int toNewPlayerCount() {
+        return rollups.stream().mapToInt(ActivityRollup::getNewPlayers).sum();
+    }
+
+    public int toSessionCount() {
+        return rollups.stream().mapToInt(ActivityRollup::getSessions).sum();
+    }
+
+    public long toPlaytime() {
+        return rollups.stream().mapToLong(ActivityRollup::getPlaytime).sum();
+    }
+
+    public long toAfkTime() {
+        return rollups.stream().mapToLong(ActivityRollup::getAfkTime).sum();
+    }
+
+    public int toMobKillCount() {
+        return rollups.stream().mapToInt(ActivityRollup::getMobKills).sum();
+    }
+
+    public int toPlayerKillCount() {
+        return rollups.stream().mapToInt(ActivityRollup::getPlayerKills).sum();
+    }
+
+    public int toDeathCount() {
+        return rollups.stream().mapToInt(ActivityRollup::getDeaths).sum();
+    }
+
+    public long toAverageSessionLength() {
+        int sessionCount = toSessionCount();
+        return sessionCount != 0 ? toPlaytime() / sessionCount : 0L;
+    }
+
+    public int averageNewPerDay(TimeZone timeZone) {
+        return MutatorFunctions.average(newPerDay(timeZone));
+    }
+
+    public TreeMap<Long, Integer> newPerDay(TimeZone timeZone) {
+        List<ActivityRollup> withNewPlayers = filterBy(rollup -> rollup.getNewPlayers() > 0).all();
+        // Adds timezone offset
+        SortedMap<Long, List<ActivityRollup>> byDay = new DateHoldersMutator<>(withNewPlayers).groupByStartOfDay(timeZone);
+        TreeMap<Long, Integer> byDayCounts = new TreeMap<>();
+
+        for (Map.Entry<Long, List<ActivityRollup>> entry : byDay.entrySet()) {
+            byDayCounts.put(
+                    entry.getKey(),
+                    new ActivityRollupMutator(entry.getValue()).toNewPlayerCount()
+            );
+        }
+
+        return byDayCounts;
+    }
+
+    /**
+     * Get the amount of sessions that started during each hour.
+     *
+     * @return Map: Start of the hour (epoch ms) - Session count.
+     */
+    public Map<Long, Integer> toSessionStartCounts() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (ActivityRollup rollup : rollups) {
+            if (rollup.getSessions() > 0) {
+                counts.merge(rollup.getDate(), rollup.getSessions(), Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
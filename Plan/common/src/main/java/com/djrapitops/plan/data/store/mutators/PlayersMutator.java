@@ -25,6 +25,7 @@ import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.DateObj;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plugin.api.TimeAmount;
 
 import java.util.*;
@@ -86,10 +87,49 @@ public class PlayersMutator {
         );
     }
 
+    /**
+     * Filter players that played in both halves of the given period using columnar session data.
+     *
+     * @param sessions Sessions of the players in columnar form.
+     * @param after    Epoch ms start of the period.
+     * @param before   Epoch ms end of the period.
+     * @return Mutator with the retained players.
+     */
+    public PlayersMutator filterRetained(SessionColumns sessions, long after, long before) {
+        return filterBy(
+                player -> {
+                    int playerIndex = sessions.indexOf(player.getUnsafe(PlayerKeys.UUID));
+                    if (playerIndex == -1) {
+                        return false;
+                    }
+                    long backLimit = Math.max(after, player.getValue(PlayerKeys.REGISTERED).orElse(0L));
+                    long half = backLimit + ((before - backLimit) / 2L);
+                    return sessions.playedBetween(playerIndex, backLimit, half) &&
+                            sessions.playedBetween(playerIndex, half, before);
+                }
+        );
+    }
+
     public PlayersMutator filterActive(long date, long msThreshold, int loginThreshold, double limit) {
         return filterBy(player -> player.getActivityIndex(date, msThreshold, loginThreshold).getValue() >= limit);
     }
 
+    /**
+     * Filter active players using columnar session data.
+     *
+     * @param sessions       Sessions of the players in columnar form.
+     * @param date           Epoch ms to calculate activity at.
+     * @param msThreshold    Active playtime threshold per week in ms.
+     * @param loginThreshold Login threshold per week.
+     * @param limit          Minimum activity index value.
+     * @return Mutator with players that have activity index over the limit.
+     */
+    public PlayersMutator filterActive(SessionColumns sessions, long date, long msThreshold, int loginThreshold, double limit) {
+        return filterBy(player -> new ActivityIndex(
+                sessions, sessions.indexOf(player.getUnsafe(PlayerKeys.UUID)), date, msThreshold, loginThreshold
+        ).getValue() >= limit);
+    }
+
     public PlayersMutator filterPlayedOnServer(UUID serverUUID) {
         return filterBy(player -> !SessionsMutator.forContainer(player)
                 .filterPlayedOnServer(serverUUID)
@@ -161,6 +201,41 @@ public class PlayersMutator {
         return activityData;
     }
 
+    /**
+     * Calculate activity groups of the players for 9 weekly points using columnar session data.
+     *
+     * @param sessions       Sessions of the players in columnar form.
+     * @param date           Epoch ms of the most recent point.
+     * @param msThreshold    Active playtime threshold per week in ms.
+     * @param loginThreshold Login threshold per week.
+     * @return TreeMap: Epoch ms - (Activity group - Player UUIDs)
+     * @see #toActivityDataMap(long, long, int) for the same calculation with session objects.
+     */
+    public TreeMap<Long, Map<String, Set<UUID>>> toActivityDataMap(SessionColumns sessions, long date, long msThreshold, int loginThreshold) {
+        int[] playerIndexes = new int[players.size()];
+        for (int i = 0; i < playerIndexes.length; i++) {
+            playerIndexes[i] = sessions.indexOf(players.get(i).getUnsafe(PlayerKeys.UUID));
+        }
+
+        TreeMap<Long, Map<String, Set<UUID>>> activityData = new TreeMap<>();
+        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
+            Map<String, Set<UUID>> map = activityData.getOrDefault(time, new HashMap<>());
+            for (int i = 0; i < playerIndexes.length; i++) {
+                PlayerContainer player = players.get(i);
+                if (player.getValue(PlayerKeys.REGISTERED).orElse(0L) > time) {
+                    continue;
+                }
+                String activityGroup = new ActivityIndex(sessions, playerIndexes[i], time, msThreshold, loginThreshold).getGroup();
+
+                Set<UUID> uuids = map.getOrDefault(activityGroup, new HashSet<>());
+                uuids.add(player.getUnsafe(PlayerKeys.UUID));
+                map.put(activityGroup, uuids);
+            }
+            activityData.put(time, map);
+        }
+        return activityData;
+    }
+
     public int count() {
         return players.size();
     }
@@ -246,6 +321,64 @@ public class PlayersMutator {
         return new PlayersMutator(toBeRetained);
     }
 
+    /**
+     * Compares players in the mutator to other players in terms of player retention using columnar session data.
+     *
+     * @param sessions  Sessions of the players in columnar form.
+     * @param compareTo Players to compare to.
+     * @param dateLimit Epoch ms back limit, if the player registered after this their value is not used.
+     * @return Mutator containing the players that are considered to be retained.
+     * @throws IllegalStateException If all players are rejected due to dateLimit.
+     */
+    public PlayersMutator compareAndFindThoseLikelyToBeRetained(
+            SessionColumns sessions,
+            Iterable<PlayerContainer> compareTo,
+            long dateLimit,
+            PlayersOnlineResolver onlineResolver,
+            long activityMsThreshold,
+            int activityLoginThreshold
+    ) {
+        Collection<RetentionData> retained = new ArrayList<>();
+        Collection<RetentionData> notRetained = new ArrayList<>();
+
+        for (PlayerContainer player : players) {
+            long registered = player.getValue(PlayerKeys.REGISTERED).orElse(System.currentTimeMillis());
+
+            // Discard uncertain data
+            if (registered > dateLimit) {
+                continue;
+            }
+
+            long monthAfterRegister = registered + TimeAmount.MONTH.toMillis(1L);
+            long half = registered + (TimeAmount.MONTH.toMillis(1L) / 2L);
+            int playerIndex = sessions.indexOf(player.getUnsafe(PlayerKeys.UUID));
+            RetentionData retentionData = new RetentionData(player, sessions, onlineResolver, activityMsThreshold, activityLoginThreshold);
+            if (playerIndex != -1
+                    && sessions.playedBetween(playerIndex, registered, half)
+                    && sessions.playedBetween(playerIndex, half, monthAfterRegister)) {
+                retained.add(retentionData);
+            } else {
+                notRetained.add(retentionData);
+            }
+        }
+
+        if (retained.isEmpty() || notRetained.isEmpty()) {
+            throw new IllegalStateException("No players to compare to after rejecting with dateLimit");
+        }
+
+        RetentionData avgRetained = RetentionData.average(retained);
+        RetentionData avgNotRetained = RetentionData.average(notRetained);
+
+        List<PlayerContainer> toBeRetained = new ArrayList<>();
+        for (PlayerContainer player : compareTo) {
+            RetentionData retentionData = new RetentionData(player, sessions, onlineResolver, activityMsThreshold, activityLoginThreshold);
+            if (retentionData.distance(avgRetained) < retentionData.distance(avgNotRetained)) {
+                toBeRetained.add(player);
+            }
+        }
+        return new PlayersMutator(toBeRetained);
+    }
+
     public List<Session> getSessions() {
         return players.stream()
                 .map(player -> player.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>()))
@@ -18,6 +18,7 @@ package com.djrapitops.plan.data.store.mutators;
 
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.google.common.base.Objects;
 
 import java.util.Collection;
@@ -64,9 +65,39 @@ public class RetentionData {
             int activityLoginThreshold
     ) {
         Optional<Long> registeredValue = player.getValue(PlayerKeys.REGISTERED);
+        activityIndex = registeredValue
+                .map(registered -> player.getActivityIndex(
+                        registered + TimeUnit.DAYS.toMillis(1L),
+                        activityMsThreshold,
+                        activityLoginThreshold
+                ).getValue())
+                .orElse(0.0);
+        this.onlineOnJoin = registeredValue
+                .map(registered -> onlineOnJoin.getOnlineOn(registered).orElse(-1))
+                .orElse(0);
+    }
+
+    /**
+     * Calculate the retention data of a player using columnar session data.
+     *
+     * @param player                 Player to calculate the data for, sessions are not read from the container.
+     * @param sessions               Sessions of the players in columnar form.
+     * @param onlineOnJoin           Resolver for players online when the player registered.
+     * @param activityMsThreshold    Active playtime threshold per week in ms.
+     * @param activityLoginThreshold Login threshold per week.
+     */
+    public RetentionData(
+            PlayerContainer player,
+            SessionColumns sessions,
+            PlayersOnlineResolver onlineOnJoin,
+            long activityMsThreshold,
+            int activityLoginThreshold
+    ) {
+        Optional<Long> registeredValue = player.getValue(PlayerKeys.REGISTERED);
+        int playerIndex = sessions.indexOf(player.getUnsafe(PlayerKeys.UUID));
         activityIndex = registeredValue
                 .map(registered -> new ActivityIndex(
-                        player,
+                        sessions, playerIndex,
                         registered + TimeUnit.DAYS.toMillis(1L),
                         activityMsThreshold,
                         activityLoginThreshold
@@ -22,6 +22,7 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.DataContainer;
 import com.djrapitops.plan.data.store.keys.CommonKeys;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.utilities.analysis.Median;
 
@@ -74,6 +75,36 @@ public class SessionsMutator {
         return new DateHoldersMutator<>(sessions);
     }
 
+    /**
+     * Convert the sessions to columnar form for allocation free calculations.
+     *
+     * @return SessionColumns with the sessions of this mutator.
+     */
+    public SessionColumns toColumns() {
+        return toColumns(SessionColumns.builder());
+    }
+
+    /**
+     * Add the sessions to columns that are being built.
+     *
+     * @param builder Builder that may already contain other sessions.
+     * @return SessionColumns with the sessions of the builder and this mutator.
+     */
+    public SessionColumns toColumns(SessionColumns.Builder builder) {
+        for (Session session : sessions) {
+            builder.add(
+                    session.getUnsafe(SessionKeys.UUID),
+                    session.getUnsafe(SessionKeys.SERVER_UUID),
+                    session.getUnsafe(SessionKeys.START),
+                    session.getValue(SessionKeys.END).orElse(-1L),
+                    session.getValue(SessionKeys.AFK_TIME).orElse(0L),
+                    session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0),
+                    session.getValue(SessionKeys.DEATH_COUNT).orElse(0)
+            );
+        }
+        return builder.build();
+    }
+
     public WorldTimes toTotalWorldTimes() {
         WorldTimes total = new WorldTimes();
 
@@ -16,9 +16,6 @@
  */
 package com.djrapitops.plan.data.store.mutators.health;
 
-import com.djrapitops.plan.data.store.containers.PlayerContainer;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
-import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.HealthInfoLang;
 import com.djrapitops.plan.utilities.formatting.Formatter;
@@ -81,29 +78,16 @@ public abstract class AbstractHealthInfo {
     }
 
     protected void activityChangeNote(TreeMap<Long, Map<String, Set<UUID>>> activityData) {
-        Map<String, Set<UUID>> activityNow = activityData.getOrDefault(now, new HashMap<>());
-        Set<UUID> veryActiveNow = activityNow.getOrDefault("Very Active", new HashSet<>());
-        Set<UUID> activeNow = activityNow.getOrDefault("Active", new HashSet<>());
-        Set<UUID> regularNow = activityNow.getOrDefault("Regular", new HashSet<>());
-
-        Map<String, Set<UUID>> activityFourWAgo = activityData.getOrDefault(monthAgo, new HashMap<>());
-        Set<UUID> veryActiveFWAG = activityFourWAgo.getOrDefault("Very Active", new HashSet<>());
-        Set<UUID> activeFWAG = activityFourWAgo.getOrDefault("Active", new HashSet<>());
-        Set<UUID> regularFWAG = activityFourWAgo.getOrDefault("Regular", new HashSet<>());
-
-        Set<UUID> regularRemainCompareSet = new HashSet<>(regularFWAG);
-        regularRemainCompareSet.addAll(activeFWAG);
-        regularRemainCompareSet.addAll(veryActiveFWAG);
-
-        int activeFWAGNum = regularRemainCompareSet.size();
-        regularRemainCompareSet.removeAll(regularNow);
-        regularRemainCompareSet.removeAll(activeNow);
-        regularRemainCompareSet.removeAll(veryActiveNow);
-        int notRegularAnymore = regularRemainCompareSet.size();
-        int remain = activeFWAGNum - notRegularAnymore;
+        activityChangeNote(RegularActivityChange.of(activityData, now, monthAgo));
+    }
+
+    protected void activityChangeNote(RegularActivityChange regularChange) {
+        int activeFWAGNum = regularChange.getRegularBefore();
+        int notRegularAnymore = regularChange.getNoLongerRegular();
+        int remain = regularChange.getRemained();
         double percRemain = activeFWAGNum != 0 ? remain * 1.0 / activeFWAGNum : 1.0;
 
-        int newActive = getNewActive(veryActiveNow, activeNow, regularNow, veryActiveFWAG, activeFWAG, regularFWAG);
+        int newActive = regularChange.getNewRegular();
 
         int change = newActive - notRegularAnymore;
 
@@ -139,19 +123,10 @@ public abstract class AbstractHealthInfo {
         }
     }
 
-    protected void activePlayerPlaytimeChange(PlayersMutator playersMutator) {
-        PlayersMutator currentlyActive = playersMutator.filterActive(now, activeMsThreshold, activeLoginThreshold, 1.75);
-        long twoWeeksAgo = now - ((now - monthAgo) / 2L);
-
-        long totalFourToTwoWeeks = 0;
-        long totalLastTwoWeeks = 0;
-        for (PlayerContainer activePlayer : currentlyActive.all()) {
-            totalFourToTwoWeeks += SessionsMutator.forContainer(activePlayer)
-                    .filterSessionsBetween(monthAgo, twoWeeksAgo).toActivePlaytime();
-            totalLastTwoWeeks += SessionsMutator.forContainer(activePlayer)
-                    .filterSessionsBetween(twoWeeksAgo, now).toActivePlaytime();
-        }
-        int activeCount = currentlyActive.count();
+    protected void activePlayerPlaytimeChange(ActivePlaytimeChange playtimeChange) {
+        long totalFourToTwoWeeks = playtimeChange.getPlaytimeBefore();
+        long totalLastTwoWeeks = playtimeChange.getPlaytimeRecent();
+        int activeCount = playtimeChange.getActivePlayers();
         if (activeCount != 0) {
             long avgFourToTwoWeeks = totalFourToTwoWeeks / (long) activeCount;
             long avgLastTwoWeeks = totalLastTwoWeeks / (long) activeCount;
@@ -175,16 +150,6 @@ public abstract class AbstractHealthInfo {
         }
     }
 
-    private int getNewActive(Set<UUID> veryActiveNow, Set<UUID> activeNow, Set<UUID> regularNow, Set<UUID> veryActiveFWAG, Set<UUID> activeFWAG, Set<UUID> regularFWAG) {
-        Set<UUID> regularNewCompareSet = new HashSet<>(regularNow);
-        regularNewCompareSet.addAll(activeNow);
-        regularNewCompareSet.addAll(veryActiveNow);
-        regularNewCompareSet.removeAll(regularFWAG);
-        regularNewCompareSet.removeAll(activeFWAG);
-        regularNewCompareSet.removeAll(veryActiveFWAG);
-        return regularNewCompareSet.size();
-    }
-
     protected void addNote(String note) {
         notes.add("<p>" + note + "</p>");
     }
@@ -0,0 +1,93 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators.health;
+
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.mutators.PlayersMutator;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+
+/**
+ * Active playtime of currently active players during the last two weeks compared to the two weeks before that.
+ * <p>
+ * Totals are additive, so changes of multiple servers can be combined with {@link #add(ActivePlaytimeChange)}.
+ *
+ * @author Rsl1122
+ */
+public class ActivePlaytimeChange {
+
+    private int activePlayers;
+    private long playtimeBefore;
+    private long playtimeRecent;
+
+    public ActivePlaytimeChange(int activePlayers, long playtimeBefore, long playtimeRecent) {
+        this.activePlayers = activePlayers;
+        this.playtimeBefore = playtimeBefore;
+        this.playtimeRecent = playtimeRecent;
+    }
+
+    /**
+     * Calculate the change for players that are currently active.
+     *
+     * @param playersMutator       Players to calculate the change for.
+     * @param sessions             Sessions of the players in columnar form.
+     * @param now                  Epoch ms of the current point.
+     * @param monthAgo             Epoch ms a month before now.
+     * @param activeMsThreshold    Active playtime threshold per week in ms.
+     * @param activeLoginThreshold Login threshold per week.
+     * @return Active playtime totals of the active players.
+     */
+    public static ActivePlaytimeChange of(
+            PlayersMutator playersMutator,
+            SessionColumns sessions,
+            long now, long monthAgo,
+            long activeMsThreshold, int activeLoginThreshold
+    ) {
+        PlayersMutator currentlyActive = playersMutator.filterActive(sessions, now, activeMsThreshold, activeLoginThreshold, 1.75);
+        long twoWeeksAgo = now - ((now - monthAgo) / 2L);
+
+        long totalFourToTwoWeeks = 0;
+        long totalLastTwoWeeks = 0;
+        for (PlayerContainer activePlayer : currentlyActive.all()) {
+            int playerIndex = sessions.indexOf(activePlayer.getUnsafe(PlayerKeys.UUID));
+            if (playerIndex == -1) {
+                continue;
+            }
+            totalFourToTwoWeeks += sessions.activePlaytimeBetween(playerIndex, monthAgo, twoWeeksAgo);
+            totalLastTwoWeeks += sessions.activePlaytimeBetween(playerIndex, twoWeeksAgo, now);
+        }
+        return new ActivePlaytimeChange(currentlyActive.count(), totalFourToTwoWeeks, totalLastTwoWeeks);
+    }
+
+    public void add(ActivePlaytimeChange other) {
+        activePlayers += other.activePlayers;
+        playtimeBefore += other.playtimeBefore;
+        playtimeRecent += other.playtimeRecent;
+    }
+
+    public int getActivePlayers() {
+        return activePlayers;
+    }
+
+    public long getPlaytimeBefore() {
+        return playtimeBefore;
+    }
+
+    public long getPlaytimeRecent() {
+        return playtimeRecent;
+    }
+}
\ No newline at end of file
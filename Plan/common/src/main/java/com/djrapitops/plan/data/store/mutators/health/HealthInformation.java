@@ -78,7 +78,11 @@ public class HealthInformation extends AbstractHealthInfo {
     protected void calculate() {
         activityChangeNote(analysisContainer.getUnsafe(AnalysisKeys.ACTIVITY_DATA));
         newPlayerNote();
-        activePlayerPlaytimeChange(analysisContainer.getUnsafe(AnalysisKeys.PLAYERS_MUTATOR));
+        activePlayerPlaytimeChange(ActivePlaytimeChange.of(
+                analysisContainer.getUnsafe(AnalysisKeys.PLAYERS_MUTATOR),
+                analysisContainer.getUnsafe(AnalysisKeys.SESSION_COLUMNS),
+                now, monthAgo, activeMsThreshold, activeLoginThreshold
+        ));
         lowPerformance();
     }
 
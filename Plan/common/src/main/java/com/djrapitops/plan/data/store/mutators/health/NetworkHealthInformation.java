@@ -22,8 +22,7 @@ import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.containers.SupplierDataContainer;
 import com.djrapitops.plan.data.store.keys.AnalysisKeys;
 import com.djrapitops.plan.data.store.keys.NetworkKeys;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
-import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.ServerSummary;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.HealthInfoLang;
@@ -36,7 +35,6 @@ import java.util.*;
 public class NetworkHealthInformation extends AbstractHealthInfo {
 
     private final NetworkContainer container;
-    private final TimeZone timeZone;
 
     public NetworkHealthInformation(
             NetworkContainer container,
@@ -45,8 +43,7 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
             int activeLoginThreshold,
             Formatter<Long> timeAmountFormatter,
             Formatter<Double> decimalFormatter,
-            Formatter<Double> percentageFormatter,
-            TimeZone timeZone
+            Formatter<Double> percentageFormatter
     ) {
         super(
                 container.getUnsafe(NetworkKeys.REFRESH_TIME),
@@ -56,19 +53,19 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
                 timeAmountFormatter, decimalFormatter, percentageFormatter
         );
         this.container = container;
-        this.timeZone = timeZone;
         calculate();
     }
 
     @Override
     protected void calculate() {
-        perServerComparisonNotes(container.getUnsafe(NetworkKeys.PLAYERS_MUTATOR));
+        perServerComparisonNotes(container.getUnsafe(NetworkKeys.SERVER_SUMMARIES));
 
-        activityChangeNote(container.getUnsafe(NetworkKeys.ACTIVITY_DATA));
-        activePlayerPlaytimeChange(container.getUnsafe(NetworkKeys.PLAYERS_MUTATOR));
+        ServerSummary networkSummary = container.getUnsafe(NetworkKeys.NETWORK_SUMMARY);
+        activityChangeNote(networkSummary.getRegularActivityChange());
+        activePlayerPlaytimeChange(networkSummary.getActivePlaytimeChange());
     }
 
-    private void perServerComparisonNotes(PlayersMutator playersMutator) {
+    private void perServerComparisonNotes(Map<UUID, ServerSummary> serverSummaries) {
         Collection<Server> servers = container.getValue(NetworkKeys.BUKKIT_SERVERS)
                 .orElse(Collections.emptyList());
 
@@ -84,7 +81,7 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
 
         Key<Server> serverKey = new Key<>(Server.class, "SERVER");
 
-        List<DataContainer> perServerContainers = getPerServerContainers(playersMutator, servers, serverKey);
+        List<DataContainer> perServerContainers = getPerServerContainers(serverSummaries, servers, serverKey);
 
         uniquePlayersNote(serverCount, serverKey, perServerContainers);
         newPlayersNote(serverCount, serverKey, perServerContainers);
@@ -145,7 +142,7 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
         addNote(icon + " " + decimalFormatter.apply(average) + newPlayersNote + subNotes.toString());
     }
 
-    private List<DataContainer> getPerServerContainers(PlayersMutator playersMutator, Collection<Server> servers, Key<Server> serverKey) {
+    private List<DataContainer> getPerServerContainers(Map<UUID, ServerSummary> serverSummaries, Collection<Server> servers, Key<Server> serverKey) {
         List<DataContainer> perServerContainers = new ArrayList<>();
 
         for (Server server : servers) {
@@ -153,17 +150,10 @@ public class NetworkHealthInformation extends AbstractHealthInfo {
             DataContainer serverContainer = new SupplierDataContainer();
             serverContainer.putRawData(serverKey, server);
 
-            PlayersMutator serverPlayers = playersMutator.filterPlayedOnServer(serverUUID);
-            PlayersMutator serverRegistered = serverPlayers.filterRegisteredBetween(monthAgo, now);
-            int averageNewPerDay = serverRegistered.averageNewPerDay(timeZone);
-            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, averageNewPerDay);
-            SessionsMutator serverSessions = new SessionsMutator(serverPlayers.getSessions())
-                    .filterSessionsBetween(monthAgo, now)
-                    .filterPlayedOnServer(serverUUID);
-            int averageUniquePerDay = serverSessions.toAverageUniqueJoinsPerDay(timeZone);
-            int uniquePlayers = serverSessions.toUniquePlayers();
-            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_MONTH, averageUniquePerDay);
-            serverContainer.putRawData(AnalysisKeys.PLAYERS_MONTH, uniquePlayers);
+            ServerSummary summary = serverSummaries.getOrDefault(serverUUID, new ServerSummary(serverUUID, now, new HashMap<>()));
+            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, summary.getIntValue(ServerSummary.AVG_PLAYERS_NEW_MONTH));
+            serverContainer.putRawData(AnalysisKeys.AVG_PLAYERS_MONTH, summary.getIntValue(ServerSummary.AVG_PLAYERS_MONTH));
+            serverContainer.putRawData(AnalysisKeys.PLAYERS_MONTH, summary.getIntValue(ServerSummary.PLAYERS_MONTH));
 
             perServerContainers.add(serverContainer);
         }
@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators.health;
+
+import java.util.*;
+
+/**
+ * Change in the amount of regular players (Regular, Active or Very Active) between two points in time.
+ * <p>
+ * Counts are additive, so changes of multiple servers can be combined with {@link #add(RegularActivityChange)}.
+ *
+ * @author Rsl1122
+ */
+public class RegularActivityChange {
+
+    private int regularBefore;
+    private int remained;
+    private int newRegular;
+
+    public RegularActivityChange(int regularBefore, int remained, int newRegular) {
+        this.regularBefore = regularBefore;
+        this.remained = remained;
+        this.newRegular = newRegular;
+    }
+
+    /**
+     * Calculate the change from activity group data.
+     *
+     * @param activityData Activity data: Epoch ms - (Activity group - Player UUIDs)
+     * @param now          Epoch ms of the current point.
+     * @param before       Epoch ms of the point to compare to.
+     * @return Change in regular players between the two points.
+     */
+    public static RegularActivityChange of(TreeMap<Long, Map<String, Set<UUID>>> activityData, long now, long before) {
+        Set<UUID> regularNow = getRegular(activityData.getOrDefault(now, new HashMap<>()));
+        Set<UUID> regularBefore = getRegular(activityData.getOrDefault(before, new HashMap<>()));
+
+        Set<UUID> remained = new HashSet<>(regularBefore);
+        remained.retainAll(regularNow);
+        Set<UUID> newRegular = new HashSet<>(regularNow);
+        newRegular.removeAll(regularBefore);
+
+        return new RegularActivityChange(regularBefore.size(), remained.size(), newRegular.size());
+    }
+
+    private static Set<UUID> getRegular(Map<String, Set<UUID>> activityGroups) {
+        Set<UUID> regular = new HashSet<>(activityGroups.getOrDefault("Very Active", new HashSet<>()));
+        regular.addAll(activityGroups.getOrDefault("Active", new HashSet<>()));
+        regular.addAll(activityGroups.getOrDefault("Regular", new HashSet<>()));
+        return regular;
+    }
+
+    public void add(RegularActivityChange other) {
+        regularBefore += other.regularBefore;
+        remained += other.remained;
+        newRegular += other.newRegular;
+    }
+
+    public int getRegularBefore() {
+        return regularBefore;
+    }
+
+    public int getRemained() {
+        return remained;
+    }
+
+    public int getNoLongerRegular() {
+        return regularBefore - remained;
+    }
+
+    public int getNewRegular() {
+        return newRegular;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-aggregated activity counters of a server during a single hour.
+ * <p>
+ * Hours are used instead of days so that the counters can be grouped by day in the configured timezone.
+ * Hours start at the same minute as the hours of the server time zone, so that days of time zones
+ * with an offset of 30 or 45 minutes do not start in the middle of an hour.
+ * Sessions are counted in the hour they started, new players in the hour they registered on the server.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.sql.tables.ActivityRollupTable for storage.
+ */
+public class ActivityRollup implements DateHolder {
+
+    public static final long HOUR_MS = TimeUnit.HOURS.toMillis(1L);
+
+    private final UUID serverUUID;
+    private final long hourStart;
+
+    private int newPlayers;
+    private int sessions;
+    private long playtime;
+    private long afkTime;
+    private int mobKills;
+    private int playerKills;
+    private int deaths;
+
+    public ActivityRollup(UUID serverUUID, long hourStart) {
+        this.serverUUID = serverUUID;
+        this.hourStart = hourStart;
+    }
+
+    public ActivityRollup(
+            UUID serverUUID, long hourStart,
+            int newPlayers, int sessions, long playtime, long afkTime,
+            int mobKills, int playerKills, int deaths
+    ) {
+        this(serverUUID, hourStart);
+        this.newPlayers = newPlayers;
+        this.sessions = sessions;
+        this.playtime = playtime;
+        this.afkTime = afkTime;
+        this.mobKills = mobKills;
+        this.playerKills = playerKills;
+        this.deaths = deaths;
+    }
+
+    /**
+     * Create the counters of a single session.
+     *
+     * @param session Session, sessions that have not ended are counted until current time.
+     * @return Counters of the hour the session started in.
+     */
+    public static ActivityRollup forSession(Session session) {
+        long start = session.getUnsafe(SessionKeys.START);
+        return new ActivityRollup(
+                session.getUnsafe(SessionKeys.SERVER_UUID), toHourStart(start),
+                0, 1, session.getLength(), session.getValue(SessionKeys.AFK_TIME).orElse(0L),
+                session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0),
+                session.getValue(SessionKeys.PLAYER_KILLS).orElse(new ArrayList<>()).size(),
+                session.getValue(SessionKeys.DEATH_COUNT).orElse(0)
+        );
+    }
+
+    /**
+     * Create the counters of a player registering on a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @param registered Epoch ms the player registered on the server.
+     * @return Counters of the hour the player registered in.
+     */
+    public static ActivityRollup forNewPlayer(UUID serverUUID, long registered) {
+        return new ActivityRollup(serverUUID, toHourStart(registered), 1, 0, 0L, 0L, 0, 0, 0);
+    }
+
+    public static long toHourStart(long date) {
+        return date - Math.floorMod(date + getHourOffset(), HOUR_MS);
+    }
+
+    /**
+     * Get the minutes of the server time zone offset that are not full hours.
+     * <p>
+     * Daylight saving time is ignored, since it moves the clock by full hours.
+     *
+     * @return Offset of the hour starts from UTC hours in ms, between 0 and {@link #HOUR_MS}.
+     */
+    public static long getHourOffset() {
+        return Math.floorMod(TimeZone.getDefault().getRawOffset(), HOUR_MS);
+    }
+
+    /**
+     * Add the counters of another rollup of the same hour to this one.
+     *
+     * @param other Counters to add.
+     */
+    public void add(ActivityRollup other) {
+        newPlayers += other.newPlayers;
+        sessions += other.sessions;
+        playtime += other.playtime;
+        afkTime += other.afkTime;
+        mobKills += other.mobKills;
+        playerKills += other.playerKills;
+        deaths += other.deaths;
+    }
+
+    /**
+     * Create counters that remove the counters of this rollup when added.
+     *
+     * @return New rollup of the same hour with negated counters.
+     */
+    public ActivityRollup negate() {
+        return new ActivityRollup(
+                serverUUID, hourStart,
+                -newPlayers, -sessions, -playtime, -afkTime,
+                -mobKills, -playerKills, -deaths
+        );
+    }
+
+    public UUID getServerUUID() {
+        return serverUUID;
+    }
+
+    @Override
+    public long getDate() {
+        return hourStart;
+    }
+
+    public int getNewPlayers() {
+        return newPlayers;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public long getAfkTime() {
+        return afkTime;
+    }
+
+    public int getMobKills() {
+        return mobKills;
+    }
+
+    public int getPlayerKills() {
+        return playerKills;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ActivityRollup that = (ActivityRollup) o;
+        return hourStart == that.hourStart &&
+                newPlayers == that.newPlayers &&
+                sessions == that.sessions &&
+                playtime == that.playtime &&
+                afkTime == that.afkTime &&
+                mobKills == that.mobKills &&
+                playerKills == that.playerKills &&
+                deaths == that.deaths &&
+                Objects.equals(serverUUID, that.serverUUID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverUUID, hourStart, newPlayers, sessions, playtime, afkTime, mobKills, playerKills, deaths);
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityRollup{" +
+                "serverUUID=" + serverUUID +
+                ", hourStart=" + hourStart +
+                ", newPlayers=" + newPlayers +
+                ", sessions=" + sessions +
+                ", playtime=" + playtime +
+                ", afkTime=" + afkTime +
+                ", mobKills=" + mobKills +
+                ", playerKills=" + playerKills +
+                ", deaths=" + deaths +
+                '}';
+    }
+}
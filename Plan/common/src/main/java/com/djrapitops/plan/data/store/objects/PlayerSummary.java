@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Pre-calculated values of a player on a single server, used by the /server page players table.
+ * <p>
+ * Playtime, session count and last seen are kept up to date when sessions end.
+ * Activity index is re-calculated periodically, as it changes with time even if the player does not join.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.sql.tables.PlayerSummaryTable for storage.
+ */
+public class PlayerSummary {
+
+    private final UUID playerUUID;
+    private final UUID serverUUID;
+    private final String name;
+    private final long registered;
+    private final long playtime;
+    private final int sessionCount;
+    private final long lastSeen;
+    private final double activityIndex;
+    private final boolean banned;
+
+    public PlayerSummary(
+            UUID playerUUID, UUID serverUUID, String name, long registered,
+            long playtime, int sessionCount, long lastSeen, double activityIndex, boolean banned
+    ) {
+        this.playerUUID = playerUUID;
+        this.serverUUID = serverUUID;
+        this.name = name;
+        this.registered = registered;
+        this.playtime = playtime;
+        this.sessionCount = sessionCount;
+        this.lastSeen = lastSeen;
+        this.activityIndex = activityIndex;
+        this.banned = banned;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public UUID getServerUUID() {
+        return serverUUID;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRegistered() {
+        return registered;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getLastSeen() {
+        return lastSeen;
+    }
+
+    public double getActivityIndex() {
+        return activityIndex;
+    }
+
+    public boolean isBanned() {
+        return banned;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayerSummary that = (PlayerSummary) o;
+        return registered == that.registered &&
+                playtime == that.playtime &&
+                sessionCount == that.sessionCount &&
+                lastSeen == that.lastSeen &&
+                Double.compare(that.activityIndex, activityIndex) == 0 &&
+                banned == that.banned &&
+                Objects.equals(playerUUID, that.playerUUID) &&
+                Objects.equals(serverUUID, that.serverUUID) &&
+                Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerUUID, serverUUID, name, registered, playtime, sessionCount, lastSeen, activityIndex, banned);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSummary{" +
+                "playerUUID=" + playerUUID +
+                ", serverUUID=" + serverUUID +
+                ", name='" + name + '\'' +
+                ", registered=" + registered +
+                ", playtime=" + playtime +
+                ", sessionCount=" + sessionCount +
+                ", lastSeen=" + lastSeen +
+                ", activityIndex=" + activityIndex +
+                ", banned=" + banned +
+                '}';
+    }
+}
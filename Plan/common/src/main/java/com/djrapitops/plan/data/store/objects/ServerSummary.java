@@ -0,0 +1,202 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.keys.AnalysisKeys;
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.mutators.health.ActivePlaytimeChange;
+import com.djrapitops.plan.data.store.mutators.health.RegularActivityChange;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.*;
+
+/**
+ * Compact summary of the analysis of a single server, refreshed periodically by the server itself.
+ * <p>
+ * Allows the network page to be built from one summary per server instead of loading every player of the network.
+ * Values are stored by name so that summaries of multiple servers can be combined by summing them.
+ * Please note that unique player counts of different servers overlap, so they are not meaningful when summed.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.sql.tables.ServerSummaryTable for storage.
+ */
+public class ServerSummary {
+
+    public static final String PLAYERS_TOTAL = "players_total";
+    public static final String PLAYERS_NEW_DAY = "players_new_day";
+    public static final String PLAYERS_NEW_WEEK = "players_new_week";
+    public static final String PLAYERS_NEW_MONTH = "players_new_month";
+    public static final String PLAYERS_DAY = "players_day";
+    public static final String PLAYERS_WEEK = "players_week";
+    public static final String PLAYERS_MONTH = "players_month";
+    public static final String AVG_PLAYERS_MONTH = "players_average_month";
+    public static final String AVG_PLAYERS_NEW_MONTH = "players_new_average_month";
+    public static final String REGULAR_BEFORE = "regular_before";
+    public static final String REGULAR_REMAINED = "regular_remained";
+    public static final String REGULAR_NEW = "regular_new";
+    public static final String ACTIVE_PLAYERS = "active_players";
+    public static final String ACTIVE_PLAYTIME_BEFORE = "active_playtime_before";
+    public static final String ACTIVE_PLAYTIME_RECENT = "active_playtime_recent";
+
+    private static final long WEEK_MS = TimeAmount.WEEK.toMillis(1L);
+    // Same points as PlayersMutator#toActivityDataMap
+    private static final int ACTIVITY_WEEKS = (int) (TimeAmount.MONTH.toMillis(2L) / WEEK_MS) + 1;
+
+    private final UUID serverUUID;
+    private final long refreshed;
+    private final Map<String, Long> values;
+
+    public ServerSummary(UUID serverUUID, long refreshed, Map<String, Long> values) {
+        this.serverUUID = serverUUID;
+        this.refreshed = refreshed;
+        this.values = values;
+    }
+
+    /**
+     * Create a summary from the analysis of a server.
+     *
+     * @param serverUUID           UUID of the analysed server.
+     * @param analysis             Analysis of the server.
+     * @param activeMsThreshold    Active playtime threshold per week in ms.
+     * @param activeLoginThreshold Login threshold per week.
+     * @return Summary of the analysis.
+     */
+    public static ServerSummary forAnalysis(UUID serverUUID, AnalysisContainer analysis, long activeMsThreshold, int activeLoginThreshold) {
+        long now = analysis.getUnsafe(AnalysisKeys.ANALYSIS_TIME);
+        long monthAgo = analysis.getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO);
+
+        Map<String, Long> values = new HashMap<>();
+        values.put(PLAYERS_TOTAL, (long) analysis.getValue(AnalysisKeys.PLAYERS_TOTAL).orElse(0));
+        values.put(PLAYERS_NEW_DAY, (long) analysis.getValue(AnalysisKeys.PLAYERS_NEW_DAY).orElse(0));
+        values.put(PLAYERS_NEW_WEEK, (long) analysis.getValue(AnalysisKeys.PLAYERS_NEW_WEEK).orElse(0));
+        values.put(PLAYERS_NEW_MONTH, (long) analysis.getValue(AnalysisKeys.PLAYERS_NEW_MONTH).orElse(0));
+        values.put(PLAYERS_DAY, (long) analysis.getValue(AnalysisKeys.PLAYERS_DAY).orElse(0));
+        values.put(PLAYERS_WEEK, (long) analysis.getValue(AnalysisKeys.PLAYERS_WEEK).orElse(0));
+        values.put(PLAYERS_MONTH, (long) analysis.getValue(AnalysisKeys.PLAYERS_MONTH).orElse(0));
+        values.put(AVG_PLAYERS_MONTH, (long) analysis.getValue(AnalysisKeys.AVG_PLAYERS_MONTH).orElse(0));
+        values.put(AVG_PLAYERS_NEW_MONTH, (long) analysis.getValue(AnalysisKeys.AVG_PLAYERS_NEW_MONTH).orElse(0));
+
+        TreeMap<Long, Map<String, Set<UUID>>> activityData = analysis.getUnsafe(AnalysisKeys.ACTIVITY_DATA);
+        for (Map.Entry<Long, Map<String, Set<UUID>>> point : activityData.entrySet()) {
+            int weeksAgo = (int) ((now - point.getKey()) / WEEK_MS);
+            for (Map.Entry<String, Set<UUID>> group : point.getValue().entrySet()) {
+                values.put(activityGroupName(weeksAgo, group.getKey()), (long) group.getValue().size());
+            }
+        }
+
+        RegularActivityChange regularChange = RegularActivityChange.of(activityData, now, monthAgo);
+        values.put(REGULAR_BEFORE, (long) regularChange.getRegularBefore());
+        values.put(REGULAR_REMAINED, (long) regularChange.getRemained());
+        values.put(REGULAR_NEW, (long) regularChange.getNewRegular());
+
+        ActivePlaytimeChange playtimeChange = ActivePlaytimeChange.of(
+                analysis.getUnsafe(AnalysisKeys.PLAYERS_MUTATOR), analysis.getUnsafe(AnalysisKeys.SESSION_COLUMNS),
+                now, monthAgo, activeMsThreshold, activeLoginThreshold
+        );
+        values.put(ACTIVE_PLAYERS, (long) playtimeChange.getActivePlayers());
+        values.put(ACTIVE_PLAYTIME_BEFORE, playtimeChange.getPlaytimeBefore());
+        values.put(ACTIVE_PLAYTIME_RECENT, playtimeChange.getPlaytimeRecent());
+
+        return new ServerSummary(serverUUID, now, values);
+    }
+
+    private static String activityGroupName(int weeksAgo, String activityGroup) {
+        return "activity_" + weeksAgo + '_' + activityGroup.toLowerCase().replace(' ', '_');
+    }
+
+    /**
+     * Add the values of another summary to the values of this summary.
+     *
+     * @param other Summary to add.
+     */
+    public void add(ServerSummary other) {
+        for (Map.Entry<String, Long> value : other.values.entrySet()) {
+            values.merge(value.getKey(), value.getValue(), Long::sum);
+        }
+    }
+
+    public UUID getServerUUID() {
+        return serverUUID;
+    }
+
+    public long getRefreshed() {
+        return refreshed;
+    }
+
+    public Map<String, Long> getValues() {
+        return values;
+    }
+
+    public long getValue(String name) {
+        return values.getOrDefault(name, 0L);
+    }
+
+    public int getIntValue(String name) {
+        return (int) getValue(name);
+    }
+
+    /**
+     * Get the amount of players in each activity group for 9 weekly points.
+     *
+     * @param date Epoch ms the most recent point should be placed at.
+     * @return TreeMap: Epoch ms - (Activity group - Player count)
+     */
+    public TreeMap<Long, Map<String, Integer>> toActivityCounts(long date) {
+        TreeMap<Long, Map<String, Integer>> activityCounts = new TreeMap<>();
+        for (int weeksAgo = 0; weeksAgo < ACTIVITY_WEEKS; weeksAgo++) {
+            Map<String, Integer> groupCounts = new HashMap<>();
+            for (String activityGroup : ActivityIndex.getGroups()) {
+                groupCounts.put(activityGroup, getIntValue(activityGroupName(weeksAgo, activityGroup)));
+            }
+            activityCounts.put(date - weeksAgo * WEEK_MS, groupCounts);
+        }
+        return activityCounts;
+    }
+
+    public RegularActivityChange getRegularActivityChange() {
+        return new RegularActivityChange(getIntValue(REGULAR_BEFORE), getIntValue(REGULAR_REMAINED), getIntValue(REGULAR_NEW));
+    }
+
+    public ActivePlaytimeChange getActivePlaytimeChange() {
+        return new ActivePlaytimeChange(getIntValue(ACTIVE_PLAYERS), getValue(ACTIVE_PLAYTIME_BEFORE), getValue(ACTIVE_PLAYTIME_RECENT));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ServerSummary that = (ServerSummary) o;
+        return refreshed == that.refreshed &&
+                Objects.equals(serverUUID, that.serverUUID) &&
+                Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverUUID, refreshed, values);
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSummary{" +
+                "serverUUID=" + serverUUID +
+                ", refreshed=" + refreshed +
+                ", values=" + values +
+                '}';
+    }
+}
\ No newline at end of file
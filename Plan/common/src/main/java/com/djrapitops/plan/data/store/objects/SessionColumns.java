@@ -0,0 +1,472 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only columnar representation of sessions for analysis.
+ * <p>
+ * Session values are stored in parallel primitive arrays, and players and servers are interned
+ * into index tables. Sessions of each player occupy a continuous index range, so per-player
+ * calculations only read a slice of the arrays and do not allocate objects per session.
+ * <p>
+ * Sessions without an end date (active sessions) are stored with the end date set to the time
+ * the columns were built.
+ *
+ * @author Rsl1122
+ * @see Builder for creating the columns.
+ */
+public class SessionColumns {
+
+    private final UUID[] players;
+    private final UUID[] servers;
+    private final Map<UUID, Integer> playerIndexes;
+    // Sessions of player i are found between playerRangeStarts[i] (inclusive) and playerRangeStarts[i + 1]
+    private final int[] playerRangeStarts;
+
+    private final int[] serverIndexes;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] afkTimes;
+    private final int[] mobKills;
+    private final int[] deaths;
+
+    private SessionColumns(
+            UUID[] players, UUID[] servers, Map<UUID, Integer> playerIndexes, int[] playerRangeStarts,
+            int[] serverIndexes, long[] starts, long[] ends, long[] afkTimes, int[] mobKills, int[] deaths
+    ) {
+        this.players = players;
+        this.servers = servers;
+        this.playerIndexes = playerIndexes;
+        this.playerRangeStarts = playerRangeStarts;
+        this.serverIndexes = serverIndexes;
+        this.starts = starts;
+        this.ends = ends;
+        this.afkTimes = afkTimes;
+        this.mobKills = mobKills;
+        this.deaths = deaths;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the index of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Index of the player, or -1 if the player has no sessions.
+     */
+    public int indexOf(UUID playerUUID) {
+        Integer index = playerIndexes.get(playerUUID);
+        return index != null ? index : -1;
+    }
+
+    public UUID getPlayerUUID(int playerIndex) {
+        return players[playerIndex];
+    }
+
+    public UUID getServerUUID(int sessionIndex) {
+        return servers[serverIndexes[sessionIndex]];
+    }
+
+    public int getPlayerCount() {
+        return players.length;
+    }
+
+    public int count() {
+        return starts.length;
+    }
+
+    public int rangeStart(int playerIndex) {
+        return playerRangeStarts[playerIndex];
+    }
+
+    public int rangeEnd(int playerIndex) {
+        return playerRangeStarts[playerIndex + 1];
+    }
+
+    public long getStart(int sessionIndex) {
+        return starts[sessionIndex];
+    }
+
+    public long getEnd(int sessionIndex) {
+        return ends[sessionIndex];
+    }
+
+    public long getLength(int sessionIndex) {
+        return ends[sessionIndex] - starts[sessionIndex];
+    }
+
+    public long getAfkTime(int sessionIndex) {
+        return afkTimes[sessionIndex];
+    }
+
+    public int getMobKills(int sessionIndex) {
+        return mobKills[sessionIndex];
+    }
+
+    public int getDeaths(int sessionIndex) {
+        return deaths[sessionIndex];
+    }
+
+    public long getActiveTime(int sessionIndex) {
+        return getLength(sessionIndex) - afkTimes[sessionIndex];
+    }
+
+    private boolean isBetween(int sessionIndex, long after, long before) {
+        long start = starts[sessionIndex];
+        long end = ends[sessionIndex];
+        return (after <= start && start <= before) || (after <= end && end <= before);
+    }
+
+    public boolean playedBetween(int playerIndex, long after, long before) {
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            if (isBetween(i, after, before)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int countBetween(int playerIndex, long after, long before) {
+        int count = 0;
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            if (isBetween(i, after, before)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long activePlaytimeBetween(int playerIndex, long after, long before) {
+        long playtime = 0L;
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            if (isBetween(i, after, before)) {
+                playtime += getActiveTime(i);
+            }
+        }
+        return playtime;
+    }
+
+    public long toPlaytime(int playerIndex) {
+        long playtime = 0L;
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            playtime += getLength(i);
+        }
+        return playtime;
+    }
+
+    public long toLastSeen(int playerIndex) {
+        long lastSeen = -1L;
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            lastSeen = Math.max(lastSeen, Math.max(starts[i], ends[i]));
+        }
+        return lastSeen;
+    }
+
+    /**
+     * Get the start of the most recent session of a player.
+     *
+     * @param playerIndex Index of the player.
+     * @return Epoch ms of the latest session start, or -1 if the player has no sessions.
+     */
+    public long toLatestStart(int playerIndex) {
+        long latest = -1L;
+        for (int i = rangeStart(playerIndex); i < rangeEnd(playerIndex); i++) {
+            latest = Math.max(latest, starts[i]);
+        }
+        return latest;
+    }
+
+    public long toPlaytime() {
+        long playtime = 0L;
+        for (int i = 0; i < starts.length; i++) {
+            playtime += getLength(i);
+        }
+        return playtime;
+    }
+
+    public long toAfkTime() {
+        long afkTime = 0L;
+        for (long afk : afkTimes) {
+            afkTime += afk;
+        }
+        return afkTime;
+    }
+
+    public long toActivePlaytime() {
+        return toPlaytime() - toAfkTime();
+    }
+
+    public int toMobKillCount() {
+        int count = 0;
+        for (int kills : mobKills) {
+            count += kills;
+        }
+        return count;
+    }
+
+    public int toDeathCount() {
+        int count = 0;
+        for (int death : deaths) {
+            count += death;
+        }
+        return count;
+    }
+
+    public int countBetween(long after, long before) {
+        int count = 0;
+        for (int i = 0; i < starts.length; i++) {
+            if (isBetween(i, after, before)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int toUniquePlayersBetween(long after, long before) {
+        int unique = 0;
+        for (int player = 0; player < players.length; player++) {
+            if (playedBetween(player, after, before)) {
+                unique++;
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Count unique players of each day, grouped by the day the sessions started.
+     * <p>
+     * Days are grouped the same way as {@link com.djrapitops.plan.data.store.mutators.DateHoldersMutator#groupByStartOfDay(TimeZone)}.
+     *
+     * @param timeZone Timezone used for the start of the day.
+     * @param after    Sessions that start or end after this epoch ms are included.
+     * @param before   Sessions that start or end before this epoch ms are included.
+     * @return Map: Start of day with timezone offset - unique player count, days without players included.
+     */
+    public TreeMap<Long, Integer> uniquePlayersPerDay(TimeZone timeZone, long after, long before) {
+        long twentyFourHours = TimeUnit.DAYS.toMillis(1L);
+        TreeMap<Long, Integer> uniquePerDay = new TreeMap<>();
+        Set<Long> daysOfPlayer = new HashSet<>();
+        for (int player = 0; player < players.length; player++) {
+            daysOfPlayer.clear();
+            for (int i = rangeStart(player); i < rangeEnd(player); i++) {
+                if (isBetween(i, after, before)) {
+                    daysOfPlayer.add(startOfDay(starts[i], timeZone));
+                }
+            }
+            for (Long day : daysOfPlayer) {
+                uniquePerDay.merge(day, 1, Integer::sum);
+            }
+        }
+
+        if (!uniquePerDay.isEmpty()) {
+            long now = System.currentTimeMillis();
+            long end = now - (now % twentyFourHours);
+            for (long day = uniquePerDay.firstKey(); day < end; day += twentyFourHours) {
+                uniquePerDay.putIfAbsent(day, 0);
+            }
+        }
+        return uniquePerDay;
+    }
+
+    /**
+     * Count sessions of each day, grouped by the day the sessions started.
+     *
+     * @param timeZone Timezone used for the start of the day.
+     * @return Map: Start of day with timezone offset - session count, days without sessions are not included.
+     */
+    public TreeMap<Long, Integer> sessionsPerDay(TimeZone timeZone) {
+        TreeMap<Long, Integer> sessionsPerDay = new TreeMap<>();
+        for (int i = 0; i < starts.length; i++) {
+            sessionsPerDay.merge(startOfDay(starts[i], timeZone), 1, Integer::sum);
+        }
+        return sessionsPerDay;
+    }
+
+    /**
+     * Sum playtime of each day, grouped by the day the sessions started.
+     *
+     * @param timeZone Timezone used for the start of the day.
+     * @return Map: Start of day with timezone offset - playtime in ms, days without sessions are not included.
+     */
+    public TreeMap<Long, Long> playtimePerDay(TimeZone timeZone) {
+        TreeMap<Long, Long> playtimePerDay = new TreeMap<>();
+        for (int i = 0; i < starts.length; i++) {
+            playtimePerDay.merge(startOfDay(starts[i], timeZone), getLength(i), Long::sum);
+        }
+        return playtimePerDay;
+    }
+
+    private static long startOfDay(long date, TimeZone timeZone) {
+        long dateWithOffset = date + timeZone.getOffset(date);
+        return dateWithOffset - (dateWithOffset % TimeUnit.DAYS.toMillis(1L));
+    }
+
+    /**
+     * Builder for {@link SessionColumns}.
+     * <p>
+     * Sessions can be added in any order, they are grouped by player when the columns are built.
+     */
+    public static class Builder {
+
+        private final Map<UUID, Integer> playerIndexes = new HashMap<>();
+        private final Map<UUID, Integer> serverIndexes = new HashMap<>();
+        private UUID[] players = new UUID[16];
+        private UUID[] servers = new UUID[4];
+
+        private int size = 0;
+        private int[] playerColumn = new int[64];
+        private int[] serverColumn = new int[64];
+        private long[] starts = new long[64];
+        private long[] ends = new long[64];
+        private long[] afkTimes = new long[64];
+        private int[] mobKills = new int[64];
+        private int[] deaths = new int[64];
+
+        private final long now = System.currentTimeMillis();
+
+        Builder() {
+            /* Use SessionColumns.builder() */
+        }
+
+        private int internPlayer(UUID playerUUID) {
+            Integer index = playerIndexes.get(playerUUID);
+            if (index != null) {
+                return index;
+            }
+            int newIndex = playerIndexes.size();
+            if (newIndex == players.length) {
+                players = Arrays.copyOf(players, players.length * 2);
+            }
+            players[newIndex] = playerUUID;
+            playerIndexes.put(playerUUID, newIndex);
+            return newIndex;
+        }
+
+        private int internServer(UUID serverUUID) {
+            Integer index = serverIndexes.get(serverUUID);
+            if (index != null) {
+                return index;
+            }
+            int newIndex = serverIndexes.size();
+            if (newIndex == servers.length) {
+                servers = Arrays.copyOf(servers, servers.length * 2);
+            }
+            servers[newIndex] = serverUUID;
+            serverIndexes.put(serverUUID, newIndex);
+            return newIndex;
+        }
+
+        private void ensureCapacity() {
+            if (size < starts.length) {
+                return;
+            }
+            int newLength = starts.length * 2;
+            playerColumn = Arrays.copyOf(playerColumn, newLength);
+            serverColumn = Arrays.copyOf(serverColumn, newLength);
+            starts = Arrays.copyOf(starts, newLength);
+            ends = Arrays.copyOf(ends, newLength);
+            afkTimes = Arrays.copyOf(afkTimes, newLength);
+            mobKills = Arrays.copyOf(mobKills, newLength);
+            deaths = Arrays.copyOf(deaths, newLength);
+        }
+
+        /**
+         * Add a session.
+         *
+         * @param playerUUID UUID of the player.
+         * @param serverUUID UUID of the server the session was played on.
+         * @param start      Epoch ms the session started.
+         * @param end        Epoch ms the session ended, or -1 if the session is still active.
+         * @param afkTime    Time the player was AFK during the session in ms.
+         * @param mobKills   Mob kills during the session.
+         * @param deaths     Deaths during the session.
+         * @return this builder.
+         */
+        public Builder add(UUID playerUUID, UUID serverUUID, long start, long end, long afkTime, int mobKills, int deaths) {
+            ensureCapacity();
+            playerColumn[size] = internPlayer(playerUUID);
+            serverColumn[size] = internServer(serverUUID);
+            starts[size] = start;
+            ends[size] = end == -1L ? now : end;
+            afkTimes[size] = afkTime;
+            this.mobKills[size] = mobKills;
+            this.deaths[size] = deaths;
+            size++;
+            return this;
+        }
+
+        /**
+         * Add all sessions of already built columns.
+         *
+         * @param columns SessionColumns to copy.
+         * @return this builder.
+         */
+        public Builder addAll(SessionColumns columns) {
+            for (int player = 0; player < columns.getPlayerCount(); player++) {
+                UUID playerUUID = columns.getPlayerUUID(player);
+                for (int i = columns.rangeStart(player); i < columns.rangeEnd(player); i++) {
+                    add(playerUUID, columns.getServerUUID(i), columns.getStart(i), columns.getEnd(i),
+                            columns.getAfkTime(i), columns.getMobKills(i), columns.getDeaths(i));
+                }
+            }
+            return this;
+        }
+
+        public SessionColumns build() {
+            int playerCount = playerIndexes.size();
+
+            // Counting sort by player index keeps the order of each player's sessions.
+            int[] rangeStarts = new int[playerCount + 1];
+            for (int i = 0; i < size; i++) {
+                rangeStarts[playerColumn[i] + 1]++;
+            }
+            for (int player = 0; player < playerCount; player++) {
+                rangeStarts[player + 1] += rangeStarts[player];
+            }
+            int[] positions = Arrays.copyOf(rangeStarts, playerCount);
+
+            int[] sortedServers = new int[size];
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            long[] sortedAfkTimes = new long[size];
+            int[] sortedMobKills = new int[size];
+            int[] sortedDeaths = new int[size];
+            for (int i = 0; i < size; i++) {
+                int to = positions[playerColumn[i]]++;
+                sortedServers[to] = serverColumn[i];
+                sortedStarts[to] = starts[i];
+                sortedEnds[to] = ends[i];
+                sortedAfkTimes[to] = afkTimes[i];
+                sortedMobKills[to] = mobKills[i];
+                sortedDeaths[to] = deaths[i];
+            }
+
+            return new SessionColumns(
+                    Arrays.copyOf(players, playerCount),
+                    Arrays.copyOf(servers, serverIndexes.size()),
+                    new HashMap<>(playerIndexes),
+                    rangeStarts,
+                    sortedServers, sortedStarts, sortedEnds, sortedAfkTimes, sortedMobKills, sortedDeaths
+            );
+        }
+    }
+}
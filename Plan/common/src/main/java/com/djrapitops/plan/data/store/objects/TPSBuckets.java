@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import java.util.Arrays;
+
+/**
+ * TPS data aggregated into fixed width time buckets, stored in primitive arrays.
+ * <p>
+ * Each bucket has the date of its first sample and the average, minimum and maximum of every metric.
+ * Buckets without any samples are left out, so the dates are not evenly spaced when data is missing.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.access.queries.objects.TPSQueries#fetchTPSBuckets(java.util.UUID, long, long, long)
+ */
+public class TPSBuckets {
+
+    public enum Metric {
+        PLAYERS_ONLINE,
+        TPS,
+        CPU,
+        RAM,
+        ENTITIES,
+        CHUNKS,
+        FREE_DISK
+    }
+
+    private final long bucketWidth;
+    private int size;
+    private long[] dates;
+    private final double[][] averages;
+    private final double[][] minimums;
+    private final double[][] maximums;
+
+    public TPSBuckets(long bucketWidth) {
+        this.bucketWidth = bucketWidth;
+        int metricCount = Metric.values().length;
+        size = 0;
+        dates = new long[16];
+        averages = new double[metricCount][16];
+        minimums = new double[metricCount][16];
+        maximums = new double[metricCount][16];
+    }
+
+    /**
+     * Add the next bucket, buckets need to be added in date order.
+     *
+     * @param date Epoch ms of the first sample in the bucket.
+     * @return Index of the bucket, used with {@link #set(int, Metric, double, double, double)}.
+     */
+    public int addBucket(long date) {
+        if (size == dates.length) {
+            int newLength = dates.length * 2;
+            dates = Arrays.copyOf(dates, newLength);
+            for (int metric = 0; metric < averages.length; metric++) {
+                averages[metric] = Arrays.copyOf(averages[metric], newLength);
+                minimums[metric] = Arrays.copyOf(minimums[metric], newLength);
+                maximums[metric] = Arrays.copyOf(maximums[metric], newLength);
+            }
+        }
+        dates[size] = date;
+        return size++;
+    }
+
+    public void set(int bucket, Metric metric, double average, double minimum, double maximum) {
+        averages[metric.ordinal()][bucket] = average;
+        minimums[metric.ordinal()][bucket] = minimum;
+        maximums[metric.ordinal()][bucket] = maximum;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Get dates of the buckets.
+     * <p>
+     * The returned array may be longer than {@link #size()}, values past the size are not used.
+     *
+     * @return Epoch ms of the first sample in each bucket.
+     */
+    public long[] getDates() {
+        return dates;
+    }
+
+    public double[] getAverages(Metric metric) {
+        return averages[metric.ordinal()];
+    }
+
+    public double[] getMinimums(Metric metric) {
+        return minimums[metric.ordinal()];
+    }
+
+    public double[] getMaximums(Metric metric) {
+        return maximums[metric.ordinal()];
+    }
+}
\ No newline at end of file
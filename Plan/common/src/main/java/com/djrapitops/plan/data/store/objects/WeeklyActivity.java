@@ -0,0 +1,150 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Active playtime and session counts of a player, bucketed into weeks counted back from an anchor date.
+ * <p>
+ * Week 0 contains sessions that start or end between {@code anchor - week} and {@code anchor},
+ * week 1 the week before that and so on, so the buckets match the weekly windows of
+ * {@link com.djrapitops.plan.data.store.mutators.ActivityIndex} for any date that is whole weeks before the anchor.
+ * A session is added to every week its start or end date falls into, same as
+ * {@link com.djrapitops.plan.data.store.mutators.SessionsMutator#filterSessionsBetween(long, long)}.
+ *
+ * @author Rsl1122
+ */
+public class WeeklyActivity {
+
+    private static final long WEEK = TimeAmount.WEEK.toMillis(1L);
+
+    private final long anchor;
+    private final long[] activePlaytimes;
+    private final int[] sessionCounts;
+
+    private WeeklyActivity(long anchor, long[] activePlaytimes, int[] sessionCounts) {
+        this.anchor = anchor;
+        this.activePlaytimes = activePlaytimes;
+        this.sessionCounts = sessionCounts;
+    }
+
+    /**
+     * Bucket sessions into weeks in a single pass.
+     *
+     * @param sessions Sessions of the player.
+     * @param anchor   Epoch ms the weeks are counted back from.
+     * @return WeeklyActivity of the sessions.
+     */
+    public static WeeklyActivity of(List<Session> sessions, long anchor) {
+        long now = System.currentTimeMillis();
+        long[] activePlaytimes = new long[4];
+        int[] sessionCounts = new int[4];
+        int weeks = 0;
+
+        for (Session session : sessions) {
+            long start = session.getUnsafe(SessionKeys.START);
+            long end = session.getValue(SessionKeys.END).orElse(now);
+            long activeTime = session.getValue(SessionKeys.ACTIVE_TIME).orElse(0L);
+
+            int startWeek = firstWeekOf(anchor, start);
+            int endWeek = firstWeekOf(anchor, end);
+            int lastWeek = Math.max(lastWeekOf(anchor, start), lastWeekOf(anchor, end));
+            if (lastWeek < 0) {
+                continue; // Session is after the anchor
+            }
+            if (lastWeek >= activePlaytimes.length) {
+                int newLength = Math.max(activePlaytimes.length * 2, lastWeek + 1);
+                activePlaytimes = Arrays.copyOf(activePlaytimes, newLength);
+                sessionCounts = Arrays.copyOf(sessionCounts, newLength);
+            }
+            weeks = Math.max(weeks, lastWeek + 1);
+
+            for (int week = Math.min(startWeek, endWeek); week <= lastWeek; week++) {
+                if (isInWeek(anchor, week, start) || isInWeek(anchor, week, end)) {
+                    activePlaytimes[week] += activeTime;
+                    sessionCounts[week]++;
+                }
+            }
+        }
+
+        return new WeeklyActivity(anchor, Arrays.copyOf(activePlaytimes, weeks), Arrays.copyOf(sessionCounts, weeks));
+    }
+
+    // Dates exactly on the border of two weeks belong to both weeks, as the windows are inclusive.
+    private static int firstWeekOf(long anchor, long date) {
+        if (date > anchor) {
+            return Integer.MAX_VALUE;
+        }
+        long weeksBack = (anchor - date) / WEEK;
+        return (int) ((anchor - date) % WEEK == 0 && weeksBack > 0 ? weeksBack - 1 : weeksBack);
+    }
+
+    private static int lastWeekOf(long anchor, long date) {
+        if (date > anchor) {
+            return -1;
+        }
+        return (int) ((anchor - date) / WEEK);
+    }
+
+    private static boolean isInWeek(long anchor, int week, long date) {
+        long before = anchor - week * WEEK;
+        long after = before - WEEK;
+        return after <= date && date <= before;
+    }
+
+    /**
+     * Check if the weeks of the given date can be read from this object.
+     *
+     * @param date Epoch ms.
+     * @return true if the date is whole weeks before the anchor.
+     */
+    public boolean covers(long date) {
+        return date <= anchor && (anchor - date) % WEEK == 0;
+    }
+
+    /**
+     * Get index of the week ending at the given date.
+     *
+     * @param date Epoch ms that is {@link #covers(long)}.
+     * @return Index of the week, weeks before it have higher indexes.
+     * @throws IllegalArgumentException If the date is not covered.
+     */
+    public int weekIndexOf(long date) {
+        if (!covers(date)) {
+            throw new IllegalArgumentException("Date " + date + " is not whole weeks before " + anchor);
+        }
+        return (int) ((anchor - date) / WEEK);
+    }
+
+    public long getActivePlaytime(int week) {
+        return week < activePlaytimes.length ? activePlaytimes[week] : 0L;
+    }
+
+    public int getSessionCount(int week) {
+        return week < sessionCounts.length ? sessionCounts[week] : 0;
+    }
+
+    public long getAnchor() {
+        return anchor;
+    }
+}
\ No newline at end of file
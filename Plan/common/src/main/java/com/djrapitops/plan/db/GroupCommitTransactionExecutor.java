@@ -0,0 +1,157 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.db.access.transactions.GroupedTransaction;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.access.transactions.init.OperationCriticalTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link TransactionExecutor} that merges queued transactions into a single database commit.
+ * <p>
+ * Used for databases with a single connection, where only one transaction can be executed at a time.
+ * Transactions that pile up while a commit is in progress are executed together with the next commit,
+ * each under its own savepoint so that a failing transaction does not affect the others.
+ * {@link OperationCriticalTransaction}s are always executed alone.
+ *
+ * @author Rsl1122
+ */
+class GroupCommitTransactionExecutor extends TransactionExecutor {
+
+    static final int MAX_GROUP_SIZE = 50;
+
+    private final ExecutorService writer;
+    private final Queue<QueuedTransaction> queue;
+    private final Object drainLock;
+
+    /**
+     * Create a new GroupCommitTransactionExecutor.
+     *
+     * @param writer ExecutorService that executes the commits, should use a single thread.
+     * @param runner Function that executes a transaction against the database.
+     */
+    GroupCommitTransactionExecutor(ExecutorService writer, Consumer<Transaction> runner) {
+        super(runner);
+        this.writer = writer;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.drainLock = new Object();
+    }
+
+    @Override
+    void enqueue(QueuedTransaction queued) {
+        queue.add(queued);
+        try {
+            writer.execute(this::commitNext);
+        } catch (RejectedExecutionException e) {
+            queue.remove(queued);
+            throw e;
+        }
+    }
+
+    private void commitNext() {
+        List<QueuedTransaction> group = pollGroup();
+        if (group.isEmpty()) {
+            return; // An earlier commit included the transactions.
+        }
+        if (group.size() == 1) {
+            execute(group.get(0));
+            return;
+        }
+
+        List<Transaction> members = new ArrayList<>(group.size());
+        for (QueuedTransaction queued : group) {
+            members.add(queued.transaction);
+        }
+        GroupedTransaction grouped = new GroupedTransaction(members);
+        markStarted(group.size());
+        try {
+            execute(grouped, group.size());
+        } catch (Throwable commitFailure) {
+            for (QueuedTransaction queued : group) {
+                queued.future.completeExceptionally(commitFailure);
+            }
+            return;
+        }
+        for (QueuedTransaction queued : group) {
+            DBOpException failure = grouped.getFailure(queued.transaction).orElse(null);
+            if (failure != null) {
+                queued.future.completeExceptionally(failure);
+            } else {
+                queued.future.complete(null);
+            }
+        }
+    }
+
+    private List<QueuedTransaction> pollGroup() {
+        List<QueuedTransaction> group = new ArrayList<>();
+        synchronized (drainLock) {
+            QueuedTransaction first = queue.poll();
+            if (first == null) {
+                return group;
+            }
+            group.add(first);
+            if (isCritical(first)) {
+                return group;
+            }
+            while (group.size() < MAX_GROUP_SIZE) {
+                QueuedTransaction next = queue.peek();
+                if (next == null || isCritical(next)) {
+                    break;
+                }
+                group.add(queue.poll());
+            }
+        }
+        return group;
+    }
+
+    private boolean isCritical(QueuedTransaction queued) {
+        return queued.transaction instanceof OperationCriticalTransaction;
+    }
+
+    @Override
+    List<QueuedTransaction> shutdown(long waitMs) throws InterruptedException {
+        writer.shutdown();
+        if (writer.awaitTermination(waitMs, TimeUnit.MILLISECONDS)) {
+            return new ArrayList<>();
+        }
+        writer.shutdownNow();
+        List<QueuedTransaction> unfinished = new ArrayList<>();
+        synchronized (drainLock) {
+            QueuedTransaction queued;
+            while ((queued = queue.poll()) != null) {
+                markStarted(1);
+                unfinished.add(queued);
+            }
+        }
+        return unfinished;
+    }
+
+    @Override
+    boolean isShutdown() {
+        return writer.isShutdown() || writer.isTerminated();
+    }
+}
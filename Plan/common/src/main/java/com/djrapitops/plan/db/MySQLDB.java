@@ -19,6 +19,7 @@ package com.djrapitops.plan.db;
 import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
+import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.PluginLang;
@@ -40,7 +41,9 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author Rsl1122
@@ -48,9 +51,13 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class MySQLDB extends SQLDB {
 
+    private static final int MAX_POOL_SIZE = 8;
+
     private static int increment = 1;
 
     protected DataSource dataSource;
+    // Connection of the transaction that is being executed on the thread, queries of the transaction use it.
+    private final ThreadLocal<Connection> transactionConnection = new ThreadLocal<>();
 
     @Inject
     public MySQLDB(
@@ -66,6 +73,19 @@ public class MySQLDB extends SQLDB {
         super(() -> serverInfo.get().getServerUUID(), locale, config, networkContainerFactory, runnableFactory, pluginLogger, errorHandler);
     }
 
+    /**
+     * Transactions are executed concurrently on a part of the connection pool.
+     * <p>
+     * Two connections are left for queries so that the web server is not blocked by a busy transaction queue.
+     *
+     * @param threadProvider Supplier for single thread ExecutorServices.
+     * @return Executor that executes transactions of different players concurrently.
+     */
+    @Override
+    protected TransactionExecutor createTransactionExecutor(Supplier<ExecutorService> threadProvider) {
+        return new StripedTransactionExecutor(MAX_POOL_SIZE - 2, threadProvider, this::runTransaction);
+    }
+
     private static synchronized void increment() {
         increment++;
     }
@@ -104,7 +124,7 @@ public class MySQLDB extends SQLDB {
             increment();
 
             hikariConfig.setAutoCommit(true);
-            hikariConfig.setMaximumPoolSize(8);
+            hikariConfig.setMaximumPoolSize(MAX_POOL_SIZE);
             hikariConfig.setMaxLifetime(TimeUnit.MINUTES.toMillis(25L));
             hikariConfig.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(10L));
 
@@ -115,7 +135,12 @@ public class MySQLDB extends SQLDB {
     }
 
     @Override
-    public synchronized Connection getConnection() throws SQLException {
+    public Connection getConnection() throws SQLException {
+        Connection ofTransaction = transactionConnection.get();
+        return ofTransaction != null ? ofTransaction : getPooledConnection();
+    }
+
+    private synchronized Connection getPooledConnection() throws SQLException {
         Connection connection = dataSource.getConnection();
         if (!connection.isValid(5)) {
             connection.close();
@@ -143,8 +168,27 @@ public class MySQLDB extends SQLDB {
         }
     }
 
+    @Override
+    public <T> T queryInsideTransaction(Connection connection, Query<T> query) {
+        Connection previous = transactionConnection.get();
+        transactionConnection.set(connection);
+        try {
+            return super.queryInsideTransaction(connection, query);
+        } finally {
+            if (previous != null) {
+                transactionConnection.set(previous);
+            } else {
+                transactionConnection.remove();
+            }
+        }
+    }
+
     @Override
     public void returnToPool(Connection connection) {
+        if (connection != null && connection == transactionConnection.get()) {
+            // The transaction returns its connection after it has been committed.
+            return;
+        }
         try {
             if (connection != null) {
                 connection.close();
@@ -66,8 +66,9 @@ public abstract class SQLDB extends AbstractDatabase {
     protected final PluginLogger logger;
     protected final ErrorHandler errorHandler;
 
+    private final ThreadFactory transactionThreadFactory;
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
-    private ExecutorService transactionExecutor;
+    private TransactionExecutor transactionExecutor;
 
     private final boolean devMode;
 
@@ -89,22 +90,21 @@ public abstract class SQLDB extends AbstractDatabase {
 
         devMode = config.get(PluginSettings.DEV_MODE);
 
-        this.transactionExecutorServiceProvider = () -> Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Plan " + getClass().getSimpleName() + "-transaction-thread-%d").build());
+        this.transactionThreadFactory = new ThreadFactoryBuilder().setNameFormat("Plan " + getClass().getSimpleName() + "-transaction-thread-%d").build();
+        this.transactionExecutorServiceProvider = () -> Executors.newSingleThreadExecutor(transactionThreadFactory);
     }
 
     @Override
     public void init() {
-        List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
-        this.transactionExecutor = transactionExecutorServiceProvider.get();
+        List<TransactionExecutor.QueuedTransaction> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
+        this.transactionExecutor = createTransactionExecutor(transactionExecutorServiceProvider);
 
         setState(State.PATCHING);
 
         setupDataSource();
         setupDatabase();
 
-        for (Runnable unfinishedTransaction : unfinishedTransactions) {
-            transactionExecutor.submit(unfinishedTransaction);
-        }
+        transactionExecutor.resubmit(unfinishedTransactions);
 
         // If an OperationCriticalTransaction fails open is set to false.
         // See executeTransaction method below.
@@ -113,25 +113,34 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
-    private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
-        if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
+    /**
+     * Create the executor used for executing transactions.
+     * <p>
+     * By default transactions are merged into group commits, as the database has a single connection.
+     *
+     * @param threadProvider Supplier for single thread ExecutorServices.
+     * @return a new TransactionExecutor.
+     */
+    protected TransactionExecutor createTransactionExecutor(Supplier<ExecutorService> threadProvider) {
+        return new GroupCommitTransactionExecutor(threadProvider.get(), this::runTransaction);
+    }
+
+    private List<TransactionExecutor.QueuedTransaction> closeTransactionExecutor(TransactionExecutor transactionExecutor) {
+        if (transactionExecutor == null || transactionExecutor.isShutdown()) {
             return Collections.emptyList();
         }
-        transactionExecutor.shutdown();
         try {
             Long waitMs = config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L));
             if (waitMs > TimeUnit.MINUTES.toMillis(5L)) {
                 logger.warn(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY.getPath() + " was set to over 5 minutes, using 5 min instead.");
                 waitMs = TimeUnit.MINUTES.toMillis(5L);
             }
-            if (!transactionExecutor.awaitTermination(waitMs, TimeUnit.MILLISECONDS)) {
-                List<Runnable> unfinished = transactionExecutor.shutdownNow();
-                int unfinishedCount = unfinished.size();
-                if (unfinishedCount > 0) {
-                    logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
-                }
-                return unfinished;
+            List<TransactionExecutor.QueuedTransaction> unfinished = transactionExecutor.shutdown(waitMs);
+            int unfinishedCount = unfinished.size();
+            if (unfinishedCount > 0) {
+                logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
             }
+            return unfinished;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -161,7 +170,9 @@ public abstract class SQLDB extends AbstractDatabase {
                 new IPAnonPatch(),
                 new BadAFKThresholdValuePatch(),
                 new DeleteIPHashesPatch(),
-                new ExtensionShowInPlayersTablePatch()
+                new ExtensionShowInPlayersTablePatch(),
+                new ActivityRollupPatch(),
+                new PlayerSummaryPatch()
         };
     }
 
@@ -220,6 +231,21 @@ public abstract class SQLDB extends AbstractDatabase {
         return query.executeQuery(this);
     }
 
+    /**
+     * Execute a query made by a transaction that is being executed on the current thread.
+     * <p>
+     * Databases with a connection pool should execute the query with the connection of the transaction,
+     * so that a transaction never holds more than one connection of the pool.
+     *
+     * @param transactionConnection Connection of the transaction.
+     * @param query                 Query to execute.
+     * @param <T>                   Type of the query result.
+     * @return Result of the query.
+     */
+    public <T> T queryInsideTransaction(Connection transactionConnection, Query<T> query) {
+        return query.executeQuery(this);
+    }
+
     @Override
     public Future<?> executeTransaction(Transaction transaction) {
         if (getState() == State.CLOSED) {
@@ -228,17 +254,18 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
-        return CompletableFuture.supplyAsync(() -> {
-            accessLock.checkAccess(transaction);
-            if (devMode) {
-                logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
-            }
-            transaction.executeTransaction(this);
-            return CompletableFuture.completedFuture(null);
-        }, getTransactionExecutor()).handle(errorHandler(origin));
+        return getTransactionExecutor().submit(transaction).handle(errorHandler(origin));
     }
 
-    private BiFunction<CompletableFuture<Object>, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
+    void runTransaction(Transaction transaction) {
+        accessLock.checkAccess(transaction);
+        if (devMode) {
+            logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
+        }
+        transaction.executeTransaction(this);
+    }
+
+    private BiFunction<Void, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
         return (obj, throwable) -> {
             if (throwable == null) {
                 return CompletableFuture.completedFuture(null);
@@ -253,9 +280,14 @@ public abstract class SQLDB extends AbstractDatabase {
         };
     }
 
-    private ExecutorService getTransactionExecutor() {
+    /**
+     * Get the executor of transactions, used for queue depth and commit latency metrics.
+     *
+     * @return TransactionExecutor of this database.
+     */
+    public TransactionExecutor getTransactionExecutor() {
         if (transactionExecutor == null) {
-            transactionExecutor = transactionExecutorServiceProvider.get();
+            transactionExecutor = createTransactionExecutor(transactionExecutorServiceProvider);
         }
         return transactionExecutor;
     }
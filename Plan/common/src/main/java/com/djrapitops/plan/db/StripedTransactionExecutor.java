@@ -0,0 +1,162 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.db.access.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link TransactionExecutor} that executes transactions concurrently on multiple threads.
+ * <p>
+ * Used for databases with a connection pool. Each thread executes transactions in submission order.
+ * Transactions with the same {@link Transaction#getOrderingKey()} are always given to the same thread.
+ * Transactions without a key are executed after every transaction submitted before them has finished,
+ * and transactions submitted after them wait until they have finished.
+ *
+ * @author Rsl1122
+ */
+class StripedTransactionExecutor extends TransactionExecutor {
+
+    private final ExecutorService[] stripes;
+
+    /**
+     * Create a new StripedTransactionExecutor.
+     *
+     * @param threadCount    Amount of transactions that can be executed at the same time.
+     * @param threadProvider Supplier for the ExecutorService of each thread, each should use a single thread.
+     * @param runner         Function that executes a transaction against the database.
+     */
+    StripedTransactionExecutor(int threadCount, Supplier<ExecutorService> threadProvider, Consumer<Transaction> runner) {
+        super(runner);
+        stripes = new ExecutorService[Math.max(1, threadCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = threadProvider.get();
+        }
+    }
+
+    @Override
+    synchronized void enqueue(QueuedTransaction queued) {
+        // Synchronized so that barriers are queued in the same order on every thread.
+        Optional<UUID> orderingKey = queued.transaction.getOrderingKey();
+        if (stripes.length == 1) {
+            stripes[0].execute(new StripeTask(queued));
+        } else if (orderingKey.isPresent()) {
+            stripes[Math.floorMod(orderingKey.get().hashCode(), stripes.length)].execute(new StripeTask(queued));
+        } else {
+            enqueueBarrier(queued);
+        }
+    }
+
+    private void enqueueBarrier(QueuedTransaction queued) {
+        CountDownLatch arrived = new CountDownLatch(stripes.length - 1);
+        CountDownLatch finished = new CountDownLatch(1);
+        stripes[0].execute(new BarrierTask(queued, arrived, finished));
+        for (int i = 1; i < stripes.length; i++) {
+            stripes[i].execute(() -> {
+                arrived.countDown();
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    @Override
+    List<QueuedTransaction> shutdown(long waitMs) throws InterruptedException {
+        synchronized (this) {
+            for (ExecutorService stripe : stripes) {
+                stripe.shutdown();
+            }
+        }
+        long waitUntil = System.currentTimeMillis() + waitMs;
+        List<QueuedTransaction> unfinished = new ArrayList<>();
+        for (ExecutorService stripe : stripes) {
+            long remaining = Math.max(0L, waitUntil - System.currentTimeMillis());
+            if (stripe.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            for (Runnable notExecuted : stripe.shutdownNow()) {
+                if (notExecuted instanceof StripeTask || notExecuted instanceof BarrierTask) {
+                    markStarted(1);
+                    unfinished.add(notExecuted instanceof StripeTask
+                            ? ((StripeTask) notExecuted).queued
+                            : ((BarrierTask) notExecuted).queued);
+                }
+            }
+        }
+        return unfinished;
+    }
+
+    @Override
+    boolean isShutdown() {
+        return stripes[0].isShutdown() || stripes[0].isTerminated();
+    }
+
+    private class StripeTask implements Runnable {
+        private final QueuedTransaction queued;
+
+        StripeTask(QueuedTransaction queued) {
+            this.queued = queued;
+        }
+
+        @Override
+        public void run() {
+            execute(queued);
+        }
+    }
+
+    /**
+     * Executes a transaction without an ordering key once the other threads have reached the barrier.
+     */
+    private class BarrierTask implements Runnable {
+        private final QueuedTransaction queued;
+        private final CountDownLatch arrived;
+        private final CountDownLatch finished;
+
+        BarrierTask(QueuedTransaction queued, CountDownLatch arrived, CountDownLatch finished) {
+            this.queued = queued;
+            this.arrived = arrived;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                arrived.await();
+            } catch (InterruptedException e) {
+                // Executor is being shut down, the transaction is still executed so that it is not lost.
+                Thread.currentThread().interrupt();
+            }
+            try {
+                execute(queued);
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.db.access.transactions.Transaction;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Executes {@link Transaction}s of a {@link SQLDB}.
+ * <p>
+ * Keeps track of the amount of queued transactions and the time it takes to execute and commit them.
+ *
+ * @author Rsl1122
+ * @see GroupCommitTransactionExecutor for databases that use a single connection.
+ * @see StripedTransactionExecutor for databases that use a connection pool.
+ */
+public abstract class TransactionExecutor {
+
+    private final Consumer<Transaction> runner;
+
+    private final AtomicInteger queueSize;
+    private final LongAdder commits;
+    private final LongAdder committedTransactions;
+    private final LongAdder commitTimeNanos;
+
+    TransactionExecutor(Consumer<Transaction> runner) {
+        this.runner = runner;
+
+        queueSize = new AtomicInteger();
+        commits = new LongAdder();
+        committedTransactions = new LongAdder();
+        commitTimeNanos = new LongAdder();
+    }
+
+    CompletableFuture<Void> submit(Transaction transaction) {
+        QueuedTransaction queued = new QueuedTransaction(transaction);
+        queueSize.incrementAndGet();
+        try {
+            enqueue(queued);
+        } catch (RuntimeException rejected) {
+            queueSize.decrementAndGet();
+            throw rejected;
+        }
+        return queued.future;
+    }
+
+    void resubmit(List<QueuedTransaction> unfinished) {
+        for (QueuedTransaction queued : unfinished) {
+            queueSize.incrementAndGet();
+            enqueue(queued);
+        }
+    }
+
+    abstract void enqueue(QueuedTransaction queued);
+
+    /**
+     * Stop accepting new transactions and wait for queued transactions to finish.
+     *
+     * @param waitMs How long to wait for the transactions to finish.
+     * @return Transactions that were not executed before the wait ran out.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    abstract List<QueuedTransaction> shutdown(long waitMs) throws InterruptedException;
+
+    abstract boolean isShutdown();
+
+    void execute(QueuedTransaction queued) {
+        queueSize.decrementAndGet();
+        try {
+            execute(queued.transaction, 1);
+            queued.future.complete(null);
+        } catch (Throwable failure) {
+            queued.future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Execute a transaction that contains operations of one or more queued transactions.
+     *
+     * @param transaction      Transaction to execute.
+     * @param transactionCount How many queued transactions are committed by the transaction.
+     */
+    void execute(Transaction transaction, int transactionCount) {
+        long start = System.nanoTime();
+        try {
+            runner.accept(transaction);
+        } finally {
+            commitTimeNanos.add(System.nanoTime() - start);
+            commits.increment();
+            committedTransactions.add(transactionCount);
+        }
+    }
+
+    void markStarted(int transactionCount) {
+        queueSize.addAndGet(-transactionCount);
+    }
+
+    /**
+     * Get the amount of transactions that have been submitted but not started yet.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * Get the amount of database commits made by this executor.
+     *
+     * @return Commit count, one commit can contain multiple transactions.
+     */
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    /**
+     * Get the amount of transactions executed by this executor.
+     *
+     * @return Transaction count.
+     */
+    public long getTransactionCount() {
+        return committedTransactions.sum();
+    }
+
+    /**
+     * Get the average time it takes to execute and commit a database transaction.
+     *
+     * @return Average latency in milliseconds, 0 if nothing has been committed.
+     */
+    public double getAverageCommitLatency() {
+        long commitCount = commits.sum();
+        if (commitCount == 0) {
+            return 0.0;
+        }
+        return (double) commitTimeNanos.sum() / commitCount / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    /**
+     * A transaction waiting for execution, along with the future of the caller.
+     */
+    static class QueuedTransaction {
+        final Transaction transaction;
+        final CompletableFuture<Void> future;
+
+        QueuedTransaction(Transaction transaction) {
+            this.transaction = transaction;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
@@ -21,7 +21,9 @@ import com.djrapitops.plan.data.container.Ping;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.db.access.ExecBatchStatement;
 import com.djrapitops.plan.db.access.ExecStatement;
@@ -31,6 +33,7 @@ import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -264,6 +267,34 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Store aggregated Ping data of multiple players at once.
+     *
+     * @param ofPlayers Map: Player UUID - Ping data entry
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storePings(Map<UUID, Ping> ofPlayers) {
+        if (Verify.isEmpty(ofPlayers)) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(PingTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, Ping> entry : ofPlayers.entrySet()) {
+                    Ping ping = entry.getValue();
+                    statement.setString(1, entry.getKey().toString());
+                    statement.setString(2, ping.getServerUUID().toString());
+                    statement.setLong(3, ping.getDate());
+                    statement.setInt(4, ping.getMin());
+                    statement.setInt(5, ping.getMax());
+                    statement.setDouble(6, ping.getAverage());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
     /**
      * Store TPS data of a server.
      *
@@ -327,4 +358,157 @@ public class DataStoreQueries {
             }
         };
     }
+
+    /**
+     * Add hourly activity counters to the rollup table.
+     * <p>
+     * Safe to execute in concurrent transactions, rows inserted for the same hour at the same time are summed when queried.
+     *
+     * @param increment Counters to add to the existing counters of the same server and hour.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeActivityRollup(ActivityRollup increment) {
+        return connection -> {
+            if (!incrementActivityRollup(increment).execute(connection)) {
+                return insertActivityRollup(increment).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Remove hourly activity counters from the rollup table.
+     * <p>
+     * Hours that have no counters stored are skipped.
+     *
+     * @param decrement Counters to remove from the existing counters of the same server and hour.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable subtractActivityRollup(ActivityRollup decrement) {
+        return incrementActivityRollup(decrement.negate());
+    }
+
+    private static Executable incrementActivityRollup(ActivityRollup increment) {
+        return new ExecStatement(ActivityRollupTable.INCREMENT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, increment.getNewPlayers());
+                statement.setInt(2, increment.getSessions());
+                statement.setLong(3, increment.getPlaytime());
+                statement.setLong(4, increment.getAfkTime());
+                statement.setInt(5, increment.getMobKills());
+                statement.setInt(6, increment.getPlayerKills());
+                statement.setInt(7, increment.getDeaths());
+                statement.setString(8, increment.getServerUUID().toString());
+                statement.setLong(9, increment.getDate());
+            }
+        };
+    }
+
+    private static Executable insertActivityRollup(ActivityRollup rollup) {
+        return new ExecStatement(ActivityRollupTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setActivityRollupInsertParameters(statement, rollup);
+            }
+        };
+    }
+
+    static void setActivityRollupInsertParameters(PreparedStatement statement, ActivityRollup rollup) throws SQLException {
+        statement.setString(1, rollup.getServerUUID().toString());
+        statement.setLong(2, rollup.getDate());
+        statement.setInt(3, rollup.getNewPlayers());
+        statement.setInt(4, rollup.getSessions());
+        statement.setLong(5, rollup.getPlaytime());
+        statement.setLong(6, rollup.getAfkTime());
+        statement.setInt(7, rollup.getMobKills());
+        statement.setInt(8, rollup.getPlayerKills());
+        statement.setInt(9, rollup.getDeaths());
+    }
+
+    /**
+     * Store the summary row of a player that registered on a server.
+     * <p>
+     * If a session of the player was stored before the registration the existing row is updated.
+     *
+     * @param playerUUID UUID of the player.
+     * @param serverUUID UUID of the Plan server.
+     * @param registered Epoch ms the player registered on the server.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable registerPlayerSummary(UUID playerUUID, UUID serverUUID, long registered) {
+        return connection -> {
+            if (!updatePlayerSummaryRegisterDate(playerUUID, serverUUID, registered).execute(connection)) {
+                return insertPlayerSummary(new PlayerSummary(
+                        playerUUID, serverUUID, null, registered, 0L, 0, 0L, 0.0, false
+                )).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable updatePlayerSummaryRegisterDate(UUID playerUUID, UUID serverUUID, long registered) {
+        return new ExecStatement(PlayerSummaryTable.UPDATE_REGISTERED_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, registered);
+                statement.setString(2, playerUUID.toString());
+                statement.setString(3, serverUUID.toString());
+            }
+        };
+    }
+
+    /**
+     * Add an ended session to the playtime, session count and last seen date of the player's summary row.
+     *
+     * @param session Session that has ended.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeSessionInPlayerSummary(Session session) {
+        Verify.isTrue(session.supports(SessionKeys.END), () -> new IllegalArgumentException("Attempted to save a session that has not ended."));
+        return connection -> {
+            if (!addSessionToPlayerSummary(session).execute(connection)) {
+                long start = session.getUnsafe(SessionKeys.START);
+                long end = session.getUnsafe(SessionKeys.END);
+                return insertPlayerSummary(new PlayerSummary(
+                        session.getUnsafe(SessionKeys.UUID), session.getUnsafe(SessionKeys.SERVER_UUID), null,
+                        start, end - start, 1, end, 0.0, false
+                )).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable addSessionToPlayerSummary(Session session) {
+        return new ExecStatement(PlayerSummaryTable.ADD_SESSION_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                long end = session.getUnsafe(SessionKeys.END);
+                statement.setLong(1, end - session.getUnsafe(SessionKeys.START));
+                statement.setLong(2, end);
+                statement.setLong(3, end);
+                statement.setString(4, session.getUnsafe(SessionKeys.UUID).toString());
+                statement.setString(5, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+            }
+        };
+    }
+
+    private static Executable insertPlayerSummary(PlayerSummary summary) {
+        return new ExecStatement(PlayerSummaryTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setPlayerSummaryInsertParameters(statement, summary);
+            }
+        };
+    }
+
+    static void setPlayerSummaryInsertParameters(PreparedStatement statement, PlayerSummary summary) throws SQLException {
+        statement.setString(1, summary.getPlayerUUID().toString());
+        statement.setString(2, summary.getServerUUID().toString());
+        statement.setLong(3, summary.getRegistered());
+        statement.setLong(4, summary.getPlaytime());
+        statement.setInt(5, summary.getSessionCount());
+        statement.setLong(6, summary.getLastSeen());
+        statement.setDouble(7, summary.getActivityIndex());
+    }
 }
\ No newline at end of file
@@ -19,7 +19,9 @@ package com.djrapitops.plan.db.access.queries;
 import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.data.container.*;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.db.access.ExecBatchStatement;
 import com.djrapitops.plan.db.access.Executable;
@@ -419,4 +421,48 @@ public class LargeStoreQueries {
             }
         };
     }
+
+    /**
+     * Execute a big batch of hourly activity counter insert statements.
+     *
+     * @param rollups Collection of hourly counters.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeAllActivityRollups(Collection<ActivityRollup> rollups) {
+        if (Verify.isEmpty(rollups)) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(ActivityRollupTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (ActivityRollup rollup : rollups) {
+                    DataStoreQueries.setActivityRollupInsertParameters(statement, rollup);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    /**
+     * Execute a big batch of player summary insert statements.
+     *
+     * @param summaries Collection of summary rows.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeAllPlayerSummaries(Collection<PlayerSummary> summaries) {
+        if (Verify.isEmpty(summaries)) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(PlayerSummaryTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (PlayerSummary summary : summaries) {
+                    DataStoreQueries.setPlayerSummaryInsertParameters(statement, summary);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
 }
\ No newline at end of file
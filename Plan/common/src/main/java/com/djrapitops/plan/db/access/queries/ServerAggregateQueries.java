@@ -56,6 +56,58 @@ public class ServerAggregateQueries {
         };
     }
 
+    /**
+     * Count how many users registered to the network between two dates.
+     *
+     * @param after  Epoch ms, the count starts after this date.
+     * @param before Epoch ms, the count ends before this date.
+     * @return Count of new users in the network.
+     */
+    public static Query<Integer> networkNewUserCount(long after, long before) {
+        String sql = "SELECT COUNT(1) as c FROM " + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.REGISTERED + ">=?" +
+                AND + UsersTable.REGISTERED + "<=?";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    /**
+     * Count how many users played on any server of the network between two dates.
+     *
+     * @param after  Epoch ms, the count starts after this date.
+     * @param before Epoch ms, the count ends before this date.
+     * @return Count of users who have a session that started or ended between the dates.
+     */
+    public static Query<Integer> networkUniqueUserCount(long after, long before) {
+        String sql = "SELECT COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as c FROM " + SessionsTable.TABLE_NAME +
+                WHERE + "(" + SessionsTable.SESSION_START + ">=?" + AND + SessionsTable.SESSION_START + "<=?)" +
+                OR + "(" + SessionsTable.SESSION_END + ">=?" + AND + SessionsTable.SESSION_END + "<=?)";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+                statement.setLong(3, after);
+                statement.setLong(4, before);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
     /**
      * Count how many users are on a server in the network.
      *
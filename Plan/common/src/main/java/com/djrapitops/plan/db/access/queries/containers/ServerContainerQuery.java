@@ -19,18 +19,24 @@ package com.djrapitops.plan.db.access.queries.containers;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
+import com.djrapitops.plan.db.access.queries.objects.ActivityRollupQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
 import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
 import com.djrapitops.plan.db.access.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.server.Server;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +55,11 @@ import java.util.concurrent.TimeUnit;
  */
 public class ServerContainerQuery implements Query<ServerContainer> {
 
+    // TPS samples are gathered every minute, graphs show the average of 5 samples per point.
+    private static final long TPS_GRAPH_BUCKET_WIDTH = TimeUnit.MINUTES.toMillis(5L);
+    // Upper limit for the sessions shown in session lists, so that all sessions don't need to be loaded for them.
+    private static final int RECENT_SESSION_LIMIT = 500;
+
     private final UUID serverUUID;
 
     public ServerContainerQuery(UUID serverUUID) {
@@ -70,6 +81,9 @@ public class ServerContainerQuery implements Query<ServerContainer> {
         container.putSupplier(ServerKeys.PLAYER_COUNT, () -> container.getValue(ServerKeys.PLAYERS).map(Collection::size).orElse(0));
 
         container.putCachingSupplier(ServerKeys.TPS, () -> db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)));
+        container.putCachingSupplier(ServerKeys.TPS_GRAPH_BUCKETS, () -> db.query(TPSQueries.fetchTPSBuckets(
+                serverUUID, 0L, System.currentTimeMillis(), TPS_GRAPH_BUCKET_WIDTH
+        )));
         container.putCachingSupplier(ServerKeys.PING, () -> PlayersMutator.forContainer(container).pings());
         container.putCachingSupplier(ServerKeys.ALL_TIME_PEAK_PLAYERS, () ->
                 db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).orElse(null)
@@ -91,10 +105,37 @@ public class ServerContainerQuery implements Query<ServerContainer> {
             }
             return sessions;
         });
+        container.putCachingSupplier(ServerKeys.SESSION_COLUMNS, () -> {
+            // Active sessions are not in the database yet.
+            List<Session> sessions = new ArrayList<>(SessionCache.getActiveSessions().values());
+            sessions.removeIf(session -> !session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false));
+            SessionColumns stored = db.query(SessionQueries.fetchSessionColumnsOfServer(serverUUID));
+            return sessions.isEmpty() ? stored : new SessionsMutator(sessions).toColumns(SessionColumns.builder().addAll(stored));
+        });
+        container.putCachingSupplier(ServerKeys.RECENT_SESSIONS, () -> {
+            List<Session> sessions = db.query(SessionQueries.fetchLatestSessionsOfServer(serverUUID, RECENT_SESSION_LIMIT));
+            // Active sessions are not in the database yet.
+            for (Session session : SessionCache.getActiveSessions().values()) {
+                if (session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false)) {
+                    sessions.add(session);
+                }
+            }
+            return sessions;
+        });
+        container.putCachingSupplier(ServerKeys.ACTIVITY_ROLLUPS, () -> {
+            List<ActivityRollup> rollups = db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID));
+            // Active sessions are not in the database yet.
+            for (Session session : SessionCache.getActiveSessions().values()) {
+                if (session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false)) {
+                    rollups.add(ActivityRollup.forSession(session));
+                }
+            }
+            return rollups;
+        });
         container.putCachingSupplier(ServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
         container.putCachingSupplier(ServerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(ServerKeys.PLAYER_KILLS).size());
-        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> container.getUnsafe(ServerKeys.SESSION_COLUMNS).toMobKillCount());
+        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> container.getUnsafe(ServerKeys.SESSION_COLUMNS).toDeathCount());
 
         container.putCachingSupplier(ServerKeys.EXTENSION_DATA, () -> db.query(new ExtensionServerDataQuery(serverUUID)));
 
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.db.access.queries.containers;
 
 import com.djrapitops.plan.data.container.*;
+import com.djrapitops.plan.data.store.CachingSupplier;
 import com.djrapitops.plan.data.store.containers.PerServerContainer;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
@@ -30,6 +31,7 @@ import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.objects.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Used to get PlayerContainers of all players on a server, some limitations apply to DataContainer keys.
@@ -39,29 +41,61 @@ import java.util.*;
  * - PlayerContainers PlayerKeys.PER_SERVER does not support: PerServerKeys WORLD_TIMES, PLAYER_KILLS, PLAYER_KILL_COUNT
  * <p>
  * Blocking methods are not called until DataContainer getter methods are called.
+ * Sessions are only queried when the first Session related value is requested, as they
+ * are the heaviest part of the containers and analysis gets them from SessionColumns.
  *
  * @author Rsl1122
  */
 public class ServerPlayerContainersQuery implements Query<List<PlayerContainer>> {
 
     private final UUID serverUUID;
+    private final UUID firstPlayerUUID;
+    private final UUID lastPlayerUUID;
 
     public ServerPlayerContainersQuery(UUID serverUUID) {
+        this(serverUUID, null, null);
+    }
+
+    /**
+     * Query only a range of the players on the server.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive, from {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive, from {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     */
+    public ServerPlayerContainersQuery(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
         this.serverUUID = serverUUID;
+        this.firstPlayerUUID = firstPlayerUUID;
+        this.lastPlayerUUID = lastPlayerUUID;
     }
 
     @Override
     public List<PlayerContainer> executeQuery(SQLDB db) {
         List<PlayerContainer> containers = new ArrayList<>();
 
-        Collection<BaseUser> baseUsers = db.query(BaseUserQueries.fetchServerBaseUsers(serverUUID));
-
-        Map<UUID, List<GeoInfo>> geoInformation = db.query(GeoInfoQueries.fetchServerGeoInformation(serverUUID));
-        Map<UUID, List<Nickname>> nicknames = db.query(NicknameQueries.fetchNicknameDataOfServer(serverUUID));
-        Map<UUID, List<Ping>> pingData = db.query(PingQueries.fetchPingDataOfServer(serverUUID));
-        Map<UUID, List<Session>> sessions = db.query(SessionQueries.fetchSessionsOfServer(serverUUID));
-
-        Map<UUID, UserInfo> userInformation = db.query(UserInfoQueries.fetchUserInformationOfServer(serverUUID));
+        boolean allPlayers = firstPlayerUUID == null || lastPlayerUUID == null;
+
+        Collection<BaseUser> baseUsers = db.query(allPlayers
+                ? BaseUserQueries.fetchServerBaseUsers(serverUUID)
+                : BaseUserQueries.fetchServerBaseUsers(serverUUID, firstPlayerUUID, lastPlayerUUID));
+
+        Map<UUID, List<GeoInfo>> geoInformation = db.query(allPlayers
+                ? GeoInfoQueries.fetchServerGeoInformation(serverUUID)
+                : GeoInfoQueries.fetchServerGeoInformation(serverUUID, firstPlayerUUID, lastPlayerUUID));
+        Map<UUID, List<Nickname>> nicknames = db.query(allPlayers
+                ? NicknameQueries.fetchNicknameDataOfServer(serverUUID)
+                : NicknameQueries.fetchNicknameDataOfServer(serverUUID, firstPlayerUUID, lastPlayerUUID));
+        Map<UUID, List<Ping>> pingData = db.query(allPlayers
+                ? PingQueries.fetchPingDataOfServer(serverUUID)
+                : PingQueries.fetchPingDataOfServer(serverUUID, firstPlayerUUID, lastPlayerUUID));
+        Supplier<Map<UUID, List<Session>>> sessions = new CachingSupplier<>(() -> db.query(allPlayers
+                ? SessionQueries.fetchSessionsOfServer(serverUUID)
+                : SessionQueries.fetchSessionsOfServer(serverUUID, firstPlayerUUID, lastPlayerUUID)),
+                Long.MAX_VALUE);
+
+        Map<UUID, UserInfo> userInformation = db.query(allPlayers
+                ? UserInfoQueries.fetchUserInformationOfServer(serverUUID)
+                : UserInfoQueries.fetchUserInformationOfServer(serverUUID, firstPlayerUUID, lastPlayerUUID));
 
         Map<UUID, PerServerContainer> perServerInfo = getPerServerData(
                 userInformation,
@@ -92,7 +126,7 @@ public class ServerPlayerContainersQuery implements Query<List<PlayerContainer>>
             container.putRawData(PlayerKeys.PER_SERVER, perServerInfo.get(uuid));
 
             container.putCachingSupplier(PlayerKeys.SESSIONS, () -> {
-                        List<Session> playerSessions = sessions.getOrDefault(uuid, new ArrayList<>());
+                        List<Session> playerSessions = new ArrayList<>(sessions.get().getOrDefault(uuid, Collections.emptyList()));
                         container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(playerSessions::add);
                         return playerSessions;
                     }
@@ -126,13 +160,13 @@ public class ServerPlayerContainersQuery implements Query<List<PlayerContainer>>
      * Create PerServerContainers for each player.
      *
      * @param userInformation Map: Player UUID - UserInfo of this server
-     * @param sessions        Map: Player UUID - List of Sessions of this server
+     * @param sessions        Supplier for Map: Player UUID - List of Sessions of this server
      * @param ping            Map: Player UUID - List of Ping data of this server
      * @return Map: Player UUID - PerServerContainer
      */
     private Map<UUID, PerServerContainer> getPerServerData(
             Map<UUID, UserInfo> userInformation,
-            Map<UUID, List<Session>> sessions,
+            Supplier<Map<UUID, List<Session>>> sessions,
             Map<UUID, List<Ping>> ping
     ) {
         Map<UUID, PerServerContainer> perServerContainers = new HashMap<>();
@@ -142,7 +176,9 @@ public class ServerPlayerContainersQuery implements Query<List<PlayerContainer>>
             PerServerContainer perServerContainer = perServerContainers.getOrDefault(playerUUID, new PerServerContainer());
 
             perServerContainer.putUserInfo(entry.getValue());         // Information found withing UserInfo
-            perServerContainer.putSessions(sessions.get(playerUUID)); // Session list
+            perServerContainer.putSessions(serverUUID, () -> new ArrayList<>(
+                    sessions.get().getOrDefault(playerUUID, Collections.emptyList())
+            ));                                                       // Session list, lazy
             perServerContainer.putPing(ping.get(playerUUID));         // Ping list
             perServerContainer.putCalculatingSuppliers();             // Derivative values
 
@@ -0,0 +1,259 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.ActivityRollupTable;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Queries for {@link ActivityRollup} objects.
+ *
+ * @author Rsl1122
+ */
+public class ActivityRollupQueries {
+
+    private static final String SUMMED_COLUMNS = "SUM(" + ActivityRollupTable.NEW_PLAYERS + ") as " + ActivityRollupTable.NEW_PLAYERS + ", " +
+            "SUM(" + ActivityRollupTable.SESSIONS + ") as " + ActivityRollupTable.SESSIONS + ", " +
+            "SUM(" + ActivityRollupTable.PLAYTIME + ") as " + ActivityRollupTable.PLAYTIME + ", " +
+            "SUM(" + ActivityRollupTable.AFK_TIME + ") as " + ActivityRollupTable.AFK_TIME + ", " +
+            "SUM(" + ActivityRollupTable.MOB_KILLS + ") as " + ActivityRollupTable.MOB_KILLS + ", " +
+            "SUM(" + ActivityRollupTable.PLAYER_KILLS + ") as " + ActivityRollupTable.PLAYER_KILLS + ", " +
+            "SUM(" + ActivityRollupTable.DEATHS + ") as " + ActivityRollupTable.DEATHS;
+
+    private ActivityRollupQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Query database for the hourly activity of a server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return List of hourly counters, ordered by hour.
+     */
+    public static Query<List<ActivityRollup>> fetchActivityRollupsOfServer(UUID serverUUID) {
+        String sql = SELECT + ActivityRollupTable.SERVER_UUID + ", " + ActivityRollupTable.HOUR_START + ", " +
+                SUMMED_COLUMNS +
+                FROM + ActivityRollupTable.TABLE_NAME +
+                WHERE + ActivityRollupTable.SERVER_UUID + "=?" +
+                GROUP_BY + ActivityRollupTable.SERVER_UUID + ", " + ActivityRollupTable.HOUR_START +
+                ORDER_BY + ActivityRollupTable.HOUR_START;
+
+        return new QueryStatement<List<ActivityRollup>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for the hourly activity of all servers.
+     *
+     * @return List of hourly counters.
+     */
+    public static Query<List<ActivityRollup>> fetchAllActivityRollups() {
+        String sql = SELECT + ActivityRollupTable.SERVER_UUID + ", " + ActivityRollupTable.HOUR_START + ", " +
+                SUMMED_COLUMNS +
+                FROM + ActivityRollupTable.TABLE_NAME +
+                GROUP_BY + ActivityRollupTable.SERVER_UUID + ", " + ActivityRollupTable.HOUR_START;
+
+        return new QueryAllStatement<List<ActivityRollup>>(sql, 10000) {
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    /**
+     * Calculate the hourly session counters from the sessions table.
+     * <p>
+     * Used for filling the rollup table with data that was stored before it existed.
+     *
+     * @return List of hourly counters without new players or player kills.
+     */
+    public static Query<List<ActivityRollup>> calculateSessionRollups() {
+        return new QueryAllStatement<List<ActivityRollup>>(sessionRollupSQL(""), 10000) {
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    /**
+     * Calculate the hourly player kill counters from the kills table.
+     * <p>
+     * Kills are counted in the hour their session started.
+     *
+     * @return List of hourly counters with only player kills.
+     */
+    public static Query<List<ActivityRollup>> calculatePlayerKillRollups() {
+        return new QueryAllStatement<List<ActivityRollup>>(playerKillRollupSQL(""), 10000) {
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    /**
+     * Calculate the hourly new player counters from the per server user information table.
+     *
+     * @return List of hourly counters with only new players.
+     */
+    public static Query<List<ActivityRollup>> calculateNewPlayerRollups() {
+        return new QueryAllStatement<List<ActivityRollup>>(newPlayerRollupSQL(""), 10000) {
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    /**
+     * Calculate the hourly counters that the data of a player has added to the rollup table.
+     * <p>
+     * Includes kills the player was the victim of, since those are removed with the player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return List of hourly counters, the same hour may be present multiple times.
+     */
+    public static Query<List<ActivityRollup>> calculateRollupsOfPlayer(UUID playerUUID) {
+        return db -> {
+            List<ActivityRollup> rollups = new ArrayList<>();
+            rollups.addAll(db.query(rollupsOfPlayer(
+                    sessionRollupSQL(WHERE + SessionsTable.USER_UUID + "=?"), playerUUID, 1
+            )));
+            rollups.addAll(db.query(rollupsOfPlayer(
+                    playerKillRollupSQL(WHERE + "k." + KillsTable.KILLER_UUID + "=?" + OR + "k." + KillsTable.VICTIM_UUID + "=?"), playerUUID, 2
+            )));
+            rollups.addAll(db.query(rollupsOfPlayer(
+                    newPlayerRollupSQL(WHERE + UserInfoTable.USER_UUID + "=?"), playerUUID, 1
+            )));
+            return rollups;
+        };
+    }
+
+    private static Query<List<ActivityRollup>> rollupsOfPlayer(String sql, UUID playerUUID, int parameterCount) {
+        return new QueryStatement<List<ActivityRollup>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setString(i, playerUUID.toString());
+                }
+            }
+
+            @Override
+            public List<ActivityRollup> processResults(ResultSet set) throws SQLException {
+                return extractRollups(set);
+            }
+        };
+    }
+
+    private static String sessionRollupSQL(String where) {
+        String hourStart = hourStartOf(SessionsTable.SESSION_START);
+        return SELECT + SessionsTable.SERVER_UUID + ", " +
+                hourStart + " as " + ActivityRollupTable.HOUR_START + ", " +
+                "0 as " + ActivityRollupTable.NEW_PLAYERS + ", " +
+                "COUNT(1) as " + ActivityRollupTable.SESSIONS + ", " +
+                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as " + ActivityRollupTable.PLAYTIME + ", " +
+                "SUM(" + SessionsTable.AFK_TIME + ") as " + ActivityRollupTable.AFK_TIME + ", " +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as " + ActivityRollupTable.MOB_KILLS + ", " +
+                "0 as " + ActivityRollupTable.PLAYER_KILLS + ", " +
+                "SUM(" + SessionsTable.DEATHS + ") as " + ActivityRollupTable.DEATHS +
+                FROM + SessionsTable.TABLE_NAME +
+                where +
+                GROUP_BY + SessionsTable.SERVER_UUID + ", " + hourStart;
+    }
+
+    private static String playerKillRollupSQL(String where) {
+        String hourStart = hourStartOf("s." + SessionsTable.SESSION_START);
+        return SELECT + "s." + SessionsTable.SERVER_UUID + " as " + ActivityRollupTable.SERVER_UUID + ", " +
+                hourStart + " as " + ActivityRollupTable.HOUR_START + ", " +
+                "0 as " + ActivityRollupTable.NEW_PLAYERS + ", " +
+                "0 as " + ActivityRollupTable.SESSIONS + ", " +
+                "0 as " + ActivityRollupTable.PLAYTIME + ", " +
+                "0 as " + ActivityRollupTable.AFK_TIME + ", " +
+                "0 as " + ActivityRollupTable.MOB_KILLS + ", " +
+                "COUNT(1) as " + ActivityRollupTable.PLAYER_KILLS + ", " +
+                "0 as " + ActivityRollupTable.DEATHS +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on k." + KillsTable.SESSION_ID + "=s." + SessionsTable.ID +
+                where +
+                GROUP_BY + "s." + SessionsTable.SERVER_UUID + ", " + hourStart;
+    }
+
+    private static String newPlayerRollupSQL(String where) {
+        String hourStart = hourStartOf(UserInfoTable.REGISTERED);
+        return SELECT + UserInfoTable.SERVER_UUID + ", " +
+                hourStart + " as " + ActivityRollupTable.HOUR_START + ", " +
+                "COUNT(1) as " + ActivityRollupTable.NEW_PLAYERS + ", " +
+                "0 as " + ActivityRollupTable.SESSIONS + ", " +
+                "0 as " + ActivityRollupTable.PLAYTIME + ", " +
+                "0 as " + ActivityRollupTable.AFK_TIME + ", " +
+                "0 as " + ActivityRollupTable.MOB_KILLS + ", " +
+                "0 as " + ActivityRollupTable.PLAYER_KILLS + ", " +
+                "0 as " + ActivityRollupTable.DEATHS +
+                FROM + UserInfoTable.TABLE_NAME +
+                where +
+                GROUP_BY + UserInfoTable.SERVER_UUID + ", " + hourStart;
+    }
+
+    // Same calculation as ActivityRollup#toHourStart
+    private static String hourStartOf(String dateColumn) {
+        return "(" + dateColumn + "-((" + dateColumn + '+' + ActivityRollup.getHourOffset() + ")%" + ActivityRollup.HOUR_MS + "))";
+    }
+
+    private static List<ActivityRollup> extractRollups(ResultSet set) throws SQLException {
+        List<ActivityRollup> rollups = new ArrayList<>();
+        while (set.next()) {
+            rollups.add(new ActivityRollup(
+                    UUID.fromString(set.getString(ActivityRollupTable.SERVER_UUID)),
+                    set.getLong(ActivityRollupTable.HOUR_START),
+                    set.getInt(ActivityRollupTable.NEW_PLAYERS),
+                    set.getInt(ActivityRollupTable.SESSIONS),
+                    set.getLong(ActivityRollupTable.PLAYTIME),
+                    set.getLong(ActivityRollupTable.AFK_TIME),
+                    set.getInt(ActivityRollupTable.MOB_KILLS),
+                    set.getInt(ActivityRollupTable.PLAYER_KILLS),
+                    set.getInt(ActivityRollupTable.DEATHS)
+            ));
+        }
+        return rollups;
+    }
+}
@@ -32,6 +32,8 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+
 /**
  * Queries for {@link BaseUser} objects.
  *
@@ -39,6 +41,16 @@ import java.util.UUID;
  */
 public class BaseUserQueries {
 
+    private static final String SELECT_SERVER_BASE_USERS = "SELECT " +
+            UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + ", " +
+            UsersTable.USER_NAME + ", " +
+            UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + ", " +
+            UsersTable.TIMES_KICKED +
+            " FROM " + UsersTable.TABLE_NAME +
+            " INNER JOIN " + UserInfoTable.TABLE_NAME + " on " +
+            UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
+            " WHERE " + UserInfoTable.SERVER_UUID + "=?";
+
     private BaseUserQueries() {
         /* Static method class */
     }
@@ -113,16 +125,7 @@ public class BaseUserQueries {
      * @return Collection: BaseUsers
      */
     public static Query<Collection<BaseUser>> fetchServerBaseUsers(UUID serverUUID) {
-        String sql = "SELECT " +
-                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + ", " +
-                UsersTable.USER_NAME + ", " +
-                UsersTable.TABLE_NAME + "." + UsersTable.REGISTERED + ", " +
-                UsersTable.TIMES_KICKED +
-                " FROM " + UsersTable.TABLE_NAME +
-                " INNER JOIN " + UserInfoTable.TABLE_NAME + " on " +
-                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
-                " WHERE " + UserInfoTable.SERVER_UUID + "=?";
-        return new QueryStatement<Collection<BaseUser>>(sql, 1000) {
+        return new QueryStatement<Collection<BaseUser>>(SELECT_SERVER_BASE_USERS, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString());
@@ -130,18 +133,51 @@ public class BaseUserQueries {
 
             @Override
             public Collection<BaseUser> processResults(ResultSet set) throws SQLException {
-                Collection<BaseUser> users = new HashSet<>();
-                while (set.next()) {
-                    UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
-                    String name = set.getString(UsersTable.USER_NAME);
-                    long registered = set.getLong(UsersTable.REGISTERED);
-                    int kicked = set.getInt(UsersTable.TIMES_KICKED);
+                return extractBaseUsers(set);
+            }
+        };
+    }
 
-                    users.add(new BaseUser(playerUUID, name, registered, kicked));
-                }
-                return users;
+    /**
+     * Query database for common user information for a range of players that have played on a specific server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Collection: BaseUsers
+     */
+    public static Query<Collection<BaseUser>> fetchServerBaseUsers(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = SELECT_SERVER_BASE_USERS +
+                AND + UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + " BETWEEN ? AND ?";
+        return new QueryStatement<Collection<BaseUser>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
+
+            @Override
+            public Collection<BaseUser> processResults(ResultSet set) throws SQLException {
+                return extractBaseUsers(set);
             }
         };
     }
 
+    private static Collection<BaseUser> extractBaseUsers(ResultSet set) throws SQLException {
+        Collection<BaseUser> users = new HashSet<>();
+        while (set.next()) {
+            UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
+            String name = set.getString(UsersTable.USER_NAME);
+            long registered = set.getLong(UsersTable.REGISTERED);
+            int kicked = set.getInt(UsersTable.TIMES_KICKED);
+
+            users.add(new BaseUser(playerUUID, name, registered, kicked));
+        }
+        return users;
+    }
+
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+
 /**
  * Queries for {@link com.djrapitops.plan.data.container.GeoInfo} objects.
  *
@@ -120,20 +122,104 @@ public class GeoInfoQueries {
 
             @Override
             public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
-                Map<UUID, List<GeoInfo>> geoInformation = new HashMap<>();
-                while (set.next()) {
-                    UUID uuid = UUID.fromString(set.getString(GeoInfoTable.USER_UUID));
+                return extractServerGeoInformation(set);
+            }
+        };
+    }
 
-                    List<GeoInfo> userGeoInfo = geoInformation.getOrDefault(uuid, new ArrayList<>());
+    /**
+     * Query database for geolocations of a range of players that have played on a specific server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Map: Player UUID - List of GeoInfo
+     */
+    public static Query<Map<UUID, List<GeoInfo>>> fetchServerGeoInformation(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = "SELECT " + GeoInfoTable.TABLE_NAME + "." + GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.GEOLOCATION + ", " +
+                GeoInfoTable.LAST_USED + ", " +
+                GeoInfoTable.IP +
+                " FROM " + GeoInfoTable.TABLE_NAME +
+                " INNER JOIN " + UserInfoTable.TABLE_NAME + " on " +
+                GeoInfoTable.TABLE_NAME + "." + GeoInfoTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
+                " WHERE " + UserInfoTable.SERVER_UUID + "=?" +
+                AND + GeoInfoTable.TABLE_NAME + "." + GeoInfoTable.USER_UUID + " BETWEEN ? AND ?";
+        return new QueryStatement<Map<UUID, List<GeoInfo>>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
 
-                    String ip = set.getString(GeoInfoTable.IP);
-                    String geolocation = set.getString(GeoInfoTable.GEOLOCATION);
-                    long lastUsed = set.getLong(GeoInfoTable.LAST_USED);
-                    userGeoInfo.add(new GeoInfo(ip, geolocation, lastUsed));
+            @Override
+            public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
+                return extractServerGeoInformation(set);
+            }
+        };
+    }
 
-                    geoInformation.put(uuid, userGeoInfo);
+    private static Map<UUID, List<GeoInfo>> extractServerGeoInformation(ResultSet set) throws SQLException {
+        Map<UUID, List<GeoInfo>> geoInformation = new HashMap<>();
+        while (set.next()) {
+            UUID uuid = UUID.fromString(set.getString(GeoInfoTable.USER_UUID));
+
+            List<GeoInfo> userGeoInfo = geoInformation.getOrDefault(uuid, new ArrayList<>());
+
+            String ip = set.getString(GeoInfoTable.IP);
+            String geolocation = set.getString(GeoInfoTable.GEOLOCATION);
+            long lastUsed = set.getLong(GeoInfoTable.LAST_USED);
+            userGeoInfo.add(new GeoInfo(ip, geolocation, lastUsed));
+
+            geoInformation.put(uuid, userGeoInfo);
+        }
+        return geoInformation;
+    }
+
+    /**
+     * Query database for the most recently used geolocation of some players.
+     *
+     * @param playerUUIDs UUIDs of the players, for example players on a single page of a table.
+     * @return Map: Player UUID - Geolocation
+     */
+    public static Query<Map<UUID, String>> fetchMostRecentGeolocations(Collection<UUID> playerUUIDs) {
+        if (playerUUIDs.isEmpty()) {
+            return db -> new HashMap<>();
+        }
+        String sql = "SELECT " +
+                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.GEOLOCATION + ", " +
+                GeoInfoTable.LAST_USED +
+                " FROM " + GeoInfoTable.TABLE_NAME +
+                " WHERE " + GeoInfoTable.USER_UUID + " IN (" + String.join(",", Collections.nCopies(playerUUIDs.size(), "?")) + ")";
+
+        return new QueryStatement<Map<UUID, String>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index, playerUUID.toString());
+                    index++;
                 }
-                return geoInformation;
+            }
+
+            @Override
+            public Map<UUID, String> processResults(ResultSet set) throws SQLException {
+                Map<UUID, String> geolocations = new HashMap<>();
+                Map<UUID, Long> lastUsed = new HashMap<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString(GeoInfoTable.USER_UUID));
+                    long used = set.getLong(GeoInfoTable.LAST_USED);
+                    if (used >= lastUsed.getOrDefault(uuid, Long.MIN_VALUE)) {
+                        lastUsed.put(uuid, used);
+                        geolocations.put(uuid, set.getString(GeoInfoTable.GEOLOCATION));
+                    }
+                }
+                return geolocations;
             }
         };
     }
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.container.PlayerKill;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Queries for {@link PlayerKill} objects.
+ *
+ * @author Rsl1122
+ */
+public class KillQueries {
+
+    private KillQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Query the database for player kills of a range of killers on a server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First killer UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last killer UUID of the range, inclusive.
+     * @return List of player kills, most recent first.
+     */
+    public static Query<List<PlayerKill>> fetchPlayerKillsOfServer(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = "SELECT " +
+                KillsTable.VICTIM_UUID + ", " +
+                UsersTable.USER_NAME + " as victim_name, " +
+                KillsTable.DATE + ", " +
+                KillsTable.WEAPON +
+                " FROM " + KillsTable.TABLE_NAME +
+                " LEFT JOIN " + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
+                WHERE + KillsTable.TABLE_NAME + "." + KillsTable.SERVER_UUID + "=?" +
+                AND + KillsTable.KILLER_UUID + " BETWEEN ? AND ?" +
+                " ORDER BY " + KillsTable.DATE + " DESC";
+        return new QueryStatement<List<PlayerKill>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
+
+            @Override
+            public List<PlayerKill> processResults(ResultSet set) throws SQLException {
+                List<PlayerKill> kills = new ArrayList<>();
+                while (set.next()) {
+                    UUID victim = UUID.fromString(set.getString(KillsTable.VICTIM_UUID));
+                    String victimName = set.getString("victim_name");
+                    long date = set.getLong(KillsTable.DATE);
+                    String weapon = set.getString(KillsTable.WEAPON);
+                    kills.add(new PlayerKill(victim, weapon, date, victimName));
+                }
+                return kills;
+            }
+        };
+    }
+}
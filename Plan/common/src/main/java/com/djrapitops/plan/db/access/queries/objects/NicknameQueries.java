@@ -192,23 +192,63 @@ public class NicknameQueries {
 
             @Override
             public Map<UUID, List<Nickname>> processResults(ResultSet set) throws SQLException {
-                Map<UUID, List<Nickname>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+                return extractNicknames(set);
+            }
+        };
+    }
 
-                    List<Nickname> nicknames = serverMap.getOrDefault(uuid, new ArrayList<>());
+    /**
+     * Query database for nickname information of a range of players on a server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Map: Player UUID - List of Nicknames on the server.
+     */
+    public static Query<Map<UUID, List<Nickname>>> fetchNicknameDataOfServer(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = SELECT +
+                NicknamesTable.NICKNAME + ", " +
+                NicknamesTable.LAST_USED + ", " +
+                NicknamesTable.USER_UUID + ", " +
+                NicknamesTable.SERVER_UUID +
+                FROM + NicknamesTable.TABLE_NAME +
+                WHERE + NicknamesTable.SERVER_UUID + "=?" +
+                AND + NicknamesTable.USER_UUID + " BETWEEN ? AND ?";
 
-                    nicknames.add(new Nickname(
-                            set.getString(NicknamesTable.NICKNAME),
-                            set.getLong(NicknamesTable.LAST_USED),
-                            serverUUID
-                    ));
+        return new QueryStatement<Map<UUID, List<Nickname>>>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
 
-                    serverMap.put(uuid, nicknames);
-                }
-                return serverMap;
+            @Override
+            public Map<UUID, List<Nickname>> processResults(ResultSet set) throws SQLException {
+                return extractNicknames(set);
             }
         };
     }
+
+    private static Map<UUID, List<Nickname>> extractNicknames(ResultSet set) throws SQLException {
+        Map<UUID, List<Nickname>> serverMap = new HashMap<>();
+        while (set.next()) {
+            UUID serverUUID = UUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
+            UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+
+            List<Nickname> nicknames = serverMap.getOrDefault(uuid, new ArrayList<>());
+
+            nicknames.add(new Nickname(
+                    set.getString(NicknamesTable.NICKNAME),
+                    set.getLong(NicknamesTable.LAST_USED),
+                    serverUUID
+            ));
+
+            serverMap.put(uuid, nicknames);
+        }
+        return serverMap;
+    }
 }
\ No newline at end of file
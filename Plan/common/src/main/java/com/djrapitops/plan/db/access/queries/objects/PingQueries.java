@@ -28,6 +28,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+
 /**
  * Queries for {@link WebUser} objects.
  *
@@ -133,26 +135,67 @@ public class PingQueries {
 
             @Override
             public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
-                Map<UUID, List<Ping>> userPings = new HashMap<>();
-
-                while (set.next()) {
-                    UUID uuid = UUID.fromString(set.getString(PingTable.USER_UUID));
-                    UUID serverUUID = UUID.fromString(set.getString(PingTable.SERVER_UUID));
-                    long date = set.getLong(PingTable.DATE);
-                    double avgPing = set.getDouble(PingTable.AVG_PING);
-                    int minPing = set.getInt(PingTable.MIN_PING);
-                    int maxPing = set.getInt(PingTable.MAX_PING);
+                return extractPingsByPlayer(set);
+            }
+        };
+    }
 
-                    List<Ping> pings = userPings.getOrDefault(uuid, new ArrayList<>());
-                    pings.add(new Ping(date, serverUUID,
-                            minPing,
-                            maxPing,
-                            avgPing));
-                    userPings.put(uuid, pings);
-                }
+    /**
+     * Query database for ping data of a range of players on a server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Map: Player UUID - List of Ping data on the server.
+     */
+    public static Query<Map<UUID, List<Ping>>> fetchPingDataOfServer(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = "SELECT " +
+                PingTable.DATE + ", " +
+                PingTable.MAX_PING + ", " +
+                PingTable.MIN_PING + ", " +
+                PingTable.AVG_PING + ", " +
+                PingTable.USER_UUID + ", " +
+                PingTable.SERVER_UUID +
+                " FROM " + PingTable.TABLE_NAME +
+                " WHERE " + PingTable.SERVER_UUID + "=?" +
+                AND + PingTable.USER_UUID + " BETWEEN ? AND ?";
+        return new QueryStatement<Map<UUID, List<Ping>>>(sql, 100000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
 
-                return userPings;
+            @Override
+            public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
+                return extractPingsByPlayer(set);
             }
         };
     }
+
+    private static Map<UUID, List<Ping>> extractPingsByPlayer(ResultSet set) throws SQLException {
+        Map<UUID, List<Ping>> userPings = new HashMap<>();
+
+        while (set.next()) {
+            UUID uuid = UUID.fromString(set.getString(PingTable.USER_UUID));
+            UUID serverUUID = UUID.fromString(set.getString(PingTable.SERVER_UUID));
+            long date = set.getLong(PingTable.DATE);
+            double avgPing = set.getDouble(PingTable.AVG_PING);
+            int minPing = set.getInt(PingTable.MIN_PING);
+            int maxPing = set.getInt(PingTable.MAX_PING);
+
+            List<Ping> pings = userPings.getOrDefault(uuid, new ArrayList<>());
+            pings.add(new Ping(date, serverUUID,
+                    minPing,
+                    maxPing,
+                    avgPing));
+            userPings.put(uuid, pings);
+        }
+
+        return userPings;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,333 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.PlayerSummaryTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+import com.djrapitops.plan.db.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Queries for {@link PlayerSummary} objects.
+ *
+ * @author Rsl1122
+ */
+public class PlayerSummaryQueries {
+
+    private static final String SELECT_PAGE_COLUMNS = SELECT +
+            "s." + PlayerSummaryTable.USER_UUID + ", " +
+            "s." + PlayerSummaryTable.SERVER_UUID + ", " +
+            "u." + UsersTable.USER_NAME + ", " +
+            "s." + PlayerSummaryTable.REGISTERED + ", " +
+            "s." + PlayerSummaryTable.PLAYTIME + ", " +
+            "s." + PlayerSummaryTable.SESSION_COUNT + ", " +
+            "s." + PlayerSummaryTable.LAST_SEEN + ", " +
+            "s." + PlayerSummaryTable.ACTIVITY_INDEX + ", " +
+            "ui." + UserInfoTable.BANNED;
+
+    private static final String FROM_SUMMARY_JOIN_USERS = FROM + PlayerSummaryTable.TABLE_NAME + " s" +
+            LEFT_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=s." + PlayerSummaryTable.USER_UUID +
+            LEFT_JOIN + UserInfoTable.TABLE_NAME + " ui on ui." + UserInfoTable.USER_UUID + "=s." + PlayerSummaryTable.USER_UUID +
+            AND + "ui." + UserInfoTable.SERVER_UUID + "=s." + PlayerSummaryTable.SERVER_UUID;
+
+    private PlayerSummaryQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Column that the players table can be sorted by.
+     */
+    public enum SortColumn {
+        NAME("u." + UsersTable.USER_NAME),
+        ACTIVITY_INDEX("s." + PlayerSummaryTable.ACTIVITY_INDEX),
+        PLAYTIME("s." + PlayerSummaryTable.PLAYTIME),
+        SESSION_COUNT("s." + PlayerSummaryTable.SESSION_COUNT),
+        REGISTERED("s." + PlayerSummaryTable.REGISTERED),
+        LAST_SEEN("s." + PlayerSummaryTable.LAST_SEEN);
+
+        private final String column;
+
+        SortColumn(String column) {
+            this.column = column;
+        }
+    }
+
+    /**
+     * Count how many players have a summary row on a server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return Number of players.
+     */
+    public static Query<Integer> countPlayersOfServer(UUID serverUUID) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + PlayerSummaryTable.TABLE_NAME +
+                WHERE + PlayerSummaryTable.SERVER_UUID + "=?";
+
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    /**
+     * Count how many players of a server match a players table search.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param search     Search term, see {@link #fetchPage(UUID, String, SortColumn, boolean, int, int)}.
+     * @return Number of matching players.
+     */
+    public static Query<Integer> countMatchingPlayers(UUID serverUUID, String search) {
+        Search filter = new Search(search);
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM_SUMMARY_JOIN_USERS +
+                WHERE + "s." + PlayerSummaryTable.SERVER_UUID + "=?" +
+                filter.condition;
+
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                filter.setParameters(statement, 2);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    /**
+     * Query a single page of the players table of a server.
+     * <p>
+     * Sorting, filtering and limiting is done by the database, so the cost of a page does not depend on the number of players.
+     * <p>
+     * The search term matches player names, or if it is the name of an activity group (eg. 'Active' or '(Active)'),
+     * players in that group. 'Banned' matches banned players.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param search     Search term, empty for all players.
+     * @param sortBy     Column to sort the page by.
+     * @param descending Should the sort order be reversed.
+     * @param start      Index of the first row of the page.
+     * @param length     Maximum number of rows on the page.
+     * @return Rows of the page in sorted order.
+     */
+    public static Query<List<PlayerSummary>> fetchPage(
+            UUID serverUUID, String search,
+            SortColumn sortBy, boolean descending,
+            int start, int length
+    ) {
+        Search filter = new Search(search);
+        String sql = SELECT_PAGE_COLUMNS +
+                FROM_SUMMARY_JOIN_USERS +
+                WHERE + "s." + PlayerSummaryTable.SERVER_UUID + "=?" +
+                filter.condition +
+                ORDER_BY + sortBy.column + (descending ? " DESC" : " ASC") + ", s." + PlayerSummaryTable.ID +
+                " LIMIT ? OFFSET ?";
+
+        return new QueryStatement<List<PlayerSummary>>(sql, length) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                int index = filter.setParameters(statement, 2);
+                statement.setInt(index, length);
+                statement.setInt(index + 1, start);
+            }
+
+            @Override
+            public List<PlayerSummary> processResults(ResultSet set) throws SQLException {
+                return extractSummaries(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for all player summary rows.
+     * <p>
+     * Player names and ban status are not included.
+     *
+     * @return List of summary rows of all players on all servers.
+     */
+    public static Query<List<PlayerSummary>> fetchAllPlayerSummaries() {
+        String sql = SELECT +
+                PlayerSummaryTable.USER_UUID + ", " +
+                PlayerSummaryTable.SERVER_UUID + ", " +
+                "NULL as " + UsersTable.USER_NAME + ", " +
+                PlayerSummaryTable.REGISTERED + ", " +
+                PlayerSummaryTable.PLAYTIME + ", " +
+                PlayerSummaryTable.SESSION_COUNT + ", " +
+                PlayerSummaryTable.LAST_SEEN + ", " +
+                PlayerSummaryTable.ACTIVITY_INDEX + ", " +
+                "0 as " + UserInfoTable.BANNED +
+                FROM + PlayerSummaryTable.TABLE_NAME;
+
+        return new QueryAllStatement<List<PlayerSummary>>(sql, 10000) {
+            @Override
+            public List<PlayerSummary> processResults(ResultSet set) throws SQLException {
+                return extractSummaries(set);
+            }
+        };
+    }
+
+    /**
+     * Calculate the summary rows of every registered player from user information and sessions.
+     * <p>
+     * Used for filling the summary table with data that was stored before it existed.
+     * Activity index is left at 0, it is calculated later.
+     *
+     * @return List of summary rows without names, ban status or activity index.
+     */
+    public static Query<List<PlayerSummary>> calculatePlayerSummaries() {
+        String sessionTotals = SELECT +
+                SessionsTable.USER_UUID + ", " +
+                SessionsTable.SERVER_UUID + ", " +
+                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as " + PlayerSummaryTable.PLAYTIME + ", " +
+                "COUNT(1) as " + PlayerSummaryTable.SESSION_COUNT + ", " +
+                "MAX(" + SessionsTable.SESSION_END + ") as " + PlayerSummaryTable.LAST_SEEN +
+                FROM + SessionsTable.TABLE_NAME +
+                GROUP_BY + SessionsTable.USER_UUID + ", " + SessionsTable.SERVER_UUID;
+
+        String sql = SELECT +
+                "ui." + UserInfoTable.USER_UUID + " as " + PlayerSummaryTable.USER_UUID + ", " +
+                "ui." + UserInfoTable.SERVER_UUID + " as " + PlayerSummaryTable.SERVER_UUID + ", " +
+                "NULL as " + UsersTable.USER_NAME + ", " +
+                "MIN(ui." + UserInfoTable.REGISTERED + ") as " + PlayerSummaryTable.REGISTERED + ", " +
+                "MAX(st." + PlayerSummaryTable.PLAYTIME + ") as " + PlayerSummaryTable.PLAYTIME + ", " +
+                "MAX(st." + PlayerSummaryTable.SESSION_COUNT + ") as " + PlayerSummaryTable.SESSION_COUNT + ", " +
+                "MAX(st." + PlayerSummaryTable.LAST_SEEN + ") as " + PlayerSummaryTable.LAST_SEEN + ", " +
+                "0 as " + PlayerSummaryTable.ACTIVITY_INDEX + ", " +
+                "0 as " + UserInfoTable.BANNED +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                LEFT_JOIN + '(' + sessionTotals + ") st on st." + SessionsTable.USER_UUID + "=ui." + UserInfoTable.USER_UUID +
+                AND + "st." + SessionsTable.SERVER_UUID + "=ui." + UserInfoTable.SERVER_UUID +
+                // Removes duplicate user info rows
+                GROUP_BY + "ui." + UserInfoTable.USER_UUID + ", ui." + UserInfoTable.SERVER_UUID;
+
+        return new QueryAllStatement<List<PlayerSummary>>(sql, 10000) {
+            @Override
+            public List<PlayerSummary> processResults(ResultSet set) throws SQLException {
+                return extractSummaries(set);
+            }
+        };
+    }
+
+    private static List<PlayerSummary> extractSummaries(ResultSet set) throws SQLException {
+        List<PlayerSummary> summaries = new ArrayList<>();
+        while (set.next()) {
+            summaries.add(new PlayerSummary(
+                    UUID.fromString(set.getString(PlayerSummaryTable.USER_UUID)),
+                    UUID.fromString(set.getString(PlayerSummaryTable.SERVER_UUID)),
+                    set.getString(UsersTable.USER_NAME),
+                    set.getLong(PlayerSummaryTable.REGISTERED),
+                    set.getLong(PlayerSummaryTable.PLAYTIME), // 0 if NULL
+                    set.getInt(PlayerSummaryTable.SESSION_COUNT),
+                    set.getLong(PlayerSummaryTable.LAST_SEEN),
+                    set.getDouble(PlayerSummaryTable.ACTIVITY_INDEX),
+                    set.getBoolean(UserInfoTable.BANNED)
+            ));
+        }
+        return summaries;
+    }
+
+    /**
+     * Players table search term turned into an SQL condition.
+     */
+    private static class Search {
+        private final String condition;
+        private final Object[] parameters;
+
+        Search(String search) {
+            String term = search == null ? "" : search.trim();
+            String lowerCase = term.toLowerCase(Locale.ROOT);
+            String group = lowerCase.startsWith("(") && lowerCase.endsWith(")") && lowerCase.length() > 1
+                    ? lowerCase.substring(1, lowerCase.length() - 1).trim()
+                    : lowerCase;
+
+            String activityIndex = "s." + PlayerSummaryTable.ACTIVITY_INDEX;
+            switch (group) {
+                case "":
+                    condition = "";
+                    parameters = new Object[0];
+                    break;
+                case "very active":
+                    condition = AND + activityIndex + ">=?";
+                    parameters = new Object[]{ActivityIndex.VERY_ACTIVE};
+                    break;
+                case "active":
+                    condition = AND + activityIndex + ">=?" + AND + activityIndex + "<?";
+                    parameters = new Object[]{ActivityIndex.ACTIVE, ActivityIndex.VERY_ACTIVE};
+                    break;
+                case "regular":
+                    condition = AND + activityIndex + ">=?" + AND + activityIndex + "<?";
+                    parameters = new Object[]{ActivityIndex.REGULAR, ActivityIndex.ACTIVE};
+                    break;
+                case "irregular":
+                    condition = AND + activityIndex + ">=?" + AND + activityIndex + "<?";
+                    parameters = new Object[]{ActivityIndex.IRREGULAR, ActivityIndex.REGULAR};
+                    break;
+                case "inactive":
+                    condition = AND + activityIndex + "<?";
+                    parameters = new Object[]{ActivityIndex.IRREGULAR};
+                    break;
+                case "banned":
+                    condition = AND + "ui." + UserInfoTable.BANNED + "=?";
+                    parameters = new Object[]{true};
+                    break;
+                default:
+                    condition = AND + "LOWER(u." + UsersTable.USER_NAME + ") LIKE LOWER(?) ESCAPE '!'";
+                    parameters = new Object[]{'%' + escapeLike(term) + '%'};
+                    break;
+            }
+        }
+
+        private static String escapeLike(String term) {
+            return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        }
+
+        int setParameters(PreparedStatement statement, int startIndex) throws SQLException {
+            int index = startIndex;
+            for (Object parameter : parameters) {
+                statement.setObject(index, parameter);
+                index++;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries.objects;
+
+import com.djrapitops.plan.data.store.objects.ServerSummary;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.ServerSummaryTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Queries for {@link ServerSummary} objects.
+ *
+ * @author Rsl1122
+ */
+public class ServerSummaryQueries {
+
+    private ServerSummaryQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Fetch the latest summaries of all servers.
+     *
+     * @return Map: Server UUID - Summary of the server
+     */
+    public static Query<Map<UUID, ServerSummary>> fetchServerSummaries() {
+        return fetchServerSummaries(Long.MIN_VALUE);
+    }
+
+    /**
+     * Fetch the latest summaries of servers that have refreshed their summary recently.
+     * <p>
+     * Servers that are offline for longer or no longer exist stop refreshing their summary,
+     * so their old values are left out.
+     *
+     * @param refreshedAfter Epoch ms, summaries refreshed before this are left out.
+     * @return Map: Server UUID - Summary of the server
+     */
+    public static Query<Map<UUID, ServerSummary>> fetchServerSummaries(long refreshedAfter) {
+        String sql = SELECT +
+                ServerSummaryTable.SERVER_UUID + ", " +
+                ServerSummaryTable.REFRESHED + ", " +
+                ServerSummaryTable.VALUE_NAME + ", " +
+                ServerSummaryTable.LONG_VALUE +
+                FROM + ServerSummaryTable.TABLE_NAME +
+                WHERE + ServerSummaryTable.REFRESHED + ">=?";
+
+        return new QueryStatement<Map<UUID, ServerSummary>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, refreshedAfter);
+            }
+
+            @Override
+            public Map<UUID, ServerSummary> processResults(ResultSet set) throws SQLException {
+                Map<UUID, ServerSummary> summaries = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(ServerSummaryTable.SERVER_UUID));
+                    long refreshed = set.getLong(ServerSummaryTable.REFRESHED);
+                    ServerSummary summary = summaries.computeIfAbsent(serverUUID, uuid -> new ServerSummary(uuid, refreshed, new HashMap<>()));
+                    summary.getValues().put(set.getString(ServerSummaryTable.VALUE_NAME), set.getLong(ServerSummaryTable.LONG_VALUE));
+                }
+                return summaries;
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.data.store.objects.DateHolder;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.db.access.Query;
@@ -35,6 +36,7 @@ import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
 import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
 
 /**
@@ -155,8 +157,177 @@ public class SessionQueries {
 
             @Override
             public Map<UUID, List<Session>> processResults(ResultSet set) throws SQLException {
+                return extractSessionsByPlayer(set);
+            }
+        };
+    }
+
+    /**
+     * Query the database for the most recent Session data of a server with kill and world data.
+     * <p>
+     * Used for showing recent sessions without loading every session of the server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param limit      Maximum number of sessions to fetch, sessions starting at the same time as the last one may exceed it.
+     * @return List of sessions on the server, most recent first.
+     */
+    public static Query<List<Session>> fetchLatestSessionsOfServer(UUID serverUUID, int limit) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + SessionsTable.TABLE_NAME + "." + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.TABLE_NAME + "." + SessionsTable.SESSION_START + ">=(" +
+                "SELECT MIN(q." + SessionsTable.SESSION_START + ") FROM (" +
+                "SELECT " + SessionsTable.SESSION_START + " FROM " + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                ORDER_BY_SESSION_START_DESC + " LIMIT ?) q)" +
+                ORDER_BY_SESSION_START_DESC;
+        return new QueryStatement<List<Session>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, serverUUID.toString());
+                statement.setInt(3, limit);
+            }
+
+            @Override
+            public List<Session> processResults(ResultSet set) throws SQLException {
                 List<Session> sessions = extractDataFromSessionSelectStatement(set);
-                return SessionsMutator.sortByPlayers(sessions);
+                sessions.sort(new DateHolderRecentComparator());
+                return sessions;
+            }
+        };
+    }
+
+    /**
+     * Query the database for Session data of a range of players on a server with kill and world data.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Map: Player UUID - List of sessions on the server.
+     */
+    public static Query<Map<UUID, List<Session>>> fetchSessionsOfServer(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + SessionsTable.TABLE_NAME + "." + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.TABLE_NAME + "." + SessionsTable.USER_UUID + " BETWEEN ? AND ?" +
+                ORDER_BY_SESSION_START_DESC;
+        return new QueryStatement<Map<UUID, List<Session>>>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, List<Session>> processResults(ResultSet set) throws SQLException {
+                return extractSessionsByPlayer(set);
+            }
+        };
+    }
+
+    private static Map<UUID, List<Session>> extractSessionsByPlayer(ResultSet set) throws SQLException {
+        List<Session> sessions = extractDataFromSessionSelectStatement(set);
+        return SessionsMutator.sortByPlayers(sessions);
+    }
+
+    /**
+     * Query the database for Session data of a server in columnar form, without kill or world data.
+     * <p>
+     * Uses a lot less memory than {@link #fetchSessionsOfServer(UUID)} for calculations that only
+     * need session lengths and counts, such as activity index.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return SessionColumns of the server's sessions.
+     */
+    public static Query<SessionColumns> fetchSessionColumnsOfServer(UUID serverUUID) {
+        return fetchSessionColumnsOfServer(serverUUID, Long.MIN_VALUE);
+    }
+
+    /**
+     * Query the database for Session data of a server in columnar form, limited to sessions that ended after a date.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, sessions that ended before this are left out.
+     * @return SessionColumns of the server's recent sessions.
+     */
+    public static Query<SessionColumns> fetchSessionColumnsOfServer(UUID serverUUID, long after) {
+        return fetchSessionColumns(serverUUID, null, after);
+    }
+
+    /**
+     * Query the database for Session data of a player on a server in columnar form, limited to sessions that ended after a date.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param playerUUID UUID of the Player.
+     * @param after      Epoch ms, sessions that ended before this are left out.
+     * @return SessionColumns of the player's recent sessions on the server.
+     */
+    public static Query<SessionColumns> fetchSessionColumnsOfPlayer(UUID serverUUID, UUID playerUUID, long after) {
+        return fetchSessionColumns(serverUUID, playerUUID, after);
+    }
+
+    /**
+     * Query the database for Session data of a player on all servers in columnar form.
+     *
+     * @param playerUUID UUID of the Player.
+     * @return SessionColumns of the player's sessions.
+     */
+    public static Query<SessionColumns> fetchSessionColumnsOfPlayer(UUID playerUUID) {
+        return fetchSessionColumns(null, playerUUID, Long.MIN_VALUE);
+    }
+
+    private static Query<SessionColumns> fetchSessionColumns(UUID serverUUID, UUID playerUUID, long after) {
+        String sql = "SELECT " +
+                SessionsTable.USER_UUID + ", " +
+                (serverUUID == null ? SessionsTable.SERVER_UUID + ", " : "") +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                SessionsTable.AFK_TIME + ", " +
+                SessionsTable.MOB_KILLS + ", " +
+                SessionsTable.DEATHS +
+                " FROM " + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SESSION_END + ">=?" +
+                (serverUUID != null ? AND + SessionsTable.SERVER_UUID + "=?" : "") +
+                (playerUUID != null ? AND + SessionsTable.USER_UUID + "=?" : "") +
+                " ORDER BY " + SessionsTable.USER_UUID;
+        return new QueryStatement<SessionColumns>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                statement.setLong(index++, after);
+                if (serverUUID != null) {
+                    statement.setString(index++, serverUUID.toString());
+                }
+                if (playerUUID != null) {
+                    statement.setString(index, playerUUID.toString());
+                }
+            }
+
+            @Override
+            public SessionColumns processResults(ResultSet set) throws SQLException {
+                SessionColumns.Builder builder = SessionColumns.builder();
+                String previousUUID = null;
+                UUID playerUUID = null;
+                while (set.next()) {
+                    String uuidString = set.getString(SessionsTable.USER_UUID);
+                    // Rows are ordered by player, avoids parsing the same UUID again.
+                    if (!uuidString.equals(previousUUID)) {
+                        previousUUID = uuidString;
+                        playerUUID = UUID.fromString(uuidString);
+                    }
+                    builder.add(
+                            playerUUID, serverUUID != null ? serverUUID : UUID.fromString(set.getString(SessionsTable.SERVER_UUID)),
+                            set.getLong(SessionsTable.SESSION_START),
+                            set.getLong(SessionsTable.SESSION_END),
+                            set.getLong(SessionsTable.AFK_TIME),
+                            set.getInt(SessionsTable.MOB_KILLS),
+                            set.getInt(SessionsTable.DEATHS)
+                    );
+                }
+                return builder.build();
             }
         };
     }
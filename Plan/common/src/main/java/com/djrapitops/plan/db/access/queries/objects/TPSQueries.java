@@ -19,6 +19,8 @@ package com.djrapitops.plan.db.access.queries.objects;
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.data.store.objects.DateObj;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
+import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.QueryStatement;
@@ -81,6 +83,87 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Fetch TPS data of a server aggregated into time buckets by the database.
+     * <p>
+     * Only one row per bucket is returned, so graphs of long time periods do not need to load every sample.
+     *
+     * @param serverUUID  UUID of the server.
+     * @param after       Samples after this epoch ms are included.
+     * @param before      Samples before this epoch ms are included.
+     * @param bucketWidth Width of each bucket in ms, buckets are counted from the {@code after} date.
+     * @return Average, minimum and maximum of each metric per bucket.
+     */
+    public static Query<TPSBuckets> fetchTPSBuckets(UUID serverUUID, long after, long before, long bucketWidth) {
+        return db -> {
+            // MySQL '/' returns a decimal, other databases use integer division for bigint columns
+            String bucket = "(" + DATE + " - ?)" + (db.getType() == DBType.MYSQL ? " DIV " : " / ") + "?";
+
+            TextStringBuilder sql = new TextStringBuilder(SELECT).append("MIN(").append(DATE).append(") as bucket_date");
+            for (TPSBuckets.Metric metric : TPSBuckets.Metric.values()) {
+                String column = getColumn(metric);
+                sql.append(", AVG(").append(column).append(") as avg_").append(column)
+                        .append(", MIN(").append(column).append(") as min_").append(column)
+                        .append(", MAX(").append(column).append(") as max_").append(column);
+            }
+            sql.append(FROM).append(TABLE_NAME)
+                    .append(WHERE).append(SERVER_ID).append("=").append(ServerTable.STATEMENT_SELECT_SERVER_ID)
+                    .append(AND).append(DATE).append(">=?")
+                    .append(AND).append(DATE).append("<=?")
+                    .append(GROUP_BY).append(bucket)
+                    .append(ORDER_BY).append("bucket_date");
+
+            return db.query(new QueryStatement<TPSBuckets>(sql.toString(), 1000) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setString(1, serverUUID.toString());
+                    statement.setLong(2, after);
+                    statement.setLong(3, before);
+                    statement.setLong(4, after);
+                    statement.setLong(5, bucketWidth);
+                }
+
+                @Override
+                public TPSBuckets processResults(ResultSet set) throws SQLException {
+                    TPSBuckets buckets = new TPSBuckets(bucketWidth);
+                    while (set.next()) {
+                        int bucket = buckets.addBucket(set.getLong("bucket_date"));
+                        for (TPSBuckets.Metric metric : TPSBuckets.Metric.values()) {
+                            String column = getColumn(metric);
+                            buckets.set(bucket, metric,
+                                    set.getDouble("avg_" + column),
+                                    set.getDouble("min_" + column),
+                                    set.getDouble("max_" + column)
+                            );
+                        }
+                    }
+                    return buckets;
+                }
+            });
+        };
+    }
+
+    private static String getColumn(TPSBuckets.Metric metric) {
+        switch (metric) {
+            case PLAYERS_ONLINE:
+                return PLAYERS_ONLINE;
+            case TPS:
+                return TPS;
+            case CPU:
+                return CPU_USAGE;
+            case RAM:
+                return RAM_USAGE;
+            case ENTITIES:
+                return ENTITIES;
+            case CHUNKS:
+                return CHUNKS;
+            case FREE_DISK:
+                return FREE_DISK;
+            default:
+                throw new IllegalArgumentException("Unsupported metric " + metric);
+        }
+    }
+
     public static Query<Map<Integer, List<TPS>>> fetchPlayerOnlineDataOfServers(Collection<Server> servers) {
         if (servers.isEmpty()) {
             return db -> new HashMap<>();
@@ -119,6 +202,39 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Calculate the average TPS of a server between two dates.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, start of the range, inclusive.
+     * @param before     Epoch ms, end of the range, inclusive.
+     * @return Average TPS, or -1 if there is no data.
+     */
+    public static Query<Double> averageTPS(UUID serverUUID, long after, long before) {
+        String sql = SELECT + "AVG(" + TPS + ") as average" + FROM + TABLE_NAME +
+                WHERE + SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + TPS + ">=0" +
+                AND + DATE + ">=?" +
+                AND + DATE + "<=?";
+        return new QueryStatement<Double>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Double processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    double average = set.getDouble("average");
+                    return set.wasNull() ? -1.0 : average;
+                }
+                return -1.0;
+            }
+        };
+    }
+
     public static Query<Optional<DateObj<Integer>>> fetchPeakPlayerCount(UUID serverUUID, long afterDate) {
         String subQuery = "(" + SELECT + "MAX(" + PLAYERS_ONLINE + ")" + FROM + TABLE_NAME + WHERE + SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + DATE + ">= ?)";
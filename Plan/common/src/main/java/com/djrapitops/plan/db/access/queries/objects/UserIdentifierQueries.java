@@ -94,6 +94,38 @@ public class UserIdentifierQueries {
         };
     }
 
+    /**
+     * Query database for all player UUIDs that have joined a server, in the order the database sorts them.
+     * <p>
+     * Consecutive UUIDs of this list can be used as ranges for queries that take a first and last player UUID,
+     * since the ranges use the same ordering as the database.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return List of UUIDs sorted by the database.
+     */
+    public static Query<List<UUID>> fetchSortedPlayerUUIDsOfServer(UUID serverUUID) {
+        String sql = SELECT +
+                UserInfoTable.USER_UUID +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.SERVER_UUID + "=?" +
+                ORDER_BY + UserInfoTable.USER_UUID;
+        return new QueryStatement<List<UUID>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public List<UUID> processResults(ResultSet set) throws SQLException {
+                List<UUID> playerUUIDs = new ArrayList<>();
+                while (set.next()) {
+                    playerUUIDs.add(UUID.fromString(set.getString(UserInfoTable.USER_UUID)));
+                }
+                return playerUUIDs;
+            }
+        };
+    }
+
     /**
      * Query database for a Map for all UUIDs and Player names.
      *
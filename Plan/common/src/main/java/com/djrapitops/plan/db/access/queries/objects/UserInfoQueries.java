@@ -137,22 +137,62 @@ public class UserInfoQueries {
 
             @Override
             public Map<UUID, UserInfo> processResults(ResultSet set) throws SQLException {
-                Map<UUID, UserInfo> userInformation = new HashMap<>();
-                while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(UserInfoTable.USER_UUID));
+                return extractUserInformation(set);
+            }
+        };
+    }
 
-                    long registered = set.getLong(UserInfoTable.REGISTERED);
-                    boolean banned = set.getBoolean(UserInfoTable.BANNED);
-                    boolean op = set.getBoolean(UserInfoTable.OP);
+    /**
+     * Query database for User information of a range of players on a specific server.
+     * <p>
+     * Used for going through the players of a server a part at a time, with ranges from
+     * {@link UserIdentifierQueries#fetchSortedPlayerUUIDsOfServer(UUID)}.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param firstPlayerUUID First UUID of the range, inclusive.
+     * @param lastPlayerUUID  Last UUID of the range, inclusive.
+     * @return Map: Player UUID - user information
+     */
+    public static Query<Map<UUID, UserInfo>> fetchUserInformationOfServer(UUID serverUUID, UUID firstPlayerUUID, UUID lastPlayerUUID) {
+        String sql = SELECT +
+                UserInfoTable.REGISTERED + ", " +
+                UserInfoTable.BANNED + ", " +
+                UserInfoTable.OP + ", " +
+                UserInfoTable.USER_UUID + ", " +
+                UserInfoTable.SERVER_UUID +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.SERVER_UUID + "=?" +
+                AND + UserInfoTable.USER_UUID + " BETWEEN ? AND ?";
+        return new QueryStatement<Map<UUID, UserInfo>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, firstPlayerUUID.toString());
+                statement.setString(3, lastPlayerUUID.toString());
+            }
 
-                    userInformation.put(uuid, new UserInfo(uuid, serverUUID, registered, op, banned));
-                }
-                return userInformation;
+            @Override
+            public Map<UUID, UserInfo> processResults(ResultSet set) throws SQLException {
+                return extractUserInformation(set);
             }
         };
     }
 
+    private static Map<UUID, UserInfo> extractUserInformation(ResultSet set) throws SQLException {
+        Map<UUID, UserInfo> userInformation = new HashMap<>();
+        while (set.next()) {
+            UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
+            UUID uuid = UUID.fromString(set.getString(UserInfoTable.USER_UUID));
+
+            long registered = set.getLong(UserInfoTable.REGISTERED);
+            boolean banned = set.getBoolean(UserInfoTable.BANNED);
+            boolean op = set.getBoolean(UserInfoTable.OP);
+
+            userInformation.put(uuid, new UserInfo(uuid, serverUUID, registered, op, banned));
+        }
+        return userInformation;
+    }
+
     /**
      * Query database for UUIDs of banned players on a server.
      *
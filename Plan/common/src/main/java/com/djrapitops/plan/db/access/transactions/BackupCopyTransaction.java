@@ -62,6 +62,8 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copySessionsWithKillAndWorldData();
         copyPerServerUserInformation();
         copyPingData();
+        copyActivityRollups();
+        copyPlayerSummaries();
     }
 
     private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
@@ -69,6 +71,14 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         execute(executableCreator.apply(sourceDB.query(dataQuery)));
     }
 
+    private void copyActivityRollups() {
+        copy(LargeStoreQueries::storeAllActivityRollups, ActivityRollupQueries.fetchAllActivityRollups());
+    }
+
+    private void copyPlayerSummaries() {
+        copy(LargeStoreQueries::storeAllPlayerSummaries, PlayerSummaryQueries.fetchAllPlayerSummaries());
+    }
+
     private void copyPingData() {
         copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
     }
@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Transaction that executes multiple queued transactions with a single commit.
+ * <p>
+ * Each member transaction uses its own savepoint, so a failing member does not roll back
+ * the operations of the other members.
+ *
+ * @author Rsl1122
+ */
+public class GroupedTransaction extends Transaction {
+
+    private final List<Transaction> members;
+    private final Map<Transaction, DBOpException> failures;
+
+    public GroupedTransaction(List<Transaction> members) {
+        this.members = new ArrayList<>(members);
+        this.failures = new IdentityHashMap<>();
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction member : members) {
+            try {
+                member.executeInside(this);
+            } catch (DBOpException failure) {
+                failures.put(member, failure);
+            }
+        }
+    }
+
+    /**
+     * Get the failure of a member transaction.
+     *
+     * @param member Transaction given in the constructor.
+     * @return Exception the member failed with, empty if the member was executed successfully.
+     */
+    public Optional<DBOpException> getFailure(Transaction member) {
+        return Optional.ofNullable(failures.get(member));
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " of " + members.size() + (success ? " (finished)" : "");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions;
+
+import com.djrapitops.plan.data.store.objects.ServerSummary;
+import com.djrapitops.plan.db.access.ExecBatchStatement;
+import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.Executable;
+import com.djrapitops.plan.db.sql.tables.ServerSummaryTable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Transaction for replacing the stored summary of a server.
+ *
+ * @author Rsl1122
+ */
+public class StoreServerSummaryTransaction extends Transaction {
+
+    private final ServerSummary summary;
+
+    public StoreServerSummaryTransaction(ServerSummary summary) {
+        this.summary = summary;
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(deleteOldSummary());
+        execute(insertSummary());
+    }
+
+    private Executable deleteOldSummary() {
+        String sql = "DELETE FROM " + ServerSummaryTable.TABLE_NAME + WHERE + ServerSummaryTable.SERVER_UUID + "=?";
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, summary.getServerUUID().toString());
+            }
+        };
+    }
+
+    private Executable insertSummary() {
+        return new ExecBatchStatement(ServerSummaryTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<String, Long> value : summary.getValues().entrySet()) {
+                    statement.setString(1, summary.getServerUUID().toString());
+                    statement.setLong(2, summary.getRefreshed());
+                    statement.setString(3, value.getKey());
+                    statement.setLong(4, value.getValue());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.of(summary.getServerUUID());
+    }
+}
\ No newline at end of file
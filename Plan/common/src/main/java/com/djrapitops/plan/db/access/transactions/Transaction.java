@@ -22,12 +22,17 @@ import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.system.cache.DataChange;
+import com.djrapitops.plan.system.cache.InvalidationBus;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -45,8 +50,13 @@ public abstract class Transaction {
 
     protected boolean success;
 
+    private final List<DataChange> changes;
+    private final List<Runnable> commitActions;
+
     protected Transaction() {
         success = false;
+        changes = new ArrayList<>();
+        commitActions = new ArrayList<>();
     }
 
     public void executeTransaction(SQLDB db) {
@@ -67,9 +77,53 @@ public abstract class Transaction {
             if (connection != null) connection.commit();
             success = true;
         } catch (Exception statementFail) {
+            changes.clear();
+            commitActions.clear();
             manageFailure(statementFail); // Throws a DBOpException.
         } finally {
             db.returnToPool(connection);
+            // Queries made after the transaction, like Patch#hasBeenApplied, can not use the returned connection.
+            connection = null;
+        }
+        commitActions.forEach(Runnable::run);
+        InvalidationBus.publish(changes);
+    }
+
+    /**
+     * Execute this transaction as a part of another transaction.
+     * <p>
+     * The connection and commit of the other transaction are used, but a separate savepoint allows
+     * rolling back only the operations of this transaction if it fails.
+     *
+     * @param parent Transaction that is currently being executed.
+     * @throws DBOpException If this transaction fails, operations of this transaction have been rolled back.
+     */
+    void executeInside(Transaction parent) {
+        Verify.isFalse(success, () -> new IllegalStateException("Transaction has already been executed"));
+
+        this.db = parent.db;
+        this.dbType = parent.dbType;
+
+        if (!shouldBeExecuted()) {
+            success = true;
+            return;
+        }
+
+        try {
+            this.connection = parent.connection;
+            this.savepoint = connection.setSavepoint();
+            performOperations();
+            connection.releaseSavepoint(savepoint);
+            success = true;
+            parent.changes.addAll(changes);
+            parent.commitActions.addAll(commitActions);
+        } catch (Exception statementFail) {
+            changes.clear();
+            commitActions.clear();
+            manageFailure(statementFail); // Throws a DBOpException.
+        } finally {
+            this.connection = null;
+            this.savepoint = null;
         }
     }
 
@@ -111,8 +165,23 @@ public abstract class Transaction {
         }
     }
 
+    /**
+     * Override to allow executing the transaction concurrently with transactions of other players.
+     * <p>
+     * Transactions with the same key are executed in the order they were submitted.
+     * Transactions that modify data of a single player should use the UUID of the player as the key,
+     * transactions that modify data of a server should use the UUID of the server.
+     * Rows shared with transactions of other keys should be modified with statements that are safe to execute concurrently.
+     *
+     * @return UUID of the player or server whose data is modified, empty if the transaction should be executed in order
+     * with all other transactions, like schema changes and clean up.
+     */
+    public Optional<UUID> getOrderingKey() {
+        return Optional.empty();
+    }
+
     protected <T> T query(Query<T> query) {
-        return query.executeQuery(db);
+        return connection != null ? db.queryInsideTransaction(connection, query) : query.executeQuery(db);
     }
 
     protected boolean execute(Executable executable) {
@@ -144,11 +213,35 @@ public abstract class Transaction {
         transaction.dbType = dbType;
         transaction.connection = this.connection;
         transaction.performOperations();
+        changes.addAll(transaction.changes);
+        commitActions.addAll(transaction.commitActions);
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
     }
 
+    /**
+     * Inform caches that depend on the stored data that it has changed.
+     * <p>
+     * The change is published on the {@link InvalidationBus} only after the transaction has been committed.
+     *
+     * @param change Description of the changed data.
+     */
+    protected void dataChanged(DataChange change) {
+        changes.add(change);
+    }
+
+    /**
+     * Update in-memory state that must match the database only after the transaction has been committed.
+     * <p>
+     * The action is not run if the transaction is rolled back.
+     *
+     * @param action Action to run on the thread that committed the transaction.
+     */
+    protected void afterCommit(Runnable action) {
+        commitActions.add(action);
+    }
+
     protected UUID getServerUUID() {
         return db.getServerUUIDSupplier().get();
     }
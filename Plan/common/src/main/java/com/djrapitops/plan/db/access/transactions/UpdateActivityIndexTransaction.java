@@ -0,0 +1,117 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions;
+
+import com.djrapitops.plan.data.store.mutators.ActivityIndex;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.db.access.ExecBatchStatement;
+import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.Executable;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import com.djrapitops.plan.db.sql.tables.PlayerSummaryTable;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Transaction for re-calculating the activity indexes in the player summary table of a server.
+ * <p>
+ * Only sessions of the last three weeks affect the activity index, so only players seen during that time are calculated.
+ * Everyone else has an activity index of 0.
+ * <p>
+ * Can also be limited to a single player, so that a player that just left does not wait for the next full update.
+ *
+ * @author Rsl1122
+ */
+public class UpdateActivityIndexTransaction extends Transaction {
+
+    private final UUID serverUUID;
+    private final UUID playerUUID;
+    private final long date;
+    private final long playtimeMsThreshold;
+    private final int loginThreshold;
+
+    public UpdateActivityIndexTransaction(UUID serverUUID, long date, long playtimeMsThreshold, int loginThreshold) {
+        this(serverUUID, null, date, playtimeMsThreshold, loginThreshold);
+    }
+
+    public UpdateActivityIndexTransaction(UUID serverUUID, UUID playerUUID, long date, long playtimeMsThreshold, int loginThreshold) {
+        this.serverUUID = serverUUID;
+        this.playerUUID = playerUUID;
+        this.date = date;
+        this.playtimeMsThreshold = playtimeMsThreshold;
+        this.loginThreshold = loginThreshold;
+    }
+
+    @Override
+    protected void performOperations() {
+        long threeWeeksAgo = date - TimeAmount.WEEK.toMillis(3L);
+
+        if (playerUUID != null) {
+            execute(updateActivityIndexes(query(SessionQueries.fetchSessionColumnsOfPlayer(serverUUID, playerUUID, threeWeeksAgo))));
+            return;
+        }
+        SessionColumns recentSessions = query(SessionQueries.fetchSessionColumnsOfServer(serverUUID, threeWeeksAgo));
+        execute(updateActivityIndexes(recentSessions));
+        execute(resetInactivePlayers(threeWeeksAgo));
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
+
+    private Executable updateActivityIndexes(SessionColumns recentSessions) {
+        if (recentSessions.getPlayerCount() == 0) {
+            return Executable.empty();
+        }
+        return new ExecBatchStatement(PlayerSummaryTable.UPDATE_ACTIVITY_INDEX_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 0; i < recentSessions.getPlayerCount(); i++) {
+                    ActivityIndex activityIndex = new ActivityIndex(recentSessions, i, date, playtimeMsThreshold, loginThreshold);
+                    statement.setDouble(1, activityIndex.getValue());
+                    statement.setString(2, recentSessions.getPlayerUUID(i).toString());
+                    statement.setString(3, serverUUID.toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable resetInactivePlayers(long threeWeeksAgo) {
+        String sql = "UPDATE " + PlayerSummaryTable.TABLE_NAME + " SET " +
+                PlayerSummaryTable.ACTIVITY_INDEX + "=0" +
+                WHERE + PlayerSummaryTable.SERVER_UUID + "=?" +
+                AND + PlayerSummaryTable.LAST_SEEN + "<?" +
+                AND + PlayerSummaryTable.ACTIVITY_INDEX + "!=0";
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, threeWeeksAgo);
+            }
+        };
+    }
+}
@@ -42,6 +42,9 @@ public class RemoveEverythingTransaction extends Transaction {
         clearTable(UsersTable.TABLE_NAME);
         clearTable(CommandUseTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(ActivityRollupTable.TABLE_NAME);
+        clearTable(PlayerSummaryTable.TABLE_NAME);
+        clearTable(ServerSummaryTable.TABLE_NAME);
         clearTable(SecurityTable.TABLE_NAME);
         clearTable(ServerTable.TABLE_NAME);
         clearTable(ExtensionPlayerValueTable.TABLE_NAME);
@@ -16,10 +16,14 @@
  */
 package com.djrapitops.plan.db.access.transactions.commands;
 
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.ActivityRollupQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.*;
+import com.djrapitops.plan.system.cache.DataChange;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -47,14 +51,21 @@ public class RemovePlayerTransaction extends Transaction {
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
 
+        for (ActivityRollup rollup : query(ActivityRollupQueries.calculateRollupsOfPlayer(playerUUID))) {
+            execute(DataStoreQueries.subtractActivityRollup(rollup));
+        }
+
         deleteFromTable(GeoInfoTable.TABLE_NAME);
         deleteFromTable(NicknamesTable.TABLE_NAME);
         deleteFromKillsTable();
         deleteFromTable(WorldTimesTable.TABLE_NAME);
         deleteFromTable(SessionsTable.TABLE_NAME);
         deleteFromTable(PingTable.TABLE_NAME);
+        deleteFromTable(PlayerSummaryTable.TABLE_NAME);
         deleteFromTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
+
+        dataChanged(DataChange.playerRemove(playerUUID));
     }
 
     private void deleteWebUser(String username) {
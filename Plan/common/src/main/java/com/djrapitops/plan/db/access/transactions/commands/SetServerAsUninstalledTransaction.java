@@ -19,6 +19,7 @@ package com.djrapitops.plan.db.access.transactions.commands;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.sql.tables.ServerSummaryTable;
 import com.djrapitops.plan.db.sql.tables.ServerTable;
 
 import java.sql.PreparedStatement;
@@ -43,6 +44,18 @@ public class SetServerAsUninstalledTransaction extends Transaction {
     @Override
     protected void performOperations() {
         execute(updateServerAsUninstalled());
+        // Summary of the server should no longer be included in the network totals.
+        execute(deleteServerSummary());
+    }
+
+    private Executable deleteServerSummary() {
+        String sql = "DELETE FROM " + ServerSummaryTable.TABLE_NAME + WHERE + ServerSummaryTable.SERVER_UUID + "=?";
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+        };
     }
 
     private Executable updateServerAsUninstalled() {
@@ -24,6 +24,7 @@ import com.djrapitops.plan.db.sql.tables.UserInfoTable;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BooleanSupplier;
 
@@ -60,4 +61,9 @@ public class BanStatusTransaction extends Transaction {
             }
         };
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
 }
\ No newline at end of file
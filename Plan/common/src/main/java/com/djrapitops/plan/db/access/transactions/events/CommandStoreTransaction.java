@@ -19,6 +19,7 @@ package com.djrapitops.plan.db.access.transactions.events;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -48,4 +49,9 @@ public class CommandStoreTransaction extends Transaction {
     protected void performOperations() {
         execute(DataStoreQueries.storeUsedCommandInformation(serverUUID, commandName));
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.of(serverUUID);
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.djrapitops.plan.db.access.transactions.Transaction;
 
 import java.net.InetAddress;
 import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 
@@ -83,4 +84,9 @@ public class GeoInfoStoreTransaction extends Transaction {
             setAsFailed();
         }
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
 }
\ No newline at end of file
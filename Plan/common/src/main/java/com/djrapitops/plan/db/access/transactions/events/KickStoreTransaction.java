@@ -22,6 +22,7 @@ import com.djrapitops.plan.db.sql.tables.UsersTable;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
@@ -52,4 +53,9 @@ public class KickStoreTransaction extends Transaction {
             }
         });
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 
@@ -49,4 +50,9 @@ public class NicknameStoreTransaction extends Transaction {
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
 }
\ No newline at end of file
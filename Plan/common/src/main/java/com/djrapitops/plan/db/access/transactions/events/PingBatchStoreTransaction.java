@@ -0,0 +1,59 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions.events;
+
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.cache.DataChange;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transaction to store aggregated Ping values of multiple players at once.
+ *
+ * @author Rsl1122
+ */
+public class PingBatchStoreTransaction extends Transaction {
+
+    private final Map<UUID, Ping> pings;
+
+    public PingBatchStoreTransaction(Map<UUID, Ping> pings) {
+        this.pings = pings;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !pings.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(DataStoreQueries.storePings(pings));
+        for (Map.Entry<UUID, Ping> entry : pings.entrySet()) {
+            dataChanged(DataChange.ping(entry.getValue().getServerUUID(), entry.getKey()));
+        }
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        // Pings of a single run are all from the same server.
+        return pings.values().stream().findAny().map(Ping::getServerUUID);
+    }
+}
\ No newline at end of file
@@ -19,7 +19,9 @@ package com.djrapitops.plan.db.access.transactions.events;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.cache.DataChange;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.LongSupplier;
 
@@ -49,7 +51,13 @@ public class PlayerRegisterTransaction extends Transaction {
     protected void performOperations() {
         if (!query(PlayerFetchQueries.isPlayerRegistered(playerUUID))) {
             execute(DataStoreQueries.registerBaseUser(playerUUID, registered.getAsLong(), playerName));
+            dataChanged(DataChange.playerRegister(null, playerUUID));
         }
         execute(DataStoreQueries.updatePlayerName(playerUUID, playerName));
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(playerUUID);
+    }
 }
\ No newline at end of file
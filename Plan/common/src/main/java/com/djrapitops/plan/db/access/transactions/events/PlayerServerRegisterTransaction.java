@@ -16,8 +16,10 @@
  */
 package com.djrapitops.plan.db.access.transactions.events;
 
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+import com.djrapitops.plan.system.cache.DataChange;
 
 import java.util.UUID;
 import java.util.function.LongSupplier;
@@ -40,7 +42,11 @@ public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
     protected void performOperations() {
         super.performOperations();
         if (!query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID))) {
-            execute(DataStoreQueries.registerUserInfo(playerUUID, registered.getAsLong(), serverUUID));
+            long registerDate = registered.getAsLong();
+            execute(DataStoreQueries.registerUserInfo(playerUUID, registerDate, serverUUID));
+            execute(DataStoreQueries.storeActivityRollup(ActivityRollup.forNewPlayer(serverUUID, registerDate)));
+            execute(DataStoreQueries.registerPlayerSummary(playerUUID, serverUUID, registerDate));
+            dataChanged(DataChange.playerRegister(serverUUID, playerUUID));
         }
     }
 }
\ No newline at end of file
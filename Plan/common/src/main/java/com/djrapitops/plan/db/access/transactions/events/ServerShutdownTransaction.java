@@ -17,8 +17,12 @@
 package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.cache.DataChange;
 
 import java.util.Collection;
 
@@ -38,5 +42,10 @@ public class ServerShutdownTransaction extends Transaction {
     @Override
     protected void performOperations() {
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
+        for (Session session : unsavedSessions) {
+            execute(DataStoreQueries.storeActivityRollup(ActivityRollup.forSession(session)));
+            execute(DataStoreQueries.storeSessionInPlayerSummary(session));
+            dataChanged(DataChange.session(session.getUnsafe(SessionKeys.SERVER_UUID), session.getUnsafe(SessionKeys.UUID)));
+        }
     }
 }
\ No newline at end of file
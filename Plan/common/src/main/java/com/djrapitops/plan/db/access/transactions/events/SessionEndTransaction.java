@@ -17,8 +17,14 @@
 package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.cache.DataChange;
+
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Transaction for storing a session after a session has ended.
@@ -35,6 +41,25 @@ public class SessionEndTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        storeWorldNames();
         execute(DataStoreQueries.storeSession(session));
+        execute(DataStoreQueries.storeActivityRollup(ActivityRollup.forSession(session)));
+        execute(DataStoreQueries.storeSessionInPlayerSummary(session));
+        dataChanged(DataChange.session(session.getUnsafe(SessionKeys.SERVER_UUID), session.getUnsafe(SessionKeys.UUID)));
+    }
+
+    private void storeWorldNames() {
+        // World names are stored in order with other transactions of the server, world times of the session need them.
+        UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+        session.getValue(SessionKeys.WORLD_TIMES).ifPresent(worldTimes -> {
+            for (String worldName : worldTimes.getWorldTimes().keySet()) {
+                executeOther(new WorldNameStoreTransaction(serverUUID, worldName));
+            }
+        });
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return session.getValue(SessionKeys.UUID);
     }
 }
\ No newline at end of file
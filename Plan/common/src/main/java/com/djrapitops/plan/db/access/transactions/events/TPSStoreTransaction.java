@@ -20,8 +20,10 @@ import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.container.builders.TPSBuilder;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.cache.DataChange;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -43,6 +45,7 @@ public class TPSStoreTransaction extends Transaction {
     protected void performOperations() {
         TPS tps = calculateTPS();
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        dataChanged(DataChange.tps(serverUUID));
     }
 
     private TPS calculateTPS() {
@@ -66,4 +69,9 @@ public class TPSStoreTransaction extends Transaction {
                 .freeDiskSpace(freeDiskSpace)
                 .toTPS();
     }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.of(serverUUID);
+    }
 }
\ No newline at end of file
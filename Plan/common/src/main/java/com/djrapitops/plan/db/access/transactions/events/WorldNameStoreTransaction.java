@@ -23,6 +23,7 @@ import com.djrapitops.plan.db.sql.tables.WorldTable;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -60,6 +61,14 @@ public class WorldNameStoreTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
-        execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
+        // Checked again in case the transaction is executed as a part of another transaction.
+        if (doesWorldNameNotExist()) {
+            execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
+        }
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.of(serverUUID);
     }
 }
\ No newline at end of file
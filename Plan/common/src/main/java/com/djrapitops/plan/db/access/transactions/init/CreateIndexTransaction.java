@@ -67,6 +67,29 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(ActivityRollupTable.TABLE_NAME, "plan_activity_rollup_hour_index",
+                ActivityRollupTable.SERVER_UUID,
+                ActivityRollupTable.HOUR_START
+        );
+        createIndex(PlayerSummaryTable.TABLE_NAME, "plan_player_summary_uuid_index",
+                PlayerSummaryTable.USER_UUID,
+                PlayerSummaryTable.SERVER_UUID
+        );
+        createIndex(PlayerSummaryTable.TABLE_NAME, "plan_player_summary_seen_index",
+                PlayerSummaryTable.SERVER_UUID,
+                PlayerSummaryTable.LAST_SEEN
+        );
+        createIndex(PlayerSummaryTable.TABLE_NAME, "plan_player_summary_playtime_index",
+                PlayerSummaryTable.SERVER_UUID,
+                PlayerSummaryTable.PLAYTIME
+        );
+        createIndex(PlayerSummaryTable.TABLE_NAME, "plan_player_summary_activity_index",
+                PlayerSummaryTable.SERVER_UUID,
+                PlayerSummaryTable.ACTIVITY_INDEX
+        );
+        createIndex(ServerSummaryTable.TABLE_NAME, "plan_server_summary_server_index",
+                ServerSummaryTable.SERVER_UUID
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
@@ -45,6 +45,9 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(WorldTimesTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
+        execute(ActivityRollupTable.createTableSQL(dbType));
+        execute(PlayerSummaryTable.createTableSQL(dbType));
+        execute(ServerSummaryTable.createTableSQL(dbType));
 
         // DataExtension tables
         execute(ExtensionIconTable.createTableSQL(dbType));
@@ -16,14 +16,26 @@
  */
 package com.djrapitops.plan.db.access.transactions.init;
 
+import com.djrapitops.plan.data.container.UserInfo;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
+import com.djrapitops.plan.db.access.queries.objects.UserInfoQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.UserInfoTable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
 import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
  * Transaction for removing duplicate data in plan_user_info.
  * <p>
+ * Activity rollups and player summaries are updated to match the rows that are left.
+ * <p>
  * https://github.com/plan-player-analytics/Plan/issues/956
  * https://github.com/plan-player-analytics/Plan/issues/967
  *
@@ -35,16 +47,56 @@ public class RemoveDuplicateUserInfoTransaction extends Transaction {
     private static final String STATEMENT_SELECT_DUPLICATE_IDS =
             SELECT + "MIN(" + COLUMN_ID + ") as id" + FROM + UserInfoTable.TABLE_NAME +
                     GROUP_BY + UserInfoTable.USER_UUID + ", " + UserInfoTable.SERVER_UUID;
+    private static final String WHERE_DUPLICATE = WHERE + COLUMN_ID +
+            // Nested query here is required because MySQL limits update statements with nested queries:
+            // The nested query creates a temporary table that bypasses the same table query-update limit.
+            // Note: MySQL versions 5.6.7+ might optimize this nested query away leading to an exception.
+            " NOT IN (" + SELECT + "id" + FROM + '(' + STATEMENT_SELECT_DUPLICATE_IDS + ") as ids)";
 
     @Override
     protected void performOperations() {
-        execute(
-                "DELETE" + FROM + UserInfoTable.TABLE_NAME +
-                        WHERE + COLUMN_ID +
-                        // Nested query here is required because MySQL limits update statements with nested queries:
-                        // The nested query creates a temporary table that bypasses the same table query-update limit.
-                        // Note: MySQL versions 5.6.7+ might optimize this nested query away leading to an exception.
-                        " NOT IN (" + SELECT + "id" + FROM + '(' + STATEMENT_SELECT_DUPLICATE_IDS + ") as ids)"
-        );
+        List<UserInfo> duplicates = query(fetchDuplicates());
+        if (duplicates.isEmpty()) {
+            return;
+        }
+
+        execute("DELETE" + FROM + UserInfoTable.TABLE_NAME + WHERE_DUPLICATE);
+
+        Set<UUID> playerUUIDs = new HashSet<>();
+        for (UserInfo duplicate : duplicates) {
+            // Every row was counted as a new player of the server.
+            execute(DataStoreQueries.subtractActivityRollup(ActivityRollup.forNewPlayer(duplicate.getServerUUID(), duplicate.getRegistered())));
+            playerUUIDs.add(duplicate.getPlayerUuid());
+        }
+        for (UUID playerUUID : playerUUIDs) {
+            for (UserInfo left : query(UserInfoQueries.fetchUserInformationOfUser(playerUUID))) {
+                execute(DataStoreQueries.registerPlayerSummary(playerUUID, left.getServerUUID(), left.getRegistered()));
+            }
+        }
+    }
+
+    private Query<List<UserInfo>> fetchDuplicates() {
+        String sql = SELECT + UserInfoTable.USER_UUID + ", " +
+                UserInfoTable.SERVER_UUID + ", " +
+                UserInfoTable.REGISTERED + ", " +
+                UserInfoTable.OP + ", " +
+                UserInfoTable.BANNED +
+                FROM + UserInfoTable.TABLE_NAME + WHERE_DUPLICATE;
+        return new QueryAllStatement<List<UserInfo>>(sql) {
+            @Override
+            public List<UserInfo> processResults(ResultSet set) throws SQLException {
+                List<UserInfo> duplicates = new ArrayList<>();
+                while (set.next()) {
+                    duplicates.add(new UserInfo(
+                            UUID.fromString(set.getString(UserInfoTable.USER_UUID)),
+                            UUID.fromString(set.getString(UserInfoTable.SERVER_UUID)),
+                            set.getLong(UserInfoTable.REGISTERED),
+                            set.getBoolean(UserInfoTable.OP),
+                            set.getBoolean(UserInfoTable.BANNED)
+                    ));
+                }
+                return duplicates;
+            }
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.patches;
+
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.db.access.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
+import com.djrapitops.plan.db.access.queries.objects.ActivityRollupQueries;
+import com.djrapitops.plan.db.sql.tables.ActivityRollupTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.FROM;
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Patch that fills 'plan_activity_rollup' with the sessions, kills and registrations stored before the table existed.
+ * <p>
+ * The table is filled again if its counters do not match the sessions and registrations.
+ *
+ * @author Rsl1122
+ */
+public class ActivityRollupPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        // The table is created empty by CreateTablesTransaction, so the counters are compared to the source tables.
+        // A fill that did not finish or hours that were bucketed in another time zone are calculated again.
+        return count(SessionsTable.TABLE_NAME) == sum(ActivityRollupTable.SESSIONS)
+                && count(UserInfoTable.TABLE_NAME) == sum(ActivityRollupTable.NEW_PLAYERS)
+                && !hasMisalignedHours();
+    }
+
+    private long count(String tableName) {
+        return queryLong("SELECT COUNT(1) as c" + FROM + tableName);
+    }
+
+    private long sum(String column) {
+        return queryLong("SELECT SUM(" + column + ") as c" + FROM + ActivityRollupTable.TABLE_NAME);
+    }
+
+    private long queryLong(String sql) {
+        return query(new QueryAllStatement<Long>(sql) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("c") : 0L;
+            }
+        });
+    }
+
+    private boolean hasMisalignedHours() {
+        String sql = "SELECT COUNT(1) as c" + FROM + ActivityRollupTable.TABLE_NAME +
+                WHERE + "((" + ActivityRollupTable.HOUR_START + '+' + ActivityRollup.getHourOffset() + ")%" + ActivityRollup.HOUR_MS + ")<>0";
+        return query(new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No parameters
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        execute("DELETE" + FROM + ActivityRollupTable.TABLE_NAME);
+
+        Map<UUID, Map<Long, ActivityRollup>> byServer = new HashMap<>();
+        addAll(byServer, query(ActivityRollupQueries.calculateSessionRollups()));
+        addAll(byServer, query(ActivityRollupQueries.calculatePlayerKillRollups()));
+        addAll(byServer, query(ActivityRollupQueries.calculateNewPlayerRollups()));
+
+        List<ActivityRollup> rollups = new ArrayList<>();
+        for (Map<Long, ActivityRollup> ofServer : byServer.values()) {
+            rollups.addAll(ofServer.values());
+        }
+        execute(LargeStoreQueries.storeAllActivityRollups(rollups));
+    }
+
+    private void addAll(Map<UUID, Map<Long, ActivityRollup>> byServer, List<ActivityRollup> rollups) {
+        for (ActivityRollup rollup : rollups) {
+            Map<Long, ActivityRollup> ofServer = byServer.computeIfAbsent(rollup.getServerUUID(), key -> new HashMap<>());
+            ActivityRollup existing = ofServer.get(rollup.getDate());
+            if (existing == null) {
+                ofServer.put(rollup.getDate(), rollup);
+            } else {
+                existing.add(rollup);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.patches;
+
+import com.djrapitops.plan.db.access.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerSummaryQueries;
+import com.djrapitops.plan.db.sql.tables.PlayerSummaryTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.FROM;
+
+/**
+ * Patch that fills 'plan_player_summary' with the players and sessions stored before the table existed.
+ * <p>
+ * Activity indexes are calculated afterwards by {@link com.djrapitops.plan.db.access.transactions.UpdateActivityIndexTransaction}.
+ *
+ * @author Rsl1122
+ */
+public class PlayerSummaryPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        // The table is created empty by CreateTablesTransaction, so rows are looked at instead.
+        return hasRows(PlayerSummaryTable.TABLE_NAME) || !hasRows(UserInfoTable.TABLE_NAME);
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new HasMoreThanZeroQueryStatement("SELECT COUNT(1) as c" + FROM + tableName) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No parameters
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        execute(LargeStoreQueries.storeAllPlayerSummaries(query(PlayerSummaryQueries.calculatePlayerSummaries())));
+    }
+}
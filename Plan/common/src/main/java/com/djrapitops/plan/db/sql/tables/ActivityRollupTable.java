@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.patches.ActivityRollupPatch;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Table information about 'plan_activity_rollup'.
+ * <p>
+ * Contains hourly activity counters of each server, so that analysis does not need to go through every session.
+ * The same hour may have multiple rows, they are summed when queried.
+ * <p>
+ * Patches related to this table:
+ * {@link ActivityRollupPatch}
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.data.store.objects.ActivityRollup
+ */
+public class ActivityRollupTable {
+
+    public static final String TABLE_NAME = "plan_activity_rollup";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String HOUR_START = "hour_start";
+    public static final String NEW_PLAYERS = "new_players";
+    public static final String SESSIONS = "sessions";
+    public static final String PLAYTIME = "playtime";
+    public static final String AFK_TIME = "afk_time";
+    public static final String MOB_KILLS = "mob_kills";
+    public static final String PLAYER_KILLS = "player_kills";
+    public static final String DEATHS = "deaths";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_UUID + ", " +
+            HOUR_START + ", " +
+            NEW_PLAYERS + ", " +
+            SESSIONS + ", " +
+            PLAYTIME + ", " +
+            AFK_TIME + ", " +
+            MOB_KILLS + ", " +
+            PLAYER_KILLS + ", " +
+            DEATHS +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String INCREMENT_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            NEW_PLAYERS + '=' + NEW_PLAYERS + "+?, " +
+            SESSIONS + '=' + SESSIONS + "+?, " +
+            PLAYTIME + '=' + PLAYTIME + "+?, " +
+            AFK_TIME + '=' + AFK_TIME + "+?, " +
+            MOB_KILLS + '=' + MOB_KILLS + "+?, " +
+            PLAYER_KILLS + '=' + PLAYER_KILLS + "+?, " +
+            DEATHS + '=' + DEATHS + "+?" +
+            // Only the first row of the hour is incremented, so rows inserted concurrently for the same hour are not counted twice.
+            WHERE + ID + "=(SELECT first_row.id FROM (SELECT MIN(" + ID + ") as id FROM " + TABLE_NAME +
+            WHERE + SERVER_UUID + "=?" +
+            AND + HOUR_START + "=?) as first_row)";
+
+    private ActivityRollupTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(HOUR_START, Sql.LONG).notNull()
+                .column(NEW_PLAYERS, Sql.INT).notNull().defaultValue("0")
+                .column(SESSIONS, Sql.INT).notNull().defaultValue("0")
+                .column(PLAYTIME, Sql.LONG).notNull().defaultValue("0")
+                .column(AFK_TIME, Sql.LONG).notNull().defaultValue("0")
+                .column(MOB_KILLS, Sql.INT).notNull().defaultValue("0")
+                .column(PLAYER_KILLS, Sql.INT).notNull().defaultValue("0")
+                .column(DEATHS, Sql.INT).notNull().defaultValue("0")
+                .toString();
+    }
+}
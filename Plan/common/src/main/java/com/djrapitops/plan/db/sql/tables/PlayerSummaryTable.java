@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.patches.PlayerSummaryPatch;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
+import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
+
+/**
+ * Table information about 'plan_player_summary'.
+ * <p>
+ * Contains one row per player per server with the values the players table is sorted by,
+ * so that a page of the table can be sorted and limited by the database.
+ * <p>
+ * Patches related to this table:
+ * {@link PlayerSummaryPatch}
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.data.store.objects.PlayerSummary
+ */
+public class PlayerSummaryTable {
+
+    public static final String TABLE_NAME = "plan_player_summary";
+
+    public static final String ID = "id";
+    public static final String USER_UUID = "uuid";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String REGISTERED = "registered";
+    public static final String PLAYTIME = "playtime";
+    public static final String SESSION_COUNT = "session_count";
+    public static final String LAST_SEEN = "last_seen";
+    public static final String ACTIVITY_INDEX = "activity_index";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_UUID + ", " +
+            SERVER_UUID + ", " +
+            REGISTERED + ", " +
+            PLAYTIME + ", " +
+            SESSION_COUNT + ", " +
+            LAST_SEEN + ", " +
+            ACTIVITY_INDEX +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String ADD_SESSION_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            PLAYTIME + '=' + PLAYTIME + "+?, " +
+            SESSION_COUNT + '=' + SESSION_COUNT + "+1, " +
+            LAST_SEEN + "=CASE WHEN " + LAST_SEEN + "<? THEN ? ELSE " + LAST_SEEN + " END" +
+            WHERE + USER_UUID + "=?" +
+            AND + SERVER_UUID + "=?";
+
+    public static final String UPDATE_REGISTERED_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            REGISTERED + "=?" +
+            WHERE + USER_UUID + "=?" +
+            AND + SERVER_UUID + "=?";
+
+    public static final String UPDATE_ACTIVITY_INDEX_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            ACTIVITY_INDEX + "=?" +
+            WHERE + USER_UUID + "=?" +
+            AND + SERVER_UUID + "=?";
+
+    private PlayerSummaryTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_UUID, Sql.varchar(36)).notNull()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(REGISTERED, Sql.LONG).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull().defaultValue("0")
+                .column(SESSION_COUNT, Sql.INT).notNull().defaultValue("0")
+                .column(LAST_SEEN, Sql.LONG).notNull().defaultValue("0")
+                .column(ACTIVITY_INDEX, Sql.DOUBLE).notNull().defaultValue("0")
+                .toString();
+    }
+}
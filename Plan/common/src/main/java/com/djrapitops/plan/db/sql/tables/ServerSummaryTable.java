@@ -0,0 +1,63 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+/**
+ * Table information about 'plan_server_summary'.
+ * <p>
+ * Contains the latest analysis summary of each server as name - value rows,
+ * so that the network page can be built without loading every player.
+ * Rows of a server are replaced whenever the server refreshes its summary.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.data.store.objects.ServerSummary
+ */
+public class ServerSummaryTable {
+
+    public static final String TABLE_NAME = "plan_server_summary";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String REFRESHED = "refreshed";
+    public static final String VALUE_NAME = "value_name";
+    public static final String LONG_VALUE = "long_value";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_UUID + ", " +
+            REFRESHED + ", " +
+            VALUE_NAME + ", " +
+            LONG_VALUE +
+            ") VALUES (?, ?, ?, ?)";
+
+    private ServerSummaryTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(REFRESHED, Sql.LONG).notNull()
+                .column(VALUE_NAME, Sql.varchar(50)).notNull()
+                .column(LONG_VALUE, Sql.LONG).notNull().defaultValue("0")
+                .toString();
+    }
+}
\ No newline at end of file
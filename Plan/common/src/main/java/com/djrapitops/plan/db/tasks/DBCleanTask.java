@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.access.transactions.UpdateActivityIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.commands.RemovePlayerTransaction;
 import com.djrapitops.plan.db.access.transactions.init.RemoveDuplicateUserInfoTransaction;
 import com.djrapitops.plan.db.access.transactions.init.RemoveOldSampledDataTransaction;
@@ -93,6 +94,12 @@ public class DBCleanTask extends AbsRunnable {
                 database.executeTransaction(new RemoveDuplicateUserInfoTransaction());
                 database.executeTransaction(new RemoveUnsatisfiedConditionalPlayerResultsTransaction());
                 database.executeTransaction(new RemoveUnsatisfiedConditionalServerResultsTransaction());
+                database.executeTransaction(new UpdateActivityIndexTransaction(
+                        serverInfo.getServerUUID(),
+                        System.currentTimeMillis(),
+                        config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
+                        config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
+                ));
                 int removed = cleanOldPlayers(database);
                 if (removed > 0) {
                     logger.info(locale.getString(PluginLang.DB_NOTIFY_CLEAN, removed));
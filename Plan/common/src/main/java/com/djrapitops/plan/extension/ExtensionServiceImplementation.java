@@ -20,7 +20,9 @@ import com.djrapitops.plan.api.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.data.plugin.PluginsConfigSection;
 import com.djrapitops.plan.extension.implementation.CallerImplementation;
 import com.djrapitops.plan.extension.implementation.DataProviderExtractor;
+import com.djrapitops.plan.extension.implementation.ExtensionCallExecutor;
 import com.djrapitops.plan.extension.implementation.ExtensionRegister;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderCallBudget;
 import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderValueGatherer;
 import com.djrapitops.plan.system.DebugChannels;
 import com.djrapitops.plan.system.database.DBSystem;
@@ -34,10 +36,8 @@ import com.djrapitops.plugin.logging.error.ErrorHandler;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Implementation for {@link ExtensionService}.
@@ -47,6 +47,8 @@ import java.util.UUID;
 @Singleton
 public class ExtensionServiceImplementation implements ExtensionService {
 
+    private static final long GATHER_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5L);
+
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
@@ -56,6 +58,7 @@ public class ExtensionServiceImplementation implements ExtensionService {
     private final ErrorHandler errorHandler;
 
     private final Map<String, ProviderValueGatherer> extensionGatherers;
+    private final Map<String, ExtensionCallExecutor> extensionExecutors;
 
     @Inject
     public ExtensionServiceImplementation(
@@ -75,7 +78,8 @@ public class ExtensionServiceImplementation implements ExtensionService {
         this.logger = logger;
         this.errorHandler = errorHandler;
 
-        extensionGatherers = new HashMap<>();
+        extensionGatherers = new ConcurrentHashMap<>();
+        extensionExecutors = new ConcurrentHashMap<>();
 
         ExtensionService.ExtensionServiceHolder.set(this);
     }
@@ -84,6 +88,13 @@ public class ExtensionServiceImplementation implements ExtensionService {
         extensionRegister.registerBuiltInExtensions();
     }
 
+    public void disable() {
+        for (ExtensionCallExecutor executor : extensionExecutors.values()) {
+            executor.shutdown();
+        }
+        extensionExecutors.clear();
+    }
+
     @Override
     public Optional<Caller> register(DataExtension extension) {
         DataProviderExtractor extractor = new DataProviderExtractor(extension);
@@ -98,6 +109,10 @@ public class ExtensionServiceImplementation implements ExtensionService {
         ProviderValueGatherer gatherer = new ProviderValueGatherer(extension, extractor, dbSystem, serverInfo);
         gatherer.storeExtensionInformation();
         extensionGatherers.put(pluginName, gatherer);
+        ExtensionCallExecutor previous = extensionExecutors.put(pluginName, new ExtensionCallExecutor(pluginName, gatherer.getCallBudget()));
+        if (previous != null) {
+            previous.shutdown();
+        }
 
         processing.submitNonCritical(() -> updateServerValues(gatherer, CallEvents.SERVER_EXTENSION_REGISTER));
 
@@ -109,6 +124,10 @@ public class ExtensionServiceImplementation implements ExtensionService {
     public void unregister(DataExtension extension) {
         DataProviderExtractor extractor = new DataProviderExtractor(extension);
         String pluginName = extractor.getPluginName();
+        ExtensionCallExecutor executor = extensionExecutors.remove(pluginName);
+        if (executor != null) {
+            executor.shutdown();
+        }
         if (extensionGatherers.remove(pluginName) != null) {
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, pluginName + " extension unregistered.");
         }
@@ -134,16 +153,44 @@ public class ExtensionServiceImplementation implements ExtensionService {
         return false; // Should register.
     }
 
+    /**
+     * Get the call statistics of registered extensions.
+     *
+     * @return Map: Plugin name - call statistics of the extension.
+     */
+    public Map<String, ProviderCallBudget> getCallBudgets() {
+        Map<String, ProviderCallBudget> budgets = new TreeMap<>();
+        for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
+            budgets.put(gatherer.getPluginName(), gatherer.getCallBudget());
+        }
+        return budgets;
+    }
+
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
+        Map<ProviderValueGatherer, Future<?>> calls = new HashMap<>();
         for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
+            submitPlayerValues(gatherer, playerUUID, playerName, event).ifPresent(call -> calls.put(gatherer, call));
         }
+        awaitCalls(calls, playerName);
     }
 
     public void updatePlayerValues(ProviderValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
+        submitPlayerValues(gatherer, playerUUID, playerName, event)
+                .ifPresent(call -> awaitCalls(Collections.singletonMap(gatherer, call), playerName));
+    }
+
+    private Optional<Future<?>> submitPlayerValues(ProviderValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
         if (!gatherer.canCallEvent(event)) {
-            return;
+            return Optional.empty();
         }
+        ExtensionCallExecutor executor = extensionExecutors.get(gatherer.getPluginName());
+        if (executor == null) {
+            return Optional.empty(); // Unregistered
+        }
+        return Optional.of(executor.submit(playerUUID.toString(), () -> gatherPlayerValues(gatherer, executor, playerUUID, playerName)));
+    }
+
+    private void gatherPlayerValues(ProviderValueGatherer gatherer, ExtensionCallExecutor executor, UUID playerUUID, String playerName) {
         try {
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering values for: " + playerName);
 
@@ -151,10 +198,13 @@ public class ExtensionServiceImplementation implements ExtensionService {
 
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering completed:  " + playerName);
         } catch (DataExtensionMethodCallException methodCallFailed) {
+            if (executor.isRunningCallCancelled()) {
+                return; // Gathering timed out or the extension was unregistered, timeouts are handled by the call budget.
+            }
             logFailure(playerName, methodCallFailed);
             gatherer.disableMethodFromUse(methodCallFailed.getMethod());
             // Try again
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
+            gatherPlayerValues(gatherer, executor, playerUUID, playerName);
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
             logger.warn(gatherer.getPluginName() + " ran into unexpected error (please report this)" + unexpectedError +
                     " (but failed safely) when updating value for '" + playerName +
@@ -163,6 +213,45 @@ public class ExtensionServiceImplementation implements ExtensionService {
         }
     }
 
+    private void awaitCalls(Map<ProviderValueGatherer, Future<?>> calls, String gatheredFor) {
+        long deadline = System.currentTimeMillis() + GATHER_TIMEOUT_MS;
+        Iterator<Map.Entry<ProviderValueGatherer, Future<?>>> iterator = calls.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ProviderValueGatherer, Future<?>> call = iterator.next();
+            ProviderValueGatherer gatherer = call.getKey();
+            Future<?> future = call.getValue();
+            try {
+                future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException timedOut) {
+                if (!stopWaiting(gatherer, future)) {
+                    continue; // Another caller is still waiting for the merged call, or it just finished.
+                }
+                ProviderCallBudget callBudget = gatherer.getCallBudget();
+                callBudget.timedOut();
+                logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, gatherer.getPluginName() +
+                        " did not finish gathering values for " + gatheredFor + " in " + GATHER_TIMEOUT_MS + "ms" +
+                        " (timeouts: " + callBudget.getTimeouts() + ", avg call: " + callBudget.getAverageCallTimeMs() + "ms)");
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                stopWaiting(gatherer, future);
+                iterator.forEachRemaining(notWaited -> stopWaiting(notWaited.getKey(), notWaited.getValue()));
+                return;
+            } catch (CancellationException cancelled) {
+                // Cancelled when the extension was unregistered.
+            } catch (ExecutionException unexpectedError) {
+                errorHandler.log(L.WARN, gatherer.getClass(), unexpectedError.getCause());
+            }
+        }
+    }
+
+    private boolean stopWaiting(ProviderValueGatherer gatherer, Future<?> call) {
+        ExtensionCallExecutor executor = extensionExecutors.get(gatherer.getPluginName());
+        if (executor == null) {
+            return call.cancel(true); // Unregistered
+        }
+        return executor.stopWaiting(call);
+    }
+
     private void logFailure(String playerName, DataExtensionMethodCallException methodCallFailed) {
         Throwable cause = methodCallFailed.getCause();
         String causeName = cause.getClass().getSimpleName();
@@ -174,15 +263,30 @@ public class ExtensionServiceImplementation implements ExtensionService {
     }
 
     public void updateServerValues(CallEvents event) {
+        Map<ProviderValueGatherer, Future<?>> calls = new HashMap<>();
         for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updateServerValues(gatherer, event);
+            submitServerValues(gatherer, event).ifPresent(call -> calls.put(gatherer, call));
         }
+        awaitCalls(calls, "server");
     }
 
     public void updateServerValues(ProviderValueGatherer gatherer, CallEvents event) {
+        submitServerValues(gatherer, event)
+                .ifPresent(call -> awaitCalls(Collections.singletonMap(gatherer, call), "server"));
+    }
+
+    private Optional<Future<?>> submitServerValues(ProviderValueGatherer gatherer, CallEvents event) {
         if (!gatherer.canCallEvent(event)) {
-            return;
+            return Optional.empty();
+        }
+        ExtensionCallExecutor executor = extensionExecutors.get(gatherer.getPluginName());
+        if (executor == null) {
+            return Optional.empty(); // Unregistered
         }
+        return Optional.of(executor.submit("server", () -> gatherServerValues(gatherer, executor)));
+    }
+
+    private void gatherServerValues(ProviderValueGatherer gatherer, ExtensionCallExecutor executor) {
         try {
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering values for server");
 
@@ -190,10 +294,13 @@ public class ExtensionServiceImplementation implements ExtensionService {
 
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering completed for server");
         } catch (DataExtensionMethodCallException methodCallFailed) {
+            if (executor.isRunningCallCancelled()) {
+                return; // Gathering timed out or the extension was unregistered, timeouts are handled by the call budget.
+            }
             logFailure("server", methodCallFailed);
             gatherer.disableMethodFromUse(methodCallFailed.getMethod());
             // Try again
-            updateServerValues(gatherer, event);
+            gatherServerValues(gatherer, executor);
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
             logger.warn(gatherer.getPluginName() + " ran into unexpected error (please report this)" + unexpectedError +
                     " (but failed safely) when updating value for server, stack trace to follow:");
@@ -0,0 +1,156 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderCallBudget;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Executes the calls to a single DataExtension on its own thread.
+ * <p>
+ * A slow extension only delays its own calls, and calls for the same target
+ * are merged while one is still waiting in the queue. A merged call is cancelled
+ * only after every caller waiting for it has stopped waiting.
+ *
+ * @author Rsl1122
+ */
+public class ExtensionCallExecutor {
+
+    private static final int MAX_QUEUED_CALLS = 100;
+
+    private final ProviderCallBudget callBudget;
+    private final ExecutorService executor;
+    private final Map<String, Call> queuedCalls;
+    private volatile Future<?> runningCall;
+
+    public ExtensionCallExecutor(String pluginName, ProviderCallBudget callBudget) {
+        this.callBudget = callBudget;
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_QUEUED_CALLS),
+                new ThreadFactoryBuilder().setNameFormat("Plan " + pluginName + " DataExtension Thread").build()
+        );
+        queuedCalls = new HashMap<>();
+    }
+
+    /**
+     * Submit a call to the extension.
+     * <p>
+     * Callers that stop waiting for the returned future should call {@link #stopWaiting(Future)}
+     * instead of cancelling it, since the same future may be returned to other callers.
+     *
+     * @param target Identifier for what the call gathers data about, calls with same target are merged when queued.
+     * @param call   The call to execute.
+     * @return Future that completes when the call is done, or immediately if the call was rejected.
+     */
+    public synchronized Future<?> submit(String target, Runnable call) {
+        Call queued = queuedCalls.get(target);
+        if (queued != null && !queued.isDone()) {
+            callBudget.callCoalesced();
+            queued.waiters++;
+            return queued;
+        }
+        Call future = new Call(target, call);
+        try {
+            executor.execute(future);
+            queuedCalls.put(target, future);
+            return future;
+        } catch (RejectedExecutionException queueFull) {
+            queuedCalls.remove(target);
+            callBudget.callRejected();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private synchronized void callStarted(String target, Future<?> call) {
+        queuedCalls.remove(target);
+        runningCall = call;
+    }
+
+    /**
+     * Stop waiting for a call returned by {@link #submit(String, Runnable)}.
+     * <p>
+     * The call is cancelled when no other caller is waiting for it.
+     *
+     * @param call The call the caller no longer waits for.
+     * @return true if the call was cancelled, false if others are still waiting for it or it had already finished.
+     */
+    public synchronized boolean stopWaiting(Future<?> call) {
+        if (!(call instanceof Call)) {
+            return false; // Rejected call, already complete
+        }
+        Call waitedFor = (Call) call;
+        waitedFor.waiters--;
+        return waitedFor.waiters <= 0 && waitedFor.cancel(true);
+    }
+
+    /**
+     * Check if the call that is currently running has been cancelled.
+     * <p>
+     * Calls are cancelled when the caller stops waiting for them, or when the executor is shut down.
+     * The interrupt flag of the thread is not reliable for this, since extension code may clear or set it.
+     *
+     * @return true if the running call was cancelled.
+     */
+    public boolean isRunningCallCancelled() {
+        Future<?> call = runningCall;
+        return call != null && call.isCancelled();
+    }
+
+    /**
+     * Stop the executor.
+     * <p>
+     * Queued calls are cancelled so that callers waiting for them are not left waiting until they time out.
+     */
+    public synchronized void shutdown() {
+        Future<?> call = runningCall;
+        if (call != null) {
+            call.cancel(true);
+        }
+        for (Runnable queued : executor.shutdownNow()) {
+            if (queued instanceof Future) {
+                ((Future<?>) queued).cancel(false);
+            }
+        }
+        queuedCalls.clear();
+    }
+
+    private class Call extends FutureTask<Void> {
+        private final String target;
+        // Guarded by ExtensionCallExecutor.this
+        private int waiters;
+
+        Call(String target, Runnable call) {
+            super(call, null);
+            this.target = target;
+            this.waiters = 1;
+        }
+
+        @Override
+        public void run() {
+            callStarted(target, this);
+            try {
+                super.run();
+            } finally {
+                runningCall = null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -21,27 +21,79 @@ import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
-import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * A {@link MethodHandle} for the method is created once when the wrapper is constructed,
+ * so that calls do not go through reflection. MethodHandles and Methods are not serializable,
+ * so a deserialized wrapper looks the method up again and creates the handle on first call.
  *
  * @author Rsl1122
  */
 public class MethodWrapper<T> implements Serializable {
 
-    private final Method method;
+    private static final java.lang.invoke.MethodType INVOKER_PARAMETERS = java.lang.invoke.MethodType.methodType(
+            void.class, DataExtension.class, UUID.class, String.class, Group.class
+    );
+
+    private transient Method method;
     private final Class<T> resultType;
     private MethodType methodType;
 
+    // (DataExtension, UUID, String, Group) -> declared return type of the method
+    private transient volatile MethodHandle invoker;
+    // (DataExtension, UUID, String, Group) -> Object
+    private transient volatile MethodHandle objectInvoker;
+    private transient volatile boolean notAccessible;
+
     public MethodWrapper(Method method, Class<T> resultType) {
         this.method = method;
         this.resultType = resultType;
         methodType = MethodType.forMethod(this.method);
+        createInvokers();
+    }
+
+    private void createInvokers() {
+        if (invoker != null || notAccessible) {
+            return;
+        }
+        try {
+            MethodHandle created = createInvoker();
+            objectInvoker = created.asType(created.type().changeReturnType(Object.class));
+            invoker = created; // Written last, so that objectInvoker is visible when invoker is.
+        } catch (IllegalAccessException e) {
+            notAccessible = true; // Method can not be called, IllegalArgumentException is thrown on call.
+        }
+    }
+
+    private MethodHandle createInvoker() throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        // Add ignored parameters so that all methods can be called the same way.
+        switch (methodType) {
+            case SERVER:
+                handle = MethodHandles.dropArguments(handle, 1, UUID.class, String.class, Group.class);
+                break;
+            case PLAYER_UUID:
+                handle = MethodHandles.dropArguments(handle, 2, String.class, Group.class);
+                break;
+            case PLAYER_NAME:
+                handle = MethodHandles.dropArguments(handle, 1, UUID.class);
+                handle = MethodHandles.dropArguments(handle, 3, Group.class);
+                break;
+            case GROUP:
+                handle = MethodHandles.dropArguments(handle, 1, UUID.class, String.class);
+                break;
+            default:
+                throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " had invalid parameters.");
+        }
+        return handle.asType(INVOKER_PARAMETERS.changeReturnType(method.getReturnType()));
     }
 
     public T callMethod(DataExtension extension, UUID playerUUID, String playerName) {
@@ -66,27 +118,95 @@ public class MethodWrapper<T> implements Serializable {
     }
 
     public T callMethod(DataExtension extension, UUID playerUUID, String playerName, Group group) {
+        MethodHandle handle = getInvoker(true);
         try {
-            switch (methodType) {
-                case SERVER:
-                    return resultType.cast(method.invoke(extension));
-                case PLAYER_UUID:
-                    return resultType.cast(method.invoke(extension, playerUUID));
-                case PLAYER_NAME:
-                    return resultType.cast(method.invoke(extension, playerName));
-                case GROUP:
-                    return resultType.cast(method.invoke(extension, group));
-                default:
-                    throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " had invalid parameters.");
-            }
-        } catch (InvocationTargetException notReadyToBeCalled) {
-            if (notReadyToBeCalled.getCause() != null && notReadyToBeCalled.getCause() instanceof NotReadyException) {
-                return null; // Data or API not available to make the call.
-            } else {
-                throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + notReadyToBeCalled.getMessage(), notReadyToBeCalled);
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + e.getMessage(), e);
+            return resultType.cast((Object) handle.invokeExact(extension, playerUUID, playerName, group));
+        } catch (NotReadyException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
+            throw couldNotBeCalled(e);
+        }
+    }
+
+    /**
+     * Call a method that returns a long without boxing the result.
+     *
+     * @param extension  DataExtension the method belongs to.
+     * @param playerUUID UUID of the player, ignored if the method does not take it.
+     * @param playerName Name of the player, ignored if the method does not take it.
+     * @param group      Group, ignored if the method does not take it.
+     * @return Value returned by the method.
+     * @throws NotReadyException        If the data or API was not available to make the call.
+     * @throws IllegalArgumentException If the method could not be called.
+     */
+    public long callLongMethod(DataExtension extension, UUID playerUUID, String playerName, Group group) {
+        if (method.getReturnType() != long.class) {
+            throw new IllegalStateException(method.getDeclaringClass() + " method " + method.getName() + " does not return long.");
+        }
+        MethodHandle handle = getInvoker(false);
+        try {
+            return (long) handle.invokeExact(extension, playerUUID, playerName, group);
+        } catch (NotReadyException notReadyToBeCalled) {
+            throw notReadyToBeCalled;
+        } catch (Throwable e) {
+            throw couldNotBeCalled(e);
+        }
+    }
+
+    /**
+     * Call a method that returns a double without boxing the result.
+     *
+     * @param extension  DataExtension the method belongs to.
+     * @param playerUUID UUID of the player, ignored if the method does not take it.
+     * @param playerName Name of the player, ignored if the method does not take it.
+     * @param group      Group, ignored if the method does not take it.
+     * @return Value returned by the method.
+     * @throws NotReadyException        If the data or API was not available to make the call.
+     * @throws IllegalArgumentException If the method could not be called.
+     */
+    public double callDoubleMethod(DataExtension extension, UUID playerUUID, String playerName, Group group) {
+        if (method.getReturnType() != double.class) {
+            throw new IllegalStateException(method.getDeclaringClass() + " method " + method.getName() + " does not return double.");
+        }
+        MethodHandle handle = getInvoker(false);
+        try {
+            return (double) handle.invokeExact(extension, playerUUID, playerName, group);
+        } catch (NotReadyException notReadyToBeCalled) {
+            throw notReadyToBeCalled;
+        } catch (Throwable e) {
+            throw couldNotBeCalled(e);
+        }
+    }
+
+    private MethodHandle getInvoker(boolean returnsObject) {
+        createInvokers();
+        MethodHandle handle = returnsObject ? objectInvoker : invoker;
+        if (handle == null) {
+            throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: method is not accessible");
+        }
+        return handle;
+    }
+
+    private IllegalArgumentException couldNotBeCalled(Throwable e) {
+        return new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + e.getMessage(), e);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(method.getDeclaringClass());
+        out.writeUTF(method.getName());
+        out.writeObject(method.getParameterTypes());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        Class<?> declaringClass = (Class<?>) in.readObject();
+        String methodName = in.readUTF();
+        Class<?>[] parameterTypes = (Class<?>[]) in.readObject();
+        try {
+            method = declaringClass.getDeclaredMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new InvalidObjectException(declaringClass + " no longer has method " + methodName);
         }
     }
 
@@ -48,20 +48,35 @@ class BooleanProviderValueGatherer {
 
     private final Database database;
     private final DataProviders dataProviders;
+    private final ProviderCallBudget callBudget;
 
     BooleanProviderValueGatherer(
             String pluginName, DataExtension extension,
             UUID serverUUID, Database database,
-            DataProviders dataProviders
+            DataProviders dataProviders, ProviderCallBudget callBudget
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
         this.database = database;
         this.dataProviders = dataProviders;
+        this.callBudget = callBudget;
     }
 
-    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName) {
+    void storeProviderInformation() {
+        List<DataProvider<Boolean>> booleanProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Boolean.class));
+        booleanProviders.addAll(dataProviders.getServerMethodsByType(Boolean.class));
+
+        for (DataProvider<Boolean> booleanProvider : booleanProviders) {
+            Optional<String> providedCondition = BooleanDataProvider.getProvidedCondition(booleanProvider);
+            boolean hidden = BooleanDataProvider.isHidden(booleanProvider);
+
+            database.executeTransaction(new StoreIconTransaction(booleanProvider.getProviderInformation().getIcon()));
+            database.executeTransaction(new StoreBooleanProviderTransaction(booleanProvider, providedCondition.orElse(null), hidden, serverUUID));
+        }
+    }
+
+    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName, GatheredResults results) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisifiedProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Boolean.class));
@@ -74,7 +89,7 @@ class BooleanProviderValueGatherer {
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTrancationCreator, conditions, unsatisifiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTrancationCreator, conditions, results, unsatisifiedProviders);
             // Remove now satisfied Providers so that they are not called again
             unsatisifiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -83,7 +98,7 @@ class BooleanProviderValueGatherer {
         return conditions;
     }
 
-    Conditions gatherBooleanDataOfServer() {
+    Conditions gatherBooleanDataOfServer(GatheredResults results) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisifiedProviders = new ArrayList<>(dataProviders.getServerMethodsByType(Boolean.class));
@@ -96,7 +111,7 @@ class BooleanProviderValueGatherer {
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTransactionCreator, conditions, unsatisifiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTransactionCreator, conditions, results, unsatisifiedProviders);
             // Remove now satisfied Providers so that they are not called again
             unsatisifiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -108,7 +123,7 @@ class BooleanProviderValueGatherer {
     private Set<DataProvider<Boolean>> attemptToSatisfyMoreConditionsAndStoreResults(
             Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller,
             BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTransactionCreator,
-            Conditions conditions, List<DataProvider<Boolean>> unsatisifiedProviders
+            Conditions conditions, GatheredResults results, List<DataProvider<Boolean>> unsatisifiedProviders
     ) {
         Set<DataProvider<Boolean>> satisfied = new HashSet<>();
         for (DataProvider<Boolean> booleanProvider : unsatisifiedProviders) {
@@ -121,7 +136,6 @@ class BooleanProviderValueGatherer {
             }
 
             Optional<String> providedCondition = BooleanDataProvider.getProvidedCondition(booleanProvider);
-            boolean hidden = BooleanDataProvider.isHidden(booleanProvider);
 
             MethodWrapper<Boolean> method = booleanProvider.getMethod();
             Boolean result = getMethodResult(methodCaller.apply(method), method);
@@ -142,18 +156,23 @@ class BooleanProviderValueGatherer {
             }
 
             satisfied.add(booleanProvider); // Prevents further attempts to call this provider for this player.
-            database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-            database.executeTransaction(new StoreBooleanProviderTransaction(booleanProvider, providedCondition.orElse(null), hidden, serverUUID));
-            database.executeTransaction(storeTransactionCreator.apply(method, result));
+            results.addResult(method.getMethodName(), result, storeTransactionCreator.apply(method, result));
         }
         return satisfied;
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
+        if (callBudget.isDisabled(method)) {
+            return null; // Method has been too slow, skipped for now
+        }
+        long start = System.nanoTime();
+        callBudget.callStarted(method);
         try {
             return callable.call();
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
             throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            callBudget.callFinished(method, System.nanoTime() - start);
         }
     }
 }
\ No newline at end of file
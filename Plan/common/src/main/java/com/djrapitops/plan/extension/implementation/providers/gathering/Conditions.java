@@ -17,6 +17,7 @@
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -39,4 +40,17 @@ public class Conditions {
     public void conditionFulfilled(String condition) {
         fulfilledConditions.add(condition);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Conditions that = (Conditions) o;
+        return Objects.equals(fulfilledConditions, that.fulfilledConditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fulfilledConditions);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
@@ -32,11 +33,12 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.results
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerDoubleResultTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerPercentageResultTransaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Gathers DoubleProvider and PercentageProvider method data.
@@ -51,48 +53,60 @@ class DoubleAndPercentageProviderValueGatherer {
 
     private final Database database;
     private final DataProviders dataProviders;
+    private final ProviderCallBudget callBudget;
 
     DoubleAndPercentageProviderValueGatherer(
             String pluginName, DataExtension extension,
             UUID serverUUID, Database database,
-            DataProviders dataProviders
+            DataProviders dataProviders, ProviderCallBudget callBudget
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
         this.database = database;
         this.dataProviders = dataProviders;
+        this.callBudget = callBudget;
     }
 
-    void gatherDoubleDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void storeProviderInformation() {
+        List<DataProvider<Double>> doubleProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Double.class));
+        doubleProviders.addAll(dataProviders.getServerMethodsByType(Double.class));
+
+        for (DataProvider<Double> doubleProvider : doubleProviders) {
+            database.executeTransaction(new StoreIconTransaction(doubleProvider.getProviderInformation().getIcon()));
+            database.executeTransaction(new StoreDoubleProviderTransaction(doubleProvider, serverUUID));
+        }
+    }
+
+    void gatherDoubleDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
-        Function<MethodWrapper<Double>, Callable<Double>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
+        ToDoubleFunction<MethodWrapper<Double>> methodCaller = method -> method.callDoubleMethod(extension, playerUUID, playerName, null);
         BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator = (method, result) -> new StorePlayerPercentageResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
         BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator = (method, result) -> new StorePlayerDoubleResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<Double> doubleProvider : dataProviders.getPlayerMethodsByType(Double.class)) {
-            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, doubleProvider);
+            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, results, doubleProvider);
         }
     }
 
-    void gatherDoubleDataOfServer(Conditions conditions) {
+    void gatherDoubleDataOfServer(Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
-        Function<MethodWrapper<Double>, Callable<Double>> methodCaller = method -> () -> method.callMethod(extension);
+        ToDoubleFunction<MethodWrapper<Double>> methodCaller = method -> method.callDoubleMethod(extension, null, null, null);
         BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator = (method, result) -> new StoreServerPercentageResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
         BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator = (method, result) -> new StoreServerDoubleResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<Double> doubleProvider : dataProviders.getServerMethodsByType(Double.class)) {
-            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, doubleProvider);
+            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, results, doubleProvider);
         }
     }
 
     private void gatherDoubleDataOfProvider(
-            Function<MethodWrapper<Double>, Callable<Double>> methodCaller,
+            ToDoubleFunction<MethodWrapper<Double>> methodCaller,
             BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator,
             BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator,
-            Conditions conditions, DataProvider<Double> doubleProvider
+            Conditions conditions, GatheredResults results, DataProvider<Double> doubleProvider
 
     ) {
         ProviderInformation providerInformation = doubleProvider.getProviderInformation();
@@ -102,26 +116,34 @@ class DoubleAndPercentageProviderValueGatherer {
         }
 
         MethodWrapper<Double> method = doubleProvider.getMethod();
-        Double result = getMethodResult(methodCaller.apply(method), method);
-        if (result == null) {
-            return; // Error during call
+        if (callBudget.isDisabled(method)) {
+            return; // Method has been too slow, skipped for now
+        }
+        Double result; // Boxed only once for storing
+        try {
+            result = getMethodResult(methodCaller, method);
+        } catch (NotReadyException notReadyToBeCalled) {
+            return; // Data or API not available to make the call.
         }
-
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreDoubleProviderTransaction(doubleProvider, serverUUID));
 
         if (doubleProvider instanceof PercentageDataProvider) {
-            database.executeTransaction(percStoreTransactionCreator.apply(method, result));
+            results.addResult(method.getMethodName(), result, percStoreTransactionCreator.apply(method, result));
         } else {
-            database.executeTransaction(doubleStoreTransactionCreator.apply(method, result));
+            results.addResult(method.getMethodName(), result, doubleStoreTransactionCreator.apply(method, result));
         }
     }
 
-    private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
+    private double getMethodResult(ToDoubleFunction<MethodWrapper<Double>> methodCaller, MethodWrapper<Double> method) {
+        long start = System.nanoTime();
+        callBudget.callStarted(method);
         try {
-            return callable.call();
+            return methodCaller.applyAsDouble(method);
+        } catch (NotReadyException notReadyToBeCalled) {
+            throw notReadyToBeCalled;
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
             throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            callBudget.callFinished(method, System.nanoTime() - start);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreResultsTransaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the results of a single gather so that they can be stored in one transaction.
+ *
+ * @author Rsl1122
+ */
+class GatheredResults {
+
+    private final UUID ownerUUID;
+    private final LastStoredResults lastStored;
+
+    private final List<String> providerNames;
+    private final List<Object> fingerprints;
+    private final List<Transaction> transactions;
+    private final List<Runnable> afterStoreActions;
+
+    /**
+     * Create a new GatheredResults.
+     *
+     * @param ownerUUID  UUID of the player, or the server for server results.
+     * @param lastStored Results of the owner that were stored previously.
+     */
+    GatheredResults(UUID ownerUUID, LastStoredResults lastStored) {
+        this.ownerUUID = ownerUUID;
+        this.lastStored = lastStored;
+        providerNames = new ArrayList<>();
+        fingerprints = new ArrayList<>();
+        transactions = new ArrayList<>();
+        afterStoreActions = new ArrayList<>();
+    }
+
+    /**
+     * Add a result of a provider.
+     *
+     * @param providerName     Name of the provider (method).
+     * @param fingerprint      Object that is equal to the fingerprint of the last stored result if the result has not changed.
+     * @param storeTransaction Transaction that stores the result.
+     */
+    void addResult(String providerName, Object fingerprint, Transaction storeTransaction) {
+        providerNames.add(providerName);
+        fingerprints.add(fingerprint);
+        transactions.add(storeTransaction);
+    }
+
+    /**
+     * Add a transaction that should always be executed before the following results.
+     *
+     * @param transaction Transaction to execute.
+     */
+    void addTransaction(Transaction transaction) {
+        addResult(null, null, transaction);
+    }
+
+    /**
+     * Add a transaction that should always be executed before the following results.
+     *
+     * @param transaction Transaction to execute.
+     * @param afterStore  Called after the transaction has been committed.
+     */
+    void addTransaction(Transaction transaction, Runnable afterStore) {
+        addTransaction(transaction);
+        afterStoreActions.add(afterStore);
+    }
+
+    /**
+     * Store the results that have changed since they were last stored.
+     *
+     * @param database   Database to store the results in.
+     * @param conditions Conditions fulfilled during the gather.
+     */
+    void storeChanged(Database database, Conditions conditions) {
+        boolean storeAll = lastStored.conditionsChanged(ownerUUID, conditions);
+
+        List<Transaction> changed = new ArrayList<>();
+        Map<String, Object> storedFingerprints = new HashMap<>();
+        boolean storesProviderInformation = false;
+        for (int i = 0; i < transactions.size(); i++) {
+            String providerName = providerNames.get(i);
+            Object fingerprint = fingerprints.get(i);
+            if (providerName != null) {
+                if (!storeAll && lastStored.isStored(ownerUUID, providerName, fingerprint)) {
+                    continue;
+                }
+                storedFingerprints.put(providerName, fingerprint);
+            } else {
+                storesProviderInformation = true;
+            }
+            changed.add(transactions.get(i));
+        }
+
+        if (!changed.isEmpty()) {
+            // Provider information is shared by all players, so it is stored in order with all other transactions.
+            UUID orderingKey = storesProviderInformation ? null : ownerUUID;
+            // Recorded only after commit, so that results of a failed transaction are stored again on the next gather.
+            database.executeTransaction(new StoreResultsTransaction(changed, orderingKey, () -> {
+                lastStored.stored(ownerUUID, conditions, storedFingerprints);
+                afterStoreActions.forEach(Runnable::run);
+            }));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory record of the results that were last written to the database for each player (or the server).
+ * <p>
+ * Used for skipping results that have not changed since they were last stored.
+ * Records are forgotten after an hour, so results removed from the database by other means are stored again.
+ *
+ * @author Rsl1122
+ */
+class LastStoredResults {
+
+    private final Cache<UUID, Map<String, Object>> results;
+    private final Cache<UUID, Conditions> conditions;
+
+    LastStoredResults() {
+        results = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .maximumSize(10000)
+                .build();
+        conditions = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .maximumSize(10000)
+                .build();
+    }
+
+    boolean isStored(UUID ownerUUID, String providerName, Object fingerprint) {
+        Map<String, Object> stored = results.getIfPresent(ownerUUID);
+        return stored != null && Objects.equals(stored.get(providerName), fingerprint);
+    }
+
+    /**
+     * Record results that have been committed to the database.
+     *
+     * @param ownerUUID        UUID of the player, or the server.
+     * @param storedConditions Conditions fulfilled during the gather the results are from.
+     * @param fingerprints     Map: Provider name - Fingerprint of the stored result.
+     */
+    void stored(UUID ownerUUID, Conditions storedConditions, Map<String, Object> fingerprints) {
+        results.get(ownerUUID, uuid -> new ConcurrentHashMap<>()).putAll(fingerprints);
+        conditions.put(ownerUUID, storedConditions);
+    }
+
+    /**
+     * Check if fulfilled conditions are different from the last stored gather.
+     * <p>
+     * Results that depend on a condition are removed from the database when the condition is not fulfilled,
+     * so unchanged results need to be stored again when the conditions change.
+     *
+     * @param ownerUUID     UUID of the player, or the server.
+     * @param newConditions Conditions fulfilled during this gather.
+     * @return true if conditions changed.
+     */
+    boolean conditionsChanged(UUID ownerUUID, Conditions newConditions) {
+        return !newConditions.equals(conditions.getIfPresent(ownerUUID));
+    }
+
+    void clear() {
+        results.invalidateAll();
+        conditions.invalidateAll();
+    }
+}
\ No newline at end of file
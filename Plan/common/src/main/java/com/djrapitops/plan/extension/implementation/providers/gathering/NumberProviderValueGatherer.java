@@ -21,6 +21,7 @@ import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.FormatType;
+import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
@@ -31,11 +32,12 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.provide
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerNumberResultTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerNumberResultTransaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * Gathers NumberProvider method data.
@@ -50,45 +52,59 @@ class NumberProviderValueGatherer {
 
     private final Database database;
     private final DataProviders dataProviders;
+    private final ProviderCallBudget callBudget;
 
     NumberProviderValueGatherer(
             String pluginName, DataExtension extension,
             UUID serverUUID, Database database,
-            DataProviders dataProviders
+            DataProviders dataProviders, ProviderCallBudget callBudget
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
         this.database = database;
         this.dataProviders = dataProviders;
+        this.callBudget = callBudget;
     }
 
-    void gatherNumberDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void storeProviderInformation() {
+        List<DataProvider<Long>> numberProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Long.class));
+        numberProviders.addAll(dataProviders.getServerMethodsByType(Long.class));
+
+        for (DataProvider<Long> numberProvider : numberProviders) {
+            FormatType formatType = NumberDataProvider.getFormatType(numberProvider);
+
+            database.executeTransaction(new StoreIconTransaction(numberProvider.getProviderInformation().getIcon()));
+            database.executeTransaction(new StoreNumberProviderTransaction(numberProvider, formatType, serverUUID));
+        }
+    }
+
+    void gatherNumberDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
-        Function<MethodWrapper<Long>, Callable<Long>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
+        ToLongFunction<MethodWrapper<Long>> methodCaller = method -> method.callLongMethod(extension, playerUUID, playerName, null);
         BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerNumberResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<Long> numberProvider : dataProviders.getPlayerMethodsByType(Long.class)) {
-            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, numberProvider);
+            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, numberProvider);
         }
     }
 
-    void gatherNumberDataOfServer(Conditions conditions) {
+    void gatherNumberDataOfServer(Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
-        Function<MethodWrapper<Long>, Callable<Long>> methodCaller = method -> () -> method.callMethod(extension);
+        ToLongFunction<MethodWrapper<Long>> methodCaller = method -> method.callLongMethod(extension, null, null, null);
         BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator = (method, result) -> new StoreServerNumberResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<Long> numberProvider : dataProviders.getServerMethodsByType(Long.class)) {
-            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, numberProvider);
+            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, numberProvider);
         }
     }
 
     private void gatherNumberDataOfProvider(
-            Function<MethodWrapper<Long>, Callable<Long>> methodCaller,
+            ToLongFunction<MethodWrapper<Long>> methodCaller,
             BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator,
-            Conditions conditions, DataProvider<Long> numberProvider
+            Conditions conditions, GatheredResults results, DataProvider<Long> numberProvider
     ) {
         ProviderInformation providerInformation = numberProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -97,23 +113,30 @@ class NumberProviderValueGatherer {
         }
 
         MethodWrapper<Long> method = numberProvider.getMethod();
-        Long result = getMethodResult(methodCaller.apply(method), method);
-        if (result == null) {
-            return; // Error during call
+        if (callBudget.isDisabled(method)) {
+            return; // Method has been too slow, skipped for now
+        }
+        Long result; // Boxed only once for storing
+        try {
+            result = getMethodResult(methodCaller, method);
+        } catch (NotReadyException notReadyToBeCalled) {
+            return; // Data or API not available to make the call.
         }
 
-        FormatType formatType = NumberDataProvider.getFormatType(numberProvider);
-
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreNumberProviderTransaction(numberProvider, formatType, serverUUID));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        results.addResult(method.getMethodName(), result, storeTransactionCreator.apply(method, result));
     }
 
-    private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
+    private long getMethodResult(ToLongFunction<MethodWrapper<Long>> methodCaller, MethodWrapper<Long> method) {
+        long start = System.nanoTime();
+        callBudget.callStarted(method);
         try {
-            return callable.call();
+            return methodCaller.applyAsLong(method);
+        } catch (NotReadyException notReadyToBeCalled) {
+            throw notReadyToBeCalled;
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
             throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            callBudget.callFinished(method, System.nanoTime() - start);
         }
     }
 }
\ No newline at end of file
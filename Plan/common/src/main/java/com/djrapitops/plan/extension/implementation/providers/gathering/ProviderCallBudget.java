@@ -0,0 +1,160 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of how long the methods of a single DataExtension take to call.
+ * <p>
+ * Providers that exceed their budget too many times in a row are disabled for a while,
+ * so that one slow method does not keep stalling the gathering of the whole extension.
+ *
+ * @author Rsl1122
+ */
+public class ProviderCallBudget {
+
+    private static final long CALL_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(500L);
+    private static final int OVER_BUDGET_CALLS_BEFORE_DISABLE = 3;
+    private static final long DISABLE_TIME_MS = TimeUnit.MINUTES.toMillis(5L);
+
+    private final LongAdder calls;
+    private final LongAdder overBudgetCalls;
+    private final LongAdder timeouts;
+    private final LongAdder coalescedCalls;
+    private final LongAdder rejectedCalls;
+    private final LongAdder totalCallNanos;
+    private volatile long maxCallNanos;
+
+    private final Map<String, ProviderState> providerStates;
+    private volatile String currentlyCalled;
+
+    public ProviderCallBudget() {
+        calls = new LongAdder();
+        overBudgetCalls = new LongAdder();
+        timeouts = new LongAdder();
+        coalescedCalls = new LongAdder();
+        rejectedCalls = new LongAdder();
+        totalCallNanos = new LongAdder();
+        providerStates = new ConcurrentHashMap<>();
+    }
+
+    boolean isDisabled(MethodWrapper<?> method) {
+        ProviderState state = providerStates.get(method.getMethodName());
+        return state != null && state.disabledUntil > System.currentTimeMillis();
+    }
+
+    void callStarted(MethodWrapper<?> method) {
+        currentlyCalled = method.getMethodName();
+    }
+
+    void callFinished(MethodWrapper<?> method, long callNanos) {
+        currentlyCalled = null;
+        calls.increment();
+        totalCallNanos.add(callNanos);
+        if (callNanos > maxCallNanos) {
+            maxCallNanos = callNanos;
+        }
+
+        ProviderState state = providerStates.computeIfAbsent(method.getMethodName(), name -> new ProviderState());
+        if (callNanos > CALL_BUDGET_NANOS) {
+            overBudgetCalls.increment();
+            state.overBudget();
+        } else {
+            state.consecutiveOverBudget = 0;
+        }
+    }
+
+    /**
+     * Called when gathering values of the extension did not finish in time.
+     * <p>
+     * The provider that was being called at the time is held responsible.
+     */
+    public void timedOut() {
+        timeouts.increment();
+        String methodName = currentlyCalled;
+        if (methodName != null) {
+            providerStates.computeIfAbsent(methodName, name -> new ProviderState()).overBudget();
+        }
+    }
+
+    public void callCoalesced() {
+        coalescedCalls.increment();
+    }
+
+    public void callRejected() {
+        rejectedCalls.increment();
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getOverBudgetCalls() {
+        return overBudgetCalls.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getCoalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    public long getAverageCallTimeMs() {
+        long callCount = calls.sum();
+        return callCount != 0 ? TimeUnit.NANOSECONDS.toMillis(totalCallNanos.sum() / callCount) : 0L;
+    }
+
+    public long getMaxCallTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCallNanos);
+    }
+
+    public int getDisabledProviderCount() {
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (ProviderState state : providerStates.values()) {
+            if (state.disabledUntil > now) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class ProviderState {
+        private volatile int consecutiveOverBudget;
+        private volatile long disabledUntil;
+
+        private synchronized void overBudget() {
+            consecutiveOverBudget++;
+            if (consecutiveOverBudget >= OVER_BUDGET_CALLS_BEFORE_DISABLE) {
+                consecutiveOverBudget = 0;
+                disabledUntil = System.currentTimeMillis() + DISABLE_TIME_MS;
+            }
+        }
+    }
+}
\ No newline at end of file
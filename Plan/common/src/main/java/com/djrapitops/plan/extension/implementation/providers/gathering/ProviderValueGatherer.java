@@ -52,6 +52,8 @@ public class ProviderValueGatherer {
     private StringProviderValueGatherer stringGatherer;
     private TableProviderValueGatherer tableGatherer;
 
+    private final LastStoredResults lastStoredResults;
+    private final ProviderCallBudget callBudget;
 
     public ProviderValueGatherer(
             DataExtension extension,
@@ -63,25 +65,27 @@ public class ProviderValueGatherer {
         this.extractor = extractor;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        lastStoredResults = new LastStoredResults();
+        callBudget = new ProviderCallBudget();
 
         String pluginName = extractor.getPluginName();
         UUID serverUUID = serverInfo.getServerUUID();
         Database database = dbSystem.getDatabase();
         dataProviders = extractor.getDataProviders();
         booleanGatherer = new BooleanProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, database, dataProviders, callBudget
         );
         numberGatherer = new NumberProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, database, dataProviders, callBudget
         );
         doubleAndPercentageGatherer = new DoubleAndPercentageProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, database, dataProviders, callBudget
         );
         stringGatherer = new StringProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, database, dataProviders, callBudget
         );
         tableGatherer = new TableProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, database, dataProviders, callBudget
         );
     }
 
@@ -105,6 +109,10 @@ public class ProviderValueGatherer {
         return extractor.getPluginName();
     }
 
+    public ProviderCallBudget getCallBudget() {
+        return callBudget;
+    }
+
     public void storeExtensionInformation() {
         String pluginName = extractor.getPluginName();
         Icon pluginIcon = extractor.getPluginIcon();
@@ -120,22 +128,34 @@ public class ProviderValueGatherer {
             database.executeTransaction(new StoreTabInformationTransaction(pluginName, serverUUID, tab));
         }
 
+        // Provider information does not change while the extension is registered.
+        // Table providers are stored when gathering, since the columns are defined by the results.
+        booleanGatherer.storeProviderInformation();
+        numberGatherer.storeProviderInformation();
+        doubleAndPercentageGatherer.storeProviderInformation();
+        stringGatherer.storeProviderInformation();
+
         database.executeTransaction(new RemoveInvalidResultsTransaction(pluginName, serverUUID, extractor.getInvalidatedMethods()));
+        lastStoredResults.clear();
     }
 
     public void updateValues(UUID playerUUID, String playerName) {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName);
-        numberGatherer.gatherNumberDataOfPlayer(playerUUID, playerName, conditions);
-        doubleAndPercentageGatherer.gatherDoubleDataOfPlayer(playerUUID, playerName, conditions);
-        stringGatherer.gatherStringDataOfPlayer(playerUUID, playerName, conditions);
-        tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions);
+        GatheredResults results = new GatheredResults(playerUUID, lastStoredResults);
+        Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName, results);
+        numberGatherer.gatherNumberDataOfPlayer(playerUUID, playerName, conditions, results);
+        doubleAndPercentageGatherer.gatherDoubleDataOfPlayer(playerUUID, playerName, conditions, results);
+        stringGatherer.gatherStringDataOfPlayer(playerUUID, playerName, conditions, results);
+        tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions, results);
+        results.storeChanged(dbSystem.getDatabase(), conditions);
     }
 
     public void updateValues() {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfServer();
-        numberGatherer.gatherNumberDataOfServer(conditions);
-        doubleAndPercentageGatherer.gatherDoubleDataOfServer(conditions);
-        stringGatherer.gatherStringDataOfServer(conditions);
-        tableGatherer.gatherTableDataOfServer(conditions);
+        GatheredResults results = new GatheredResults(serverInfo.getServerUUID(), lastStoredResults);
+        Conditions conditions = booleanGatherer.gatherBooleanDataOfServer(results);
+        numberGatherer.gatherNumberDataOfServer(conditions, results);
+        doubleAndPercentageGatherer.gatherDoubleDataOfServer(conditions, results);
+        stringGatherer.gatherStringDataOfServer(conditions, results);
+        tableGatherer.gatherTableDataOfServer(conditions, results);
+        results.storeChanged(dbSystem.getDatabase(), conditions);
     }
 }
\ No newline at end of file
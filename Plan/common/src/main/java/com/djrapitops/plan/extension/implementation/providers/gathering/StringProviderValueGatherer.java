@@ -31,6 +31,8 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.results
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerStringResultTransaction;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -50,38 +52,52 @@ class StringProviderValueGatherer {
 
     private final Database database;
     private final DataProviders dataProviders;
+    private final ProviderCallBudget callBudget;
 
     StringProviderValueGatherer(
             String pluginName, DataExtension extension,
             UUID serverUUID, Database database,
-            DataProviders dataProviders
+            DataProviders dataProviders, ProviderCallBudget callBudget
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
         this.database = database;
         this.dataProviders = dataProviders;
+        this.callBudget = callBudget;
     }
 
-    void gatherStringDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void storeProviderInformation() {
+        List<DataProvider<String>> stringProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(String.class));
+        stringProviders.addAll(dataProviders.getServerMethodsByType(String.class));
+
+        for (DataProvider<String> stringProvider : stringProviders) {
+            boolean playerName = StringDataProvider.isPlayerName(stringProvider);
+
+            database.executeTransaction(new StoreIconTransaction(stringProvider.getProviderInformation().getIcon()));
+            database.executeTransaction(new StoreStringProviderTransaction(stringProvider, playerName, serverUUID));
+        }
+    }
+
+    void gatherStringDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<String>, Callable<String>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
         BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerStringResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<String> stringProvider : dataProviders.getPlayerMethodsByType(String.class)) {
-            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, stringProvider);
+            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, stringProvider);
         }
     }
 
-    void gatherStringDataOfServer(Conditions conditions) {
+    void gatherStringDataOfServer(Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<String>, Callable<String>> methodCaller = method -> () -> method.callMethod(extension);
         BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator = (method, result) -> new StoreServerStringResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<String> stringProvider : dataProviders.getServerMethodsByType(String.class)) {
-            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, stringProvider);
+            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, stringProvider);
         }
     }
 
@@ -89,6 +105,7 @@ class StringProviderValueGatherer {
             Function<MethodWrapper<String>, Callable<String>> methodCaller,
             BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator,
             Conditions conditions,
+            GatheredResults results,
             DataProvider<String> stringProvider
     ) {
         ProviderInformation providerInformation = stringProvider.getProviderInformation();
@@ -105,16 +122,21 @@ class StringProviderValueGatherer {
 
         result = StringUtils.truncate(result, 50);
 
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreStringProviderTransaction(stringProvider, StringDataProvider.isPlayerName(stringProvider), serverUUID));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        results.addResult(method.getMethodName(), result, storeTransactionCreator.apply(method, result));
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<String> method) {
+        if (callBudget.isDisabled(method)) {
+            return null; // Method has been too slow, skipped for now
+        }
+        long start = System.nanoTime();
+        callBudget.callStarted(method);
         try {
             return callable.call();
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
             throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            callBudget.callFinished(method, System.nanoTime() - start);
         }
     }
 
@@ -32,9 +32,13 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.results
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerTableResultTransaction;
 import com.djrapitops.plan.extension.table.Table;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -51,38 +55,44 @@ class TableProviderValueGatherer {
 
     private final Database database;
     private final DataProviders dataProviders;
+    private final ProviderCallBudget callBudget;
+
+    // Table provider information depends on the columns of the returned Table.
+    private final Map<String, String> storedProviderFingerprints;
 
     TableProviderValueGatherer(
             String pluginName, DataExtension extension,
             UUID serverUUID, Database database,
-            DataProviders dataProviders
+            DataProviders dataProviders, ProviderCallBudget callBudget
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
         this.database = database;
         this.dataProviders = dataProviders;
+        this.callBudget = callBudget;
+        storedProviderFingerprints = new ConcurrentHashMap<>();
     }
 
-    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
         BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getPlayerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, tableProvider);
         }
     }
 
-    void gatherTableDataOfServer(Conditions conditions) {
+    void gatherTableDataOfServer(Conditions conditions, GatheredResults results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension);
         BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StoreServerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getServerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, results, tableProvider);
         }
     }
 
@@ -90,6 +100,7 @@ class TableProviderValueGatherer {
             Function<MethodWrapper<Table>, Callable<Table>> methodCaller,
             BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator,
             Conditions conditions,
+            GatheredResults results,
             DataProvider<Table> tableProvider
     ) {
         ProviderInformation providerInformation = tableProvider.getProviderInformation();
@@ -104,20 +115,88 @@ class TableProviderValueGatherer {
             return; // Error during call
         }
 
-        for (Icon icon : result.getIcons()) {
+        String providerName = method.getMethodName();
+        String providerFingerprint = getProviderFingerprint(result);
+        if (!providerFingerprint.equals(storedProviderFingerprints.get(providerName))) {
+            for (Icon icon : result.getIcons()) {
+                if (icon != null) {
+                    results.addTransaction(new StoreIconTransaction(icon));
+                }
+            }
+            results.addTransaction(
+                    new StoreTableProviderTransaction(serverUUID, providerInformation, TableDataProvider.getTableColor(tableProvider), result),
+                    () -> storedProviderFingerprints.put(providerName, providerFingerprint)
+            );
+        }
+        results.addResult(providerName, getResultFingerprint(result), storeTransactionCreator.apply(method, result));
+    }
+
+    private String getProviderFingerprint(Table table) {
+        MessageDigest digest = createDigest();
+        updateDigest(digest, table.getColumns());
+        for (Icon icon : table.getIcons()) {
             if (icon != null) {
-                database.executeTransaction(new StoreIconTransaction(icon));
+                updateDigest(digest, new Object[]{icon.getName(), icon.getFamily(), icon.getColor()});
+            } else {
+                updateDigest(digest, null);
             }
         }
-        database.executeTransaction(new StoreTableProviderTransaction(serverUUID, providerInformation, TableDataProvider.getTableColor(tableProvider), result));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private String getResultFingerprint(Table table) {
+        // Hash codes of the rows collide too easily, so a changed table could be skipped.
+        MessageDigest digest = createDigest();
+        updateDigest(digest, table.getColumns());
+        for (Object[] row : table.getRows()) {
+            updateDigest(digest, row);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, Object[] values) {
+        if (values == null) {
+            digest.update(intBytes(-1));
+            return;
+        }
+        digest.update(intBytes(values.length));
+        for (Object value : values) {
+            if (value == null) {
+                digest.update(intBytes(-1));
+                continue;
+            }
+            // Length prefix keeps ["ab", "c"] and ["a", "bc"] apart.
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            digest.update(intBytes(bytes.length));
+            digest.update(bytes);
+        }
+    }
+
+    private static byte[] intBytes(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
+        if (callBudget.isDisabled(method)) {
+            return null; // Method has been too slow, skipped for now
+        }
+        long start = System.nanoTime();
+        callBudget.callStarted(method);
         try {
             return callable.call();
         } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
             throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            callBudget.callFinished(method, System.nanoTime() - start);
         }
     }
 
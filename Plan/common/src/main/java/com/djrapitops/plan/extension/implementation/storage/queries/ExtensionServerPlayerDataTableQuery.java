@@ -29,15 +29,13 @@ import com.djrapitops.plan.extension.implementation.results.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
- * Query Extension data of x most recent players on a server.
+ * Query Extension data of x most recent players on a server, or of specific players on a server.
  * <p>
  * Returns Map: Player UUID - ExtensionTabData (container for provider based data)
  *
@@ -45,19 +43,126 @@ import static com.djrapitops.plan.db.sql.parsing.Sql.*;
  */
 public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, ExtensionTabData>> {
 
+    private static final String SELECT_PLAYER_VALUES = SELECT +
+            "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
+            "v1." + ExtensionPlayerValueTable.BOOLEAN_VALUE + " as boolean_value," +
+            "v1." + ExtensionPlayerValueTable.DOUBLE_VALUE + " as double_value," +
+            "v1." + ExtensionPlayerValueTable.PERCENTAGE_VALUE + " as percentage_value," +
+            "v1." + ExtensionPlayerValueTable.LONG_VALUE + " as long_value," +
+            "v1." + ExtensionPlayerValueTable.STRING_VALUE + " as string_value," +
+            "p1." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+            "p1." + ExtensionProviderTable.TEXT + " as text," +
+            "p1." + ExtensionProviderTable.FORMAT_TYPE + " as format_type," +
+            "p1." + ExtensionProviderTable.IS_PLAYER_NAME + " as is_player_name," +
+            "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
+            "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family";
+
+    private static final String JOIN_PROVIDERS =
+            INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
+                    INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                    LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID;
+
     private final UUID serverUUID;
     private final int xMostRecentPlayers;
+    private final Collection<UUID> playerUUIDs;
 
     public ExtensionServerPlayerDataTableQuery(UUID serverUUID, int xMostRecentPlayers) {
         this.serverUUID = serverUUID;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.playerUUIDs = null;
+    }
+
+    /**
+     * Query Extension data of specific players, for example players on a single page of the players table.
+     *
+     * @param serverUUID  UUID of the Plan server.
+     * @param playerUUIDs UUIDs of the players.
+     */
+    public ExtensionServerPlayerDataTableQuery(UUID serverUUID, Collection<UUID> playerUUIDs) {
+        this.serverUUID = serverUUID;
+        this.xMostRecentPlayers = playerUUIDs.size();
+        this.playerUUIDs = playerUUIDs;
+    }
+
+    /**
+     * Query the providers that have values shown in the players table of a server.
+     * <p>
+     * Used for the column headers when the table is loaded one page at a time,
+     * as the data of a single page might not contain values of every provider.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return Descriptives of the providers, ordered by name.
+     */
+    public static Query<List<ExtensionDescriptive>> fetchPlayersTableProviders(UUID serverUUID) {
+        String sql = SELECT + DISTINCT +
+                "p1." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+                "p1." + ExtensionProviderTable.TEXT + " as text," +
+                "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
+                "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
+                FROM + ExtensionProviderTable.TABLE_NAME + " p1" +
+                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
+                ORDER_BY + "p1." + ExtensionProviderTable.PROVIDER_NAME;
+
+        return new QueryStatement<List<ExtensionDescriptive>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setBoolean(2, true);                  // Select only values that should be shown
+                statement.setBoolean(3, false);                 // Don't select player_name String values
+            }
+
+            @Override
+            public List<ExtensionDescriptive> processResults(ResultSet set) throws SQLException {
+                List<ExtensionDescriptive> descriptives = new ArrayList<>();
+                while (set.next()) {
+                    descriptives.add(extractDescriptive(set));
+                }
+                return descriptives;
+            }
+        };
     }
 
     @Override
     public Map<UUID, ExtensionTabData> executeQuery(SQLDB db) {
+        if (playerUUIDs != null) {
+            return playerUUIDs.isEmpty() ? new HashMap<>() : db.query(fetchIncompletePlayerDataOfPlayers());
+        }
         return db.query(fetchIncompletePlayerDataByPluginID());
     }
 
+    private Query<Map<UUID, ExtensionTabData>> fetchIncompletePlayerDataOfPlayers() {
+        String sql = SELECT_PLAYER_VALUES +
+                FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
+                JOIN_PROVIDERS +
+                WHERE + "v1." + ExtensionPlayerValueTable.USER_UUID + " IN (" + String.join(",", Collections.nCopies(playerUUIDs.size(), "?")) + ")" +
+                AND + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
+
+        return new QueryStatement<Map<UUID, ExtensionTabData>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (UUID playerUUID : playerUUIDs) {
+                    statement.setString(index, playerUUID.toString());
+                    index++;
+                }
+                statement.setString(index, serverUUID.toString());
+                statement.setBoolean(index + 1, true);          // Select only values that should be shown
+                statement.setBoolean(index + 2, false);         // Don't select player_name String values
+            }
+
+            @Override
+            public Map<UUID, ExtensionTabData> processResults(ResultSet set) throws SQLException {
+                return extractDataByPlayer(set);
+            }
+        };
+    }
+
     private Query<Map<UUID, ExtensionTabData>> fetchIncompletePlayerDataByPluginID() {
         String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
                 SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID +
@@ -66,24 +171,10 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
                 GROUP_BY + SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID + ',' + SessionsTable.SESSION_END +
                 ORDER_BY + SessionsTable.SESSION_END + " DESC LIMIT ?";
 
-        String sql = SELECT +
-                "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
-                "v1." + ExtensionPlayerValueTable.BOOLEAN_VALUE + " as boolean_value," +
-                "v1." + ExtensionPlayerValueTable.DOUBLE_VALUE + " as double_value," +
-                "v1." + ExtensionPlayerValueTable.PERCENTAGE_VALUE + " as percentage_value," +
-                "v1." + ExtensionPlayerValueTable.LONG_VALUE + " as long_value," +
-                "v1." + ExtensionPlayerValueTable.STRING_VALUE + " as string_value," +
-                "p1." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
-                "p1." + ExtensionProviderTable.TEXT + " as text," +
-                "p1." + ExtensionProviderTable.FORMAT_TYPE + " as format_type," +
-                "p1." + ExtensionProviderTable.IS_PLAYER_NAME + " as is_player_name," +
-                "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
-                "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
+        String sql = SELECT_PLAYER_VALUES +
                 FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
                 INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=v1." + ExtensionPlayerValueTable.USER_UUID +
-                INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
-                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
-                LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
+                JOIN_PROVIDERS +
                 WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
                 AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
                 AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
@@ -152,7 +243,7 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
         }
     }
 
-    private ExtensionDescriptive extractDescriptive(ResultSet set) throws SQLException {
+    private static ExtensionDescriptive extractDescriptive(ResultSet set) throws SQLException {
         String name = set.getString("provider_name");
         String text = set.getString(ExtensionProviderTable.TEXT);
 
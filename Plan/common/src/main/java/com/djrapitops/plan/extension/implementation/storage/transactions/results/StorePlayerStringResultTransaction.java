@@ -20,9 +20,11 @@ import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.ExtensionProviderTable;
+import com.djrapitops.plan.system.cache.DataChange;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.djrapitops.plan.db.sql.parsing.Sql.AND;
@@ -54,6 +56,12 @@ public class StorePlayerStringResultTransaction extends Transaction {
     @Override
     protected void performOperations() {
         execute(storeValue());
+        dataChanged(DataChange.playerExtensionData(serverUUID, playerUUID));
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.of(playerUUID);
     }
 
     private Executable storeValue() {
@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.db.access.transactions.Transaction;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transaction to store all results of a single DataExtension gather at once.
+ * <p>
+ * Avoids queueing a separate transaction for every provider of every extension.
+ *
+ * @author Rsl1122
+ */
+public class StoreResultsTransaction extends Transaction {
+
+    private final List<Transaction> storeTransactions;
+    private final UUID orderingKey;
+    private final Runnable afterStore;
+
+    /**
+     * Create a new StoreResultsTransaction.
+     *
+     * @param storeTransactions Transactions that store results (and related information), executed in order.
+     * @param orderingKey       UUID of the player or server the results are about, null if the transactions modify
+     *                          information shared by other players or servers.
+     * @param afterStore        Called after the results have been committed, not called if the transaction fails.
+     */
+    public StoreResultsTransaction(List<Transaction> storeTransactions, UUID orderingKey, Runnable afterStore) {
+        this.storeTransactions = storeTransactions;
+        this.orderingKey = orderingKey;
+        this.afterStore = afterStore;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction storeTransaction : storeTransactions) {
+            executeOther(storeTransaction);
+        }
+        afterCommit(afterStore);
+    }
+
+    @Override
+    public Optional<UUID> getOrderingKey() {
+        return Optional.ofNullable(orderingKey);
+    }
+}
\ No newline at end of file
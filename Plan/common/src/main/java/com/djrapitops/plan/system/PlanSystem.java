@@ -150,6 +150,7 @@ public class PlanSystem implements SubSystem {
     @Override
     public void disable() {
         enabled = false;
+        extensionService.disable();
         disableSystems(
                 taskSystem,
                 hookHandler,
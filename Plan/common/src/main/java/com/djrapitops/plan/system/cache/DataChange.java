@@ -0,0 +1,114 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Describes data that was changed in the database by a committed Transaction.
+ *
+ * @author Rsl1122
+ * @see InvalidationBus
+ */
+public final class DataChange {
+
+    public enum Type {
+        PLAYER_REGISTER,
+        PLAYER_REMOVE,
+        SESSION,
+        PING,
+        TPS,
+        PLAYER_EXTENSION_DATA,
+        SERVER_EXTENSION_DATA
+    }
+
+    private final Type type;
+    private final UUID serverUUID;
+    private final UUID playerUUID;
+
+    private DataChange(Type type, UUID serverUUID, UUID playerUUID) {
+        this.type = type;
+        this.serverUUID = serverUUID;
+        this.playerUUID = playerUUID;
+    }
+
+    public static DataChange playerRegister(UUID serverUUID, UUID playerUUID) {
+        return new DataChange(Type.PLAYER_REGISTER, serverUUID, playerUUID);
+    }
+
+    public static DataChange playerRemove(UUID playerUUID) {
+        return new DataChange(Type.PLAYER_REMOVE, null, playerUUID);
+    }
+
+    public static DataChange session(UUID serverUUID, UUID playerUUID) {
+        return new DataChange(Type.SESSION, serverUUID, playerUUID);
+    }
+
+    public static DataChange ping(UUID serverUUID, UUID playerUUID) {
+        return new DataChange(Type.PING, serverUUID, playerUUID);
+    }
+
+    public static DataChange tps(UUID serverUUID) {
+        return new DataChange(Type.TPS, serverUUID, null);
+    }
+
+    public static DataChange playerExtensionData(UUID serverUUID, UUID playerUUID) {
+        return new DataChange(Type.PLAYER_EXTENSION_DATA, serverUUID, playerUUID);
+    }
+
+    public static DataChange serverExtensionData(UUID serverUUID) {
+        return new DataChange(Type.SERVER_EXTENSION_DATA, serverUUID, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Optional<UUID> getServerUUID() {
+        return Optional.ofNullable(serverUUID);
+    }
+
+    public Optional<UUID> getPlayerUUID() {
+        return Optional.ofNullable(playerUUID);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DataChange that = (DataChange) o;
+        return type == that.type &&
+                Objects.equals(serverUUID, that.serverUUID) &&
+                Objects.equals(playerUUID, that.playerUUID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, serverUUID, playerUUID);
+    }
+
+    @Override
+    public String toString() {
+        return "DataChange{" +
+                "type=" + type +
+                ", serverUUID=" + serverUUID +
+                ", playerUUID=" + playerUUID +
+                '}';
+    }
+}
\ No newline at end of file
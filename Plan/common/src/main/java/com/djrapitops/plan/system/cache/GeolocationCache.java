@@ -25,7 +25,11 @@ import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
@@ -43,25 +47,33 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
 
 /**
  * This class contains the geolocation cache.
  * <p>
- * It caches all IPs with their matching country.
+ * It caches IPs with their matching country, up to {@link #MAX_CACHED_IPS} most recently used addresses.
+ * <p>
+ * A single {@link DatabaseReader} is kept while the cache is enabled. The reader holds the GeoIP.dat
+ * file in memory and is replaced with a new reader if the file on disk is modified.
+ * <p>
+ * Lookups that fail for other reasons than the address not being in the database are not cached,
+ * so that they are attempted again on the next call.
  *
  * @author Fuzzlemann
  */
 @Singleton
 public class GeolocationCache implements SubSystem {
 
+    static final long MAX_CACHED_IPS = 10000L;
+
     private final Locale locale;
     private final PlanFiles files;
     private final PlanConfig config;
     private final PluginLogger logger;
-    private final Map<String, String> cached;
+    private final Cache<String, String> cached;
+    private final AtomicReference<LoadedReader> reader;
 
     private File geolocationDB;
 
@@ -77,7 +89,11 @@ public class GeolocationCache implements SubSystem {
         this.config = config;
         this.logger = logger;
 
-        this.cached = new HashMap<>();
+        this.cached = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_IPS)
+                .recordStats()
+                .build();
+        this.reader = new AtomicReference<>();
     }
 
     @Override
@@ -86,6 +102,7 @@ public class GeolocationCache implements SubSystem {
         if (config.isTrue(DataGatheringSettings.GEOLOCATIONS)) {
             try {
                 checkDB();
+                getReader();
             } catch (UnknownHostException e) {
                 logger.error(locale.getString(PluginLang.ENABLE_NOTIFY_GEOLOCATIONS_INTERNET_REQUIRED));
             } catch (IOException e) {
@@ -109,26 +126,8 @@ public class GeolocationCache implements SubSystem {
      * @see #getUnCachedCountry(String)
      */
     public String getCountry(String ipAddress) {
-        String country = getCachedCountry(ipAddress);
-
-        if (country != null) {
-            return country;
-        } else {
-            country = getUnCachedCountry(ipAddress);
-            cached.put(ipAddress, country);
-
-            return country;
-        }
-    }
-
-    /**
-     * Returns the cached country
-     *
-     * @param ipAddress The IP Address which is retrieved out of the cache
-     * @return The cached country, {@code null} if the country is not cached
-     */
-    private String getCachedCountry(String ipAddress) {
-        return cached.get(ipAddress);
+        String country = cached.get(ipAddress, this::getUnCachedCountry);
+        return country != null ? country : "Not Known";
     }
 
     /**
@@ -138,10 +137,8 @@ public class GeolocationCache implements SubSystem {
      * <a href="http://www.maxmind.com">http://www.maxmind.com</a>.
      *
      * @param ipAddress The IP Address from which the country is retrieved
-     * @return The name of the country in full length.
-     * <p>
-     * An exception from that rule is when the country is unknown or the retrieval of the country failed in any way,
-     * if that happens, "Not Known" will be returned.
+     * @return The name of the country in full length, "Not Known" if the country is unknown,
+     * or {@code null} if the retrieval failed and should not be cached.
      * @see <a href="http://maxmind.com">http://maxmind.com</a>
      * @see #getCountry(String)
      */
@@ -150,24 +147,49 @@ public class GeolocationCache implements SubSystem {
             return "Local Machine";
         }
         try {
-            checkDB();
+            InetAddress inetAddress = InetAddress.getByName(ipAddress);
+
+            CountryResponse response = getReader().country(inetAddress);
+            Country country = response.getCountry();
+
+            return country.getName();
+        } catch (AddressNotFoundException e) {
+            return "Not Known";
+        } catch (IOException | GeoIp2Exception e) {
+            return null;
+        }
+    }
 
+    /**
+     * Get the open {@link DatabaseReader}, opening a new one if the GeoIP.dat file has been replaced.
+     * <p>
+     * The old reader is not closed, since lookups may still be using it. It holds no file handles,
+     * so it is garbage collected after the last lookup using it has finished.
+     *
+     * @return Reader of the current GeoIP.dat file.
+     * @throws IOException If the file can not be downloaded or read.
+     */
+    private DatabaseReader getReader() throws IOException {
+        LoadedReader current = reader.get();
+        if (current != null && current.lastModified == geolocationDB.lastModified()) {
+            return current.reader;
+        }
+        synchronized (reader) {
+            current = reader.get();
+            checkDB();
+            long lastModified = geolocationDB.lastModified();
+            if (current != null && current.lastModified == lastModified) {
+                return current.reader;
+            }
             try (
                     // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
                     // for why InputStream is being used here instead.
-                    InputStream in = Files.newInputStream(geolocationDB.toPath());
-                    DatabaseReader reader = new DatabaseReader.Builder(in).build()
+                    InputStream in = Files.newInputStream(geolocationDB.toPath())
             ) {
-                InetAddress inetAddress = InetAddress.getByName(ipAddress);
-
-                CountryResponse response = reader.country(inetAddress);
-                Country country = response.getCountry();
-
-                return country.getName();
+                DatabaseReader opened = new DatabaseReader.Builder(in).build();
+                reader.set(new LoadedReader(opened, lastModified));
+                return opened;
             }
-
-        } catch (IOException | GeoIp2Exception e) {
-            return "Not Known";
         }
     }
 
@@ -199,18 +221,49 @@ public class GeolocationCache implements SubSystem {
      * @return true if the IP Address is cached
      */
     boolean isCached(String ipAddress) {
-        return cached.containsKey(ipAddress);
+        return cached.getIfPresent(ipAddress) != null;
+    }
+
+    /**
+     * Get hit and miss counts of the IP cache.
+     *
+     * @return Caffeine statistics of the cache since enable.
+     */
+    public CacheStats getCacheStats() {
+        return cached.stats();
     }
 
     @Override
     public void disable() {
-        cached.clear();
+        cached.invalidateAll();
+        LoadedReader current = reader.getAndSet(null);
+        if (current != null) {
+            current.close();
+        }
     }
 
     /**
      * Clears the cache
      */
     public void clearCache() {
-        cached.clear();
+        cached.invalidateAll();
+    }
+
+    private static class LoadedReader {
+        private final DatabaseReader reader;
+        private final long lastModified;
+
+        LoadedReader(DatabaseReader reader, long lastModified) {
+            this.reader = reader;
+            this.lastModified = lastModified;
+        }
+
+        void close() {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+                // Closing an in-memory reader only releases the buffer reference.
+            }
+        }
     }
 }
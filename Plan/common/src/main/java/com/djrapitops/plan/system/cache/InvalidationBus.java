@@ -0,0 +1,66 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link DataChange}s published by committed Transactions to the caches that depend on the data.
+ * <p>
+ * Subscribers are called on the thread that committed the transaction, so they should only mark
+ * cached entries as stale instead of regenerating them.
+ *
+ * @author Rsl1122
+ */
+public class InvalidationBus {
+
+    private static final Map<DataChange.Type, List<Consumer<DataChange>>> SUBSCRIBERS = new EnumMap<>(DataChange.Type.class);
+
+    static {
+        for (DataChange.Type type : DataChange.Type.values()) {
+            SUBSCRIBERS.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    private InvalidationBus() {
+        /* Static method class */
+    }
+
+    public static void subscribe(DataChange.Type type, Consumer<DataChange> subscriber) {
+        SUBSCRIBERS.get(type).add(subscriber);
+    }
+
+    public static void unsubscribe(DataChange.Type type, Consumer<DataChange> subscriber) {
+        SUBSCRIBERS.get(type).remove(subscriber);
+    }
+
+    public static void publish(DataChange change) {
+        for (Consumer<DataChange> subscriber : SUBSCRIBERS.get(change.getType())) {
+            subscriber.accept(change);
+        }
+    }
+
+    public static void publish(Iterable<DataChange> changes) {
+        for (DataChange change : changes) {
+            publish(change);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.container.BaseUser;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.PerServerAggregateQueries;
+import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
+import com.djrapitops.plan.db.access.queries.objects.ActivityRollupQueries;
+import com.djrapitops.plan.db.access.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.utilities.formatting.Formatter;
+import com.djrapitops.plan.utilities.formatting.Formatters;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.google.common.collect.ImmutableMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache for placeholder values so that placeholder requests never query the database.
+ * <p>
+ * Values are calculated by {@link #refresh()} on an async task, and each group of values
+ * is recalculated once it is older than the configured staleness. Server values are calculated
+ * with aggregate queries, and the stored data of a player is queried once per session since it
+ * does not change while they are online.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlaceholderValueCache {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final Formatters formatters;
+    private final ErrorHandler errorHandler;
+
+    private volatile Map<String, String> serverValues;
+    private volatile long serverValuesUpdated;
+    private final Map<UUID, PlayerValues> playerValues;
+
+    @Inject
+    public PlaceholderValueCache(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            Formatters formatters,
+            ErrorHandler errorHandler
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.formatters = formatters;
+        this.errorHandler = errorHandler;
+
+        serverValues = ImmutableMap.of();
+        playerValues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a cached server placeholder value.
+     *
+     * @param placeholder Name of the placeholder, eg. "players_total"
+     * @return Value of the placeholder, or empty if the placeholder is unknown or not yet calculated.
+     */
+    public Optional<String> getServerValue(String placeholder) {
+        return Optional.ofNullable(serverValues.get(placeholder));
+    }
+
+    /**
+     * Get a cached player placeholder value.
+     *
+     * @param playerUUID  UUID of an online player.
+     * @param placeholder Name of the placeholder, eg. "playtime"
+     * @return Value of the placeholder, or empty if the placeholder is unknown or not yet calculated.
+     */
+    public Optional<String> getPlayerValue(UUID playerUUID, String placeholder) {
+        PlayerValues values = playerValues.get(playerUUID);
+        return values != null ? Optional.ofNullable(values.values.get(placeholder)) : Optional.empty();
+    }
+
+    /**
+     * Recalculate the values that are older than their configured staleness.
+     * <p>
+     * Blocking operation, call from an async task.
+     */
+    public void refresh() {
+        Database database = dbSystem.getDatabase();
+        if (database.getState() != Database.State.OPEN) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            if (now - serverValuesUpdated >= config.get(TimeSettings.SERVER_PLACEHOLDER_VALUES_REFRESH_PERIOD)) {
+                serverValues = calculateServerValues(database, now);
+                serverValuesUpdated = now;
+            }
+            refreshPlayerValues(database, now);
+        } catch (DBOpException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private void refreshPlayerValues(Database database, long now) {
+        Map<UUID, Session> activeSessions = SessionCache.getActiveSessions();
+        playerValues.keySet().retainAll(activeSessions.keySet());
+
+        long maxAge = config.get(TimeSettings.PLAYER_PLACEHOLDER_VALUES_REFRESH_PERIOD);
+        for (Map.Entry<UUID, Session> entry : activeSessions.entrySet()) {
+            UUID playerUUID = entry.getKey();
+            Session activeSession = entry.getValue();
+            long sessionStart = activeSession.getUnsafe(SessionKeys.START);
+
+            PlayerValues previous = playerValues.get(playerUUID);
+            if (previous != null && previous.totals.sessionStart == sessionStart && now - previous.updated < maxAge) {
+                continue;
+            }
+            // Stored data of a player does not change while they are online, so it is only queried once per session.
+            StoredTotals totals = previous != null && previous.totals.sessionStart == sessionStart
+                    ? previous.totals
+                    : fetchStoredTotals(database, playerUUID, sessionStart);
+            playerValues.put(playerUUID, new PlayerValues(totals, calculatePlayerValues(totals, activeSession, now), now));
+        }
+    }
+
+    private Map<String, String> calculateServerValues(Database database, long now) {
+        UUID serverUUID = serverInfo.getServerUUID();
+        Formatter<Long> timeAmount = formatters.timeAmount();
+        Formatter<Double> decimals = formatters.decimals();
+
+        long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
+
+        ImmutableMap.Builder<String, String> values = ImmutableMap.builder();
+        values.put("players_total", String.valueOf(database.query(ServerAggregateQueries.serverUserCount(serverUUID))));
+
+        // Only sessions of the last month are needed for unique player and session counts.
+        SessionColumns recentSessions = database.query(SessionQueries.fetchSessionColumnsOfServer(serverUUID, monthAgo));
+        values.put("players_unique_day", String.valueOf(recentSessions.toUniquePlayersBetween(dayAgo, now)))
+                .put("players_unique_week", String.valueOf(recentSessions.toUniquePlayersBetween(weekAgo, now)))
+                .put("players_unique_month", String.valueOf(recentSessions.toUniquePlayersBetween(monthAgo, now)))
+                .put("sessions_day", String.valueOf(recentSessions.countBetween(dayAgo, now)))
+                .put("sessions_week", String.valueOf(recentSessions.countBetween(weekAgo, now)))
+                .put("sessions_month", String.valueOf(recentSessions.countBetween(monthAgo, now)));
+
+        // All time totals come from the hourly rollups instead of every session of the server.
+        ActivityRollup total = new ActivityRollup(serverUUID, 0L);
+        for (ActivityRollup rollup : database.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID))) {
+            total.add(rollup);
+        }
+        values.put("playtime_total", timeAmount.apply(total.getPlaytime()))
+                .put("kills_players", String.valueOf(total.getPlayerKills()))
+                .put("kills_mobs", String.valueOf(total.getMobKills()))
+                .put("deaths", String.valueOf(total.getDeaths()));
+
+        values.put("tps_day", decimals.apply(database.query(TPSQueries.averageTPS(serverUUID, dayAgo, now))))
+                .put("tps_week", decimals.apply(database.query(TPSQueries.averageTPS(serverUUID, weekAgo, now))))
+                .put("tps_month", decimals.apply(database.query(TPSQueries.averageTPS(serverUUID, monthAgo, now))));
+
+        long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
+        database.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID))
+                .ifPresent(peak -> values.put("players_peak_all_time", String.valueOf(peak.getValue())));
+        database.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo))
+                .ifPresent(peak -> values.put("players_peak_recent", String.valueOf(peak.getValue())));
+        return values.build();
+    }
+
+    private StoredTotals fetchStoredTotals(Database database, UUID playerUUID, long sessionStart) {
+        SessionColumns sessions = database.query(SessionQueries.fetchSessionColumnsOfPlayer(playerUUID));
+        int playerKills = 0;
+        for (int killCount : database.query(PerServerAggregateQueries.playerKillCountOnServers(playerUUID)).values()) {
+            playerKills += killCount;
+        }
+        Long registered = database.query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID))
+                .map(BaseUser::getRegistered).orElse(null);
+        return new StoredTotals(
+                sessionStart, registered,
+                sessions.toPlaytime(), sessions.toActivePlaytime(), sessions.count(),
+                playerKills, sessions.toMobKillCount(), sessions.toDeathCount()
+        );
+    }
+
+    private Map<String, String> calculatePlayerValues(StoredTotals totals, Session activeSession, long now) {
+        Formatter<Long> timeAmount = formatters.timeAmount();
+        Formatter<Long> secondLong = formatters.secondLong();
+
+        ImmutableMap.Builder<String, String> values = ImmutableMap.builder();
+        values.put("playtime", timeAmount.apply(totals.playtime + activeSession.getLength()))
+                .put("playtime_active", timeAmount.apply(totals.activePlaytime + activeSession.getValue(SessionKeys.ACTIVE_TIME).orElse(0L)))
+                .put("session_count", String.valueOf(totals.sessionCount + 1))
+                .put("kills_players", String.valueOf(totals.playerKills + activeSession.getValue(SessionKeys.PLAYER_KILL_COUNT).orElse(0)))
+                .put("kills_mobs", String.valueOf(totals.mobKills + activeSession.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0)))
+                .put("deaths", String.valueOf(totals.deaths + activeSession.getValue(SessionKeys.DEATH_COUNT).orElse(0)));
+        if (totals.registered != null) {
+            values.put("registered", secondLong.apply(totals.registered));
+        }
+        // The player is online, so they are seen right now.
+        values.put("last_seen", secondLong.apply(now));
+        return values.build();
+    }
+
+    private static class PlayerValues {
+        private final StoredTotals totals;
+        private final Map<String, String> values;
+        private final long updated;
+
+        private PlayerValues(StoredTotals totals, Map<String, String> values, long updated) {
+            this.totals = totals;
+            this.values = values;
+            this.updated = updated;
+        }
+    }
+
+    private static class StoredTotals {
+        private final long sessionStart;
+        private final Long registered;
+        private final long playtime;
+        private final long activePlaytime;
+        private final int sessionCount;
+        private final int playerKills;
+        private final int mobKills;
+        private final int deaths;
+
+        private StoredTotals(
+                long sessionStart, Long registered,
+                long playtime, long activePlaytime, int sessionCount,
+                int playerKills, int mobKills, int deaths
+        ) {
+            this.sessionStart = sessionStart;
+            this.registered = registered;
+            this.playtime = playtime;
+            this.activePlaytime = activePlaytime;
+            this.sessionCount = sessionCount;
+            this.playerKills = playerKills;
+            this.mobKills = mobKills;
+            this.deaths = deaths;
+        }
+    }
+}
\ No newline at end of file
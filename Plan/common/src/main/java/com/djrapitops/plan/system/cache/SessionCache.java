@@ -22,37 +22,72 @@ import com.google.common.collect.ImmutableMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is used to store active sessions of players in memory.
+ * <p>
+ * Sessions are stored in a concurrent map, so listener threads and async readers can access it at the same time.
+ * {@link #getActiveSessions()} returns a snapshot that is only copied again after the sessions have changed.
  *
  * @author Rsl1122
  */
 @Singleton
 public class SessionCache {
 
-    private static final Map<UUID, Session> ACTIVE_SESSIONS = new HashMap<>();
+    private static final Map<UUID, Session> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static volatile Snapshot snapshot = new Snapshot(0L, ImmutableMap.of());
 
     @Inject
     public SessionCache() {
         // Dagger requires empty inject constructor
     }
 
+    /**
+     * Get the active sessions.
+     *
+     * @return Immutable snapshot of the active sessions, same Map is returned until sessions change.
+     */
     public static Map<UUID, Session> getActiveSessions() {
-        return ImmutableMap.copyOf(ACTIVE_SESSIONS);
+        Snapshot current = snapshot;
+        long version = VERSION.get();
+        if (current.version == version) {
+            return current.sessions;
+        }
+        // Version is read before copying, so a change during the copy causes another copy on next call.
+        Snapshot updated = new Snapshot(version, ImmutableMap.copyOf(ACTIVE_SESSIONS));
+        snapshot = updated;
+        return updated.sessions;
+    }
+
+    /**
+     * Get the version of active sessions, which changes every time a session is added or removed.
+     *
+     * @return Number that is incremented on every change.
+     */
+    public static long getActiveSessionsVersion() {
+        return VERSION.get();
     }
 
     public static void clear() {
         ACTIVE_SESSIONS.clear();
+        VERSION.incrementAndGet();
     }
 
     public static void refreshActiveSessionsState() {
-        for (Session session : ACTIVE_SESSIONS.values()) {
-            session.getUnsafe(SessionKeys.WORLD_TIMES).updateState(System.currentTimeMillis());
+        for (Map.Entry<UUID, Session> entry : ACTIVE_SESSIONS.entrySet()) {
+            Session session = entry.getValue();
+            synchronized (session) {
+                // Session may have ended after iteration reached it
+                if (ACTIVE_SESSIONS.get(entry.getKey()) == session) {
+                    session.getUnsafe(SessionKeys.WORLD_TIMES).updateState(System.currentTimeMillis());
+                }
+            }
         }
     }
 
@@ -74,10 +109,10 @@ public class SessionCache {
      * @return Optional: previous session. Recipients of this object should decide if it needs to be saved.
      */
     public Optional<Session> cacheSession(UUID playerUUID, Session session) {
-        if (getCachedSession(playerUUID).isPresent()) {
+        if (ACTIVE_SESSIONS.putIfAbsent(playerUUID, session) != null) {
             return endSession(playerUUID, session.getUnsafe(SessionKeys.START));
         }
-        ACTIVE_SESSIONS.put(playerUUID, session);
+        VERSION.incrementAndGet();
         return Optional.empty();
     }
 
@@ -93,12 +128,23 @@ public class SessionCache {
         if (session == null || session.getUnsafe(SessionKeys.START) > time) {
             return Optional.empty();
         }
-        removeSessionFromCache(playerUUID);
-        session.endSession(time);
+        if (!ACTIVE_SESSIONS.remove(playerUUID, session)) {
+            return Optional.empty(); // Another thread ended the session.
+        }
+        VERSION.incrementAndGet();
+        synchronized (session) {
+            session.endSession(time);
+        }
         return Optional.of(session);
     }
 
-    protected void removeSessionFromCache(UUID playerUUID) {
-        ACTIVE_SESSIONS.remove(playerUUID);
+    private static class Snapshot {
+        private final long version;
+        private final Map<UUID, Session> sessions;
+
+        private Snapshot(long version, Map<UUID, Session> sessions) {
+            this.version = version;
+            this.sessions = sessions;
+        }
     }
 }
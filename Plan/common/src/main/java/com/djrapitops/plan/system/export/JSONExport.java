@@ -26,6 +26,7 @@ import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.ExportSettings;
 import com.djrapitops.plan.system.webserver.pages.json.JSONFactory;
 import com.djrapitops.plan.system.webserver.response.ResponseFactory;
+import com.djrapitops.plan.system.webserver.response.pages.RawDataResponse;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 
@@ -33,8 +34,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URLEncoder;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.UUID;
 
 /**
@@ -73,7 +76,7 @@ public class JSONExport extends SpecificExport {
     }
 
     public void exportPlayerJSON(UUID playerUUID) {
-        String json = responseFactory.rawPlayerPageResponse(playerUUID).getContent();
+        RawDataResponse json = responseFactory.rawPlayerPageResponse(playerUUID);
 
         dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID))
                 .ifPresent(playerName -> {
@@ -82,7 +85,7 @@ public class JSONExport extends SpecificExport {
                         htmlLocation.mkdirs();
                         File exportFile = new File(htmlLocation, URLEncoder.encode(playerName, "UTF-8") + ".json");
 
-                        export(exportFile, Collections.singletonList(json));
+                        export(exportFile, json);
                     } catch (IOException e) {
                         errorHandler.log(L.WARN, this.getClass(), e);
                     }
@@ -90,7 +93,7 @@ public class JSONExport extends SpecificExport {
     }
 
     public void exportServerJSON(UUID serverUUID) {
-        String json = responseFactory.rawServerPageResponse(serverUUID).getContent();
+        RawDataResponse json = responseFactory.rawServerPageResponse(serverUUID);
         dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
                 .map(Server::getName)
                 .ifPresent(serverName -> {
@@ -99,10 +102,17 @@ public class JSONExport extends SpecificExport {
                         htmlLocation.mkdirs();
                         File exportFile = new File(htmlLocation, URLEncoder.encode(serverName, "UTF-8") + ".json");
 
-                        export(exportFile, Collections.singletonList(json));
+                        export(exportFile, json);
                     } catch (IOException e) {
                         errorHandler.log(L.WARN, this.getClass(), e);
                     }
                 });
     }
+
+    private void export(File to, RawDataResponse response) throws IOException {
+        // Written as a stream, raw data of a server can be too large to hold as a String.
+        try (Writer writer = Files.newBufferedWriter(to.toPath(), StandardCharsets.UTF_8)) {
+            response.writeTo(writer);
+        }
+    }
 }
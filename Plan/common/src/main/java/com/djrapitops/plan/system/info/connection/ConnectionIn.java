@@ -26,14 +26,9 @@ import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plugin.utilities.Verify;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class ConnectionIn {
 
@@ -89,33 +84,16 @@ public class ConnectionIn {
     }
 
     private Map<String, String> readVariables(Request request) throws WebException {
-        String requestBody = readRequestBody(request.getRequestBody());
-        String[] bodyVariables = requestBody.split(";&variable;");
-
-        return Arrays.stream(bodyVariables)
-                .map(variable -> variable.split("=", 2))
-                .filter(splitVariables -> splitVariables.length == 2)
-                .collect(Collectors.toMap(splitVariables -> splitVariables[0], splitVariables -> splitVariables[1], (a, b) -> b));
+        try {
+            return InfoRequestBody.read(request.getRequestBody());
+        } catch (IOException e) {
+            throw new WebFailException("Exception while reading Request.", e);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Request had a malformed Base64 variable: " + e.getMessage());
+        }
     }
 
     public Response handleRequest() throws WebException {
         return infoRequest.handleRequest(variables);
     }
-
-    private String readRequestBody(InputStream in) throws WebFailException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            byte[] bytes;
-
-            byte[] buf = new byte[4096];
-            for (int n = in.read(buf); n > 0; n = in.read(buf)) {
-                out.write(buf, 0, n);
-            }
-
-            bytes = out.toByteArray();
-
-            return new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new WebFailException("Exception while reading Request.", e);
-        }
-    }
 }
@@ -22,22 +22,19 @@ import com.djrapitops.plan.system.info.request.InfoRequestWithVariables;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.utilities.MiscUtils;
 import com.djrapitops.plugin.utilities.Verify;
+import org.apache.http.Header;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustAllStrategy;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
@@ -68,6 +65,9 @@ public class ConnectionOut {
     }
 
     private final ConnectionLog connectionLog;
+    private final CloseableHttpClient client;
+    private final boolean legacyFormat;
+    private int supportedFormat = -1;
 
     /**
      * Constructor.
@@ -76,43 +76,54 @@ public class ConnectionOut {
      * @param serverUUID    UUID of server this outbound connection.
      * @param infoRequest   Type of the action this connection wants to be performed.
      * @param connectionLog Where the connection should be logged.
+     * @param client        Pooled client shared by the ConnectionSystem, not closed by this connection.
+     * @param legacyFormat  Send the variables in the text format understood by older Plan versions.
      */
     public ConnectionOut(
             Server toServer, UUID serverUUID, InfoRequest infoRequest,
-            ConnectionLog connectionLog
+            ConnectionLog connectionLog, CloseableHttpClient client, boolean legacyFormat
     ) {
         this.connectionLog = connectionLog;
-        Verify.nullCheck(toServer, serverUUID, infoRequest);
+        Verify.nullCheck(toServer, serverUUID, infoRequest, client);
         this.toServer = toServer;
         this.serverUUID = serverUUID;
         this.infoRequest = infoRequest;
+        this.client = client;
+        this.legacyFormat = legacyFormat;
     }
 
     public void sendRequest() throws WebException {
         String address = getAddress();
 
-        CloseableHttpClient client = null;
         HttpPost post = null;
         CloseableHttpResponse response = null;
         long start = System.currentTimeMillis();
         try {
-            client = getHttpClient(address);
             String url = address + "/info/" + infoRequest.getClass().getSimpleName().toLowerCase();
 
             post = new HttpPost(url);
-            String parameters = parseVariables();
-            prepareRequest(post, parameters);
+            Map<String, String> variables = getVariables();
+            prepareRequest(post, variables);
 
             // Send request
             response = client.execute(post);
             int responseCode = response.getStatusLine().getStatusCode();
+            Header formatHeader = response.getFirstHeader(InfoRequestBody.FORMAT_HEADER);
+            if (formatHeader != null) {
+                supportedFormat = parseFormat(formatHeader.getValue());
+            } else if (responseCode == 200) {
+                supportedFormat = 0;
+            }
+            Header retryAfterHeader = response.getFirstHeader("Retry-After");
+            // Reading the response fully returns the connection to the pool for reuse.
+            EntityUtils.consume(response.getEntity());
 
-            handleResult(url, parameters, responseCode);
+            handleResult(url, variables.keySet().toString(), responseCode, retryAfterHeader);
         } catch (SocketTimeoutException e) {
             connectionLog.logConnectionTo(toServer, infoRequest, 0);
             long seconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start);
             throw new ConnectionFailException("Connection to " + address + " timed out (" + seconds + "s): " + e.getMessage(), e);
-        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException | IOException e) {
+        } catch (IOException e) {
             connectionLog.logConnectionTo(toServer, infoRequest, -1);
             throw new ConnectionFailException("Connection failed to address: " + address + " - Make sure the server is online.", e);
         } finally {
@@ -120,25 +131,54 @@ public class ConnectionOut {
                 post.releaseConnection();
             }
             MiscUtils.close(response);
-            MiscUtils.close(client);
         }
     }
 
-    private void handleResult(String url, String parameters, int responseCode) throws WebException {
+    private long parseRetryAfter(String value) {
+        try {
+            return Math.max(0L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            // Retry-After can also be a date, which Plan servers do not send.
+            return 0L;
+        }
+    }
+
+    private int parseFormat(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the newest request body format the other server announced in its response.
+     *
+     * @return Version of {@link InfoRequestBody}, 0 if the server answered without announcing one (older Plan version),
+     * -1 if it is not known.
+     */
+    public int getSupportedFormat() {
+        return supportedFormat;
+    }
+
+    private void handleResult(String url, String variableNames, int responseCode, Header retryAfterHeader) throws WebException {
         connectionLog.logConnectionTo(toServer, infoRequest, responseCode);
         switch (responseCode) {
             case 200:
                 return;
             case 400:
-                throw new BadRequestException("Bad Request: " + url + " | " + parameters);
+                throw new BadRequestException("Bad Request: " + url + " | " + variableNames);
             case 403:
-                throw new ForbiddenException(url + " returned 403 | " + parameters);
+                throw new ForbiddenException(url + " returned 403 | " + variableNames);
             case 404:
                 throw new NotFoundException(url + " returned a 404, ensure that your server is connected to an up to date Plan server.");
             case 412:
                 throw new UnauthorizedServerException(url + " reported that it does not recognize this server. Make sure '/plan m setup' was successful.");
             case 500:
                 throw new InternalErrorException();
+            case 503:
+                long retryAfter = retryAfterHeader != null ? parseRetryAfter(retryAfterHeader.getValue()) : 0L;
+                throw new ServiceUnavailableException(url + " is too busy to handle the request, try again in " + retryAfter + "s", retryAfter);
             case 504:
                 throw new GatewayException(url + " reported that it failed to connect to this server.");
             default:
@@ -146,7 +186,7 @@ public class ConnectionOut {
         }
     }
 
-    private void prepareRequest(HttpPost post, String parameters) {
+    private void prepareRequest(HttpPost post, Map<String, String> variables) {
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectionRequestTimeout(5000)
                 .setSocketTimeout(10000)
@@ -157,22 +197,16 @@ public class ConnectionOut {
                 .build();
         post.setConfig(requestConfig);
 
-        post.setHeader("Content-Type", "application/x-www-form-urlencoded");
-        post.setHeader("charset", "UTF-8");
-        post.setHeader("Connection", "close");
-
-        byte[] toSend = parameters.getBytes();
-        post.setEntity(new ByteArrayEntity(toSend));
-    }
-
-    private CloseableHttpClient getHttpClient(String address) throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
-        if (address.startsWith("https")) {
-            SSLContextBuilder builder = new SSLContextBuilder();
-            builder.loadTrustMaterial(null, new TrustAllStrategy());
-            SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
-            return HttpClients.custom().setSSLSocketFactory(sslsf).build();
+        if (legacyFormat) {
+            post.setHeader("Content-Type", "application/x-www-form-urlencoded");
+            post.setHeader("charset", "UTF-8");
+            post.setEntity(new ByteArrayEntity(InfoRequestBody.toLegacyForm(variables).getBytes(StandardCharsets.UTF_8)));
         } else {
-            return HttpClients.createDefault();
+            // Body is written straight to the connection, large payloads are not buffered in memory.
+            EntityTemplate entity = new EntityTemplate(out -> InfoRequestBody.write(variables, out));
+            entity.setContentType(InfoRequestBody.CONTENT_TYPE);
+            entity.setChunked(true);
+            post.setEntity(entity);
         }
     }
 
@@ -185,17 +219,15 @@ public class ConnectionOut {
         return address;
     }
 
-    private String parseVariables() {
-        StringBuilder parameters = new StringBuilder("sender=" + serverUUID + ";&variable;" +
-                "type=" + infoRequest.getClass().getSimpleName());
+    private Map<String, String> getVariables() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("sender", serverUUID.toString());
+        variables.put("type", infoRequest.getClass().getSimpleName());
 
         if (infoRequest instanceof InfoRequestWithVariables) {
-            Map<String, String> variables = ((InfoRequestWithVariables) infoRequest).getVariables();
-            for (Map.Entry<String, String> entry : variables.entrySet()) {
-                parameters.append(";&variable;").append(entry.getKey()).append("=").append(entry.getValue());
-            }
+            variables.putAll(((InfoRequestWithVariables) infoRequest).getVariables());
         }
 
-        return parameters.toString();
+        return variables;
     }
 }
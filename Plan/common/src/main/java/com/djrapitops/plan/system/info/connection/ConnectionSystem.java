@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.system.info.connection;
 
+import com.djrapitops.plan.api.exceptions.connection.ConnectionFailException;
 import com.djrapitops.plan.api.exceptions.connection.NoServersException;
 import com.djrapitops.plan.api.exceptions.connection.WebException;
 import com.djrapitops.plan.system.SubSystem;
@@ -25,9 +26,24 @@ import com.djrapitops.plan.system.info.request.InfoRequests;
 import com.djrapitops.plan.system.info.request.WideRequest;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.utilities.MiscUtils;
 import dagger.Lazy;
-
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+
+import java.security.GeneralSecurityException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ConnectionSystem manages out- and inbound InfoRequest connections.
@@ -46,6 +62,9 @@ public abstract class ConnectionSystem implements SubSystem {
     protected Map<UUID, Server> dataServers;
     private boolean setupAllowed;
 
+    private CloseableHttpClient httpClient;
+    private final Set<UUID> binaryFormatServers;
+
     public ConnectionSystem(
             ConnectionLog connectionLog,
             InfoRequests infoRequests,
@@ -57,6 +76,7 @@ public abstract class ConnectionSystem implements SubSystem {
         this.serverInfo = serverInfo;
         setupAllowed = false;
         dataServers = new HashMap<>();
+        binaryFormatServers = ConcurrentHashMap.newKeySet();
         this.infoRequests = infoRequests;
     }
 
@@ -84,10 +104,57 @@ public abstract class ConnectionSystem implements SubSystem {
         if (serverUUID.equals(toServer.getUuid())) {
             infoSystem.get().runLocally(infoRequest);
         } else {
-            new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog).sendRequest();
+            sendOut(infoRequest, toServer, serverUUID);
+        }
+    }
+
+    private void sendOut(InfoRequest infoRequest, Server toServer, UUID serverUUID) throws WebException {
+        UUID toServerUUID = toServer.getUuid();
+        // Servers running an older Plan version only understand the legacy body format.
+        // Newer versions announce the format they read in every response, so it is used from the next request on.
+        boolean legacyFormat = !binaryFormatServers.contains(toServerUUID);
+        ConnectionOut connection = new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog, getHttpClient(), legacyFormat);
+        try {
+            connection.sendRequest();
+        } finally {
+            int supportedFormat = connection.getSupportedFormat();
+            if (supportedFormat >= InfoRequestBody.VERSION) {
+                binaryFormatServers.add(toServerUUID);
+            } else if (supportedFormat == 0) {
+                binaryFormatServers.remove(toServerUUID);
+            }
         }
     }
 
+    private synchronized CloseableHttpClient getHttpClient() throws ConnectionFailException {
+        if (httpClient == null) {
+            try {
+                httpClient = createHttpClient();
+            } catch (GeneralSecurityException e) {
+                throw new ConnectionFailException("Failed to create SSL context for connections: " + e.getMessage(), e);
+            }
+        }
+        return httpClient;
+    }
+
+    private CloseableHttpClient createHttpClient() throws GeneralSecurityException {
+        SSLContextBuilder sslContext = new SSLContextBuilder().loadTrustMaterial(null, new TrustAllStrategy());
+        Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslContext.build(), NoopHostnameVerifier.INSTANCE))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactories);
+        connectionManager.setMaxTotal(20);
+        connectionManager.setDefaultMaxPerRoute(4);
+        connectionManager.setValidateAfterInactivity(5000);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(30L, TimeUnit.SECONDS)
+                .build();
+    }
+
     public ConnectionLog getConnectionLog() {
         return connectionLog;
     }
@@ -112,5 +179,10 @@ public abstract class ConnectionSystem implements SubSystem {
         setupAllowed = false;
         dataServers.clear();
         infoRequests.clear();
+        binaryFormatServers.clear();
+        synchronized (this) {
+            MiscUtils.close(httpClient);
+            httpClient = null;
+        }
     }
 }
@@ -0,0 +1,213 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.utilities.Base64Util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes the variables of an InfoRequest sent between Plan servers.
+ * <p>
+ * Current format: a version byte followed by a gzip stream containing the variable count and
+ * length-prefixed UTF-8 keys and values. Values are sent as is, so large html payloads
+ * are streamed without Base64 or separator escaping.
+ * <p>
+ * Legacy format: {@code key=value} pairs separated by {@code ;&variable;}, with 'html' Base64 encoded.
+ * Legacy bodies always start with 's' of 'sender', so the first byte tells the formats apart.
+ * <p>
+ * Bodies are read before the sender is authenticated, so the variable count and the decompressed size are limited.
+ * Servers announce the newest format they read with the {@link #FORMAT_HEADER} response header.
+ *
+ * @author Rsl1122
+ */
+public class InfoRequestBody {
+
+    public static final byte VERSION = 1;
+    static final String CONTENT_TYPE = "application/x-plan-info-request";
+    public static final String FORMAT_HEADER = "X-Plan-Info-Format";
+
+    // Largest requests are html pages sent to the proxy server.
+    static final int MAX_BODY_SIZE = 32 * 1024 * 1024;
+    static final int MAX_VARIABLE_COUNT = 64;
+
+    private static final String LEGACY_SEPARATOR = ";&variable;";
+    private static final Set<String> LEGACY_BASE64_VARIABLES = Collections.singleton("html");
+
+    /**
+     * Hides public constructor.
+     */
+    private InfoRequestBody() {
+    }
+
+    public static void write(Map<String, String> variables, OutputStream out) throws IOException {
+        out.write(VERSION);
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip, 8192));
+        data.writeInt(variables.size());
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            writeString(data, entry.getKey());
+            writeString(data, entry.getValue());
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Read variables from a request body of either format.
+     *
+     * @param in Request body.
+     * @return Map: Variable name - value
+     * @throws IOException If the body could not be read or was malformed.
+     */
+    public static Map<String, String> read(InputStream in) throws IOException {
+        return read(in, MAX_BODY_SIZE);
+    }
+
+    static Map<String, String> read(InputStream in, int maxBodySize) throws IOException {
+        int first = in.read();
+        if (first == -1) {
+            return new HashMap<>();
+        }
+        if (first == VERSION) {
+            return readBinary(new BoundedInputStream(new GZIPInputStream(in, 8192), maxBodySize));
+        }
+        if (first < 'A') {
+            throw new IOException("Unsupported request body version " + first);
+        }
+        ByteArrayOutputStream legacyBody = new ByteArrayOutputStream();
+        legacyBody.write(first);
+        InputStream bounded = new BoundedInputStream(in, maxBodySize - 1);
+        byte[] buf = new byte[4096];
+        for (int n = bounded.read(buf); n > 0; n = bounded.read(buf)) {
+            legacyBody.write(buf, 0, n);
+        }
+        return fromLegacyForm(new String(legacyBody.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> readBinary(BoundedInputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 8192));
+        int count = data.readInt();
+        if (count < 0 || count > MAX_VARIABLE_COUNT) {
+            throw new IOException("Invalid variable count " + count);
+        }
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            variables.put(readString(data, in), readString(data, in));
+        }
+        return variables;
+    }
+
+    private static String readString(DataInputStream data, BoundedInputStream in) throws IOException {
+        int length = data.readInt();
+        // Checked before allocating, so a forged length can not allocate more than the body limit.
+        // The buffer may have read ahead of the data by up to its size.
+        if (length < 0 || length > in.getRemaining() + 8192) {
+            throw new IOException("Invalid variable length " + length);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static String toLegacyForm(Map<String, String> variables) {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            if (body.length() > 0) {
+                body.append(LEGACY_SEPARATOR);
+            }
+            String key = entry.getKey();
+            String value = entry.getValue();
+            body.append(key).append('=').append(LEGACY_BASE64_VARIABLES.contains(key) ? Base64Util.encode(value) : value);
+        }
+        return body.toString();
+    }
+
+    public static Map<String, String> fromLegacyForm(String body) {
+        Map<String, String> variables = new HashMap<>();
+        for (String variable : body.split(LEGACY_SEPARATOR)) {
+            String[] keyAndValue = variable.split("=", 2);
+            if (keyAndValue.length != 2) {
+                continue;
+            }
+            String key = keyAndValue[0];
+            String value = keyAndValue[1];
+            variables.put(key, LEGACY_BASE64_VARIABLES.contains(key) ? Base64Util.decode(value) : value);
+        }
+        return variables;
+    }
+
+    /**
+     * InputStream that fails when more than the given amount of bytes is read.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+            this.remaining = limit;
+        }
+
+        long getRemaining() {
+            return remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) throws IOException {
+            remaining -= read;
+            if (remaining < 0) {
+                throw new IOException("Request body is larger than the limit " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class WebExceptionLogger {
             if (shouldLog(e)) {
                 logger.debug(e.getMessage());
             }
-        } catch (UnauthorizedServerException | NotFoundException | NoServersException e) {
+        } catch (UnauthorizedServerException | NotFoundException | NoServersException | ServiceUnavailableException e) {
             logger.debug(e.getMessage());
         } catch (WebException e) {
             errorHandler.log(L.WARN, definingClass, e);
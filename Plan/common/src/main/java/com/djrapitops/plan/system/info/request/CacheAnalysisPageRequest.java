@@ -28,7 +28,6 @@ import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.pages.AnalysisPageResponse;
-import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.util.Map;
@@ -81,27 +80,27 @@ public class CacheAnalysisPageRequest extends InfoRequestWithVariables implement
 
         Verify.nullCheck(serverUUID, html);
         this.serverUUID = serverUUID;
-        variables.put("html", Base64Util.encode(html));
+        variables.put("html", html);
         this.html = html;
     }
 
     @Override
     public Response handleRequest(Map<String, String> variables) throws WebException {
-        // Available variables: sender, html (Base64)
+        // Available variables: sender, html
 
         UUID sender = UUID.fromString(variables.get("sender"));
 
         String sentHtml = variables.get("html");
         Verify.nullCheck(sentHtml, () -> new BadRequestException("HTML 'html' variable not supplied in the request"));
 
-        cache(sender, Base64Util.decode(sentHtml));
+        cache(sender, sentHtml);
         return DefaultResponses.SUCCESS.get();
     }
 
     private void cache(UUID serverUUID, String html) {
         ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> new AnalysisPageResponse(html));
         if (!networkUUID.equals(serverUUID)) {
-            ResponseCache.clearResponse(PageId.SERVER.of(networkUUID));
+            ResponseCache.markStale(PageId.SERVER.of(networkUUID));
         }
 
         if (config.get(ExportSettings.SERVER_PAGE)) {
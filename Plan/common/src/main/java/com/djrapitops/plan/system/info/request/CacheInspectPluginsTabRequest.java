@@ -23,7 +23,6 @@ import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
-import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.util.Map;
@@ -48,7 +47,7 @@ public class CacheInspectPluginsTabRequest extends InfoRequestWithVariables impl
         Verify.nullCheck(player, nav);
         variables.put("player", player.toString());
         variables.put("nav", nav);
-        variables.put("html", Base64Util.encode(html));
+        variables.put("html", html);
         this.player = player;
         this.html = html;
     }
@@ -68,7 +67,7 @@ public class CacheInspectPluginsTabRequest extends InfoRequestWithVariables impl
 
         InspectPagePluginsContent pluginsTab = getPluginsTab(uuid);
 
-        pluginsTab.addTab(nav, Base64Util.decode(html));
+        pluginsTab.addTab(nav, html);
         return DefaultResponses.SUCCESS.get();
     }
 
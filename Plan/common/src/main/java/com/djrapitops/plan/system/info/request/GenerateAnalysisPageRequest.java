@@ -47,7 +47,8 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
     private final InfoSystem infoSystem;
     private final PageFactory pageFactory;
 
-    private AtomicBoolean runningAnalysis = new AtomicBoolean(false);
+    // Shared by all instances so that only one analysis runs at a time.
+    private static final AtomicBoolean runningAnalysis = new AtomicBoolean(false);
     private UUID serverUUID;
 
     GenerateAnalysisPageRequest(
@@ -99,8 +100,7 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
             throw new BadRequestException("Requested Analysis page from wrong server.");
         }
 
-        if (!runningAnalysis.get()) {
-            runningAnalysis.set(true);
+        if (runningAnalysis.compareAndSet(false, true)) {
             processing.submitNonCritical(() ->
                     webExceptionLogger.logIfOccurs(GenerateAnalysisPageRequest.class, () -> generateAndCache(serverUUID))
             );
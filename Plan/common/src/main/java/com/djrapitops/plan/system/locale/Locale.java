@@ -19,16 +19,14 @@ package com.djrapitops.plan.system.locale;
 import com.djrapitops.plan.system.file.FileResource;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.locale.lang.*;
+import com.djrapitops.plan.utilities.formatting.MultiPatternReplacer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Represents loaded language information.
@@ -43,6 +41,9 @@ public class Locale extends HashMap<Lang, Message> {
 
     private LangCode langCode;
 
+    private transient volatile MultiPatternReplacer htmlReplacer;
+    private transient volatile int version;
+
     public Locale() {
         this(LangCode.EN);
     }
@@ -89,6 +90,44 @@ public class Locale extends HashMap<Lang, Message> {
         return get(key).toArray(values);
     }
 
+    /**
+     * Get a number that changes whenever the messages of this Locale change.
+     *
+     * @return Modification count.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void modified() {
+        htmlReplacer = null;
+        version++;
+    }
+
+    @Override
+    public Message put(Lang key, Message value) {
+        modified();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends Lang, ? extends Message> m) {
+        modified();
+        super.putAll(m);
+    }
+
+    @Override
+    public Message remove(Object key) {
+        modified();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        modified();
+        super.clear();
+    }
+
     public void loadFromAnotherLocale(Locale locale) {
         putAll(locale);
         this.langCode = locale.langCode;
@@ -99,8 +138,15 @@ public class Locale extends HashMap<Lang, Message> {
             return from;
         }
 
-        String replaced = from;
+        MultiPatternReplacer replacer = htmlReplacer;
+        if (replacer == null) {
+            replacer = createHtmlReplacer();
+            htmlReplacer = replacer;
+        }
+        return replacer.apply(from);
+    }
 
+    private MultiPatternReplacer createHtmlReplacer() {
         Lang[][] langs = new Lang[][]{
                 NetworkPageLang.values(),
                 PlayerPageLang.values(),
@@ -108,23 +154,18 @@ public class Locale extends HashMap<Lang, Message> {
                 CommonHtmlLang.values()
         };
 
-        List<Entry<Lang, Message>> entries = Arrays.stream(langs)
-                .flatMap(Arrays::stream)
-                .collect(Collectors.toMap(Function.identity(), this::get))
-                .entrySet().stream()
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getKey().getIdentifier().length(),
-                        one.getKey().getIdentifier().length()
-                )).collect(Collectors.toList());
-
-        for (Entry<Lang, Message> entry : entries) {
-            String defaultValue = entry.getKey().getDefault();
-            String replacement = entry.getValue().toString();
-
-            replaced = replaced.replace(defaultValue, replacement);
+        // Replacer prefers the longest match so that entries that contain each other don't partially replace.
+        Map<String, String> replacements = new HashMap<>();
+        for (Lang[] langArray : langs) {
+            for (Lang lang : langArray) {
+                String defaultValue = lang.getDefault();
+                String replacement = get(lang).toString();
+                if (!defaultValue.equals(replacement)) {
+                    replacements.putIfAbsent(defaultValue, replacement);
+                }
+            }
         }
-        return replaced;
+        return new MultiPatternReplacer(replacements);
     }
 
     @Override
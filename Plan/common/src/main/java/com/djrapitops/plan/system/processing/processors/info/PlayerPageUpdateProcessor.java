@@ -47,7 +47,7 @@ public class PlayerPageUpdateProcessor implements Runnable {
 
     @Override
     public void run() {
-        ResponseCache.clearResponse(PageId.PLAYER.of(playerUUID));
+        ResponseCache.markStale(PageId.PLAYER.of(playerUUID));
 
         if (config.get(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
             if (config.get(ExportSettings.PLAYER_JSON)) {
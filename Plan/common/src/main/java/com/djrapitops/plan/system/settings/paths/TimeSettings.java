@@ -40,6 +40,9 @@ public class TimeSettings {
     public static final Setting<Long> DELETE_PING_DATA_AFTER = new TimeSetting("Time.Thresholds.Remove_ping_data_after");
     public static final Setting<Long> ANALYSIS_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Analysis_refresh_every");
     public static final Setting<Long> EXTENSION_DATA_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Extension_data_refresh_every");
+    public static final Setting<Long> SERVER_PLACEHOLDER_VALUES_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Server_placeholder_values_refresh_every");
+    public static final Setting<Long> PLAYER_PLACEHOLDER_VALUES_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Player_placeholder_values_refresh_every");
+    public static final Setting<Long> SERVER_SUMMARY_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Server_summary_refresh_every");
     public static final Setting<Long> CLEAN_CACHE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_caches_every");
     public static final Setting<Long> CLEAN_DATABASE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_Database_every");
     public static final Setting<Long> CONFIG_UPDATE_INTERVAL = new TimeSetting("Time.Periodic_tasks.Check_DB_for_server_config_files_every");
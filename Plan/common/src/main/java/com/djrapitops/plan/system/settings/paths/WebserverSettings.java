@@ -20,6 +20,7 @@ import com.djrapitops.plan.system.settings.paths.key.BooleanSetting;
 import com.djrapitops.plan.system.settings.paths.key.IntegerSetting;
 import com.djrapitops.plan.system.settings.paths.key.Setting;
 import com.djrapitops.plan.system.settings.paths.key.StringSetting;
+import com.djrapitops.plan.system.settings.paths.key.TimeSetting;
 
 /**
  * {@link Setting} values that are in "Webserver" section.
@@ -38,6 +39,16 @@ public class WebserverSettings {
     public static final Setting<String> CERTIFICATE_ALIAS = new StringSetting("Webserver.Security.SSL_certificate.Alias");
     public static final Setting<Boolean> DISABLED = new BooleanSetting("Webserver.Disable_Webserver");
     public static final Setting<String> EXTERNAL_LINK = new StringSetting("Webserver.External_Webserver_address");
+    public static final Setting<Long> REFRESH_PAGES_AFTER = new TimeSetting("Webserver.Cache.Refresh_pages_after");
+    public static final Setting<Long> REMOVE_PAGES_AFTER = new TimeSetting("Webserver.Cache.Remove_pages_after");
+    public static final Setting<Long> REMEMBER_LOGINS_FOR = new TimeSetting("Webserver.Cache.Remember_logins_for");
+    public static final Setting<Integer> BACKLOG = new IntegerSetting("Webserver.Request_handling.Backlog", Setting::timeValidator);
+    public static final Setting<Integer> STATIC_THREADS = new IntegerSetting("Webserver.Request_handling.Static_threads", Setting::timeValidator);
+    public static final Setting<Integer> PAGE_THREADS = new IntegerSetting("Webserver.Request_handling.Page_threads", Setting::timeValidator);
+    public static final Setting<Integer> GENERATION_THREADS = new IntegerSetting("Webserver.Request_handling.Generation_threads", Setting::timeValidator);
+    public static final Setting<Integer> INFO_THREADS = new IntegerSetting("Webserver.Request_handling.Info_threads", Setting::timeValidator);
+    public static final Setting<Integer> QUEUE_SIZE = new IntegerSetting("Webserver.Request_handling.Queue_size", Setting::timeValidator);
+    public static final Setting<Boolean> VIRTUAL_THREADS = new BooleanSetting("Webserver.Request_handling.Use_virtual_threads");
 
     private WebserverSettings() {
         /* static variable class */
@@ -20,12 +20,15 @@ import com.djrapitops.plan.api.exceptions.EnableException;
 import com.djrapitops.plan.system.SubSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.utilities.formatting.MultiPatternReplacer;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.utilities.Verify;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.djrapitops.plan.system.settings.theme.ThemeVal.*;
 
@@ -44,6 +47,8 @@ public class Theme implements SubSystem {
     private final PluginLogger logger;
 
     private ThemeConfig themeConfig;
+    private volatile MultiPatternReplacer colorReplacer;
+    private volatile int version;
 
     @Inject
     public Theme(PlanFiles files, PlanConfig config, PluginLogger logger) {
@@ -65,11 +70,22 @@ public class Theme implements SubSystem {
         try {
             themeConfig = new ThemeConfig(files, config, logger);
             themeConfig.save();
+            colorReplacer = null;
+            version++;
         } catch (IOException e) {
             throw new EnableException("theme.yml could not be saved.", e);
         }
     }
 
+    /**
+     * Get a number that changes whenever the theme is loaded again.
+     *
+     * @return Load count.
+     */
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public void disable() {
         // No need to save theme on disable
@@ -92,7 +108,16 @@ public class Theme implements SubSystem {
     }
 
     public String replaceThemeColors(String resourceString) {
-        String replaced = resourceString;
+        MultiPatternReplacer replacer = colorReplacer;
+        if (replacer == null) {
+            replacer = createColorReplacer();
+            colorReplacer = replacer;
+        }
+        return replacer.apply(resourceString);
+    }
+
+    private MultiPatternReplacer createColorReplacer() {
+        Map<String, String> replacements = new HashMap<>();
         ThemeVal[] themeVariables = new ThemeVal[]{
                 RED, PINK, PURPLE,
                 DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
@@ -110,15 +135,15 @@ public class Theme implements SubSystem {
             if (value.contains("url")) {
                 String[] colorAndUrl = value.split(" ");
                 if (colorAndUrl.length >= 2) {
-                    replaced = replaced.replace("background: " + defaultValue, "background: " + colorAndUrl[1]);
-                    replaced = replaced.replace(defaultValue, colorAndUrl[0]);
-                    return replaced;
+                    replacements.putIfAbsent("background: " + defaultValue, "background: " + colorAndUrl[1]);
+                    replacements.putIfAbsent(defaultValue, colorAndUrl[0]);
                 }
             } else {
-                replaced = replaced.replace(defaultValue, value);
+                replacements.putIfAbsent(defaultValue, value);
             }
         }
-        return replaced.replace("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        replacements.put("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        return new MultiPatternReplacer(replacements);
     }
 
     private String getThemeValue(ThemeVal color) {
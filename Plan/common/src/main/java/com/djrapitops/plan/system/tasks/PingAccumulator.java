@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import com.djrapitops.plan.data.container.Ping;
+
+import java.util.UUID;
+
+/**
+ * Accumulates ping samples of a player into min, max and average without storing the samples.
+ * <p>
+ * The accumulator is reused after each stored interval, see {@link #reset()}.
+ *
+ * @author Rsl1122
+ */
+public class PingAccumulator {
+
+    public static final int SAMPLES_PER_INTERVAL = 30;
+
+    private int sampleCount;
+    private int valueCount;
+    private int min;
+    private int max;
+    private long sum;
+    private long lastDate;
+
+    public PingAccumulator() {
+        reset();
+    }
+
+    /**
+     * Add a ping sample.
+     * <p>
+     * Samples outside (0, 4000) count towards the interval, but not to the aggregate values.
+     *
+     * @param date Epoch ms the sample was taken.
+     * @param ping Ping of the player in ms.
+     */
+    public void add(long date, int ping) {
+        sampleCount++;
+        lastDate = date;
+        if (ping <= 0 || ping >= 4000) {
+            return;
+        }
+        valueCount++;
+        sum += ping;
+        if (ping < min) {
+            min = ping;
+        }
+        if (ping > max) {
+            max = ping;
+        }
+    }
+
+    public boolean isIntervalFull() {
+        return sampleCount >= SAMPLES_PER_INTERVAL;
+    }
+
+    public boolean hasValues() {
+        return valueCount > 0;
+    }
+
+    public Ping toPing(UUID serverUUID) {
+        return new Ping(lastDate, serverUUID, min, max, (double) sum / valueCount);
+    }
+
+    public void reset() {
+        sampleCount = 0;
+        valueCount = 0;
+        min = Integer.MAX_VALUE;
+        max = Integer.MIN_VALUE;
+        sum = 0L;
+        lastDate = 0L;
+    }
+}
\ No newline at end of file
@@ -20,6 +20,8 @@ import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderValueRefreshTask;
+import com.djrapitops.plan.system.tasks.server.ServerSummaryRefreshTask;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
 
@@ -36,7 +38,8 @@ public abstract class ServerTaskSystem extends TaskSystem {
     private final BootAnalysisTask bootAnalysisTask;
     private final PeriodicAnalysisTask periodicAnalysisTask;
     private final LogsFolderCleanTask logsFolderCleanTask;
-    private final PlayersPageRefreshTask playersPageRefreshTask;
+    private final PlaceholderValueRefreshTask placeholderValueRefreshTask;
+    private final ServerSummaryRefreshTask serverSummaryRefreshTask;
 
     public ServerTaskSystem(
             RunnableFactory runnableFactory,
@@ -45,13 +48,15 @@ public abstract class ServerTaskSystem extends TaskSystem {
             BootAnalysisTask bootAnalysisTask,
             PeriodicAnalysisTask periodicAnalysisTask,
             LogsFolderCleanTask logsFolderCleanTask,
-            PlayersPageRefreshTask playersPageRefreshTask) {
+            PlaceholderValueRefreshTask placeholderValueRefreshTask,
+            ServerSummaryRefreshTask serverSummaryRefreshTask) {
         super(runnableFactory, tpsCountTimer);
         this.config = config;
         this.bootAnalysisTask = bootAnalysisTask;
         this.periodicAnalysisTask = periodicAnalysisTask;
         this.logsFolderCleanTask = logsFolderCleanTask;
-        this.playersPageRefreshTask = playersPageRefreshTask;
+        this.placeholderValueRefreshTask = placeholderValueRefreshTask;
+        this.serverSummaryRefreshTask = serverSummaryRefreshTask;
     }
 
     @Override
@@ -73,7 +78,12 @@ public abstract class ServerTaskSystem extends TaskSystem {
         }
 
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
-        registerTask(playersPageRefreshTask)
-                .runTaskTimerAsynchronously(TimeAmount.toTicks(5L, TimeUnit.MINUTES), TimeAmount.toTicks(5L, TimeUnit.MINUTES));
+        // Placeholder values are recalculated by the task only once they are older than the configured staleness
+        registerTask(placeholderValueRefreshTask)
+                .runTaskTimerAsynchronously(TimeAmount.toTicks(10L, TimeUnit.SECONDS), TimeAmount.toTicks(5L, TimeUnit.SECONDS));
+
+        long summaryPeriod = TimeAmount.toTicks(config.get(TimeSettings.SERVER_SUMMARY_REFRESH_PERIOD), TimeUnit.MILLISECONDS);
+        registerTask(serverSummaryRefreshTask)
+                .runTaskTimerAsynchronously(TimeAmount.toTicks(1L, TimeUnit.MINUTES), summaryPeriod);
     }
 }
\ No newline at end of file
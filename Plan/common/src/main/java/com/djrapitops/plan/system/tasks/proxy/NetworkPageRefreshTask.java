@@ -36,6 +36,6 @@ public class NetworkPageRefreshTask extends AbsRunnable {
 
     @Override
     public void run() {
-        ResponseCache.clearResponse(PageId.SERVER.of(serverInfo.getServerUUID()));
+        ResponseCache.markStale(PageId.SERVER.of(serverInfo.getServerUUID()));
     }
 }
@@ -14,25 +14,35 @@
  *  You should have received a copy of the GNU Lesser General Public License
  *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
  */
-package com.djrapitops.plan.system.tasks;
+package com.djrapitops.plan.system.tasks.server;
 
-import com.djrapitops.plan.system.webserver.cache.PageId;
-import com.djrapitops.plan.system.webserver.cache.ResponseCache;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plugin.task.AbsRunnable;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Task that keeps {@link PlaceholderValueCache} values up to date.
+ *
+ * @author Rsl1122
+ */
 @Singleton
-public class PlayersPageRefreshTask extends AbsRunnable {
+public class PlaceholderValueRefreshTask extends AbsRunnable {
+
+    private final PlaceholderValueCache placeholderValueCache;
 
     @Inject
-    public PlayersPageRefreshTask() {
-        // Inject constructor required for dagger
+    public PlaceholderValueRefreshTask(PlaceholderValueCache placeholderValueCache) {
+        this.placeholderValueCache = placeholderValueCache;
     }
 
     @Override
     public void run() {
-        ResponseCache.clearResponse(PageId.PLAYERS.id());
+        try {
+            placeholderValueCache.refresh();
+        } catch (IllegalStateException ignore) {
+            /* Plugin was reloading */
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.objects.ServerSummary;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.db.access.transactions.StoreServerSummaryTransaction;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.djrapitops.plugin.task.AbsRunnable;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.UUID;
+
+/**
+ * Task that stores a {@link ServerSummary} of this server for the network page.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ServerSummaryRefreshTask extends AbsRunnable {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final AnalysisContainer.Factory analysisContainerFactory;
+    private final ErrorHandler errorHandler;
+
+    @Inject
+    public ServerSummaryRefreshTask(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            AnalysisContainer.Factory analysisContainerFactory,
+            ErrorHandler errorHandler
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.analysisContainerFactory = analysisContainerFactory;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void run() {
+        Database database = dbSystem.getDatabase();
+        if (database.getState() != Database.State.OPEN) {
+            return;
+        }
+        try {
+            UUID serverUUID = serverInfo.getServerUUID();
+            AnalysisContainer analysis = analysisContainerFactory.forServerContainer(
+                    database.query(ContainerFetchQueries.fetchServerContainer(serverUUID))
+            );
+            database.executeTransaction(new StoreServerSummaryTransaction(ServerSummary.forAnalysis(
+                    serverUUID, analysis,
+                    config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
+                    config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
+            )));
+        } catch (IllegalStateException ignore) {
+            /* Plugin was reloading */
+        } catch (DBOpException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,259 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.WebserverSettings;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.errors.ServiceUnavailableResponse;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * HttpHandler that hands requests to separate thread pools depending on how expensive they are.
+ * <p>
+ * Style sheets and scripts, pages that are usually cached, requests that query the database or
+ * generate pages and requests from other servers each have their own pool, so slow requests do not block
+ * the fast ones. A pool accepts a limited amount of requests, further requests are answered with 503 and Retry-After.
+ * <p>
+ * Requests of other servers have their own pool so that users loading json or the debug page can not make
+ * the connections between servers fail.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class RequestDispatcher implements HttpHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static final Set<String> ROUTES = new HashSet<>(Arrays.asList(
+            "debug", "players", "player", "network", "server", "info", "json"
+    ));
+
+    enum Lane {
+        STATIC("Static"),
+        PAGE("Page"),
+        GENERATION("Generation"),
+        INFO("Info");
+
+        private final String name;
+
+        Lane(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Locale locale;
+    private final PlanConfig config;
+    private final Theme theme;
+    private final RequestHandler requestHandler;
+    private final RequestLatencies latencies;
+    private final PluginLogger logger;
+
+    private final Map<Lane, LaneExecutor> lanes;
+    private final Response serviceUnavailable;
+
+    @Inject
+    public RequestDispatcher(
+            Locale locale,
+            PlanConfig config,
+            Theme theme,
+            RequestHandler requestHandler,
+            RequestLatencies latencies,
+            PluginLogger logger
+    ) {
+        this.locale = locale;
+        this.config = config;
+        this.theme = theme;
+        this.requestHandler = requestHandler;
+        this.latencies = latencies;
+        this.logger = logger;
+
+        lanes = new EnumMap<>(Lane.class);
+        serviceUnavailable = new ServiceUnavailableResponse("Too many requests, please try again in a few seconds.");
+    }
+
+    public void enable() {
+        int queueSize = config.get(WebserverSettings.QUEUE_SIZE);
+        boolean useVirtualThreads = config.isTrue(WebserverSettings.VIRTUAL_THREADS);
+        Optional<ExecutorService> virtualThreads = useVirtualThreads ? createVirtualThreadExecutor() : Optional.empty();
+        if (useVirtualThreads && !virtualThreads.isPresent()) {
+            logger.warn("WebServer: Virtual threads require Java 21 or newer, using thread pools instead.");
+        }
+
+        lanes.put(Lane.STATIC, createLane(Lane.STATIC, config.get(WebserverSettings.STATIC_THREADS), queueSize, virtualThreads));
+        lanes.put(Lane.PAGE, createLane(Lane.PAGE, config.get(WebserverSettings.PAGE_THREADS), queueSize, virtualThreads));
+        lanes.put(Lane.GENERATION, createLane(Lane.GENERATION, config.get(WebserverSettings.GENERATION_THREADS), queueSize, virtualThreads));
+        lanes.put(Lane.INFO, createLane(Lane.INFO, config.get(WebserverSettings.INFO_THREADS), queueSize, virtualThreads));
+    }
+
+    private LaneExecutor createLane(Lane lane, int threads, int queueSize, Optional<ExecutorService> virtualThreads) {
+        if (virtualThreads.isPresent()) {
+            // Every request gets a thread, the thread count only limits how many run at the same time.
+            return new LaneExecutor(virtualThreads.get(), threads + queueSize, new Semaphore(threads));
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("Plan WebServer " + lane.name + " Thread-%d").build()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return new LaneExecutor(executor, threads + queueSize, null);
+    }
+
+    private Optional<ExecutorService> createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException notAvailable) {
+            return Optional.empty();
+        }
+    }
+
+    public void disable() {
+        Set<ExecutorService> executors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (LaneExecutor lane : lanes.values()) {
+            executors.add(lane.executor);
+        }
+        lanes.clear();
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                logger.error("WebServer ExecutorService shutdown thread interrupted on disable: " + e.getMessage());
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) {
+        long start = System.nanoTime();
+        String path = exchange.getRequestURI().getPath();
+        Lane lane = getLane(path);
+        String route = getRoute(lane, path);
+
+        LaneExecutor executor = lanes.get(lane);
+        boolean accepted = executor != null && executor.tryExecute(() -> {
+            try {
+                requestHandler.handle(exchange);
+            } finally {
+                latencies.record(route, System.nanoTime() - start);
+            }
+        });
+        if (!accepted) {
+            latencies.rejected(route);
+            sendServiceUnavailable(exchange);
+        }
+    }
+
+    static Lane getLane(String path) {
+        if (path.endsWith(".css") || path.endsWith(".js") || path.endsWith("favicon.ico")) {
+            return Lane.STATIC;
+        }
+        String route = getFirstPart(path);
+        if ("info".equals(route)) {
+            return Lane.INFO;
+        }
+        if ("json".equals(route) || "debug".equals(route)) {
+            return Lane.GENERATION;
+        }
+        return Lane.PAGE;
+    }
+
+    static String getRoute(Lane lane, String path) {
+        if (lane == Lane.STATIC) {
+            return "static";
+        }
+        String route = getFirstPart(path);
+        // Unknown addresses are grouped together to keep the amount of histograms small.
+        return route.isEmpty() || ROUTES.contains(route) ? "/" + route : "other";
+    }
+
+    private static String getFirstPart(String path) {
+        String withoutSlash = path.startsWith("/") ? path.substring(1) : path;
+        int end = withoutSlash.indexOf('/');
+        return end != -1 ? withoutSlash.substring(0, end) : withoutSlash;
+    }
+
+    private void sendServiceUnavailable(HttpExchange exchange) {
+        try {
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+            serviceUnavailable.send(exchange, locale, theme);
+        } catch (IOException ignored) {
+            /* Client disconnected */
+        } finally {
+            exchange.close();
+        }
+    }
+
+    static class LaneExecutor {
+        private final ExecutorService executor;
+        private final Semaphore admission;
+        private final Semaphore running;
+
+        LaneExecutor(ExecutorService executor, int capacity, Semaphore running) {
+            this.executor = executor;
+            this.admission = new Semaphore(capacity);
+            this.running = running;
+        }
+
+        boolean tryExecute(Runnable task) {
+            if (!admission.tryAcquire()) {
+                return false;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        runLimited(task);
+                    } finally {
+                        admission.release();
+                    }
+                });
+                return true;
+            } catch (RejectedExecutionException shutdown) {
+                admission.release();
+                return false;
+            }
+        }
+
+        private void runLimited(Runnable task) {
+            if (running == null) {
+                task.run();
+                return;
+            }
+            running.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.system.webserver;
 
 import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.info.connection.InfoRequestBody;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.PluginSettings;
@@ -108,6 +109,11 @@ public class RequestHandler implements HttpHandler {
                 responseHeaders.set("WWW-Authenticate", response.getHeader("WWW-Authenticate").orElse("Basic realm=\"Plan WebUser (/plan register)\""));
             }
 
+            if (request.getTargetString().startsWith("/info/")) {
+                // Tells other Plan servers which InfoRequest body format this server reads.
+                responseHeaders.set(InfoRequestBody.FORMAT_HEADER, Byte.toString(InfoRequestBody.VERSION));
+            }
+
             response.setResponseHeaders(responseHeaders);
             response.send(exchange, locale, theme);
         } catch (Exception e) {
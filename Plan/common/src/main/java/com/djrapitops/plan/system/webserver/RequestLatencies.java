@@ -0,0 +1,120 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps latency histograms of web server requests per route.
+ * <p>
+ * Latency is measured from the moment the request was accepted, so time spent waiting for a thread is included.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class RequestLatencies {
+
+    // Upper bounds of histogram buckets in milliseconds, last bucket has no upper bound.
+    private static final long[] BUCKET_BOUNDS = {10L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L};
+
+    private final Map<String, Histogram> histograms;
+
+    @Inject
+    public RequestLatencies() {
+        histograms = new ConcurrentHashMap<>();
+    }
+
+    public void record(String route, long nanos) {
+        histograms.computeIfAbsent(route, key -> new Histogram()).record(TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    public void rejected(String route) {
+        histograms.computeIfAbsent(route, key -> new Histogram()).rejected.increment();
+    }
+
+    /**
+     * Get the histograms of all routes.
+     *
+     * @return Route - Histogram, sorted by route.
+     */
+    public Map<String, Histogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    public static class Histogram {
+        private final AtomicLongArray buckets;
+        private final LongAdder totalMs;
+        private final LongAdder rejected;
+
+        Histogram() {
+            buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+            totalMs = new LongAdder();
+            rejected = new LongAdder();
+        }
+
+        void record(long ms) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS.length && ms > BUCKET_BOUNDS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+            totalMs.add(ms);
+        }
+
+        /**
+         * Get request counts of each bucket.
+         *
+         * @return Counts, index i contains requests that took at most {@link #getBucketBounds()}[i] ms,
+         * last index contains the requests slower than the last bound.
+         */
+        public long[] getCounts() {
+            long[] counts = new long[buckets.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+            }
+            return counts;
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (long bucketCount : getCounts()) {
+                count += bucketCount;
+            }
+            return count;
+        }
+
+        public long getAverageMs() {
+            long count = getCount();
+            return count != 0 ? totalMs.sum() / count : 0;
+        }
+
+        public long getRejected() {
+            return rejected.sum();
+        }
+    }
+}
\ No newline at end of file
@@ -16,7 +16,9 @@
  */
 package com.djrapitops.plan.system.webserver;
 
+import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.net.URLDecoder;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,7 +38,8 @@ public class RequestTarget {
         resource = Arrays.stream(resourceString.split("/")).filter(part -> !part.isEmpty()).collect(Collectors.toList());
 
         parameters = new TreeMap<>();
-        parseParameters(targetURI.getQuery());
+        // Raw query is split before decoding so that encoded '&' and '=' stay inside the values.
+        parseParameters(targetURI.getRawQuery());
     }
 
     private void parseParameters(String parameterString) {
@@ -51,11 +54,19 @@ public class RequestTarget {
             }
             String[] keyAndValue = kv.split("=", 2);
             if (keyAndValue.length >= 2) {
-                parameters.put(keyAndValue[0], keyAndValue[1]);
+                parameters.put(decode(keyAndValue[0]), decode(keyAndValue[1]));
             }
         }
     }
 
+    private String decode(String encoded) {
+        try {
+            return URLDecoder.decode(encoded, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return encoded;
+        }
+    }
+
     public boolean isEmpty() {
         return resource.isEmpty();
     }
@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.exceptions.WebUserAuthException;
 import com.djrapitops.plan.api.exceptions.connection.*;
 import com.djrapitops.plan.system.info.connection.InfoRequestPageHandler;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.pages.*;
@@ -49,6 +50,7 @@ public class ResponseHandler extends TreePageHandler {
     private final ServerPageHandler serverPageHandler;
     private final InfoRequestPageHandler infoRequestPageHandler;
     private final RootJSONHandler rootJSONHandler;
+    private final AssetStore assetStore;
     private final ErrorHandler errorHandler;
 
     private Lazy<WebServer> webServer;
@@ -64,6 +66,7 @@ public class ResponseHandler extends TreePageHandler {
             ServerPageHandler serverPageHandler,
             InfoRequestPageHandler infoRequestPageHandler,
             RootJSONHandler rootJSONHandler,
+            AssetStore assetStore,
 
             ErrorHandler errorHandler
     ) {
@@ -75,6 +78,7 @@ public class ResponseHandler extends TreePageHandler {
         this.serverPageHandler = serverPageHandler;
         this.infoRequestPageHandler = infoRequestPageHandler;
         this.rootJSONHandler = rootJSONHandler;
+        this.assetStore = assetStore;
         this.errorHandler = errorHandler;
     }
 
@@ -111,6 +115,8 @@ public class ResponseHandler extends TreePageHandler {
             return responseFactory.unauthorizedServer(e.getMessage());
         } catch (GatewayException e) {
             return responseFactory.gatewayError504(e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            return responseFactory.gatewayError504(e.getMessage());
         } catch (InternalErrorException e) {
             if (e.getCause() != null) {
                 return responseFactory.internalErrorResponse(e.getCause(), request.getTargetString());
@@ -128,11 +134,10 @@ public class ResponseHandler extends TreePageHandler {
         RequestTarget target = request.getTarget();
         String resource = target.getResourceString();
 
-        if (target.endsWith(".css")) {
-            return ResponseCache.loadResponse(PageId.CSS.of(resource), () -> responseFactory.cssResponse(resource));
-        }
-        if (target.endsWith(".js")) {
-            return ResponseCache.loadResponse(PageId.JS.of(resource), () -> responseFactory.javaScriptResponse(resource));
+        if (target.endsWith(".css") || target.endsWith(".js")) {
+            String fingerprint = target.getParameter(AssetStore.FINGERPRINT_PARAMETER).orElse(null);
+            return assetStore.getAssetResponse(resource, fingerprint)
+                    .orElseGet(() -> responseFactory.notFound404("File not found from jar: " + resource));
         }
         if (target.endsWith("favicon.ico")) {
             return ResponseCache.loadResponse(PageId.FAVICON.id(), responseFactory::faviconResponse);
@@ -62,6 +62,7 @@ public class WebServer implements SubSystem {
 
     private final ServerProperties serverProperties;
     private final RequestHandler requestHandler;
+    private final RequestDispatcher requestDispatcher;
 
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
@@ -80,7 +81,8 @@ public class WebServer implements SubSystem {
             ServerInfo serverInfo,
             PluginLogger logger,
             ErrorHandler errorHandler,
-            RequestHandler requestHandler
+            RequestHandler requestHandler,
+            RequestDispatcher requestDispatcher
     ) {
         this.locale = locale;
         this.files = files;
@@ -88,6 +90,7 @@ public class WebServer implements SubSystem {
         this.serverProperties = serverInfo.getServerProperties();
 
         this.requestHandler = requestHandler;
+        this.requestDispatcher = requestDispatcher;
 
         this.logger = logger;
         this.errorHandler = errorHandler;
@@ -127,22 +130,25 @@ public class WebServer implements SubSystem {
             return;
         }
 
+        int backlog = config.get(WebserverSettings.BACKLOG);
         try {
-            usingHttps = startHttpsServer();
+            usingHttps = startHttpsServer(backlog);
 
             logger.debug(usingHttps ? "Https Start Successful." : "Https Start Failed.");
 
             if (!usingHttps) {
                 logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), backlog);
             } else if (server == null) {
                 logger.log(L.INFO_COLOR, "§eWebServer: Proxy HTTPS Override enabled. HTTP Server in use, make sure that your Proxy webserver is routing with HTTPS and AlternativeIP.Link points to the Proxy");
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), backlog);
             }
-            server.createContext("/", requestHandler);
+            requestDispatcher.enable();
+            server.createContext("/", requestDispatcher);
 
+            // These threads only read the request and hand it to RequestDispatcher, which uses its own threads.
             ExecutorService executor = new ThreadPoolExecutor(
-                    4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
+                    2, 4, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(config.get(WebserverSettings.QUEUE_SIZE)),
                     new ThreadFactoryBuilder().setNameFormat("Plan WebServer Thread-%d").build()
             );
             server.setExecutor(executor);
@@ -157,7 +163,7 @@ public class WebServer implements SubSystem {
         }
     }
 
-    private boolean startHttpsServer() {
+    private boolean startHttpsServer(int backlog) {
         String keyStorePath = config.get(WebserverSettings.CERTIFICATE_PATH);
 
         if ("proxy".equalsIgnoreCase(keyStorePath)) {
@@ -196,7 +202,7 @@ public class WebServer implements SubSystem {
             TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance("SunX509");
             trustManagerFactory.init(keystore);
 
-            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), backlog);
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
             sslContext.init(keyManagerFactory.getKeyManagers(), null/*trustManagerFactory.getTrustManagers()*/, null);
 
@@ -254,6 +260,7 @@ public class WebServer implements SubSystem {
 
     private void shutdown() {
         server.stop(0);
+        requestDispatcher.disable();
         Executor executor = server.getExecutor();
         if (executor instanceof ExecutorService) {
             ExecutorService service = (ExecutorService) executor;
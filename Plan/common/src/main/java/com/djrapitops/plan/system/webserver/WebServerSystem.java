@@ -18,6 +18,11 @@ package com.djrapitops.plan.system.webserver;
 
 import com.djrapitops.plan.api.exceptions.EnableException;
 import com.djrapitops.plan.system.SubSystem;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.WebserverSettings;
+import com.djrapitops.plan.system.webserver.auth.WebUserAuthCache;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
+import com.djrapitops.plan.system.webserver.cache.PageInvalidator;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plugin.benchmarking.Timings;
 
@@ -32,25 +37,51 @@ import javax.inject.Singleton;
 @Singleton
 public class WebServerSystem implements SubSystem {
 
+    private final PlanConfig config;
     private final WebServer webServer;
+    private final PageInvalidator pageInvalidator;
+    private final AssetStore assetStore;
     private Timings timings;
 
     @Inject
-    public WebServerSystem(WebServer webServer, Timings timings) {
+    public WebServerSystem(
+            PlanConfig config,
+            WebServer webServer,
+            PageInvalidator pageInvalidator,
+            AssetStore assetStore,
+            Timings timings
+    ) {
+        this.config = config;
         this.webServer = webServer;
+        this.pageInvalidator = pageInvalidator;
+        this.assetStore = assetStore;
         this.timings = timings;
     }
 
     @Override
     public void enable() throws EnableException {
+        try {
+            ResponseCache.setTimeToLive(
+                    config.get(WebserverSettings.REFRESH_PAGES_AFTER),
+                    config.get(WebserverSettings.REMOVE_PAGES_AFTER)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new EnableException("Config value for " + WebserverSettings.REMOVE_PAGES_AFTER.getPath() + " is shorter than " + WebserverSettings.REFRESH_PAGES_AFTER.getPath(), e);
+        }
+        WebUserAuthCache.setTimeToLive(config.get(WebserverSettings.REMEMBER_LOGINS_FOR));
+        pageInvalidator.register();
         timings.start("WebServer Initialization");
+        assetStore.enable();
         webServer.enable();
         timings.end("WebServer Initialization");
     }
 
     @Override
     public void disable() {
+        pageInvalidator.unregister();
         ResponseCache.clearCache();
+        WebUserAuthCache.clearCache();
+        assetStore.clear();
         webServer.disable();
     }
 
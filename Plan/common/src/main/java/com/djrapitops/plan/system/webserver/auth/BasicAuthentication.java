@@ -25,11 +25,15 @@ import com.djrapitops.plan.db.access.queries.objects.WebUserQueries;
 import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plan.utilities.PassEncryptUtil;
 
+import java.util.Optional;
+
 /**
  * Authentication handling for Basic Auth.
  * <p>
  * Basic access authentication (Wikipedia):
  * https://en.wikipedia.org/wiki/Basic_access_authentication
+ * <p>
+ * Successful authentications are remembered for a short while in {@link WebUserAuthCache}.
  *
  * @author Rsl1122
  */
@@ -45,6 +49,14 @@ public class BasicAuthentication implements Authentication {
 
     @Override
     public WebUser getWebUser() throws WebUserAuthException {
+        Optional<WebUser> verified = WebUserAuthCache.getVerified(authenticationString);
+        if (verified.isPresent()) {
+            return verified.get();
+        }
+        return verifyWebUser();
+    }
+
+    private WebUser verifyWebUser() throws WebUserAuthException {
         String decoded = Base64Util.decode(authenticationString);
 
         String[] userInfo = decoded.split(":");
@@ -61,6 +73,8 @@ public class BasicAuthentication implements Authentication {
         }
 
         try {
+            // Read before the user is fetched, so that a change during the verification is not cached.
+            long generation = WebUserAuthCache.getGeneration(user);
             WebUser webUser = database.query(WebUserQueries.fetchWebUser(user))
                     .orElseThrow(() -> new WebUserAuthException(FailReason.USER_DOES_NOT_EXIST, user));
 
@@ -68,6 +82,7 @@ public class BasicAuthentication implements Authentication {
             if (!correctPass) {
                 throw new WebUserAuthException(FailReason.USER_PASS_MISMATCH, user);
             }
+            WebUserAuthCache.cacheVerified(authenticationString, webUser, generation);
             return webUser;
         } catch (DBOpException | PassEncryptException e) {
             throw new WebUserAuthException(e);
@@ -0,0 +1,149 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.auth;
+
+import com.djrapitops.plan.data.WebUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for successfully verified Authorization headers.
+ * <p>
+ * Verifying a password runs the full PBKDF2 hash, which is too slow to do for every resource of a page load.
+ * Headers are stored as a SHA-256 digest salted with a random value generated on startup, so the
+ * plain credentials are never kept in memory. Only successful authentications are cached.
+ * <p>
+ * Cached authentications of a user are removed after a Transaction that changes the user has been committed.
+ *
+ * @author Rsl1122
+ */
+public class WebUserAuthCache {
+
+    private static final byte[] SALT = createSalt();
+
+    private static final Cache<String, WebUser> cache = Caffeine.newBuilder()
+            .expireAfterWrite(60, TimeUnit.SECONDS)
+            .build();
+    private static final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private WebUserAuthCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static byte[] createSalt() {
+        byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+
+    static String digest(String authenticationString) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(SALT);
+            digest.update(authenticationString.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the WebUser of an Authorization header that was verified recently.
+     *
+     * @param authenticationString Encoded credentials of the Authorization header.
+     * @return WebUser if the same credentials were verified within the cache period.
+     */
+    public static Optional<WebUser> getVerified(String authenticationString) {
+        return Optional.ofNullable(cache.getIfPresent(digest(authenticationString)));
+    }
+
+    private static AtomicLong generationOf(String username) {
+        return generations.computeIfAbsent(username.toLowerCase(Locale.ROOT), key -> new AtomicLong());
+    }
+
+    /**
+     * Get the number of times cached authentications of a user have been removed.
+     * <p>
+     * Read before the user is fetched from the database for verification.
+     *
+     * @param username Name of the WebUser.
+     * @return Generation to give to {@link #cacheVerified(String, WebUser, long)}.
+     */
+    public static long getGeneration(String username) {
+        return generationOf(username).get();
+    }
+
+    /**
+     * Remember successfully verified credentials.
+     * <p>
+     * The credentials are not remembered if the user changed during the verification.
+     *
+     * @param authenticationString Encoded credentials of the Authorization header.
+     * @param webUser              WebUser the credentials belong to.
+     * @param generation           {@link #getGeneration(String)} of the user before it was fetched from the database.
+     */
+    public static void cacheVerified(String authenticationString, WebUser webUser, long generation) {
+        String digest = digest(authenticationString);
+        cache.put(digest, webUser);
+        // Checked after put, invalidate may have removed entries between the check and the put otherwise.
+        if (getGeneration(webUser.getName()) != generation) {
+            cache.invalidate(digest);
+        }
+    }
+
+    /**
+     * Remove all cached authentications of a user.
+     *
+     * @param username Name of the WebUser whose password or existence changed.
+     */
+    public static void invalidate(String username) {
+        generationOf(username).incrementAndGet();
+        cache.asMap().values().removeIf(webUser -> webUser.getName().equalsIgnoreCase(username));
+    }
+
+    /**
+     * Change how long verified credentials are remembered.
+     *
+     * @param timeToLive Time in ms, always positive when given from {@link com.djrapitops.plan.system.settings.paths.WebserverSettings#REMEMBER_LOGINS_FOR}.
+     */
+    public static void setTimeToLive(long timeToLive) {
+        cache.policy().expireAfterWrite().ifPresent(expiration -> expiration.setExpiresAfter(timeToLive, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clearCache() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.file.PlanFiles;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.AssetResponse;
+import com.djrapitops.plan.system.webserver.response.FileResponse;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.ResponseType;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the html templates and the style sheets and scripts they use in memory.
+ * <p>
+ * Assets are stored with theme colors applied and gzip compressed, so they are sent without any
+ * per-request work. References to assets in the templates get a content hash parameter
+ * ({@code css/style.css?v=hash}), which allows browsers to cache the assets until the content changes.
+ * <p>
+ * Files are loaded when the web server is enabled, or on the first request if the file is not
+ * referenced by a template. Files are read again after {@link #RELOAD_PERIOD} so that changes to
+ * customized files become visible without a reload, like they did when the files were kept in {@link ResponseCache}.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class AssetStore {
+
+    public static final String FINGERPRINT_PARAMETER = "v";
+    static final long RELOAD_PERIOD = TimeUnit.MINUTES.toMillis(5L);
+
+    // The error page is not rendered through the store, see ErrorResponse.
+    private static final String[] TEMPLATES = {
+            "web/server.html", "web/network.html", "web/player.html", "web/players.html"
+    };
+    private static final Pattern ASSET_REFERENCE = Pattern.compile("(href|src)=\"([^\"]+\\.(?:css|js))\"");
+
+    private final PlanFiles files;
+    private final Locale locale;
+    private final Theme theme;
+    private final ErrorHandler errorHandler;
+    private final LongSupplier clock;
+
+    private final Map<String, Asset> assets;
+    private final Map<String, Template> templates;
+
+    @Inject
+    public AssetStore(
+            PlanFiles files,
+            Locale locale,
+            Theme theme,
+            ErrorHandler errorHandler
+    ) {
+        this(files, locale, theme, errorHandler, System::currentTimeMillis);
+    }
+
+    AssetStore(
+            PlanFiles files,
+            Locale locale,
+            Theme theme,
+            ErrorHandler errorHandler,
+            LongSupplier clock
+    ) {
+        this.files = files;
+        this.locale = locale;
+        this.theme = theme;
+        this.errorHandler = errorHandler;
+        this.clock = clock;
+
+        assets = new ConcurrentHashMap<>();
+        templates = new ConcurrentHashMap<>();
+    }
+
+    public void enable() {
+        for (String template : TEMPLATES) {
+            try {
+                getTemplate(template);
+            } catch (IOException e) {
+                errorHandler.log(L.WARN, this.getClass(), e);
+            }
+        }
+    }
+
+    public void clear() {
+        assets.clear();
+        templates.clear();
+    }
+
+    /**
+     * Get a html template with fingerprinted asset references.
+     *
+     * @param fileName Name of the template, eg. "web/server.html"
+     * @return Contents of the template.
+     * @throws IOException If the template could not be read.
+     */
+    public String getTemplate(String fileName) throws IOException {
+        Template template = templates.get(fileName);
+        if (template == null || isOutdated(template.loaded)) {
+            template = new Template(addFingerprints(files.getCustomizableResourceOrDefault(fileName).asString()), clock.getAsLong());
+            templates.put(fileName, template);
+        }
+        return template.html;
+    }
+
+    private boolean isOutdated(long loaded) {
+        return clock.getAsLong() - loaded > RELOAD_PERIOD;
+    }
+
+    private String addFingerprints(String html) {
+        Matcher matcher = ASSET_REFERENCE.matcher(html);
+        StringBuffer replaced = new StringBuffer(html.length() + 512);
+        while (matcher.find()) {
+            String reference = matcher.group(2);
+            Optional<Asset> asset = isExternal(reference) ? Optional.empty() : getAsset(reference);
+            String fingerprinted = asset.map(found -> reference + '?' + FINGERPRINT_PARAMETER + '=' + found.fingerprint)
+                    .orElse(reference);
+            matcher.appendReplacement(replaced, Matcher.quoteReplacement(matcher.group(1) + "=\"" + fingerprinted + '"'));
+        }
+        matcher.appendTail(replaced);
+        return replaced.toString();
+    }
+
+    private boolean isExternal(String reference) {
+        return reference.contains("://") || reference.startsWith("//");
+    }
+
+    /**
+     * Get a style sheet or script.
+     *
+     * @param resource    Requested path, eg. "/server/css/style.css"
+     * @param fingerprint Fingerprint given in the request, null if not given.
+     * @return Response that can be cached indefinitely if the fingerprint matches the content,
+     * empty if the file does not exist.
+     */
+    public Optional<Response> getAssetResponse(String resource, String fingerprint) {
+        return getAsset(resource).map(asset -> asset.fingerprint.equals(fingerprint) ? asset.immutable : asset.revalidated);
+    }
+
+    private Optional<Asset> getAsset(String resource) {
+        String fileName = FileResponse.format(resource);
+        Asset asset = assets.get(fileName);
+        if (asset == null || isOutdated(asset.loaded)) {
+            asset = loadAsset(fileName);
+            if (asset != null) {
+                assets.put(fileName, asset);
+            } else {
+                assets.remove(fileName);
+            }
+        }
+        return Optional.ofNullable(asset);
+    }
+
+    private Asset loadAsset(String fileName) {
+        ResponseType type;
+        if (fileName.endsWith(".css")) {
+            type = ResponseType.CSS;
+        } else if (fileName.endsWith(".js")) {
+            type = ResponseType.JAVASCRIPT;
+        } else {
+            return null;
+        }
+        try {
+            String content = files.getCustomizableResourceOrDefault(fileName).asString();
+            return new Asset(AssetResponse.immutable(type, content), AssetResponse.revalidated(type, content));
+        } catch (IOException notFound) {
+            return null;
+        }
+    }
+
+    private static class Template {
+        private final String html;
+        private final long loaded;
+
+        Template(String html, long loaded) {
+            this.html = html;
+            this.loaded = loaded;
+        }
+    }
+
+    private class Asset {
+        private final Response immutable;
+        private final Response revalidated;
+        private final String fingerprint;
+        private final long loaded;
+
+        Asset(Response immutable, Response revalidated) {
+            this.immutable = immutable;
+            this.revalidated = revalidated;
+            revalidated.render(locale, theme);
+            String eTag = immutable.render(locale, theme);
+            this.fingerprint = eTag.substring(1, Math.min(eTag.length() - 1, 13));
+            this.loaded = clock.getAsLong();
+        }
+    }
+}
\ No newline at end of file
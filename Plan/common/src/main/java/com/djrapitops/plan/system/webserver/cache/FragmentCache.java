@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.cache.DataChange;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the placeholder values of page sections so that a page can be generated again
+ * without recalculating the sections that have not changed.
+ * <p>
+ * Each fragment has its own time to live and is removed early if data it depends on changes,
+ * see {@link PageInvalidator}.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class FragmentCache {
+
+    private final Map<String, Fragment> fragments;
+
+    @Inject
+    public FragmentCache() {
+        fragments = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the placeholder values of a fragment, rendering them if the cached values have expired.
+     *
+     * @param serverUUID   UUID of the server the fragment shows data of.
+     * @param name         Name of the fragment, unique within the server.
+     * @param timeToLive   Time in ms the values can be reused.
+     * @param dependencies Types of changes that make the values outdated before the time to live.
+     * @param renderer     Calculates the placeholder values.
+     * @return Placeholder values of the fragment.
+     */
+    public Map<String, Serializable> getFragment(
+            UUID serverUUID, String name,
+            long timeToLive, Set<DataChange.Type> dependencies,
+            Supplier<Map<String, Serializable>> renderer
+    ) {
+        String identifier = serverUUID + ":" + name;
+        long now = System.currentTimeMillis();
+        Fragment cached = fragments.get(identifier);
+        if (cached != null && now - cached.created <= timeToLive) {
+            return cached.values;
+        }
+        Map<String, Serializable> values = Collections.unmodifiableMap(new HashMap<>(renderer.get()));
+        fragments.put(identifier, new Fragment(serverUUID, dependencies, now, values));
+        return values;
+    }
+
+    public boolean isCached(UUID serverUUID, String name) {
+        return fragments.containsKey(serverUUID + ":" + name);
+    }
+
+    /**
+     * Remove fragments that depend on the changed data.
+     *
+     * @param change Change that was made to the database, fragments of all servers are removed if it has no server.
+     */
+    public void invalidate(DataChange change) {
+        Optional<UUID> changedServer = change.getServerUUID();
+        fragments.values().removeIf(fragment -> fragment.dependencies.contains(change.getType())
+                && changedServer.map(fragment.serverUUID::equals).orElse(true));
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    private static class Fragment {
+        private final UUID serverUUID;
+        private final Set<DataChange.Type> dependencies;
+        private final long created;
+        private final Map<String, Serializable> values;
+
+        Fragment(UUID serverUUID, Set<DataChange.Type> dependencies, long created, Map<String, Serializable> values) {
+            this.serverUUID = serverUUID;
+            this.dependencies = dependencies;
+            this.created = created;
+            this.values = values;
+        }
+    }
+}
\ No newline at end of file
@@ -26,18 +26,13 @@ import java.util.UUID;
 public enum PageId {
 
     SERVER("serverPage:"),
-    RAW_SERVER("rawServer:"),
     PLAYER("playerPage:"),
-    RAW_PLAYER("rawPlayer:"),
     PLAYERS("playersPage"),
 
     ERROR("error:"),
     FORBIDDEN(ERROR.of("Forbidden")),
     NOT_FOUND(ERROR.of("Not Found")),
 
-    JS("js:"),
-    CSS("css:"),
-
     FAVICON("Favicon"),
 
     @Deprecated
@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.cache.DataChange;
+import com.djrapitops.plan.system.cache.InvalidationBus;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Subscribes to {@link InvalidationBus} to invalidate only the cached pages affected by a {@link DataChange}.
+ * <p>
+ * Player, players and server pages are marked stale so that the old version is served while
+ * {@link RevalidatingPageCache} generates a new one. TPS and Ping changes arrive every minute,
+ * so pages that show them are left to age out with the soft time to live instead.
+ * <p>
+ * Sections of the server page cached in {@link FragmentCache} are removed on all changes they depend on.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PageInvalidator {
+
+    private final FragmentCache fragmentCache;
+
+    private final Map<DataChange.Type, List<Consumer<DataChange>>> subscriptions;
+
+    @Inject
+    public PageInvalidator(FragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+        subscriptions = new EnumMap<>(DataChange.Type.class);
+    }
+
+    public void register() {
+        for (DataChange.Type type : DataChange.Type.values()) {
+            subscribe(type, fragmentCache::invalidate);
+        }
+        subscribe(DataChange.Type.PLAYER_REGISTER, this::playerDataChanged);
+        subscribe(DataChange.Type.PLAYER_REMOVE, this::playerRemoved);
+        subscribe(DataChange.Type.SESSION, this::playerDataChanged);
+        subscribe(DataChange.Type.PLAYER_EXTENSION_DATA, this::playerPageChanged);
+        subscribe(DataChange.Type.SERVER_EXTENSION_DATA, this::serverPageChanged);
+    }
+
+    private void subscribe(DataChange.Type type, Consumer<DataChange> subscriber) {
+        InvalidationBus.subscribe(type, subscriber);
+        subscriptions.computeIfAbsent(type, t -> new ArrayList<>()).add(subscriber);
+    }
+
+    public void unregister() {
+        // Only this invalidator's subscribers are removed, other caches keep listening.
+        for (Map.Entry<DataChange.Type, List<Consumer<DataChange>>> entry : subscriptions.entrySet()) {
+            for (Consumer<DataChange> subscriber : entry.getValue()) {
+                InvalidationBus.unsubscribe(entry.getKey(), subscriber);
+            }
+        }
+        subscriptions.clear();
+        fragmentCache.clear();
+    }
+
+    private void playerDataChanged(DataChange change) {
+        playerPageChanged(change);
+        serverPageChanged(change);
+        ResponseCache.markStale(PageId.PLAYERS.id());
+    }
+
+    private void playerRemoved(DataChange change) {
+        change.getPlayerUUID().ifPresent(playerUUID -> ResponseCache.clearResponse(PageId.PLAYER.of(playerUUID)));
+        // The player is removed from all servers
+        for (String identifier : ResponseCache.getCacheKeys()) {
+            if (identifier.startsWith(PageId.SERVER.id())) {
+                ResponseCache.markStale(identifier);
+            }
+        }
+        ResponseCache.markStale(PageId.PLAYERS.id());
+    }
+
+    private void playerPageChanged(DataChange change) {
+        change.getPlayerUUID().ifPresent(playerUUID -> ResponseCache.markStale(PageId.PLAYER.of(playerUUID)));
+    }
+
+    private void serverPageChanged(DataChange change) {
+        change.getServerUUID().ifPresent(serverUUID -> ResponseCache.markStale(PageId.SERVER.of(serverUUID)));
+    }
+}
\ No newline at end of file
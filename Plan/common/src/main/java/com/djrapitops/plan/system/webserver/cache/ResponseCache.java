@@ -19,6 +19,7 @@ package com.djrapitops.plan.system.webserver.cache;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -30,15 +31,27 @@ import java.util.function.Supplier;
  * It caches all Responses with their matching identifiers.
  * This reduces CPU cycles and the time to wait for loading the pages.
  * This is especially useful in situations where multiple clients are accessing the server.
+ * <p>
+ * Responses are removed after the hard time to live. Responses older than the soft time to live
+ * are still returned, but considered stale so that a new version can be generated while the
+ * old one is being served, see {@link RevalidatingPageCache}.
+ * <p>
+ * Parts of pages that are not regenerated in the background, like the plugins tab of a player,
+ * are removed after {@link #SHORT_TIME_TO_LIVE} instead of the hard time to live.
  *
  * @author Fuzzlemann
  */
 public class ResponseCache {
 
-    private static final Cache<String, Response> cache = Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)
+    static final long SHORT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5L);
+
+    private static final Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+            .expireAfter(new CachedResponseExpiry())
             .build();
 
+    private static volatile long softTimeToLive = TimeUnit.MINUTES.toMillis(5L);
+    private static volatile long hardTimeToLive = TimeUnit.HOURS.toMillis(1L);
+
     /**
      * Constructor used to hide the public constructor
      */
@@ -59,7 +72,11 @@ public class ResponseCache {
      * @return The Response that was cached or created by the the {@link Response} {@link Supplier}
      */
     public static Response loadResponse(String identifier, Supplier<Response> loader) {
-        return cache.get(identifier, k -> loader.get());
+        CachedResponse cached = cache.get(identifier, k -> {
+            Response response = loader.get();
+            return response != null ? new CachedResponse(identifier, response) : null;
+        });
+        return cached != null ? cached.response : null;
     }
 
     /**
@@ -69,7 +86,8 @@ public class ResponseCache {
      * @return The Response that was cached or {@code null} if it wasn't
      */
     public static Response loadResponse(String identifier) {
-        return cache.getIfPresent(identifier);
+        CachedResponse cached = cache.getIfPresent(identifier);
+        return cached != null ? cached.response : null;
     }
 
     /**
@@ -83,7 +101,7 @@ public class ResponseCache {
     public static void cacheResponse(String identifier, Supplier<Response> loader) {
         Response response = loader.get();
         if (response != null) {
-            cache.put(identifier, response);
+            cache.put(identifier, new CachedResponse(identifier, response));
         }
     }
 
@@ -97,6 +115,72 @@ public class ResponseCache {
         return cache.getIfPresent(identifier) != null;
     }
 
+    /**
+     * Checks if the page was placed in the cache within {@link #SHORT_TIME_TO_LIVE}.
+     * <p>
+     * Used for telling if a server has sent its page recently, since cached pages are kept for the hard time to live.
+     *
+     * @param identifier The identifier of the page
+     * @return true if the page is cached and recent
+     */
+    public static boolean isRecent(String identifier) {
+        CachedResponse cached = cache.getIfPresent(identifier);
+        return cached != null && System.currentTimeMillis() - cached.created <= SHORT_TIME_TO_LIVE;
+    }
+
+    /**
+     * Checks if the page is older than the soft time to live or has been marked stale.
+     *
+     * @param identifier The identifier of the page
+     * @return true if the page is cached but should be generated again
+     */
+    public static boolean isStale(String identifier) {
+        CachedResponse cached = cache.getIfPresent(identifier);
+        return cached != null && (cached.stale || System.currentTimeMillis() - cached.created > softTimeToLive);
+    }
+
+    /**
+     * Marks the page stale without removing it from the cache.
+     * <p>
+     * Stale pages are served until a new version has been generated.
+     *
+     * @param identifier The identifier of the page
+     */
+    public static void markStale(String identifier) {
+        CachedResponse cached = cache.getIfPresent(identifier);
+        if (cached != null) {
+            cached.stale = true;
+        }
+    }
+
+    /**
+     * Get the time the page was placed in the cache.
+     *
+     * @param identifier The identifier of the page
+     * @return Epoch ms, or -1 if the page is not cached
+     */
+    public static long getCreationTime(String identifier) {
+        CachedResponse cached = cache.getIfPresent(identifier);
+        return cached != null ? cached.created : -1L;
+    }
+
+    /**
+     * Change how long responses are kept.
+     * <p>
+     * The hard time to live applies to responses cached after the change.
+     *
+     * @param softTimeToLive Time in ms after which responses are considered stale.
+     * @param hardTimeToLive Time in ms after which responses are removed.
+     * @throws IllegalArgumentException If responses would be removed before they are considered stale.
+     */
+    public static void setTimeToLive(long softTimeToLive, long hardTimeToLive) {
+        if (hardTimeToLive < softTimeToLive) {
+            throw new IllegalArgumentException("Pages can not be removed (" + hardTimeToLive + "ms) before they are refreshed (" + softTimeToLive + "ms)");
+        }
+        ResponseCache.softTimeToLive = softTimeToLive;
+        ResponseCache.hardTimeToLive = hardTimeToLive;
+    }
+
     /**
      * Clears the cache from all its contents.
      */
@@ -115,4 +199,39 @@ public class ResponseCache {
     public static void clearResponse(String identifier) {
         cache.invalidate(identifier);
     }
+
+    private static boolean isShortLived(String identifier) {
+        return identifier.startsWith(PageId.PLAYER_PLUGINS_TAB.id());
+    }
+
+    private static class CachedResponse {
+        private final Response response;
+        private final long created;
+        private final long timeToLive;
+        private volatile boolean stale;
+
+        CachedResponse(String identifier, Response response) {
+            response.markCached();
+            this.response = response;
+            this.created = System.currentTimeMillis();
+            this.timeToLive = isShortLived(identifier) ? SHORT_TIME_TO_LIVE : hardTimeToLive;
+        }
+    }
+
+    private static class CachedResponseExpiry implements Expiry<String, CachedResponse> {
+        @Override
+        public long expireAfterCreate(String identifier, CachedResponse cached, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(cached.timeToLive);
+        }
+
+        @Override
+        public long expireAfterUpdate(String identifier, CachedResponse cached, long currentTime, long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(cached.timeToLive);
+        }
+
+        @Override
+        public long expireAfterRead(String identifier, CachedResponse cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
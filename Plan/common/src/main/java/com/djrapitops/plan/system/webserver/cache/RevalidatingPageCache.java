@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.processing.Processing;
+import com.djrapitops.plan.system.webserver.response.Response;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves pages from {@link ResponseCache} while regenerating stale pages in the background.
+ * <p>
+ * Only one regeneration is started per page identifier at a time. A regeneration is considered
+ * to be running until a newer version of the page is placed in the cache, since pages of other
+ * servers are generated by the other server and sent back later.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class RevalidatingPageCache {
+
+    // Regeneration of a page can be started again if no new page has arrived in this time.
+    static final long REGENERATION_TIMEOUT = TimeUnit.MINUTES.toMillis(2L);
+
+    private final Processing processing;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> regenerationStarts;
+
+    @Inject
+    public RevalidatingPageCache(Processing processing) {
+        this(processing, System::currentTimeMillis);
+    }
+
+    RevalidatingPageCache(Processing processing, LongSupplier clock) {
+        this.processing = processing;
+        this.clock = clock;
+        regenerationStarts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a cached page, regenerating it in the background if it is stale or not cached.
+     *
+     * @param identifier  The identifier of the page, see {@link PageId}
+     * @param regenerator Generates the page and places it in {@link ResponseCache}, run asynchronously.
+     * @return The cached page, stale pages included, or empty if the page is not cached yet.
+     */
+    public Optional<Response> getPage(String identifier, Runnable regenerator) {
+        Response response = ResponseCache.loadResponse(identifier);
+        if (response == null || ResponseCache.isStale(identifier)) {
+            regenerate(identifier, regenerator);
+        } else {
+            regenerationStarts.remove(identifier);
+        }
+        return Optional.ofNullable(response);
+    }
+
+    /**
+     * Start regenerating a page in the background unless it is already being regenerated.
+     *
+     * @param identifier  The identifier of the page, see {@link PageId}
+     * @param regenerator Generates the page and places it in {@link ResponseCache}, run asynchronously.
+     */
+    public void regenerate(String identifier, Runnable regenerator) {
+        if (startRegeneration(identifier)) {
+            processing.submitNonCritical(regenerator);
+        }
+    }
+
+    public boolean isRegenerating(String identifier) {
+        Long start = regenerationStarts.get(identifier);
+        return start != null && isInProgress(identifier, start, clock.getAsLong());
+    }
+
+    private boolean startRegeneration(String identifier) {
+        long now = clock.getAsLong();
+        AtomicBoolean started = new AtomicBoolean(false);
+        regenerationStarts.compute(identifier, (id, start) -> {
+            if (start != null && isInProgress(id, start, now)) {
+                return start;
+            }
+            started.set(true);
+            return now;
+        });
+        return started.get();
+    }
+
+    private boolean isInProgress(String identifier, long start, long now) {
+        return now - start < REGENERATION_TIMEOUT && ResponseCache.getCreationTime(identifier) < start;
+    }
+}
\ No newline at end of file
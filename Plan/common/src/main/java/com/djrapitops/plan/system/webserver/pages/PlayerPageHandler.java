@@ -25,11 +25,13 @@ import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.InfoSystem;
+import com.djrapitops.plan.system.info.connection.WebExceptionLogger;
 import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.RequestTarget;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
+import com.djrapitops.plan.system.webserver.cache.RevalidatingPageCache;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.ResponseFactory;
 import com.djrapitops.plan.system.webserver.response.pages.InspectPageResponse;
@@ -47,22 +49,28 @@ import java.util.UUID;
 @Singleton
 public class PlayerPageHandler implements PageHandler {
 
+    private final RevalidatingPageCache pageCache;
     private final ResponseFactory responseFactory;
     private final DBSystem dbSystem;
     private final InfoSystem infoSystem;
     private final UUIDUtility uuidUtility;
+    private final WebExceptionLogger webExceptionLogger;
 
     @Inject
     public PlayerPageHandler(
+            RevalidatingPageCache pageCache,
             ResponseFactory responseFactory,
             DBSystem dbSystem,
             InfoSystem infoSystem,
-            UUIDUtility uuidUtility
+            UUIDUtility uuidUtility,
+            WebExceptionLogger webExceptionLogger
     ) {
+        this.pageCache = pageCache;
         this.responseFactory = responseFactory;
         this.dbSystem = dbSystem;
         this.infoSystem = infoSystem;
         this.uuidUtility = uuidUtility;
+        this.webExceptionLogger = webExceptionLogger;
     }
 
     @Override
@@ -79,33 +87,43 @@ public class PlayerPageHandler implements PageHandler {
         if (uuid == null) {
             return responseFactory.uuidNotFound404();
         }
-        try {
-            Database.State dbState = dbSystem.getDatabase().getState();
-            if (dbState != Database.State.OPEN) {
-                throw new ForbiddenException("Database is " + dbState.name() + " - Please try again later. You can check database status with /plan info");
-            }
-            // TODO Move this Database dependency to PlayerPage generation in PageFactory instead.
-            if (dbSystem.getDatabase().query(PlayerFetchQueries.isPlayerRegistered(uuid))) {
-                if (raw) {
-                    return ResponseCache.loadResponse(PageId.RAW_PLAYER.of(uuid), () -> responseFactory.rawPlayerPageResponse(uuid));
-                }
-                return playerResponseOrNotFound(uuid);
-            } else {
-                return responseFactory.playerNotFound404();
+        Database.State dbState = dbSystem.getDatabase().getState();
+        if (dbState != Database.State.OPEN) {
+            throw new ForbiddenException("Database is " + dbState.name() + " - Please try again later. You can check database status with /plan info");
+        }
+        // TODO Move this Database dependency to PlayerPage generation in PageFactory instead.
+        if (dbSystem.getDatabase().query(PlayerFetchQueries.isPlayerRegistered(uuid))) {
+            if (raw) {
+                // Raw data is streamed, so there is no body to cache.
+                return responseFactory.rawPlayerPageResponse(uuid);
             }
-        } catch (NoServersException e) {
-            ResponseCache.loadResponse(PageId.PLAYER.of(uuid), () -> responseFactory.notFound404(e.getMessage()));
+            return playerResponse(uuid);
+        } else {
+            return responseFactory.playerNotFound404();
         }
-        return responseFactory.serverNotFound404();
     }
 
-    private Response playerResponseOrNotFound(UUID uuid) throws WebException {
-        Response response = ResponseCache.loadResponse(PageId.PLAYER.of(uuid));
-        if (!(response instanceof InspectPageResponse)) {
-            infoSystem.generateAndCachePlayerPage(uuid);
-            response = ResponseCache.loadResponse(PageId.PLAYER.of(uuid));
+    private Response playerResponse(UUID uuid) {
+        String pageId = PageId.PLAYER.of(uuid);
+        Response response = ResponseCache.loadResponse(pageId);
+        Runnable regenerator = () -> webExceptionLogger.logIfOccurs(PlayerPageHandler.class, () -> {
+            try {
+                infoSystem.generateAndCachePlayerPage(uuid);
+            } catch (NoServersException e) {
+                ResponseCache.loadResponse(pageId, () -> responseFactory.notFound404(e.getMessage()));
+            }
+        });
+        if (response != null) {
+            // Stale page or error of the previous generation is served while the new page is being generated
+            if (!(response instanceof InspectPageResponse) || ResponseCache.isStale(pageId)) {
+                pageCache.regenerate(pageId, regenerator);
+            }
+            return response;
         }
-        return response != null ? response : responseFactory.playerNotFound404();
+
+        // Page is generated in the background so that it does not hold a request thread
+        pageCache.regenerate(pageId, regenerator);
+        return responseFactory.refreshingPageResponse();
     }
 
     @Override
@@ -26,8 +26,10 @@ import com.djrapitops.plan.system.webserver.RequestTarget;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
+import com.djrapitops.plan.system.webserver.cache.RevalidatingPageCache;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.ResponseFactory;
+import com.djrapitops.plan.system.webserver.response.pages.PlayersPageResponse;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -40,14 +42,17 @@ import javax.inject.Singleton;
 @Singleton
 public class PlayersPageHandler implements PageHandler {
 
+    private final RevalidatingPageCache pageCache;
     private final DBSystem dbSystem;
     private final ResponseFactory responseFactory;
 
     @Inject
     public PlayersPageHandler(
+            RevalidatingPageCache pageCache,
             DBSystem dbSystem,
             ResponseFactory responseFactory
     ) {
+        this.pageCache = pageCache;
         this.dbSystem = dbSystem;
         this.responseFactory = responseFactory;
     }
@@ -58,7 +63,18 @@ public class PlayersPageHandler implements PageHandler {
         if (dbState != Database.State.OPEN) {
             throw new ForbiddenException("Database is " + dbState.name() + " - Please try again later. You can check database status with /plan info");
         }
-        return ResponseCache.loadResponse(PageId.PLAYERS.id(), responseFactory::playersPageResponse);
+        String identifier = PageId.PLAYERS.id();
+        // Stale page is served while the new page is being generated
+        return pageCache.getPage(identifier, () -> regenerate(identifier))
+                .orElseGet(responseFactory::refreshingPageResponse);
+    }
+
+    private void regenerate(String identifier) {
+        Response response = responseFactory.playersPageResponse();
+        // Keep serving the previous page if generation failed
+        if (response instanceof PlayersPageResponse || !ResponseCache.isCached(identifier)) {
+            ResponseCache.cacheResponse(identifier, () -> response);
+        }
     }
 
     @Override
@@ -27,12 +27,12 @@ import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
-import com.djrapitops.plan.system.processing.Processing;
 import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.RequestTarget;
 import com.djrapitops.plan.system.webserver.auth.Authentication;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
+import com.djrapitops.plan.system.webserver.cache.RevalidatingPageCache;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.ResponseFactory;
 
@@ -40,6 +40,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * PageHandler for /server and /network pages.
@@ -49,7 +50,7 @@ import java.util.UUID;
 @Singleton
 public class ServerPageHandler implements PageHandler {
 
-    private final Processing processing;
+    private final RevalidatingPageCache pageCache;
     private final ResponseFactory responseFactory;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
@@ -57,13 +58,13 @@ public class ServerPageHandler implements PageHandler {
 
     @Inject
     public ServerPageHandler(
-            Processing processing,
+            RevalidatingPageCache pageCache,
             ResponseFactory responseFactory,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             InfoSystem infoSystem
     ) {
-        this.processing = processing;
+        this.pageCache = pageCache;
         this.responseFactory = responseFactory;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
@@ -77,20 +78,17 @@ public class ServerPageHandler implements PageHandler {
         boolean raw = target.size() >= 2 && target.get(1).equalsIgnoreCase("raw");
         if (raw) {
             checkDBState();
-            return ResponseCache.loadResponse(PageId.RAW_SERVER.of(serverUUID), () -> responseFactory.rawServerPageResponse(serverUUID));
+            // Raw data is streamed, so there is no body to cache.
+            return responseFactory.rawServerPageResponse(serverUUID);
         }
 
-        Response response = ResponseCache.loadResponse(PageId.SERVER.of(serverUUID));
-
-        if (response != null) {
-            return response;
-        } else {
+        String pageId = PageId.SERVER.of(serverUUID);
+        if (!ResponseCache.isCached(pageId)) {
             checkDBState();
-            if (serverInfo.getServer().isProxy() && serverInfo.getServerUUID().equals(serverUUID)) {
-                return ResponseCache.loadResponse(PageId.SERVER.of(serverUUID), responseFactory::networkPageResponse);
-            }
-            return refreshNow(serverUUID);
         }
+        // Stale page is served while the new page is being generated
+        return pageCache.getPage(pageId, () -> regenerate(serverUUID, pageId))
+                .orElseGet(responseFactory::refreshingAnalysisResponse);
     }
 
     private void checkDBState() throws ForbiddenException {
@@ -100,18 +98,29 @@ public class ServerPageHandler implements PageHandler {
         }
     }
 
-    // TODO Split responsibility so that this method does not call system to refresh and also render a refresh page.
-    private Response refreshNow(UUID serverUUID) {
-        processing.submitNonCritical(() -> {
-            try {
-                infoSystem.generateAnalysisPage(serverUUID);
-            } catch (NoServersException | ConnectionFailException e) {
-                ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.notFound404(e.getMessage()));
-            } catch (WebException e) {
-                ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.internalErrorResponse(e, "Failed to generate Analysis Page"));
-            }
-        });
-        return responseFactory.refreshingAnalysisResponse();
+    private boolean isNetworkPage(UUID serverUUID) {
+        return serverInfo.getServer().isProxy() && serverInfo.getServerUUID().equals(serverUUID);
+    }
+
+    private void regenerate(UUID serverUUID, String pageId) {
+        if (isNetworkPage(serverUUID)) {
+            ResponseCache.cacheResponse(pageId, responseFactory::networkPageResponse);
+            return;
+        }
+        try {
+            infoSystem.generateAnalysisPage(serverUUID);
+        } catch (NoServersException | ConnectionFailException e) {
+            cacheIfNoPage(pageId, () -> responseFactory.notFound404(e.getMessage()));
+        } catch (WebException e) {
+            cacheIfNoPage(pageId, () -> responseFactory.internalErrorResponse(e, "Failed to generate Analysis Page"));
+        }
+    }
+
+    private void cacheIfNoPage(String pageId, Supplier<Response> errorResponse) {
+        // Keep serving the previous page if there is one
+        if (!ResponseCache.isCached(pageId)) {
+            ResponseCache.cacheResponse(pageId, errorResponse);
+        }
     }
 
     private UUID getServerUUID(RequestTarget target) {
@@ -16,8 +16,11 @@
  */
 package com.djrapitops.plan.system.webserver.pages.json;
 
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.containers.ServerPlayersTableContainersQuery;
+import com.djrapitops.plan.db.access.queries.objects.GeoInfoQueries;
+import com.djrapitops.plan.db.access.queries.objects.PlayerSummaryQueries;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -28,7 +31,9 @@ import com.djrapitops.plan.utilities.html.tables.PlayersTableJSONParser;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Factory with different JSON parsing placed to a single class.
@@ -38,6 +43,8 @@ import java.util.UUID;
 @Singleton
 public class JSONFactory {
 
+    private static final int MAX_PLAYERS_TABLE_PAGE_LENGTH = 100;
+
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final Formatters formatters;
@@ -68,4 +75,62 @@ public class JSONFactory {
                 formatters
         ).toJSONString();
     }
+
+    /**
+     * Create a single page of the /server players table for jQuery Datatables server-side processing.
+     *
+     * @param serverUUID     UUID of the Plan server.
+     * @param draw           Draw counter of the request.
+     * @param start          Index of the first player on the page.
+     * @param length         Number of players on the page.
+     * @param orderColumn    Index of the column the table is sorted by.
+     * @param descending     Is the order descending.
+     * @param search         Search term, empty for no search.
+     * @return JSON in the format Datatables expects.
+     */
+    public String serverPlayersTablePageJSON(
+            UUID serverUUID, int draw,
+            int start, int length,
+            int orderColumn, boolean descending,
+            String search
+    ) {
+        Boolean openPlayerLinksInNewTab = config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+        int pageLength = length <= 0 || length > MAX_PLAYERS_TABLE_PAGE_LENGTH ? MAX_PLAYERS_TABLE_PAGE_LENGTH : length;
+
+        Database database = dbSystem.getDatabase();
+
+        int recordsTotal = database.query(PlayerSummaryQueries.countPlayersOfServer(serverUUID));
+        int recordsFiltered = search.isEmpty() ? recordsTotal : database.query(PlayerSummaryQueries.countMatchingPlayers(serverUUID, search));
+        List<PlayerSummary> page = database.query(PlayerSummaryQueries.fetchPage(
+                serverUUID, search, getPlayersTableSortColumn(orderColumn), descending, Math.max(start, 0), pageLength
+        ));
+        List<UUID> playerUUIDs = page.stream().map(PlayerSummary::getPlayerUUID).collect(Collectors.toList());
+
+        return new PlayersTableJSONParser(
+                page,
+                database.query(GeoInfoQueries.fetchMostRecentGeolocations(playerUUIDs)),
+                database.query(ExtensionServerPlayerDataTableQuery.fetchPlayersTableProviders(serverUUID)),
+                database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, playerUUIDs)),
+                openPlayerLinksInNewTab,
+                formatters
+        ).toJSONString(draw, recordsTotal, recordsFiltered);
+    }
+
+    private PlayerSummaryQueries.SortColumn getPlayersTableSortColumn(int orderColumn) {
+        // Same order as the column headers of PlayersTableJSONParser
+        switch (orderColumn) {
+            case 0:
+                return PlayerSummaryQueries.SortColumn.NAME;
+            case 1:
+                return PlayerSummaryQueries.SortColumn.ACTIVITY_INDEX;
+            case 2:
+                return PlayerSummaryQueries.SortColumn.PLAYTIME;
+            case 3:
+                return PlayerSummaryQueries.SortColumn.SESSION_COUNT;
+            case 4:
+                return PlayerSummaryQueries.SortColumn.REGISTERED;
+            default:
+                return PlayerSummaryQueries.SortColumn.LAST_SEEN;
+        }
+    }
 }
\ No newline at end of file
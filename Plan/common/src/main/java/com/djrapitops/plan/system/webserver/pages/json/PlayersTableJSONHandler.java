@@ -58,9 +58,43 @@ public class PlayersTableJSONHandler implements PageHandler {
     @Override
     public Response getResponse(Request request, RequestTarget target) throws WebException {
         UUID serverUUID = getServerUUID(target); // Can throw BadRequestException
+        if (target.getParameter("draw").isPresent()) {
+            return getPageResponse(serverUUID, target);
+        }
+        // Whole table, used by the export.
         return new JSONResponse(jsonFactory.serverPlayersTableJSON(serverUUID));
     }
 
+    /**
+     * Respond to a jQuery Datatables server-side processing request.
+     * <p>
+     * See https://datatables.net/manual/server-side for the parameters.
+     */
+    private Response getPageResponse(UUID serverUUID, RequestTarget target) throws BadRequestException {
+        int draw = getIntParameter(target, "draw", 0);
+        int start = getIntParameter(target, "start", 0);
+        int length = getIntParameter(target, "length", 50);
+        int orderColumn = getIntParameter(target, "order[0][column]", 5);
+        boolean descending = !"asc".equalsIgnoreCase(target.getParameter("order[0][dir]").orElse("desc"));
+        String search = target.getParameter("search[value]").orElse("");
+
+        return new JSONResponse(jsonFactory.serverPlayersTablePageJSON(
+                serverUUID, draw, start, length, orderColumn, descending, search
+        ));
+    }
+
+    private int getIntParameter(RequestTarget target, String key, int defaultValue) throws BadRequestException {
+        Optional<String> value = target.getParameter(key);
+        if (!value.isPresent()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.get());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + key + "' was not a number: " + value.get());
+        }
+    }
+
     private UUID getServerUUID(RequestTarget target) throws BadRequestException {
         Optional<String> serverUUID = target.getParameter("serverUUID");
         if (serverUUID.isPresent()) {
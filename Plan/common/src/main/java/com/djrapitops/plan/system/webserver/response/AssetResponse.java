@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+
+/**
+ * Response for a style sheet or script stored in {@link com.djrapitops.plan.system.webserver.cache.AssetStore}.
+ * <p>
+ * Assets requested with the current fingerprint can be cached by the browser indefinitely,
+ * other requests have to be revalidated with the ETag.
+ *
+ * @author Rsl1122
+ */
+public class AssetResponse extends Response {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    private final String cacheControl;
+    private final boolean localized;
+
+    private AssetResponse(ResponseType type, String content, String cacheControl) {
+        super(type);
+        setHeader("HTTP/1.1 200 OK");
+        setContent(content);
+        this.cacheControl = cacheControl;
+        this.localized = type != ResponseType.JAVASCRIPT;
+    }
+
+    public static AssetResponse immutable(ResponseType type, String content) {
+        return new AssetResponse(type, content, IMMUTABLE);
+    }
+
+    public static AssetResponse revalidated(ResponseType type, String content) {
+        return new AssetResponse(type, content, REVALIDATE);
+    }
+
+    @Override
+    protected boolean isBodyReusable() {
+        return true;
+    }
+
+    @Override
+    protected boolean isLocalized() {
+        return localized;
+    }
+
+    @Override
+    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        super.send(exchange, locale, theme);
+    }
+}
\ No newline at end of file
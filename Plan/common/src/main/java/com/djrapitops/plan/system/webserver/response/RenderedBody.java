@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final bytes of a {@link Response} body after locale and theme replacement.
+ * <p>
+ * The versions of the Locale and Theme are kept so that the body is rendered again after they change.
+ * <p>
+ * Both the identity and the gzip encoded form are kept so that a cached Response can be written
+ * to the client without any per-request String operations.
+ *
+ * @author Rsl1122
+ */
+class RenderedBody {
+
+    private final byte[] identity;
+    private final byte[] gzipped;
+    private final String eTag;
+
+    private final Locale locale;
+    private final int localeVersion;
+    private final Theme theme;
+    private final int themeVersion;
+
+    RenderedBody(String content, Locale locale, Theme theme) {
+        this.identity = content.getBytes(StandardCharsets.UTF_8);
+        this.gzipped = gzip(identity);
+        this.eTag = createETag(identity);
+
+        this.locale = locale;
+        this.localeVersion = locale.getVersion();
+        this.theme = theme;
+        this.themeVersion = theme.getVersion();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String createETag(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(bytes);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    boolean isRenderedWith(Locale locale, Theme theme) {
+        return this.locale == locale && localeVersion == locale.getVersion()
+                && this.theme == theme && themeVersion == theme.getVersion();
+    }
+
+    byte[] getIdentity() {
+        return identity;
+    }
+
+    byte[] getGzipped() {
+        return gzipped;
+    }
+
+    String getETag() {
+        return eTag;
+    }
+}
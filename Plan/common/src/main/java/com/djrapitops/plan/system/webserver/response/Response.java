@@ -21,14 +21,21 @@ import com.djrapitops.plan.system.settings.theme.Theme;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.zip.GZIPOutputStream;
 
 /**
+ * Represents a HTTP response.
+ * <p>
+ * Responses stored in {@link com.djrapitops.plan.system.webserver.cache.ResponseCache} keep their
+ * localized and themed body after the first send, so they are served as pre-compressed bytes with
+ * an ETag afterwards. The kept body is rendered again if the Locale or Theme has changed.
+ * Other Responses are rendered and compressed while sending.
+ *
  * @author Rsl1122
  */
 public abstract class Response {
@@ -39,6 +46,9 @@ public abstract class Response {
 
     protected Headers responseHeaders;
 
+    private volatile RenderedBody rendered;
+    private volatile boolean cached;
+
     public Response(ResponseType type) {
         this.type = type.get();
     }
@@ -81,6 +91,7 @@ public abstract class Response {
 
     public void setContent(String content) {
         this.content = content;
+        this.rendered = null;
     }
 
     public int getCode() {
@@ -109,28 +120,117 @@ public abstract class Response {
         this.responseHeaders = responseHeaders;
     }
 
-    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
-        responseHeaders.set("Content-Type", type);
-        responseHeaders.set("Content-Encoding", "gzip");
-        exchange.sendResponseHeaders(getCode(), 0);
+    /**
+     * Mark this Response as stored in a cache, so that the rendered body is kept for later sends.
+     */
+    public void markCached() {
+        cached = true;
+    }
+
+    /**
+     * Tells if the rendered body should be kept between sends.
+     * <p>
+     * Override with false if {@link #getContent()} depends on state that changes after construction.
+     *
+     * @return true if the Response has been cached.
+     */
+    protected boolean isBodyReusable() {
+        return cached;
+    }
+
+    /**
+     * Tells if language replacement should be applied to the body.
+     *
+     * @return true by default.
+     */
+    protected boolean isLocalized() {
+        return true;
+    }
+
+    /**
+     * Render the body ahead of the first send.
+     *
+     * @param locale Locale to translate the body with.
+     * @param theme  Theme to apply colors of.
+     * @return ETag of the rendered body, a quoted content hash.
+     */
+    public String render(Locale locale, Theme theme) {
+        return getRenderedBody(locale, theme).getETag();
+    }
+
+    private RenderedBody getRenderedBody(Locale locale, Theme theme) {
+        RenderedBody body = rendered;
+        if (body != null && body.isRenderedWith(locale, theme)) {
+            return body;
+        }
 
+        body = new RenderedBody(renderContent(locale, theme), locale, theme);
+        rendered = body;
+        return body;
+    }
+
+    private String renderContent(Locale locale, Theme theme) {
         String sentContent = getContent();
-        // TODO Smell
-        if (!(this instanceof JavaScriptResponse)) {
+        if (isLocalized()) {
             sentContent = locale.replaceMatchingLanguage(sentContent);
         }
-        sentContent = theme.replaceThemeColors(sentContent);
-
-        try (
-                GZIPOutputStream out = new GZIPOutputStream(exchange.getResponseBody());
-                ByteArrayInputStream bis = new ByteArrayInputStream(sentContent.getBytes(StandardCharsets.UTF_8))
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
+        return theme.replaceThemeColors(sentContent);
+    }
+
+    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        Headers requestHeaders = exchange.getRequestHeaders();
+        Headers headers = exchange.getResponseHeaders();
+
+        headers.set("Content-Type", type);
+        headers.set("Vary", "Accept-Encoding");
+
+        String acceptEncoding = requestHeaders.getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        if (!isBodyReusable()) {
+            sendRenderedNow(exchange, renderContent(locale, theme), gzip);
+            return;
+        }
+
+        RenderedBody body = getRenderedBody(locale, theme);
+        int code = getCode();
+        if (code == 200) {
+            headers.set("ETag", body.getETag());
+            if (body.getETag().equals(requestHeaders.getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
             }
         }
+
+        byte[] sent;
+        if (gzip) {
+            headers.set("Content-Encoding", "gzip");
+            sent = body.getGzipped();
+        } else {
+            sent = body.getIdentity();
+        }
+
+        exchange.sendResponseHeaders(code, sent.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(sent);
+        }
+    }
+
+    private void sendRenderedNow(HttpExchange exchange, String sentContent, boolean gzip) throws IOException {
+        byte[] bytes = sentContent.getBytes(StandardCharsets.UTF_8);
+        if (!gzip) {
+            exchange.sendResponseHeaders(getCode(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(getCode(), 0);
+        try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+            out.write(bytes);
+        }
     }
 
     @Override
@@ -31,6 +31,7 @@ public enum ResponseCode {
     NOT_FOUND(404),
     PRECONDITION_FAILED(412),
     INTERNAL_ERROR(500),
+    SERVICE_UNAVAILABLE(503),
     GATEWAY_ERROR(504);
 
     private final int code;
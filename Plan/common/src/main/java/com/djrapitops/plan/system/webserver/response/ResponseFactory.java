@@ -109,23 +109,7 @@ public class ResponseFactory {
     }
 
     public RawDataResponse rawServerPageResponse(UUID serverUUID) {
-        return new RawServerDataResponse(dbSystem.getDatabase().query(ContainerFetchQueries.fetchServerContainer(serverUUID)));
-    }
-
-    public Response javaScriptResponse(String fileName) {
-        try {
-            return new JavaScriptResponse(fileName, files);
-        } catch (IOException e) {
-            return notFound404("JS File not found from jar: " + fileName + ", " + e.toString());
-        }
-    }
-
-    public Response cssResponse(String fileName) {
-        try {
-            return new CSSResponse(fileName, files);
-        } catch (IOException e) {
-            return notFound404("CSS File not found from jar: " + fileName + ", " + e.toString());
-        }
+        return new RawServerDataResponse(dbSystem.getDatabase(), serverUUID);
     }
 
     public Response redirectResponse(String location) {
@@ -212,4 +196,12 @@ public class ResponseFactory {
             return internalErrorResponse(e, "Failed to parse RefreshingAnalysisResponse");
         }
     }
+
+    public ErrorResponse refreshingPageResponse() {
+        try {
+            return new RefreshingPageResponse(versionCheckSystem, files);
+        } catch (IOException e) {
+            return internalErrorResponse(e, "Failed to parse RefreshingPageResponse");
+        }
+    }
 }
\ No newline at end of file
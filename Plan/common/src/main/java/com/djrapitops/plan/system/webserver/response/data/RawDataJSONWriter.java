@@ -0,0 +1,299 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response.data;
+
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Writes raw data of {@link DataContainer}s as JSON one value at a time.
+ * <p>
+ * Suppliers of the containers are called while writing, so values that are no longer needed can be garbage
+ * collected before the next value is fetched. Output is equivalent to what Gson produces for the same data.
+ * Objects that are not containers, maps, collections or primitive values are serialized with Gson.
+ *
+ * @author Rsl1122
+ */
+public class RawDataJSONWriter {
+
+    private static final Comparator<Key> KEY_NAME_ORDER = Comparator.comparing(Key::getKeyName);
+
+    private final Writer out;
+    private final Deque<Boolean> hasElements;
+    private boolean afterName;
+
+    private Object gson;
+    private Method toJson;
+
+    public RawDataJSONWriter(Writer out) {
+        this.out = out;
+        hasElements = new ArrayDeque<>();
+    }
+
+    public RawDataJSONWriter beginObject() throws IOException {
+        beforeValue();
+        out.write('{');
+        hasElements.push(false);
+        return this;
+    }
+
+    public RawDataJSONWriter endObject() throws IOException {
+        hasElements.pop();
+        out.write('}');
+        return this;
+    }
+
+    public RawDataJSONWriter beginArray() throws IOException {
+        beforeValue();
+        out.write('[');
+        hasElements.push(false);
+        return this;
+    }
+
+    public RawDataJSONWriter endArray() throws IOException {
+        hasElements.pop();
+        out.write(']');
+        return this;
+    }
+
+    public RawDataJSONWriter name(String name) throws IOException {
+        beforeValue();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Write a value, calling all Suppliers of DataContainers inside it.
+     *
+     * @param value Value to write, null values inside objects should be skipped with {@link #nameAndValue(String, Object)}.
+     * @return this writer.
+     * @throws IOException If the underlying Writer fails.
+     */
+    public RawDataJSONWriter value(Object value) throws IOException {
+        if (value == null) {
+            writeRaw("null");
+        } else if (value instanceof DataContainer) {
+            beginObject();
+            writeValues((DataContainer) value, Collections.emptySet());
+            endObject();
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            beginArray();
+            for (Object element : (Collection<?>) value) {
+                value(element);
+            }
+            endArray();
+        } else if (value instanceof String || value instanceof UUID || value instanceof Character) {
+            beforeValue();
+            writeString(value.toString());
+        } else if (value instanceof Enum) {
+            beforeValue();
+            writeString(((Enum<?>) value).name());
+        } else if (value instanceof Number) {
+            writeNumber((Number) value);
+        } else if (value instanceof Boolean) {
+            writeRaw(value.toString());
+        } else {
+            writeRaw(toJsonWithGson(value));
+        }
+        return this;
+    }
+
+    /**
+     * Write a name and a value into the current object, unless the value is null.
+     *
+     * @param name  Name of the value.
+     * @param value Value to write.
+     * @return this writer.
+     * @throws IOException If the underlying Writer fails.
+     */
+    public RawDataJSONWriter nameAndValue(String name, Object value) throws IOException {
+        if (value != null) {
+            name(name).value(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write values of a DataContainer into the current object, in the order of key names.
+     *
+     * @param container Container to write values of.
+     * @param skipped   Keys that should not be written, for example because the caller writes them separately.
+     * @throws IOException If the underlying Writer fails.
+     */
+    public void writeValues(DataContainer container, Collection<Key> skipped) throws IOException {
+        List<Key> keys = new ArrayList<>(container.getKeys());
+        keys.removeAll(skipped);
+        keys.sort(KEY_NAME_ORDER);
+        for (Key<?> key : keys) {
+            nameAndValue(key.getKeyName(), container.getValue(key).orElse(null));
+        }
+    }
+
+    /**
+     * Write only the given values of a DataContainer into the current object, in the order of key names.
+     * <p>
+     * Suppliers of other keys are not called.
+     *
+     * @param container Container to write values of.
+     * @param selected  Keys that should be written, keys the container does not support are ignored.
+     * @throws IOException If the underlying Writer fails.
+     */
+    public void writeSelectedValues(DataContainer container, Collection<Key> selected) throws IOException {
+        List<Key> keys = new ArrayList<>(selected);
+        keys.sort(KEY_NAME_ORDER);
+        for (Key<?> key : keys) {
+            if (container.supports(key)) {
+                nameAndValue(key.getKeyName(), container.getValue(key).orElse(null));
+            }
+        }
+    }
+
+    /**
+     * Write an already serialized JSON value.
+     *
+     * @param json Valid JSON.
+     * @return this writer.
+     * @throws IOException If the underlying Writer fails.
+     */
+    public RawDataJSONWriter rawValue(String json) throws IOException {
+        writeRaw(json);
+        return this;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        beginObject();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            nameAndValue(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        endObject();
+    }
+
+    private void writeNumber(Number number) throws IOException {
+        double asDouble = number.doubleValue();
+        if (Double.isNaN(asDouble) || Double.isInfinite(asDouble)) {
+            writeRaw("null");
+        } else {
+            writeRaw(number.toString());
+        }
+    }
+
+    private void writeRaw(String json) throws IOException {
+        beforeValue();
+        out.write(json);
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (hasElements.isEmpty()) {
+            return;
+        }
+        if (hasElements.peek()) {
+            out.write(',');
+        } else {
+            hasElements.pop();
+            hasElements.push(true);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = escape(c);
+            if (replacement == null) {
+                continue;
+            }
+            if (last < i) {
+                out.write(value, last, i - last);
+            }
+            out.write(replacement);
+            last = i + 1;
+        }
+        if (last < length) {
+            out.write(value, last, length - last);
+        }
+        out.write('"');
+    }
+
+    private static String escape(char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            // Same html safe escapes as Gson
+            case '<':
+            case '>':
+            case '&':
+            case '=':
+            case '\'':
+            case '\u2028':
+            case '\u2029':
+                return String.format("\\u%04x", (int) c);
+            default:
+                return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+
+    private String toJsonWithGson(Object value) {
+        try {
+            if (gson == null) {
+                Class<?> gsonClass = Class.forName("com.google.gson.Gson");
+                gson = gsonClass.getConstructor().newInstance();
+                toJson = gsonClass.getMethod("toJson", Object.class);
+            }
+            return toJson.invoke(gson, value).toString();
+        } catch (ReflectiveOperationException e) {
+            StringBuilder quoted = new StringBuilder();
+            String asString = value.toString();
+            quoted.append('"');
+            for (char c : asString.toCharArray()) {
+                String replacement = escape(c);
+                quoted.append(replacement != null ? replacement : String.valueOf(c));
+            }
+            return quoted.append('"').toString();
+        }
+    }
+}
@@ -14,19 +14,25 @@
  *  You should have received a copy of the GNU Lesser General Public License
  *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
  */
-package com.djrapitops.plan.system.webserver.response;
+package com.djrapitops.plan.system.webserver.response.errors;
 
 import com.djrapitops.plan.system.file.PlanFiles;
+import com.djrapitops.plan.system.update.VersionCheckSystem;
 
 import java.io.IOException;
 
 /**
+ * This response is used when a page is not cached yet and is being generated in the background.
+ *
  * @author Rsl1122
  */
-public class JavaScriptResponse extends FileResponse {
+public class RefreshingPageResponse extends ErrorResponse {
+
+    public RefreshingPageResponse(VersionCheckSystem versionCheckSystem, PlanFiles files) throws IOException {
+        super(versionCheckSystem, files);
 
-    JavaScriptResponse(String fileName, PlanFiles files) throws IOException {
-        super(format(fileName), files);
-        super.setType(ResponseType.JAVASCRIPT);
+        setTitle("Page is being generated..");
+        setParagraph("<meta http-equiv=\"refresh\" content=\"5\" /><i class=\"fa fa-refresh fa-spin\" aria-hidden=\"true\"></i> Page is being generated, refresh the page after a few seconds.. (F5)");
+        replacePlaceholders();
     }
 }
@@ -14,20 +14,21 @@
  *  You should have received a copy of the GNU Lesser General Public License
  *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
  */
-package com.djrapitops.plan.system.webserver.response;
+package com.djrapitops.plan.system.webserver.response.errors;
 
-import com.djrapitops.plan.system.file.PlanFiles;
-
-import java.io.IOException;
+import com.djrapitops.plan.system.webserver.response.Response;
 
 /**
+ * Response for requests that were not handled because the web server was too busy.
+ * <p>
+ * Sent without reading any files so that it can be created while all threads are in use.
+ *
  * @author Rsl1122
  */
-public class CSSResponse extends FileResponse {
+public class ServiceUnavailableResponse extends Response {
 
-    public CSSResponse(String fileName, PlanFiles files) throws IOException {
-        super(format(fileName), files);
-        super.setType(ResponseType.CSS);
-        setContent(getContent());
+    public ServiceUnavailableResponse(String message) {
+        super.setHeader("HTTP/1.1 503 Service Unavailable");
+        super.setContent("503 Service Unavailable: " + message);
     }
-}
+}
\ No newline at end of file
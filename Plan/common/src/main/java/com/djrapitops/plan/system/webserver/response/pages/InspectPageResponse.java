@@ -49,6 +49,12 @@ public class InspectPageResponse extends PageResponse {
         return StringSubstitutor.replace(super.getContent(), replaceMap);
     }
 
+    @Override
+    protected boolean isBodyReusable() {
+        // Plugins tab is cached separately and may change
+        return false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
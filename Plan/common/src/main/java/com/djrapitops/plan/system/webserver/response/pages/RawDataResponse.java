@@ -17,59 +17,94 @@
 package com.djrapitops.plan.system.webserver.response.pages;
 
 import com.djrapitops.plan.data.store.containers.DataContainer;
-import com.djrapitops.plan.system.webserver.response.data.JSONResponse;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.ResponseType;
+import com.djrapitops.plan.system.webserver.response.data.RawDataJSONWriter;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Response for sending raw data as JSON when it is inside a DataContainer.
  * <p>
- * This transform class is required to remove Key-Supplier object pollution in the resulting JSON, as well as to remove
- * the effects of the caching layer.
+ * The JSON is written straight to the connection with {@link RawDataJSONWriter} instead of building the whole
+ * DataContainer tree in memory first. Key-Supplier object pollution and the effects of the caching layer are
+ * removed by writing only the values of the Keys.
  *
  * @author Rsl1122
  */
-public class RawDataResponse extends JSONResponse<Map<String, Object>> {
+public class RawDataResponse extends Response {
+
+    private final DataContainer dataContainer;
 
     public RawDataResponse(DataContainer dataContainer) {
-        super(mapToNormalMap(dataContainer));
+        super(ResponseType.JSON);
+        super.setHeader("HTTP/1.1 200 OK");
+        this.dataContainer = dataContainer;
     }
 
-    private static Map<String, Object> mapToNormalMap(DataContainer player) {
-        Map<String, Object> values = new HashMap<>();
-        player.getMap().forEach((key, value) ->
-                {
-                    if (value instanceof DataContainer) {
-                        value = mapToNormalMap((DataContainer) value);
-                    }
-                    if (value instanceof Map) {
-                        value = handleMap((Map) value);
-                    }
-                    if (value instanceof List) {
-                        value = handleList((List) value);
-                    }
-                    values.put(key.getKeyName(), value);
-                }
-        );
-        return values;
+    /**
+     * Write the JSON of the raw data.
+     *
+     * @param writer Writer to write to, not closed by this method.
+     * @throws IOException If the writer fails.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        RawDataJSONWriter json = new RawDataJSONWriter(writer);
+        json.beginObject();
+        json.writeValues(dataContainer, Collections.emptySet());
+        json.endObject();
+        json.flush();
     }
 
-    private static List handleList(List list) {
-        if (list.stream().findAny().orElse(null) instanceof DataContainer) {
-            return (List) list.stream().map(obj -> mapToNormalMap((DataContainer) obj)).collect(Collectors.toList());
+    /**
+     * Get the whole JSON as a String.
+     * <p>
+     * Prefer {@link #writeTo(Writer)} for large amounts of data.
+     *
+     * @return JSON.
+     */
+    @Override
+    public String getContent() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return list;
+        return writer.toString();
+    }
+
+    @Override
+    protected boolean isBodyReusable() {
+        return false;
     }
 
-    private static Map handleMap(Map map) {
-        if (map.values().stream().findAny().orElse(null) instanceof DataContainer) {
-            Map<Object, Object> newMap = new HashMap<>();
-            map.forEach((key, value) -> newMap.put(key, mapToNormalMap((DataContainer) value)));
-            return newMap;
+    @Override
+    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        // Raw data is not localized or themed, and the length is unknown before writing.
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", ResponseType.JSON.get());
+        headers.set("Vary", "Accept-Encoding");
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (gzip) {
+            headers.set("Content-Encoding", "gzip");
+        }
+
+        exchange.sendResponseHeaders(getCode(), 0);
+        OutputStream body = exchange.getResponseBody();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                gzip ? new GZIPOutputStream(body, 8192) : body, StandardCharsets.UTF_8
+        ))) {
+            writeTo(writer);
         }
-        return map;
     }
 }
\ No newline at end of file
@@ -16,16 +16,186 @@
  */
 package com.djrapitops.plan.system.webserver.response.pages;
 
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.data.container.PlayerKill;
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.db.access.queries.containers.ServerPlayerContainersQuery;
+import com.djrapitops.plan.db.access.queries.objects.KillQueries;
+import com.djrapitops.plan.db.access.queries.objects.PingQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.system.cache.SessionCache;
+import com.djrapitops.plan.system.webserver.response.data.RawDataJSONWriter;
+import com.google.common.collect.Lists;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
 
 /**
  * Raw Data JSON response for a Server.
+ * <p>
+ * Values calculated from all players of the server are written a part of the players at a time,
+ * so that the PlayerContainers of the whole server are never in memory at once.
  *
  * @author Rsl1122
  */
 public class RawServerDataResponse extends RawDataResponse {
 
-    public RawServerDataResponse(ServerContainer serverContainer) {
+    private static final int PLAYERS_PER_PART = 500;
+
+    // Values that are not calculated from all players, the rest are written while going through the players.
+    private static final List<Key> SERVER_KEYS = Arrays.asList(
+            ServerKeys.SERVER_UUID, ServerKeys.NAME, ServerKeys.TPS,
+            ServerKeys.ALL_TIME_PEAK_PLAYERS, ServerKeys.RECENT_PEAK_PLAYERS,
+            ServerKeys.COMMAND_USAGE, ServerKeys.WORLD_TIMES, ServerKeys.EXTENSION_DATA
+    );
+
+    private final Database database;
+    private final UUID serverUUID;
+    private final ServerContainer serverContainer;
+
+    public RawServerDataResponse(Database database, UUID serverUUID) {
+        this(database, serverUUID, database.query(ContainerFetchQueries.fetchServerContainer(serverUUID)));
+    }
+
+    private RawServerDataResponse(Database database, UUID serverUUID, ServerContainer serverContainer) {
         super(serverContainer);
+        this.database = database;
+        this.serverUUID = serverUUID;
+        this.serverContainer = serverContainer;
+    }
+
+    @Override
+    public void writeTo(Writer writer) throws IOException {
+        RawDataJSONWriter json = new RawDataJSONWriter(writer);
+        json.beginObject();
+        json.writeSelectedValues(serverContainer, SERVER_KEYS);
+        if (serverContainer.supports(ServerKeys.PLAYERS)) {
+            List<List<UUID>> parts = Lists.partition(
+                    database.query(UserIdentifierQueries.fetchSortedPlayerUUIDsOfServer(serverUUID)),
+                    PLAYERS_PER_PART
+            );
+            writePlayers(json, parts);
+            writeSessions(json, parts);
+            writeKills(json, parts);
+            writePing(json, parts);
+        }
+        json.endObject();
+        json.flush();
+    }
+
+    private void writePlayers(RawDataJSONWriter json, List<List<UUID>> parts) throws IOException {
+        // Operators are few, so their JSON is kept until all players have been written.
+        StringWriter operators = new StringWriter();
+        RawDataJSONWriter operatorJson = new RawDataJSONWriter(operators).beginArray();
+        int playerCount = 0;
+
+        json.name(ServerKeys.PLAYERS.getKeyName()).beginArray();
+        for (List<UUID> part : parts) {
+            List<PlayerContainer> players = database.query(
+                    new ServerPlayerContainersQuery(serverUUID, part.get(0), part.get(part.size() - 1))
+            );
+            for (PlayerContainer player : players) {
+                json.value(player);
+                if (player.getValue(PlayerKeys.OPERATOR).orElse(false)) {
+                    operatorJson.value(player);
+                }
+            }
+            playerCount += players.size();
+        }
+        json.endArray();
+        operatorJson.endArray();
+
+        json.name(ServerKeys.PLAYER_COUNT.getKeyName()).value(playerCount);
+        json.name(ServerKeys.OPERATORS.getKeyName()).rawValue(operators.toString());
+    }
+
+    private void writeSessions(RawDataJSONWriter json, List<List<UUID>> parts) throws IOException {
+        int mobKills = 0;
+        int deaths = 0;
+
+        json.name(ServerKeys.SESSIONS.getKeyName()).beginArray();
+        for (List<UUID> part : parts) {
+            Map<UUID, List<Session>> sessions = database.query(
+                    SessionQueries.fetchSessionsOfServer(serverUUID, part.get(0), part.get(part.size() - 1))
+            );
+            for (List<Session> playerSessions : sessions.values()) {
+                for (Session session : playerSessions) {
+                    json.value(session);
+                    mobKills += session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+                    deaths += session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+                }
+            }
+        }
+        for (Session session : getActiveSessions()) {
+            json.value(session);
+            mobKills += session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+            deaths += session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+        }
+        json.endArray();
+
+        json.name(ServerKeys.MOB_KILL_COUNT.getKeyName()).value(mobKills);
+        json.name(ServerKeys.DEATH_COUNT.getKeyName()).value(deaths);
+    }
+
+    private void writeKills(RawDataJSONWriter json, List<List<UUID>> parts) throws IOException {
+        int killCount = 0;
+
+        json.name(ServerKeys.PLAYER_KILLS.getKeyName()).beginArray();
+        for (List<UUID> part : parts) {
+            List<PlayerKill> kills = database.query(
+                    KillQueries.fetchPlayerKillsOfServer(serverUUID, part.get(0), part.get(part.size() - 1))
+            );
+            for (PlayerKill kill : kills) {
+                json.value(kill);
+            }
+            killCount += kills.size();
+        }
+        for (Session session : getActiveSessions()) {
+            List<PlayerKill> kills = session.getValue(SessionKeys.PLAYER_KILLS).orElse(Collections.emptyList());
+            for (PlayerKill kill : kills) {
+                json.value(kill);
+            }
+            killCount += kills.size();
+        }
+        json.endArray();
+
+        json.name(ServerKeys.PLAYER_KILL_COUNT.getKeyName()).value(killCount);
+    }
+
+    // Active sessions are not in the database yet.
+    private List<Session> getActiveSessions() {
+        List<Session> activeSessions = new ArrayList<>();
+        for (Session session : SessionCache.getActiveSessions().values()) {
+            if (session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false)) {
+                activeSessions.add(session);
+            }
+        }
+        return activeSessions;
+    }
+
+    private void writePing(RawDataJSONWriter json, List<List<UUID>> parts) throws IOException {
+        json.name(ServerKeys.PING.getKeyName()).beginArray();
+        for (List<UUID> part : parts) {
+            Map<UUID, List<Ping>> pings = database.query(
+                    PingQueries.fetchPingDataOfServer(serverUUID, part.get(0), part.get(part.size() - 1))
+            );
+            for (List<Ping> playerPings : pings.values()) {
+                for (Ping ping : playerPings) {
+                    json.value(ping);
+                }
+            }
+        }
+        json.endArray();
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.formatting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Formatter that replaces many fixed Strings in a single pass over the text.
+ * <p>
+ * The patterns are compiled into an Aho-Corasick automaton once, after which each call to
+ * {@link #apply(String)} reads the text linearly and writes the result into one buffer.
+ * When patterns overlap the leftmost match wins, and of matches starting at the same index the longest wins.
+ * Replacement values are not scanned again.
+ *
+ * @author Rsl1122
+ */
+public class MultiPatternReplacer implements Formatter<String> {
+
+    private static final int ROOT = 0;
+
+    // Transitions of each node, sorted by character for binary search.
+    private char[][] transitionChars;
+    private int[][] transitionNodes;
+    private final int[] failure;
+    // Length of the longest pattern that ends at the node, 0 if none.
+    private final int[] matchLength;
+    // Index of the replacement of that pattern.
+    private final int[] matchIndex;
+    // Depth of the node, i.e. how many characters of the text it represents.
+    private final int[] depth;
+    private final String[] replacements;
+
+    /**
+     * Compile a new replacer.
+     *
+     * @param replacements Map of pattern - replacement pairs. Empty patterns are ignored.
+     */
+    public MultiPatternReplacer(Map<String, String> replacements) {
+        List<String> patterns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            String pattern = entry.getKey();
+            String value = entry.getValue();
+            if (pattern == null || pattern.isEmpty() || value == null) {
+                continue;
+            }
+            patterns.add(pattern);
+            values.add(value);
+        }
+        this.replacements = values.toArray(new String[0]);
+
+        int maxNodes = 1;
+        for (String pattern : patterns) {
+            maxNodes += pattern.length();
+        }
+        transitionChars = new char[maxNodes][];
+        transitionNodes = new int[maxNodes][];
+        failure = new int[maxNodes];
+        matchLength = new int[maxNodes];
+        matchIndex = new int[maxNodes];
+        depth = new int[maxNodes];
+
+        int nodeCount = buildTrie(patterns);
+        transitionChars = Arrays.copyOf(transitionChars, nodeCount);
+        transitionNodes = Arrays.copyOf(transitionNodes, nodeCount);
+        buildFailureLinks();
+    }
+
+    private int buildTrie(List<String> patterns) {
+        transitionChars[ROOT] = new char[0];
+        transitionNodes[ROOT] = new int[0];
+        int nodeCount = 1;
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            int node = ROOT;
+            for (int c = 0; c < pattern.length(); c++) {
+                char character = pattern.charAt(c);
+                int next = transition(node, character);
+                if (next == -1) {
+                    next = nodeCount++;
+                    transitionChars[next] = new char[0];
+                    transitionNodes[next] = new int[0];
+                    depth[next] = depth[node] + 1;
+                    addTransition(node, character, next);
+                }
+                node = next;
+            }
+            if (matchLength[node] == 0) {
+                // First definition of a duplicate pattern wins.
+                matchLength[node] = pattern.length();
+                matchIndex[node] = i;
+            }
+        }
+        return nodeCount;
+    }
+
+    private void addTransition(int node, char character, int next) {
+        char[] chars = transitionChars[node];
+        int[] nodes = transitionNodes[node];
+        int insertAt = -(Arrays.binarySearch(chars, character) + 1);
+
+        char[] newChars = new char[chars.length + 1];
+        int[] newNodes = new int[nodes.length + 1];
+        System.arraycopy(chars, 0, newChars, 0, insertAt);
+        System.arraycopy(nodes, 0, newNodes, 0, insertAt);
+        newChars[insertAt] = character;
+        newNodes[insertAt] = next;
+        System.arraycopy(chars, insertAt, newChars, insertAt + 1, chars.length - insertAt);
+        System.arraycopy(nodes, insertAt, newNodes, insertAt + 1, nodes.length - insertAt);
+
+        transitionChars[node] = newChars;
+        transitionNodes[node] = newNodes;
+    }
+
+    private int transition(int node, char character) {
+        int found = Arrays.binarySearch(transitionChars[node], character);
+        return found >= 0 ? transitionNodes[node][found] : -1;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionNodes[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            char[] chars = transitionChars[node];
+            int[] nodes = transitionNodes[node];
+            for (int i = 0; i < chars.length; i++) {
+                int child = nodes[i];
+                failure[child] = next(failure[node], chars[i]);
+                if (matchLength[child] == 0 && matchLength[failure[child]] != 0) {
+                    // Longest pattern ending here is a suffix of this node.
+                    matchLength[child] = matchLength[failure[child]];
+                    matchIndex[child] = matchIndex[failure[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int node, char character) {
+        int current = node;
+        while (true) {
+            int next = transition(current, character);
+            if (next != -1) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failure[current];
+        }
+    }
+
+    /**
+     * Check if the replacer has any patterns.
+     *
+     * @return true if {@link #apply(String)} would return the text as is.
+     */
+    public boolean isEmpty() {
+        return replacements.length == 0;
+    }
+
+    @Override
+    public String apply(String text) {
+        if (text == null || isEmpty()) {
+            return text;
+        }
+        StringBuilder result = null;
+        int length = text.length();
+        int written = 0; // Characters of text already written to result
+        int node = ROOT;
+        int candidateStart = -1;
+        int candidateEnd = -1;
+        int candidateIndex = -1;
+
+        int i = 0;
+        while (i <= length) {
+            if (i < length) {
+                node = next(node, text.charAt(i));
+                int longest = matchLength[node];
+                if (longest > 0) {
+                    int start = i - longest + 1;
+                    if (candidateStart == -1 || start < candidateStart
+                            || (start == candidateStart && i + 1 > candidateEnd)) {
+                        candidateStart = start;
+                        candidateEnd = i + 1;
+                        candidateIndex = matchIndex[node];
+                    }
+                }
+            }
+            boolean endOfText = i == length;
+            // A match can not start before i - depth + 1 anymore, so the candidate is final.
+            if (candidateStart != -1 && (endOfText || i - depth[node] + 1 > candidateStart)) {
+                if (result == null) {
+                    result = new StringBuilder(length + length / 8);
+                }
+                result.append(text, written, candidateStart).append(replacements[candidateIndex]);
+                written = candidateEnd;
+                i = candidateEnd;
+                node = ROOT;
+                candidateStart = -1;
+                continue;
+            }
+            i++;
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, written, length).toString();
+    }
+}
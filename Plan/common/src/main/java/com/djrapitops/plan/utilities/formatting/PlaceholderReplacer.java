@@ -18,19 +18,24 @@ package com.djrapitops.plan.utilities.formatting;
 
 import com.djrapitops.plan.data.store.PlaceholderKey;
 import com.djrapitops.plan.data.store.containers.DataContainer;
-import org.apache.commons.text.StringSubstitutor;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Formatter for replacing ${placeholder} values inside strings.
+ * <p>
+ * All placeholders are replaced in a single pass with {@link MultiPatternReplacer}.
+ * Placeholders that have no value are left as is, placeholders inside values are replaced as well.
  *
  * @author Rsl1122
  */
 public class PlaceholderReplacer extends HashMap<String, Serializable> implements Formatter<String> {
 
+    private static final int MAX_NESTING = 5;
+
     public <T> void addPlaceholderFrom(DataContainer container, PlaceholderKey<T> key) {
         put(key.getPlaceholder(), container.getValue(key).map(Objects::toString).orElse("Missing value " + key.getPlaceholder()));
     }
@@ -56,8 +61,37 @@ public class PlaceholderReplacer extends HashMap<String, Serializable> implement
 
     @Override
     public String apply(String string) {
-        StringSubstitutor sub = new StringSubstitutor(this);
-        sub.setEnableSubstitutionInVariables(true);
-        return sub.replace(string);
+        Map<String, String> replacements = new HashMap<>();
+        boolean nested = false;
+        for (Map.Entry<String, Serializable> entry : entrySet()) {
+            Serializable value = entry.getValue();
+            if (value != null) {
+                String valueString = value.toString();
+                nested |= valueString.contains("${");
+                replacements.put("${" + entry.getKey() + "}", valueString);
+            }
+        }
+
+        MultiPatternReplacer replacer = new MultiPatternReplacer(replacements);
+        for (int i = 0; nested && i < MAX_NESTING; i++) {
+            nested = resolveNestedPlaceholders(replacer, replacements);
+            replacer = new MultiPatternReplacer(replacements);
+        }
+        return replacer.apply(string);
+    }
+
+    private boolean resolveNestedPlaceholders(MultiPatternReplacer replacer, Map<String, String> replacements) {
+        boolean changed = false;
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            String value = entry.getValue();
+            if (value.contains("${")) {
+                String resolved = replacer.apply(value);
+                if (!resolved.equals(value)) {
+                    entry.setValue(resolved);
+                    changed = true;
+                }
+            }
+        }
+        return changed;
     }
 }
\ No newline at end of file
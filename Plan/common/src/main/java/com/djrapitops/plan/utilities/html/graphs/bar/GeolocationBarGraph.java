@@ -30,16 +30,23 @@ public class GeolocationBarGraph extends BarGraph {
     }
 
     private GeolocationBarGraph(List<String> geolocations) {
-        super(turnToBars(geolocations));
+        this(countGeolocations(geolocations));
     }
 
-    private static List<Bar> turnToBars(List<String> geolocations) {
+    GeolocationBarGraph(Map<String, Integer> geolocationCounts) {
+        super(turnToBars(geolocationCounts));
+    }
+
+    private static Map<String, Integer> countGeolocations(List<String> geolocations) {
         Map<String, Integer> counts = new HashMap<>();
 
         for (String geolocation : geolocations) {
             counts.put(geolocation, counts.getOrDefault(geolocation, 0) + 1);
         }
+        return counts;
+    }
 
+    private static List<Bar> turnToBars(Map<String, Integer> counts) {
         return counts.entrySet().stream()
                 .map(entry -> new Bar(entry.getKey(), entry.getValue()))
                 .sorted()
@@ -17,7 +17,7 @@
 package com.djrapitops.plan.utilities.html.graphs.calendar;
 
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.settings.theme.Theme;
@@ -59,12 +59,12 @@ public class CalendarFactory {
     }
 
     public ServerCalendar serverCalendar(
-            PlayersMutator mutator,
+            SessionColumns sessions,
             TreeMap<Long, Integer> uniquePerDay,
             TreeMap<Long, Integer> newPerDay
     ) {
         return new ServerCalendar(
-                mutator, uniquePerDay, newPerDay,
+                sessions, uniquePerDay, newPerDay,
                 formatters.iso8601NoClockLong(), formatters.timeAmount(), theme,
                 config.get(TimeSettings.USE_SERVER_TIME) ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT")
         );
@@ -16,9 +16,7 @@
  */
 package com.djrapitops.plan.utilities.html.graphs.calendar;
 
-import com.djrapitops.plan.data.container.Session;
-import com.djrapitops.plan.data.store.mutators.PlayersMutator;
-import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.utilities.formatting.Formatter;
@@ -32,7 +30,7 @@ import java.util.*;
  */
 public class ServerCalendar {
 
-    private final PlayersMutator mutator;
+    private final SessionColumns sessions;
     private final TreeMap<Long, Integer> uniquePerDay;
     private final TreeMap<Long, Integer> newPerDay;
 
@@ -42,13 +40,13 @@ public class ServerCalendar {
     private final TimeZone timeZone;
 
     ServerCalendar(
-            PlayersMutator mutator, TreeMap<Long, Integer> uniquePerDay, TreeMap<Long, Integer> newPerDay,
+            SessionColumns sessions, TreeMap<Long, Integer> uniquePerDay, TreeMap<Long, Integer> newPerDay,
             Formatter<Long> iso8601Formatter,
             Formatter<Long> timeAmountFormatter,
             Theme theme,
             TimeZone timeZone
     ) {
-        this.mutator = mutator;
+        this.sessions = sessions;
         this.uniquePerDay = uniquePerDay;
         this.newPerDay = newPerDay;
         this.iso8601Formatter = iso8601Formatter;
@@ -87,9 +85,9 @@ public class ServerCalendar {
     }
 
     private void appendSessionRelatedData(StringBuilder series) {
-        SessionsMutator sessionsMutator = new SessionsMutator(mutator.getSessions());
         // Adds a timezone offset
-        SortedMap<Long, List<Session>> byStartOfDay = sessionsMutator.toDateHoldersMutator().groupByStartOfDay(timeZone);
+        SortedMap<Long, Integer> sessionsByStartOfDay = sessions.sessionsPerDay(timeZone);
+        SortedMap<Long, Long> playtimeByStartOfDay = sessions.playtimePerDay(timeZone);
 
         // Has a timezone offset
         for (Map.Entry<Long, Integer> entry : uniquePerDay.entrySet()) {
@@ -99,11 +97,8 @@ public class ServerCalendar {
 
             Long key = entry.getKey();
             String day = iso8601Formatter.apply(key - timeZone.getOffset(entry.getKey()));// Remove the timezone offset since Calendar uses UTC
-            List<Session> sessions = byStartOfDay.getOrDefault(key, new ArrayList<>());
-
-            SessionsMutator dayMutator = new SessionsMutator(sessions);
-            long sessionCount = dayMutator.count();
-            long playtime = dayMutator.toPlaytime();
+            long sessionCount = sessionsByStartOfDay.getOrDefault(key, 0);
+            long playtime = playtimeByStartOfDay.getOrDefault(key, 0L);
             long uniquePlayers = entry.getValue();
 
             series.append(",{title: 'Playtime: ").append(timeAmountFormatter.apply(playtime))
@@ -31,13 +31,39 @@ public class LineGraph implements HighChart {
     private final boolean displayGaps;
     private List<Point> points;
 
+    // Used instead of points when the graph is created from primitive arrays
+    private long[] dates;
+    private double[] values;
+    private int size;
+    private long gapThreshold = TimeUnit.MINUTES.toMillis(3L);
+
     public LineGraph(List<Point> points, boolean displayGaps) {
         this.points = points;
         this.displayGaps = displayGaps;
     }
 
+    /**
+     * Create a LineGraph from primitive arrays without creating Point objects.
+     *
+     * @param dates       Epoch ms of each point, in ascending order.
+     * @param values      Value of each point.
+     * @param size        Number of points used from the arrays.
+     * @param interval    Expected time between two points in ms, used for detecting gaps in data.
+     * @param displayGaps Should the gaps in the data be displayed.
+     */
+    public LineGraph(long[] dates, double[] values, int size, long interval, boolean displayGaps) {
+        this.dates = dates;
+        this.values = values;
+        this.size = size;
+        this.gapThreshold = Math.max(gapThreshold, 2L * interval);
+        this.displayGaps = displayGaps;
+    }
+
     @Override
     public String toHighChartsSeries() {
+        if (points == null) {
+            return toHighChartsSeriesFromArrays();
+        }
         StringBuilder arrayBuilder = new StringBuilder("[");
 
         int size = points.size();
@@ -47,7 +73,7 @@ public class LineGraph implements HighChart {
             Double y = point.getY();
             long date = (long) point.getX();
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
+            if (displayGaps && lastX != null && date - lastX > gapThreshold) {
                 addMissingPoints(arrayBuilder, lastX, date);
             }
             lastX = date;
@@ -62,6 +88,26 @@ public class LineGraph implements HighChart {
         return arrayBuilder.toString();
     }
 
+    private String toHighChartsSeriesFromArrays() {
+        StringBuilder arrayBuilder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            long date = dates[i];
+
+            if (displayGaps && i > 0 && date - dates[i - 1] > gapThreshold) {
+                addMissingPoints(arrayBuilder, dates[i - 1], date);
+            }
+
+            arrayBuilder.append("[").append(date).append(",").append(values[i]).append("]");
+            if (i < size - 1) {
+                arrayBuilder.append(",");
+            }
+        }
+
+        arrayBuilder.append("]");
+        return arrayBuilder.toString();
+    }
+
     private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
         long iterate = lastX + TimeUnit.MINUTES.toMillis(1L);
         while (iterate < date) {
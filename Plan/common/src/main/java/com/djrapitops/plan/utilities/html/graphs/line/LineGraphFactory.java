@@ -17,6 +17,7 @@
 package com.djrapitops.plan.utilities.html.graphs.line;
 
 import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
 import com.djrapitops.plan.data.store.mutators.TPSMutator;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DisplaySettings;
@@ -46,6 +47,17 @@ public class LineGraphFactory {
         return new LineGraph(points, shouldDisplayGapsInData());
     }
 
+    /**
+     * Create a graph of bucket averages of a TPS metric.
+     *
+     * @param buckets TPS data aggregated by the database.
+     * @param metric  Metric to display.
+     * @return LineGraph with a point for each bucket.
+     */
+    public LineGraph lineGraph(TPSBuckets buckets, TPSBuckets.Metric metric) {
+        return new LineGraph(buckets.getDates(), buckets.getAverages(metric), buckets.size(), buckets.getBucketWidth(), shouldDisplayGapsInData());
+    }
+
     public LineGraph chunkGraph(TPSMutator mutator) {
         return new ChunkGraph(mutator, shouldDisplayGapsInData());
     }
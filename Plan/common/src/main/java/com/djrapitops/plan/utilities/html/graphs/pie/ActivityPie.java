@@ -28,18 +28,25 @@ import java.util.*;
  */
 public class ActivityPie extends Pie {
 
-    ActivityPie(Map<String, Set<UUID>> activityData, String[] colors) {
-        super(turnToSlices(activityData, colors));
+    ActivityPie(Map<String, Integer> activityCounts, String[] colors) {
+        super(turnToSlices(activityCounts, colors));
     }
 
-    private static List<PieSlice> turnToSlices(Map<String, Set<UUID>> activityData, String[] colors) {
+    static Map<String, Integer> toActivityCounts(Map<String, Set<UUID>> activityData) {
+        Map<String, Integer> activityCounts = new HashMap<>();
+        for (Map.Entry<String, Set<UUID>> group : activityData.entrySet()) {
+            activityCounts.put(group.getKey(), group.getValue().size());
+        }
+        return activityCounts;
+    }
+
+    private static List<PieSlice> turnToSlices(Map<String, Integer> activityCounts, String[] colors) {
         int maxCol = colors.length;
 
         List<PieSlice> slices = new ArrayList<>();
         int i = 0;
         for (String group : ActivityIndex.getGroups()) {
-            Set<UUID> players = activityData.getOrDefault(group, new HashSet<>());
-            int num = players.size();
+            int num = activityCounts.getOrDefault(group, 0);
 
             slices.add(new PieSlice(group, num, colors[i % maxCol], false));
             i++;
@@ -52,7 +52,12 @@ public class PieGraphFactory {
 
     public Pie activityPie(Map<String, Set<UUID>> activityData) {
         String[] colors = theme.getValue(ThemeVal.GRAPH_ACTIVITY_PIE).split(", ");
-        return new ActivityPie(activityData, colors);
+        return new ActivityPie(ActivityPie.toActivityCounts(activityData), colors);
+    }
+
+    public Pie activityPieOfCounts(Map<String, Integer> activityCounts) {
+        String[] colors = theme.getValue(ThemeVal.GRAPH_ACTIVITY_PIE).split(", ");
+        return new ActivityPie(activityCounts, colors);
     }
 
     public Pie serverPreferencePie(Map<UUID, String> serverNames, Map<UUID, WorldTimes> serverWorldTimes) {
@@ -22,9 +22,8 @@ import com.djrapitops.plan.utilities.html.graphs.HighChart;
 
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Bubble Chart that represents login "punches" of players.
@@ -33,7 +32,7 @@ import java.util.stream.Collectors;
  */
 public class PunchCard implements HighChart {
 
-    private final Collection<Session> sessions;
+    private final Map<Long, Integer> loginCounts;
 
     /**
      * Constructor for the graph.
@@ -41,48 +40,64 @@ public class PunchCard implements HighChart {
      * @param sessions All sessions of All users this PunchCard represents.
      */
     PunchCard(Collection<Session> sessions) {
-        this.sessions = sessions;
+        this(countSessionStarts(sessions));
+    }
+
+    /**
+     * Constructor for the graph.
+     *
+     * @param loginCounts Map: Epoch ms - how many sessions started at the time.
+     */
+    PunchCard(Map<Long, Integer> loginCounts) {
+        this.loginCounts = loginCounts;
+    }
+
+    private static Map<Long, Integer> countSessionStarts(Collection<Session> sessions) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Session session : sessions) {
+            if (session != null) {
+                counts.merge(session.getUnsafe(SessionKeys.START), 1, Integer::sum);
+            }
+        }
+        return counts;
     }
 
     /*
      * First number signifies the Day of Week. (0 = Monday, 6 = Sunday)
      * Second number signifies the Hour of Day. (0 = 0 AM, 23 = 11 PM)
      */
-    private List<int[]> getDaysAndHours(Collection<Long> sessionStarts) {
-        return sessionStarts.stream().map((Long start) -> {
-            Calendar day = Calendar.getInstance();
-            day.setTimeInMillis(start);
-            int hourOfDay = day.get(Calendar.HOUR_OF_DAY); // 0 AM is 0
-            int dayOfWeek = day.get(Calendar.DAY_OF_WEEK) - 2; // Monday is 0, Sunday is -1
-            if (hourOfDay == 24) { // If hour is 24 (Should be impossible but.)
-                hourOfDay = 0;
-                dayOfWeek += 1;
-            }
-            if (dayOfWeek > 6) { // If Hour added a day on Sunday, move to Monday
-                dayOfWeek = 0;
-            }
-            if (dayOfWeek < 0) { // Move Sunday to 6
-                dayOfWeek = 6;
-            }
-            return new int[]{dayOfWeek, hourOfDay};
-        }).collect(Collectors.toList());
+    private int[] getDayAndHour(Calendar day, long start) {
+        day.setTimeInMillis(start);
+        int hourOfDay = day.get(Calendar.HOUR_OF_DAY); // 0 AM is 0
+        int dayOfWeek = day.get(Calendar.DAY_OF_WEEK) - 2; // Monday is 0, Sunday is -1
+        if (hourOfDay == 24) { // If hour is 24 (Should be impossible but.)
+            hourOfDay = 0;
+            dayOfWeek += 1;
+        }
+        if (dayOfWeek > 6) { // If Hour added a day on Sunday, move to Monday
+            dayOfWeek = 0;
+        }
+        if (dayOfWeek < 0) { // Move Sunday to 6
+            dayOfWeek = 6;
+        }
+        return new int[]{dayOfWeek, hourOfDay};
     }
 
-    private int[][] turnIntoArray(Collection<Long> sessionStarts) {
-        List<int[]> daysAndHours = getDaysAndHours(sessionStarts);
+    private int[][] turnIntoArray(Map<Long, Integer> loginCounts) {
         int[][] dataArray = createEmptyArray();
-        for (int[] dAndH : daysAndHours) {
+        Calendar day = Calendar.getInstance();
+        for (Map.Entry<Long, Integer> entry : loginCounts.entrySet()) {
+            int[] dAndH = getDayAndHour(day, entry.getKey());
             int d = dAndH[0];
             int h = dAndH[1];
-            dataArray[d][h] = dataArray[d][h] + 1;
+            dataArray[d][h] = dataArray[d][h] + entry.getValue();
         }
         return dataArray;
     }
 
     @Override
     public String toHighChartsSeries() {
-        List<Long> sessionStarts = getSessionStarts(sessions);
-        int[][] dataArray = turnIntoArray(sessionStarts);
+        int[][] dataArray = turnIntoArray(loginCounts);
         int big = findBiggestValue(dataArray);
         int[][] scaled = scale(dataArray, big);
         StringBuilder arrayBuilder = new StringBuilder("[");
@@ -107,14 +122,6 @@ public class PunchCard implements HighChart {
         return arrayBuilder.toString();
     }
 
-    private List<Long> getSessionStarts(Collection<Session> data) {
-        return data.stream()
-                .filter(Objects::nonNull)
-                .map(session -> session.getUnsafe(SessionKeys.START))
-                .sorted()
-                .collect(Collectors.toList());
-    }
-
     private int[][] createEmptyArray() {
         int[][] dataArray = new int[7][24];
         for (int i = 0; i < 7; i++) {
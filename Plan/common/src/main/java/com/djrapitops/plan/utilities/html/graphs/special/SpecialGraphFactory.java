@@ -17,6 +17,7 @@
 package com.djrapitops.plan.utilities.html.graphs.special;
 
 import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.mutators.ActivityRollupMutator;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.utilities.html.graphs.HighChart;
 
@@ -42,6 +43,10 @@ public class SpecialGraphFactory {
         return new PunchCard(sessions);
     }
 
+    public HighChart punchCard(ActivityRollupMutator rollups) {
+        return new PunchCard(rollups.toSessionStartCounts());
+    }
+
     public HighChart worldMap(Map<String, Integer> geolocationCounts) {
         return new WorldMap(geolocationCounts);
     }
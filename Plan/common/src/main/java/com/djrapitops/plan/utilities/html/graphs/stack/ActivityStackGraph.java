@@ -29,8 +29,20 @@ import java.util.*;
  */
 class ActivityStackGraph extends StackGraph {
 
-    ActivityStackGraph(TreeMap<Long, Map<String, Set<UUID>>> activityData, String[] colors, Formatter<Long> dayFormatter) {
-        super(getLabels(activityData.navigableKeySet(), dayFormatter), getDataSets(activityData, colors));
+    ActivityStackGraph(TreeMap<Long, Map<String, Integer>> activityCounts, String[] colors, Formatter<Long> dayFormatter) {
+        super(getLabels(activityCounts.navigableKeySet(), dayFormatter), getDataSets(activityCounts, colors));
+    }
+
+    static TreeMap<Long, Map<String, Integer>> toActivityCounts(TreeMap<Long, Map<String, Set<UUID>>> activityData) {
+        TreeMap<Long, Map<String, Integer>> activityCounts = new TreeMap<>();
+        for (Map.Entry<Long, Map<String, Set<UUID>>> point : activityData.entrySet()) {
+            Map<String, Integer> groupCounts = new HashMap<>();
+            for (Map.Entry<String, Set<UUID>> group : point.getValue().entrySet()) {
+                groupCounts.put(group.getKey(), group.getValue().size());
+            }
+            activityCounts.put(point.getKey(), groupCounts);
+        }
+        return activityCounts;
     }
 
     private static String[] getLabels(Collection<Long> dates, Formatter<Long> dayFormatter) {
@@ -39,7 +51,7 @@ class ActivityStackGraph extends StackGraph {
                 .toArray(String[]::new);
     }
 
-    private static StackDataSet[] getDataSets(TreeMap<Long, Map<String, Set<UUID>>> activityData, String[] colors) {
+    private static StackDataSet[] getDataSets(TreeMap<Long, Map<String, Integer>> activityCounts, String[] colors) {
         String[] groups = ActivityIndex.getGroups();
         int maxCol = colors.length;
         StackDataSet[] dataSets = new StackDataSet[groups.length];
@@ -48,12 +60,9 @@ class ActivityStackGraph extends StackGraph {
             dataSets[i] = new StackDataSet(new ArrayList<>(), groups[i], colors[(i) % maxCol]);
         }
 
-        for (Long date : activityData.navigableKeySet()) {
-            Map<String, Set<UUID>> data = activityData.get(date);
-
+        for (Map<String, Integer> data : activityCounts.values()) {
             for (int j = 0; j < groups.length; j++) {
-                Set<UUID> players = data.get(groups[j]);
-                dataSets[j].add((double) (players != null ? players.size() : 0));
+                dataSets[j].add((double) data.getOrDefault(groups[j], 0));
             }
         }
 
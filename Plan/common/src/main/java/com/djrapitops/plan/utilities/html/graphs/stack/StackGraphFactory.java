@@ -50,6 +50,11 @@ public class StackGraphFactory {
 
     public StackGraph activityStackGraph(TreeMap<Long, Map<String, Set<UUID>>> activityData) {
         String[] colors = theme.getValue(ThemeVal.GRAPH_ACTIVITY_PIE).split(", ");
-        return new ActivityStackGraph(activityData, colors, dayFormatter);
+        return new ActivityStackGraph(ActivityStackGraph.toActivityCounts(activityData), colors, dayFormatter);
+    }
+
+    public StackGraph activityStackGraphOfCounts(TreeMap<Long, Map<String, Integer>> activityCounts) {
+        String[] colors = theme.getValue(ThemeVal.GRAPH_ACTIVITY_PIE).split(", ");
+        return new ActivityStackGraph(activityCounts, colors, dayFormatter);
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.pages;
+
+import com.djrapitops.plan.data.store.PlaceholderKey;
+import com.djrapitops.plan.system.cache.DataChange;
+
+import java.util.*;
+
+import static com.djrapitops.plan.data.store.keys.AnalysisKeys.*;
+
+/**
+ * Types of {@link DataChange}s that change the values of {@link com.djrapitops.plan.data.store.keys.AnalysisKeys}
+ * shown in cached sections of the server page.
+ * <p>
+ * Keys of data that has no {@link DataChange}, like commands, are only updated by the time to live of the section.
+ *
+ * @author Rsl1122
+ */
+final class AnalysisKeyDependencies {
+
+    private static final Map<PlaceholderKey, Set<DataChange.Type>> DEPENDENCIES = new HashMap<>();
+
+    static {
+        dependsOn(EnumSet.of(DataChange.Type.SESSION),
+                SESSION_ACCORDION_HTML, SESSION_ACCORDION_FUNCTIONS,
+                AVERAGE_SESSION_LENGTH_F, AVERAGE_PLAYTIME_F, PLAYTIME_F,
+                SESSION_COUNT, DEATHS, MOB_KILL_COUNT, PLAYER_KILL_COUNT,
+                PLAYERS_DAY, PLAYERS_WEEK, PLAYERS_MONTH,
+                AVG_PLAYERS, AVG_PLAYERS_DAY, AVG_PLAYERS_WEEK, AVG_PLAYERS_MONTH,
+                WORLD_PIE_SERIES, GM_PIE_SERIES, PUNCHCARD_SERIES, UNIQUE_PLAYERS_SERIES
+        );
+        dependsOn(EnumSet.of(DataChange.Type.PLAYER_REGISTER),
+                OPERATORS,
+                PLAYERS_NEW_DAY, PLAYERS_NEW_WEEK, PLAYERS_NEW_MONTH,
+                AVG_PLAYERS_NEW, AVG_PLAYERS_NEW_DAY, AVG_PLAYERS_NEW_WEEK, AVG_PLAYERS_NEW_MONTH,
+                NEW_PLAYERS_SERIES,
+                WORLD_MAP_SERIES, COUNTRY_CATEGORIES, COUNTRY_SERIES
+        );
+        dependsOn(EnumSet.of(DataChange.Type.SESSION, DataChange.Type.PLAYER_REGISTER),
+                RECENT_LOGINS, PLAYERS_REGULAR,
+                PLAYERS_RETAINED_DAY, PLAYERS_RETAINED_DAY_PERC,
+                PLAYERS_RETAINED_WEEK, PLAYERS_RETAINED_WEEK_PERC,
+                PLAYERS_RETAINED_MONTH, PLAYERS_RETAINED_MONTH_PERC,
+                ACTIVITY_STACK_SERIES, ACTIVITY_STACK_CATEGORIES, ACTIVITY_PIE_SERIES, CALENDAR_SERIES
+        );
+        dependsOn(EnumSet.of(DataChange.Type.SESSION, DataChange.Type.PLAYER_REGISTER, DataChange.Type.TPS),
+                HEALTH_NOTES, HEALTH_INDEX
+        );
+        dependsOn(EnumSet.of(DataChange.Type.PING),
+                PING_TABLE, AVG_PING_SERIES, MAX_PING_SERIES, MIN_PING_SERIES
+        );
+        dependsOn(EnumSet.of(DataChange.Type.TPS),
+                LAST_PEAK_TIME_F, ALL_TIME_PEAK_TIME_F, PLAYERS_LAST_PEAK, PLAYERS_ALL_TIME_PEAK,
+                PLAYERS_ONLINE_SERIES, TPS_SERIES, CPU_SERIES, RAM_SERIES,
+                ENTITY_SERIES, CHUNK_SERIES, DISK_SERIES,
+                TPS_SPIKE_MONTH, TPS_SPIKE_WEEK, TPS_SPIKE_DAY,
+                MAX_FREE_DISK_MONTH, MAX_FREE_DISK_WEEK, MAX_FREE_DISK_DAY,
+                MIN_FREE_DISK_MONTH, MIN_FREE_DISK_WEEK, MIN_FREE_DISK_DAY,
+                AVG_TPS_MONTH, AVG_TPS_WEEK, AVG_TPS_DAY,
+                AVG_RAM_MONTH, AVG_RAM_WEEK, AVG_RAM_DAY,
+                AVG_ENTITY_MONTH, AVG_ENTITY_WEEK, AVG_ENTITY_DAY,
+                AVG_CHUNK_MONTH, AVG_CHUNK_WEEK, AVG_CHUNK_DAY,
+                AVG_FREE_DISK_MONTH, AVG_FREE_DISK_WEEK, AVG_FREE_DISK_DAY,
+                AVG_CPU_MONTH, AVG_CPU_WEEK, AVG_CPU_DAY
+        );
+        dependsOn(EnumSet.of(DataChange.Type.SERVER_EXTENSION_DATA),
+                PLUGINS_TAB, PLUGINS_TAB_NAV
+        );
+        dependsOn(EnumSet.noneOf(DataChange.Type.class),
+                COMMAND_USAGE_TABLE, COMMAND_COUNT, COMMAND_COUNT_UNIQUE
+        );
+    }
+
+    private AnalysisKeyDependencies() {
+        /* Static method class */
+    }
+
+    private static void dependsOn(Set<DataChange.Type> types, PlaceholderKey... keys) {
+        if (types.contains(DataChange.Type.SESSION) || types.contains(DataChange.Type.PLAYER_REGISTER)
+                || types.contains(DataChange.Type.PING)) {
+            // Removing a player removes all data of the player.
+            types.add(DataChange.Type.PLAYER_REMOVE);
+        }
+        for (PlaceholderKey key : keys) {
+            DEPENDENCIES.put(key, types);
+        }
+    }
+
+    /**
+     * Get the types of changes that change any of the given keys.
+     *
+     * @param keys Keys shown by a section of the page.
+     * @return Unmodifiable set of change types.
+     * @throws IllegalArgumentException If the dependencies of a key are not known.
+     */
+    static Set<DataChange.Type> of(PlaceholderKey... keys) {
+        Set<DataChange.Type> types = EnumSet.noneOf(DataChange.Type.class);
+        for (PlaceholderKey key : keys) {
+            Set<DataChange.Type> dependencies = DEPENDENCIES.get(key);
+            if (dependencies == null) {
+                throw new IllegalArgumentException("Changes to '" + key.getPlaceholder() + "' are not known");
+            }
+            types.addAll(dependencies);
+        }
+        return Collections.unmodifiableSet(types);
+    }
+}
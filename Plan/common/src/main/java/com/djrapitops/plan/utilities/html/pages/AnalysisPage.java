@@ -17,21 +17,32 @@
 package com.djrapitops.plan.utilities.html.pages;
 
 import com.djrapitops.plan.api.exceptions.ParseException;
+import com.djrapitops.plan.data.store.PlaceholderKey;
 import com.djrapitops.plan.data.store.containers.AnalysisContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.system.DebugChannels;
-import com.djrapitops.plan.system.file.PlanFiles;
+import com.djrapitops.plan.system.cache.DataChange;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
+import com.djrapitops.plan.system.webserver.cache.FragmentCache;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
 import com.djrapitops.plugin.benchmarking.Timings;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.djrapitops.plan.data.store.keys.AnalysisKeys.*;
 
 /**
  * Used for parsing a Html String out of AnalysisContainer and the html file.
+ * <p>
+ * Sections of the page are cached in {@link FragmentCache}, only expired sections are calculated again.
  *
  * @author Rsl1122
  */
@@ -43,7 +54,8 @@ public class AnalysisPage implements Page {
 
     private final ConnectionSystem connectionSystem;
     private final VersionCheckSystem versionCheckSystem;
-    private final PlanFiles files;
+    private final AssetStore assetStore;
+    private final FragmentCache fragmentCache;
     private final Formatter<Double> decimalFormatter;
     private final Timings timings;
 
@@ -51,14 +63,16 @@ public class AnalysisPage implements Page {
             AnalysisContainer analysisContainer,
             ConnectionSystem connectionSystem,
             VersionCheckSystem versionCheckSystem,
-            PlanFiles files,
+            AssetStore assetStore,
+            FragmentCache fragmentCache,
             Formatter<Double> decimalFormatter,
             Timings timings
     ) {
         this.analysisContainer = analysisContainer;
         this.connectionSystem = connectionSystem;
         this.versionCheckSystem = versionCheckSystem;
-        this.files = files;
+        this.assetStore = assetStore;
+        this.fragmentCache = fragmentCache;
         this.decimalFormatter = decimalFormatter;
         this.timings = timings;
     }
@@ -72,6 +86,7 @@ public class AnalysisPage implements Page {
                 FIRST_DAY, TPS_MEDIUM, TPS_HIGH,
                 DISK_MEDIUM, DISK_HIGH,
                 PLAYERS_MAX, PLAYERS_ONLINE, PLAYERS_TOTAL,
+                REFRESH_TIME_F, REFRESH_TIME_FULL_F,
 
                 WORLD_PIE_COLORS, GM_PIE_COLORS, ACTIVITY_PIE_COLORS,
                 PLAYERS_GRAPH_COLOR, TPS_HIGH_COLOR, TPS_MEDIUM_COLOR,
@@ -85,17 +100,16 @@ public class AnalysisPage implements Page {
             placeholderReplacer.put("backButton", "");
         }
         placeholderReplacer.put("update", versionCheckSystem.getUpdateHtml().orElse(""));
-        playersTable(placeholderReplacer);
-        sessionStructures(placeholderReplacer);
-        serverHealth(placeholderReplacer);
-        pluginsTabs(placeholderReplacer);
-        miscTotals(placeholderReplacer);
-        playerActivityNumbers(placeholderReplacer);
-        chartSeries(placeholderReplacer);
-        performanceNumbers(placeholderReplacer);
+        for (Fragment fragment : Fragment.values()) {
+            if (fragment == Fragment.PERFORMANCE_NUMBERS) {
+                addFragment(placeholderReplacer, fragment, this::performanceNumbers);
+            } else {
+                addFragment(placeholderReplacer, fragment, values -> values.addAllPlaceholdersFrom(analysisContainer, fragment.keys));
+            }
+        }
 
         try {
-            return placeholderReplacer.apply(files.getCustomizableResourceOrDefault("web/server.html").asString());
+            return placeholderReplacer.apply(assetStore.getTemplate("web/server.html"));
         } catch (IOException e) {
             throw new ParseException(e);
         } finally {
@@ -103,55 +117,65 @@ public class AnalysisPage implements Page {
         }
     }
 
-    private void serverHealth(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Server Health");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                HEALTH_NOTES
+    private void addFragment(PlaceholderReplacer placeholderReplacer, Fragment fragment, Consumer<PlaceholderReplacer> renderer) {
+        Supplier<Map<String, Serializable>> rendering = () -> {
+            timings.start(CHANNEL + " " + fragment.sectionName);
+            PlaceholderReplacer values = new PlaceholderReplacer();
+            renderer.accept(values);
+            timings.end(CHANNEL, CHANNEL + " " + fragment.sectionName);
+            return values;
+        };
+
+        Optional<UUID> serverUUID = analysisContainer.getServerContainer().getValue(ServerKeys.SERVER_UUID);
+        placeholderReplacer.putAll(serverUUID.isPresent()
+                ? fragmentCache.getFragment(serverUUID.get(), fragment.name(), fragment.timeToLive, fragment.dependencies, rendering)
+                : rendering.get()
         );
-        timings.end(CHANNEL, CHANNEL + " Server Health");
-    }
-
-    private void sessionStructures(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Session Structures");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                SESSION_ACCORDION_HTML, SESSION_ACCORDION_FUNCTIONS,
-                SESSION_TABLE, RECENT_LOGINS,
-                COMMAND_USAGE_TABLE, PING_TABLE);
-        timings.end(CHANNEL, CHANNEL + " Session Structures");
     }
 
-    private void playersTable(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Players Table");
+    private void performanceNumbers(PlaceholderReplacer placeholderReplacer) {
+        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer, Fragment.PERFORMANCE_NUMBERS.keys);
+        // Missing values are shown as "Unavailable" instead of -1
         placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                PLAYERS_TABLE);
-        timings.end(CHANNEL, CHANNEL + " Players Table");
-    }
-
-    private void pluginsTabs(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " 3rd Party");
+                value -> value != -1L ? Long.toString(value) : "Unavailable",
+                MAX_FREE_DISK_MONTH, MAX_FREE_DISK_WEEK, MAX_FREE_DISK_DAY,
+                MIN_FREE_DISK_MONTH, MIN_FREE_DISK_WEEK, MIN_FREE_DISK_DAY
+        );
         placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                PLUGINS_TAB, PLUGINS_TAB_NAV
+                value -> value != -1 ? decimalFormatter.apply(value) : "Unavailable",
+                AVG_TPS_MONTH, AVG_TPS_WEEK, AVG_TPS_DAY,
+                AVG_RAM_MONTH, AVG_RAM_WEEK, AVG_RAM_DAY,
+                AVG_ENTITY_MONTH, AVG_ENTITY_WEEK, AVG_ENTITY_DAY,
+                AVG_CHUNK_MONTH, AVG_CHUNK_WEEK, AVG_CHUNK_DAY,
+                AVG_FREE_DISK_MONTH, AVG_FREE_DISK_WEEK, AVG_FREE_DISK_DAY,
+                AVG_CPU_MONTH, AVG_CPU_WEEK, AVG_CPU_DAY
         );
-        timings.end(CHANNEL, CHANNEL + " 3rd Party");
     }
 
-    private void miscTotals(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Misc. totals");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                REFRESH_TIME_F, REFRESH_TIME_FULL_F, LAST_PEAK_TIME_F, ALL_TIME_PEAK_TIME_F,
+    /**
+     * Sections of the page that are cached separately.
+     * <p>
+     * Each section is rendered again when data shown by any of its keys changes, see {@link AnalysisKeyDependencies}.
+     * Sections showing TPS data are not cached for longer than TPS is gathered.
+     */
+    enum Fragment {
+        SESSION_STRUCTURES("Session Structures", TimeUnit.MINUTES.toMillis(5L),
+                SESSION_ACCORDION_HTML, SESSION_ACCORDION_FUNCTIONS,
+                RECENT_LOGINS, COMMAND_USAGE_TABLE, PING_TABLE
+        ),
+        SERVER_HEALTH("Server Health", TimeUnit.MINUTES.toMillis(10L),
+                HEALTH_NOTES, HEALTH_INDEX
+        ),
+        PLUGINS_TABS("3rd Party", TimeUnit.MINUTES.toMillis(30L),
+                PLUGINS_TAB, PLUGINS_TAB_NAV
+        ),
+        MISC_TOTALS("Misc. totals", TimeUnit.MINUTES.toMillis(5L),
                 AVERAGE_SESSION_LENGTH_F, AVERAGE_PLAYTIME_F, PLAYTIME_F,
-
-                PLAYERS_LAST_PEAK, PLAYERS_ALL_TIME_PEAK, OPERATORS,
-                PLAYERS_REGULAR, SESSION_COUNT, DEATHS,
-                MOB_KILL_COUNT, PLAYER_KILL_COUNT, HEALTH_INDEX,
+                OPERATORS, PLAYERS_REGULAR, SESSION_COUNT, DEATHS,
+                MOB_KILL_COUNT, PLAYER_KILL_COUNT,
                 COMMAND_COUNT, COMMAND_COUNT_UNIQUE
-        );
-        timings.end(CHANNEL, CHANNEL + " Misc. totals");
-    }
-
-    private void playerActivityNumbers(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Online Activity Numbers");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
+        ),
+        ONLINE_ACTIVITY_NUMBERS("Online Activity Numbers", TimeUnit.MINUTES.toMillis(10L),
                 PLAYERS_DAY, PLAYERS_WEEK, PLAYERS_MONTH,
                 PLAYERS_NEW_DAY, PLAYERS_NEW_WEEK, PLAYERS_NEW_MONTH,
                 AVG_PLAYERS, AVG_PLAYERS_DAY, AVG_PLAYERS_WEEK,
@@ -159,22 +183,28 @@ public class AnalysisPage implements Page {
                 AVG_PLAYERS_NEW_WEEK, AVG_PLAYERS_NEW_MONTH, PLAYERS_RETAINED_DAY,
                 PLAYERS_RETAINED_DAY_PERC, PLAYERS_RETAINED_WEEK, PLAYERS_RETAINED_WEEK_PERC,
                 PLAYERS_RETAINED_MONTH, PLAYERS_RETAINED_MONTH_PERC
-        );
-        timings.end(CHANNEL, CHANNEL + " Online Activity Numbers");
-    }
-
-    private void performanceNumbers(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Performance Numbers");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                TPS_SPIKE_MONTH, TPS_SPIKE_WEEK, TPS_SPIKE_DAY
-        );
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                value -> value != -1L ? Long.toString(value) : "Unavailable",
+        ),
+        PERFORMANCE_CHART_SERIES("Performance Chart Series", TimeUnit.MINUTES.toMillis(1L),
+                PLAYERS_ONLINE_SERIES, TPS_SERIES, CPU_SERIES,
+                RAM_SERIES, ENTITY_SERIES, CHUNK_SERIES,
+                DISK_SERIES, AVG_PING_SERIES, MAX_PING_SERIES,
+                MIN_PING_SERIES
+        ),
+        PLAYER_CHART_SERIES("Player Chart Series", TimeUnit.MINUTES.toMillis(10L),
+                WORLD_PIE_SERIES, GM_PIE_SERIES, PUNCHCARD_SERIES,
+                ACTIVITY_STACK_SERIES, ACTIVITY_STACK_CATEGORIES,
+                ACTIVITY_PIE_SERIES, CALENDAR_SERIES,
+                UNIQUE_PLAYERS_SERIES, NEW_PLAYERS_SERIES
+        ),
+        GEOLOCATION_SERIES("Geolocation Series", TimeUnit.HOURS.toMillis(1L),
+                WORLD_MAP_SERIES, COUNTRY_CATEGORIES, COUNTRY_SERIES
+        ),
+        PERFORMANCE_NUMBERS("Performance Numbers", TimeUnit.MINUTES.toMillis(1L),
+                LAST_PEAK_TIME_F, ALL_TIME_PEAK_TIME_F,
+                PLAYERS_LAST_PEAK, PLAYERS_ALL_TIME_PEAK,
+                TPS_SPIKE_MONTH, TPS_SPIKE_WEEK, TPS_SPIKE_DAY,
                 MAX_FREE_DISK_MONTH, MAX_FREE_DISK_WEEK, MAX_FREE_DISK_DAY,
-                MIN_FREE_DISK_MONTH, MIN_FREE_DISK_WEEK, MIN_FREE_DISK_DAY
-        );
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                value -> value != -1 ? decimalFormatter.apply(value) : "Unavailable",
+                MIN_FREE_DISK_MONTH, MIN_FREE_DISK_WEEK, MIN_FREE_DISK_DAY,
                 AVG_TPS_MONTH, AVG_TPS_WEEK, AVG_TPS_DAY,
                 AVG_RAM_MONTH, AVG_RAM_WEEK, AVG_RAM_DAY,
                 AVG_ENTITY_MONTH, AVG_ENTITY_WEEK, AVG_ENTITY_DAY,
@@ -182,22 +212,17 @@ public class AnalysisPage implements Page {
                 AVG_FREE_DISK_MONTH, AVG_FREE_DISK_WEEK, AVG_FREE_DISK_DAY,
                 AVG_CPU_MONTH, AVG_CPU_WEEK, AVG_CPU_DAY
         );
-        timings.end(CHANNEL, CHANNEL + " Performance Numbers");
-    }
 
-    private void chartSeries(PlaceholderReplacer placeholderReplacer) {
-        timings.start(CHANNEL + " Chart Series");
-        placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
-                WORLD_PIE_SERIES, GM_PIE_SERIES, PLAYERS_ONLINE_SERIES,
-                TPS_SERIES, CPU_SERIES, RAM_SERIES,
-                ENTITY_SERIES, CHUNK_SERIES, PUNCHCARD_SERIES,
-                WORLD_MAP_SERIES, ACTIVITY_STACK_SERIES, ACTIVITY_STACK_CATEGORIES,
-                ACTIVITY_PIE_SERIES, CALENDAR_SERIES,
-                UNIQUE_PLAYERS_SERIES, NEW_PLAYERS_SERIES,
-                COUNTRY_CATEGORIES, COUNTRY_SERIES,
-                AVG_PING_SERIES, MAX_PING_SERIES, MIN_PING_SERIES,
-                DISK_SERIES
-        );
-        timings.end(CHANNEL, CHANNEL + " Chart Series");
+        final String sectionName;
+        final long timeToLive;
+        final PlaceholderKey[] keys;
+        final Set<DataChange.Type> dependencies;
+
+        Fragment(String sectionName, long timeToLive, PlaceholderKey... keys) {
+            this.sectionName = sectionName;
+            this.timeToLive = timeToLive;
+            this.keys = keys;
+            this.dependencies = AnalysisKeyDependencies.of(keys);
+        }
     }
 }
\ No newline at end of file
@@ -20,6 +20,11 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.TransactionExecutor;
+import com.djrapitops.plan.extension.ExtensionServiceImplementation;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderCallBudget;
+import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.file.FileResource;
 import com.djrapitops.plan.system.info.connection.ConnectionLog;
@@ -27,6 +32,7 @@ import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
+import com.djrapitops.plan.system.webserver.RequestLatencies;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.formatting.Formatters;
@@ -44,6 +50,7 @@ import com.djrapitops.plugin.logging.debug.MemoryDebugLogger;
 import com.djrapitops.plugin.logging.error.DefaultErrorHandler;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import com.djrapitops.plugin.logging.error.FolderTimeStampErrorFileLogger;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import java.io.IOException;
 import java.util.*;
@@ -58,6 +65,9 @@ public class DebugPage implements Page {
     private final Database database;
     private final ServerInfo serverInfo;
     private final ConnectionSystem connectionSystem;
+    private final ExtensionServiceImplementation extensionService;
+    private final RequestLatencies requestLatencies;
+    private final GeolocationCache geolocationCache;
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorHandler errorHandler;
@@ -70,6 +80,9 @@ public class DebugPage implements Page {
             ServerInfo serverInfo,
             ConnectionSystem connectionSystem,
             Formatters formatters,
+            ExtensionServiceImplementation extensionService,
+            RequestLatencies requestLatencies,
+            GeolocationCache geolocationCache,
             DebugLogger debugLogger,
             Timings timings,
             ErrorHandler errorHandler
@@ -77,6 +90,9 @@ public class DebugPage implements Page {
         this.database = database;
         this.serverInfo = serverInfo;
         this.connectionSystem = connectionSystem;
+        this.extensionService = extensionService;
+        this.requestLatencies = requestLatencies;
+        this.geolocationCache = geolocationCache;
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
@@ -111,6 +127,7 @@ public class DebugPage implements Page {
         StringBuilder content = new StringBuilder();
         appendResponseCache(content);
         appendSessionCache(content);
+        appendGeolocationCache(content);
         return content.toString();
     }
 
@@ -151,6 +168,22 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendGeolocationCache(StringBuilder content) {
+        try {
+            CacheStats stats = geolocationCache.getCacheStats();
+            content.append("<pre>### Geolocation Cache:<br><br>");
+            content.append("Requests | Hits | Misses | Hit rate<br>")
+                    .append("-- | -- | -- | --<br>");
+            content.append(stats.requestCount()).append(" | ")
+                    .append(stats.hitCount()).append(" | ")
+                    .append(stats.missCount()).append(" | ")
+                    .append(String.format("%.2f", stats.hitRate() * 100.0)).append("%<br>");
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -168,6 +201,8 @@ public class DebugPage implements Page {
 
         appendServerInformation(content);
         appendConnectionLog(content);
+        appendExtensionCalls(content);
+        appendRequestLatencies(content);
         appendBenchmarks(content);
 
         return content.toString();
@@ -215,6 +250,68 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendExtensionCalls(StringBuilder content) {
+        try {
+            Map<String, ProviderCallBudget> callBudgets = extensionService.getCallBudgets();
+
+            content.append("<pre>### DataExtension Calls:<br><br>");
+            content.append("Extension | Calls | Avg ms | Max ms | Over budget | Timeouts | Merged | Rejected | Disabled providers<br>")
+                    .append("-- | -- | -- | -- | -- | -- | -- | -- | --<br>");
+
+            if (callBudgets.isEmpty()) {
+                content.append("**No Extensions Registered**<br>");
+            }
+            for (Map.Entry<String, ProviderCallBudget> entry : callBudgets.entrySet()) {
+                ProviderCallBudget callBudget = entry.getValue();
+                content.append(entry.getKey()).append(" | ")
+                        .append(callBudget.getCalls()).append(" | ")
+                        .append(callBudget.getAverageCallTimeMs()).append(" | ")
+                        .append(callBudget.getMaxCallTimeMs()).append(" | ")
+                        .append(callBudget.getOverBudgetCalls()).append(" | ")
+                        .append(callBudget.getTimeouts()).append(" | ")
+                        .append(callBudget.getCoalescedCalls()).append(" | ")
+                        .append(callBudget.getRejectedCalls()).append(" | ")
+                        .append(callBudget.getDisabledProviderCount()).append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private void appendRequestLatencies(StringBuilder content) {
+        try {
+            Map<String, RequestLatencies.Histogram> histograms = requestLatencies.getHistograms();
+
+            content.append("<pre>### Web Server Requests:<br><br>");
+            content.append("Route | Requests | Avg ms | Rejected");
+            StringBuilder separator = new StringBuilder("-- | -- | -- | --");
+            for (long bound : RequestLatencies.getBucketBounds()) {
+                content.append(" | &le;").append(bound).append(" ms");
+                separator.append(" | --");
+            }
+            content.append(" | Slower<br>").append(separator).append(" | --<br>");
+
+            if (histograms.isEmpty()) {
+                content.append("**No Requests Handled**<br>");
+            }
+            for (Map.Entry<String, RequestLatencies.Histogram> entry : histograms.entrySet()) {
+                RequestLatencies.Histogram histogram = entry.getValue();
+                content.append(entry.getKey()).append(" | ")
+                        .append(histogram.getCount()).append(" | ")
+                        .append(histogram.getAverageMs()).append(" | ")
+                        .append(histogram.getRejected());
+                for (long count : histogram.getCounts()) {
+                    content.append(" | ").append(count);
+                }
+                content.append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
     private void appendServerInformation(StringBuilder content) {
         ServerProperties serverProperties = serverInfo.getServerProperties();
 
@@ -228,6 +325,13 @@ public class DebugPage implements Page {
         content.append(")<br>");
 
         content.append("**Database:** ").append(database.getType().getName());
+        if (database instanceof SQLDB) {
+            TransactionExecutor transactions = ((SQLDB) database).getTransactionExecutor();
+            content.append("<br>**Transaction Queue:** ").append(transactions.getQueueSize())
+                    .append(", ").append(transactions.getTransactionCount()).append(" executed in ")
+                    .append(transactions.getCommitCount()).append(" commits, avg commit ")
+                    .append(String.format("%.2f", transactions.getAverageCommitLatency())).append(" ms");
+        }
         content.append("<br><br>");
 
         Properties properties = System.getProperties();
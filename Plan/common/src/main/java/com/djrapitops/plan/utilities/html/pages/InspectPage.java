@@ -24,7 +24,6 @@ import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.*;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.system.cache.SessionCache;
-import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DisplaySettings;
@@ -33,6 +32,7 @@ import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.settings.theme.ThemeVal;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
 import com.djrapitops.plan.system.webserver.cache.PageId;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
@@ -67,7 +67,7 @@ public class InspectPage implements Page {
 
     private final VersionCheckSystem versionCheckSystem;
 
-    private final PlanFiles files;
+    private final AssetStore assetStore;
     private final PlanConfig config;
     private final PageFactory pageFactory;
     private final Theme theme;
@@ -86,7 +86,7 @@ public class InspectPage implements Page {
     InspectPage(
             PlayerContainer player, Map<UUID, String> serverNames,
             VersionCheckSystem versionCheckSystem,
-            PlanFiles files,
+            AssetStore assetStore,
             PlanConfig config,
             PageFactory pageFactory,
             Theme theme,
@@ -100,7 +100,7 @@ public class InspectPage implements Page {
         this.player = player;
         this.serverNames = serverNames;
         this.versionCheckSystem = versionCheckSystem;
-        this.files = files;
+        this.assetStore = assetStore;
         this.config = config;
         this.pageFactory = pageFactory;
         this.theme = theme;
@@ -270,7 +270,7 @@ public class InspectPage implements Page {
         InspectPagePluginsContent pluginsTab = (InspectPagePluginsContent) ResponseCache.loadResponse(PageId.PLAYER_PLUGINS_TAB.of(playerUUID), InspectPagePluginsContent::new);
         pluginsTab.addTab(new InspectPagePluginsContent(pluginTabs.getNav(), pluginTabs.getTab()));
 
-        return replacer.apply(files.getCustomizableResourceOrDefault("web/player.html").asString());
+        return replacer.apply(assetStore.getTemplate("web/player.html"));
     }
 
     private void sessionsAndPlaytime(PlaceholderReplacer replacer, SessionsMutator sessionsMutator, SessionsMutator daySessionsMutator, SessionsMutator weekSessionsMutator, SessionsMutator monthSessionsMutator) {
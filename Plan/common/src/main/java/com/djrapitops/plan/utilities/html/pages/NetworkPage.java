@@ -20,9 +20,9 @@ import com.djrapitops.plan.api.exceptions.ParseException;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.keys.NetworkKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
-import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.utilities.html.structure.AnalysisPluginsTabContentCreator;
@@ -42,7 +42,7 @@ public class NetworkPage implements Page {
     private final AnalysisPluginsTabContentCreator analysisPluginsTabContentCreator;
 
     private final VersionCheckSystem versionCheckSystem;
-    private final PlanFiles files;
+    private final AssetStore assetStore;
     private final ServerProperties serverProperties;
     private final Formatters formatters;
 
@@ -50,14 +50,14 @@ public class NetworkPage implements Page {
             NetworkContainer networkContainer,
             AnalysisPluginsTabContentCreator analysisPluginsTabContentCreator,
             VersionCheckSystem versionCheckSystem,
-            PlanFiles files,
+            AssetStore assetStore,
             ServerProperties serverProperties,
             Formatters formatters
     ) {
         this.networkContainer = networkContainer;
         this.analysisPluginsTabContentCreator = analysisPluginsTabContentCreator;
         this.versionCheckSystem = versionCheckSystem;
-        this.files = files;
+        this.assetStore = assetStore;
         this.serverProperties = serverProperties;
         this.formatters = formatters;
     }
@@ -85,14 +85,14 @@ public class NetworkPage implements Page {
 
             AnalysisPluginTabs analysisPluginTabs = new AnalysisPluginTabs(networkContainer.getBungeeContainer().getValue(ServerKeys.EXTENSION_DATA).orElse(new ArrayList<>()), formatters);
 
-            String[] content = analysisPluginsTabContentCreator.createContent(null, networkContainer.getUnsafe(NetworkKeys.PLAYERS_MUTATOR));
+            String[] content = analysisPluginsTabContentCreator.createContent(null, networkContainer.getUnsafe(NetworkKeys.PLAYER_NAMES));
             String nav = analysisPluginTabs.getNav() + content[0];
             String tabs = analysisPluginTabs.getTabs() + content[1];
 
             placeholderReplacer.put("navPluginsTabs", nav);
             placeholderReplacer.put("tabsPlugins", tabs);
 
-            return placeholderReplacer.apply(files.getCustomizableResourceOrDefault("web/network.html").asString());
+            return placeholderReplacer.apply(assetStore.getTemplate("web/network.html"));
         } catch (Exception e) {
             throw new ParseException(e);
         }
@@ -23,16 +23,20 @@ import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
+import com.djrapitops.plan.extension.ExtensionServiceImplementation;
 import com.djrapitops.plan.extension.implementation.results.player.ExtensionPlayerData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
+import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.database.DBSystem;
-import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.RequestLatencies;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
+import com.djrapitops.plan.system.webserver.cache.FragmentCache;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.graphs.Graphs;
@@ -57,7 +61,7 @@ import java.util.*;
 public class PageFactory {
 
     private final Lazy<VersionCheckSystem> versionCheckSystem;
-    private final Lazy<PlanFiles> fileSystem;
+    private final Lazy<AssetStore> assetStore;
     private final Lazy<PlanConfig> config;
     private final Lazy<Theme> theme;
     private final Lazy<DBSystem> dbSystem;
@@ -67,9 +71,13 @@ public class PageFactory {
     private final Lazy<HtmlTables> tables;
     private final Lazy<Accordions> accordions;
     private final Lazy<Formatters> formatters;
+    private final Lazy<FragmentCache> fragmentCache;
     private final Lazy<AnalysisContainer.Factory> analysisContainerFactory;
     private final Lazy<AnalysisPluginsTabContentCreator> analysisPluginsTabContentCreator;
     private final Lazy<HookHandler> hookHandler;
+    private final Lazy<ExtensionServiceImplementation> extensionService;
+    private final Lazy<RequestLatencies> requestLatencies;
+    private final Lazy<GeolocationCache> geolocationCache;
     private final Lazy<DebugLogger> debugLogger;
     private final Lazy<Timings> timings;
     private final Lazy<ErrorHandler> errorHandler;
@@ -77,7 +85,7 @@ public class PageFactory {
     @Inject
     public PageFactory(
             Lazy<VersionCheckSystem> versionCheckSystem,
-            Lazy<PlanFiles> fileSystem,
+            Lazy<AssetStore> assetStore,
             Lazy<PlanConfig> config,
             Lazy<Theme> theme,
             Lazy<DBSystem> dbSystem,
@@ -87,15 +95,19 @@ public class PageFactory {
             Lazy<HtmlTables> tables,
             Lazy<Accordions> accordions,
             Lazy<Formatters> formatters,
+            Lazy<FragmentCache> fragmentCache,
             Lazy<AnalysisContainer.Factory> analysisContainerFactory,
             Lazy<AnalysisPluginsTabContentCreator> analysisPluginsTabContentCreator,
             Lazy<HookHandler> hookHandler,
+            Lazy<ExtensionServiceImplementation> extensionService,
+            Lazy<RequestLatencies> requestLatencies,
+            Lazy<GeolocationCache> geolocationCache,
             Lazy<DebugLogger> debugLogger,
             Lazy<Timings> timings,
             Lazy<ErrorHandler> errorHandler
     ) {
         this.versionCheckSystem = versionCheckSystem;
-        this.fileSystem = fileSystem;
+        this.assetStore = assetStore;
         this.config = config;
         this.theme = theme;
         this.dbSystem = dbSystem;
@@ -105,9 +117,13 @@ public class PageFactory {
         this.tables = tables;
         this.accordions = accordions;
         this.formatters = formatters;
+        this.fragmentCache = fragmentCache;
         this.analysisContainerFactory = analysisContainerFactory;
         this.analysisPluginsTabContentCreator = analysisPluginsTabContentCreator;
         this.hookHandler = hookHandler;
+        this.extensionService = extensionService;
+        this.requestLatencies = requestLatencies;
+        this.geolocationCache = geolocationCache;
         this.debugLogger = debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
@@ -116,12 +132,13 @@ public class PageFactory {
     public DebugPage debugPage() {
         return new DebugPage(
                 dbSystem.get().getDatabase(), serverInfo.get(), connectionSystem.get(), formatters.get(),
+                extensionService.get(), requestLatencies.get(), geolocationCache.get(),
                 debugLogger.get(), timings.get(), errorHandler.get()
         );
     }
 
     public PlayersPage playersPage() {
-        return new PlayersPage(versionCheckSystem.get(), fileSystem.get(), config.get(),
+        return new PlayersPage(versionCheckSystem.get(), assetStore.get(), config.get(),
                 dbSystem.get().getDatabase(), serverInfo.get(), tables.get(),
                 timings.get());
     }
@@ -129,7 +146,7 @@ public class PageFactory {
     public AnalysisPage analysisPage(UUID serverUUID) {
         AnalysisContainer analysisContainer = analysisContainerFactory.get()
                 .forServerContainer(dbSystem.get().getDatabase().query(ContainerFetchQueries.fetchServerContainer(serverUUID)));
-        return new AnalysisPage(analysisContainer, connectionSystem.get(), versionCheckSystem.get(), fileSystem.get(), formatters.get().decimals(), timings.get());
+        return new AnalysisPage(analysisContainer, connectionSystem.get(), versionCheckSystem.get(), assetStore.get(), fragmentCache.get(), formatters.get().decimals(), timings.get());
     }
 
     public InspectPage inspectPage(UUID playerUUID) {
@@ -139,7 +156,7 @@ public class PageFactory {
         return new InspectPage(
                 player, serverNames,
                 versionCheckSystem.get(),
-                fileSystem.get(), config.get(), this, theme.get(),
+                assetStore.get(), config.get(), this, theme.get(),
                 graphs.get(), tables.get(), accordions.get(), formatters.get(),
                 serverInfo.get(), timings.get()
         );
@@ -191,6 +208,6 @@ public class PageFactory {
                 .query(ContainerFetchQueries.fetchNetworkContainer()); // Not cached, big.
         return new NetworkPage(networkContainer,
                 analysisPluginsTabContentCreator.get(),
-                versionCheckSystem.get(), fileSystem.get(), serverInfo.get().getServerProperties(), formatters.get());
+                versionCheckSystem.get(), assetStore.get(), serverInfo.get().getServerProperties(), formatters.get());
     }
 }
\ No newline at end of file
@@ -20,12 +20,12 @@ import com.djrapitops.plan.api.exceptions.ParseException;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
-import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.PluginSettings;
 import com.djrapitops.plan.system.settings.paths.ProxySettings;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.cache.AssetStore;
 import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.utilities.html.tables.HtmlTables;
 import com.djrapitops.plugin.benchmarking.Timings;
@@ -40,7 +40,7 @@ import java.util.List;
 public class PlayersPage implements Page {
 
     private final VersionCheckSystem versionCheckSystem;
-    private final PlanFiles files;
+    private final AssetStore assetStore;
     private final PlanConfig config;
     private final Database database;
     private final ServerInfo serverInfo;
@@ -51,7 +51,7 @@ public class PlayersPage implements Page {
 
     PlayersPage(
             VersionCheckSystem versionCheckSystem,
-            PlanFiles files,
+            AssetStore assetStore,
             PlanConfig config,
             Database database,
             ServerInfo serverInfo,
@@ -59,7 +59,7 @@ public class PlayersPage implements Page {
             Timings timings
     ) {
         this.versionCheckSystem = versionCheckSystem;
-        this.files = files;
+        this.assetStore = assetStore;
         this.config = config;
         this.database = database;
         this.serverInfo = serverInfo;
@@ -85,7 +85,7 @@ public class PlayersPage implements Page {
             placeholderReplacer.put("playersTable", tables.playerTableForPlayersPage(playerContainers).parseHtml());
             timings.end("Pages", "Players page players table parsing");
 
-            return placeholderReplacer.apply(files.getCustomizableResourceOrDefault("web/players.html").asString());
+            return placeholderReplacer.apply(assetStore.getTemplate("web/players.html"));
         } catch (Exception e) {
             throw new ParseException(e);
         }
@@ -20,6 +20,8 @@ import com.djrapitops.plan.data.element.AnalysisContainer;
 import com.djrapitops.plan.data.element.InspectContainer;
 import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.plan.data.plugin.PluginData;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.system.DebugChannels;
 import com.djrapitops.plan.utilities.comparators.PluginDataNameComparator;
@@ -142,13 +144,23 @@ public class AnalysisPluginsTabContentCreator {
             com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer,
             PlayersMutator mutator
     ) {
+        Map<UUID, String> playerNames = new LinkedHashMap<>();
+        for (PlayerContainer player : mutator.all()) {
+            playerNames.put(player.getUnsafe(PlayerKeys.UUID), player.getValue(PlayerKeys.NAME).orElse("Unknown"));
+        }
+        return createContent(analysisContainer, playerNames);
+    }
+
+    public String[] createContent(
+            com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer,
+            Map<UUID, String> playerNames
+    ) {
 
-        if (mutator.all().isEmpty()) {
+        if (playerNames.isEmpty()) {
             return new String[]{"", ""};
         }
 
-        List<UUID> uuids = mutator.uuids();
-        Map<PluginData, AnalysisContainer> containers = analyzeAdditionalPluginData(uuids, analysisContainer);
+        Map<PluginData, AnalysisContainer> containers = analyzeAdditionalPluginData(playerNames.keySet(), analysisContainer);
 
         List<PluginData> order = new ArrayList<>(containers.keySet());
         order.sort(new PluginDataNameComparator());
@@ -196,7 +208,7 @@ public class AnalysisPluginsTabContentCreator {
                 "<div class=\"card\">" +
                 "<div class=\"header\"><h2><i class=\"fa fa-users\"></i> Plugin Data</h2></div>" +
                 "<div class=\"body\">" +
-                tables.pluginPlayersTable(containers, mutator.all()).parseHtml() +
+                tables.pluginPlayersTable(containers, playerNames).parseHtml() +
                 "</div></div></div>" +
                 "</div></div>";
 
@@ -66,7 +66,7 @@ public class NetworkServerBox {
         String playersOnlineData = graphs.line().playersOnlineGraph(tpsMutator).toHighChartsSeries();
 
         String pageID = PageId.SERVER.of(serverUUID);
-        boolean isCached = ResponseCache.isCached(pageID);
+        boolean isCached = ResponseCache.isRecent(pageID);
         boolean isOnline = isCached && ResponseCache.loadResponse(pageID) instanceof AnalysisPageResponse;
         String cached = isCached ? (isOnline ? "Yes" : "Offline") : "No";
 
@@ -17,15 +17,12 @@
 package com.djrapitops.plan.utilities.html.structure;
 
 import com.djrapitops.plan.api.PlanAPI;
-import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
-import com.djrapitops.plan.data.store.keys.SessionKeys;
-import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
+import com.djrapitops.plan.data.store.objects.SessionColumns;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -40,11 +37,13 @@ import java.util.concurrent.TimeUnit;
 public class RecentLoginList {
 
     private final List<PlayerContainer> players;
+    private final SessionColumns sessions;
 
     private final Formatter<Long> secondLongFormatter;
 
-    public RecentLoginList(List<PlayerContainer> players, Formatter<Long> secondLongFormatter) {
+    public RecentLoginList(List<PlayerContainer> players, SessionColumns sessions, Formatter<Long> secondLongFormatter) {
         this.players = players;
+        this.sessions = sessions;
         this.secondLongFormatter = secondLongFormatter;
     }
 
@@ -80,23 +79,17 @@ public class RecentLoginList {
         List<RecentLogin> recentLogins = new ArrayList<>();
         for (PlayerContainer player : players) {
             if (!player.supports(PlayerKeys.NAME)
-                    || !player.supports(PlayerKeys.SESSIONS)) {
+                    || !player.supports(PlayerKeys.UUID)) {
                 continue;
             }
             String name = player.getUnsafe(PlayerKeys.NAME);
             long registerDate = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
 
-            List<Session> sessions = player.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList());
-            if (sessions.isEmpty()) {
+            int playerIndex = sessions.indexOf(player.getUnsafe(PlayerKeys.UUID));
+            if (playerIndex == -1) {
                 continue;
             }
-            sessions.sort(new SessionStartComparator());
-            Session session = sessions.get(0);
-
-            if (!session.supports(SessionKeys.START)) {
-                continue;
-            }
-            long mostRecentStart = session.getUnsafe(SessionKeys.START);
+            long mostRecentStart = sessions.toLatestStart(playerIndex);
             boolean isFirstSession = Math.abs(registerDate - mostRecentStart) < TimeUnit.SECONDS.toMillis(10L);
             recentLogins.add(new RecentLogin(mostRecentStart, isFirstSession, name));
         }
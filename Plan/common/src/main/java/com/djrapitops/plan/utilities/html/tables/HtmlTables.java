@@ -30,7 +30,6 @@ import com.djrapitops.plan.utilities.formatting.Formatters;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -181,13 +180,13 @@ public class HtmlTables {
     /**
      * Create a new Player table that contains Plugin Data.
      *
-     * @param containers PluginData AnalysisContainers.
-     * @param players    List of {@link PlayerContainer}s of players.
+     * @param containers  PluginData AnalysisContainers.
+     * @param playerNames Map: Player UUID - Player name, in the order of the rows.
      * @return a new {@link PluginPlayersTable}.
      */
-    public TableContainer pluginPlayersTable(Map<PluginData, AnalysisContainer> containers, Collection<PlayerContainer> players) {
+    public TableContainer pluginPlayersTable(Map<PluginData, AnalysisContainer> containers, Map<UUID, String> playerNames) {
         return new PluginPlayersTable(
-                containers, players,
+                containers, playerNames,
                 config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE),
                 config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB)
         );
@@ -17,12 +17,12 @@
 package com.djrapitops.plan.utilities.html.tables;
 
 import com.djrapitops.plan.api.PlanAPI;
-import com.djrapitops.plan.data.container.GeoInfo;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.mutators.ActivityIndex;
 import com.djrapitops.plan.data.store.mutators.GeoInfoMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
 import com.djrapitops.plan.extension.FormatType;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.implementation.results.*;
@@ -44,13 +44,11 @@ import java.util.*;
  */
 public class PlayersTableJSONParser {
 
-    private final List<PlayerContainer> players;
+    private final List<PlayerSummary> players;
+    private final Map<UUID, String> geolocations;
     private final List<ExtensionDescriptive> extensionDescriptives;
     private final Map<UUID, ExtensionTabData> extensionData;
 
-    private final int maxPlayers;
-    private final long activeMsThreshold;
-    private final int activeLoginThreshold;
     private final boolean openPlayerPageInNewTab;
 
     private Map<FormatType, Formatter<Long>> numberFormatters;
@@ -65,19 +63,44 @@ public class PlayersTableJSONParser {
             int maxPlayers, long activeMsThreshold, int activeLoginThreshold, boolean openPlayerPageInNewTab,
             // Formatters
             Formatters formatters
+    ) {
+        this(
+                new ArrayList<>(), new HashMap<>(), new ArrayList<>(), extensionData,
+                openPlayerPageInNewTab, formatters
+        );
+        summarize(players, maxPlayers, activeMsThreshold, activeLoginThreshold);
+        addExtensionDescriptives(extensionData);
+        extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+    }
+
+    /**
+     * Create a parser for a single page of the players table.
+     *
+     * @param players                Summaries of the players on the page, in the order they are shown.
+     * @param geolocations           Map: Player UUID - Most recent geolocation of the player.
+     * @param extensionDescriptives  Extension providers shown in the table, same for every page.
+     * @param extensionData          Map: Player UUID - Extension data of the player.
+     * @param openPlayerPageInNewTab Should the player links open a new tab.
+     * @param formatters             Formatters for the values.
+     */
+    public PlayersTableJSONParser(
+            // Data
+            List<PlayerSummary> players,
+            Map<UUID, String> geolocations,
+            List<ExtensionDescriptive> extensionDescriptives,
+            Map<UUID, ExtensionTabData> extensionData,
+            // Settings
+            boolean openPlayerPageInNewTab,
+            // Formatters
+            Formatters formatters
     ) {
         // Data
         this.players = players;
+        this.geolocations = geolocations;
+        this.extensionDescriptives = extensionDescriptives;
         this.extensionData = extensionData;
 
-        extensionDescriptives = new ArrayList<>();
-        addExtensionDescriptives(extensionData);
-        extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
-
         // Settings
-        this.maxPlayers = maxPlayers;
-        this.activeMsThreshold = activeMsThreshold;
-        this.activeLoginThreshold = activeLoginThreshold;
         this.openPlayerPageInNewTab = openPlayerPageInNewTab;
         // Formatters
         numberFormatters = new EnumMap<>(FormatType.class);
@@ -89,6 +112,35 @@ public class PlayersTableJSONParser {
         this.decimalFormatter = formatters.decimals();
     }
 
+    private void summarize(List<PlayerContainer> containers, int maxPlayers, long activeMsThreshold, int activeLoginThreshold) {
+        long now = System.currentTimeMillis();
+        containers.sort(new PlayerContainerLastPlayedComparator());
+
+        for (PlayerContainer player : containers) {
+            if (players.size() >= maxPlayers) {
+                break;
+            }
+            UUID playerUUID = player.getValue(PlayerKeys.UUID).orElse(null);
+            if (playerUUID == null) {
+                continue;
+            }
+
+            SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
+            players.add(new PlayerSummary(
+                    playerUUID, null,
+                    player.getValue(PlayerKeys.NAME).orElse(null),
+                    player.getValue(PlayerKeys.REGISTERED).orElse(0L),
+                    sessionsMutator.toPlaytime(),
+                    sessionsMutator.count(),
+                    sessionsMutator.toLastSeen(),
+                    player.getActivityIndex(now, activeMsThreshold, activeLoginThreshold).getValue(),
+                    player.getValue(PlayerKeys.BANNED).orElse(false)
+            ));
+            GeoInfoMutator.forContainer(player).mostRecent()
+                    .ifPresent(geoInfo -> geolocations.put(playerUUID, geoInfo.getGeolocation()));
+        }
+    }
+
     private void addExtensionDescriptives(Map<UUID, ExtensionTabData> extensionData) {
         Set<String> foundDescriptives = new HashSet<>();
         for (ExtensionTabData tabData : extensionData.values()) {
@@ -107,30 +159,40 @@ public class PlayersTableJSONParser {
         return "{\"columns\":" + columnHeaders + ",\"data\":" + data + '}';
     }
 
+    /**
+     * Create the response of a jQuery Datatables server-side processing request.
+     * <p>
+     * See https://datatables.net/manual/server-side
+     *
+     * @param draw            Draw counter of the request, returned as is.
+     * @param recordsTotal    How many players there are in total.
+     * @param recordsFiltered How many players match the search.
+     * @return JSON with the rows of the page, and column headers for creating the table.
+     */
+    public String toJSONString(int draw, int recordsTotal, int recordsFiltered) {
+        String data = parseData();
+        String columnHeaders = parseColumnHeaders();
+        return "{\"draw\":" + draw +
+                ",\"recordsTotal\":" + recordsTotal +
+                ",\"recordsFiltered\":" + recordsFiltered +
+                ",\"columns\":" + columnHeaders +
+                ",\"data\":" + data + '}';
+    }
+
     private String parseData() {
         StringBuilder dataJSON = new StringBuilder("[");
 
         PlanAPI planAPI = PlanAPI.getInstance();
-        long now = System.currentTimeMillis();
-        players.sort(new PlayerContainerLastPlayedComparator());
 
         int currentPlayerNumber = 0;
-        for (PlayerContainer player : players) {
-            if (currentPlayerNumber >= maxPlayers) {
-                break;
-            }
-            UUID playerUUID = player.getValue(PlayerKeys.UUID).orElse(null);
-            if (playerUUID == null) {
-                continue;
-            }
-
+        for (PlayerSummary player : players) {
             if (currentPlayerNumber > 0) {
                 dataJSON.append(',');       // Previous item
             }
             dataJSON.append('{');           // Start new item
 
-            appendPlayerData(dataJSON, planAPI, now, player);
-            appendExtensionData(dataJSON, extensionData.getOrDefault(playerUUID, new ExtensionTabData.Factory(null).build()));
+            appendPlayerData(dataJSON, planAPI, player);
+            appendExtensionData(dataJSON, extensionData.getOrDefault(player.getPlayerUUID(), new ExtensionTabData.Factory(null).build()));
 
             dataJSON.append('}');           // Close new item
 
@@ -139,22 +201,21 @@ public class PlayersTableJSONParser {
         return dataJSON.append(']').toString();
     }
 
-    private void appendPlayerData(StringBuilder dataJSON, PlanAPI planAPI, long now, PlayerContainer player) {
-        String name = player.getValue(PlayerKeys.NAME).orElse("Unknown");
+    private void appendPlayerData(StringBuilder dataJSON, PlanAPI planAPI, PlayerSummary player) {
+        String name = player.getName() != null ? player.getName() : "Unknown";
         String url = planAPI.getPlayerInspectPageLink(name);
 
-        SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
-        int loginTimes = sessionsMutator.count();
-        long playtime = sessionsMutator.toPlaytime();
-        long registered = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
-        long lastSeen = sessionsMutator.toLastSeen();
+        int loginTimes = player.getSessionCount();
+        long playtime = player.getPlaytime();
+        long registered = player.getRegistered();
+        long lastSeen = player.getLastSeen();
 
-        ActivityIndex activityIndex = player.getActivityIndex(now, activeMsThreshold, activeLoginThreshold);
-        boolean isBanned = player.getValue(PlayerKeys.BANNED).orElse(false);
+        ActivityIndex activityIndex = new ActivityIndex(player.getActivityIndex());
+        boolean isBanned = player.isBanned();
         String activityString = activityIndex.getFormattedValue(decimalFormatter)
                 + (isBanned ? " (<b>Banned</b>)" : " (" + activityIndex.getGroup() + ")");
 
-        String geolocation = GeoInfoMutator.forContainer(player).mostRecent().map(GeoInfo::getGeolocation).orElse("-");
+        String geolocation = geolocations.getOrDefault(player.getPlayerUUID(), "-");
 
         Html link = openPlayerPageInNewTab ? Html.LINK_EXTERNAL : Html.LINK;
 
@@ -20,8 +20,6 @@ import com.djrapitops.plan.api.PlanAPI;
 import com.djrapitops.plan.data.element.AnalysisContainer;
 import com.djrapitops.plan.data.element.TableContainer;
 import com.djrapitops.plan.data.plugin.PluginData;
-import com.djrapitops.plan.data.store.containers.PlayerContainer;
-import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.utilities.html.Html;
 import com.djrapitops.plugin.utilities.ArrayUtil;
 
@@ -35,35 +33,35 @@ import java.util.*;
  */
 class PluginPlayersTable extends TableContainer {
 
-    private Collection<PlayerContainer> players;
+    private Map<UUID, String> playerNames;
 
     private final int maxPlayers;
     private final boolean openPlayerPageInNewTab;
 
     PluginPlayersTable(
             Map<PluginData, AnalysisContainer> containers,
-            Collection<PlayerContainer> players,
+            Map<UUID, String> playerNames,
             int maxPlayers,
             boolean openPlayerPageInNewTab
     ) {
-        this(getPluginDataSet(containers), players, maxPlayers, openPlayerPageInNewTab);
+        this(getPluginDataSet(containers), playerNames, maxPlayers, openPlayerPageInNewTab);
     }
 
     private PluginPlayersTable(
             TreeMap<String, Map<UUID, ? extends Serializable>> pluginDataSet,
-            Collection<PlayerContainer> players,
+            Map<UUID, String> playerNames,
             int maxPlayers,
             boolean openPlayerPageInNewTab
     ) {
         super(true, getHeaders(pluginDataSet.keySet()));
 
-        this.players = players;
+        this.playerNames = playerNames;
         this.maxPlayers = maxPlayers;
         this.openPlayerPageInNewTab = openPlayerPageInNewTab;
 
         useJqueryDataTables("player-plugin-table");
 
-        if (players.isEmpty()) {
+        if (playerNames.isEmpty()) {
             addRow("No Players");
         } else {
             Map<UUID, Serializable[]> rows = getRows(pluginDataSet);
@@ -90,13 +88,13 @@ class PluginPlayersTable extends TableContainer {
 
     private void addValues(Map<UUID, Serializable[]> rows) {
         int i = 0;
-        for (PlayerContainer profile : players) {
+        for (Map.Entry<UUID, String> player : playerNames.entrySet()) {
             if (i >= maxPlayers) {
                 break;
             }
 
-            UUID uuid = profile.getUnsafe(PlayerKeys.UUID);
-            String name = profile.getValue(PlayerKeys.NAME).orElse("Unknown");
+            UUID uuid = player.getKey();
+            String name = player.getValue() != null ? player.getValue() : "Unknown";
             Html link = openPlayerPageInNewTab ? Html.LINK_EXTERNAL : Html.LINK;
             String linkHtml = link.parse(PlanAPI.getInstance().getPlayerInspectPageLink(name), name);
 
@@ -111,9 +109,7 @@ class PluginPlayersTable extends TableContainer {
         Map<UUID, Serializable[]> rows = new HashMap<>();
 
         int size = header.length - 1;
-        for (PlayerContainer profile : players) {
-            UUID uuid = profile.getUnsafe(PlayerKeys.UUID);
-
+        for (UUID uuid : playerNames.keySet()) {
             Serializable[] row = new Serializable[size];
             for (int i = 0; i < size; i++) {
                 String label = header[i + 1];
@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.objects.WeeklyActivity;
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ActivityIndex}
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ActivityIndexTest {
+
+    private static final long PLAYTIME_THRESHOLD = TimeUnit.HOURS.toMillis(2L);
+    private static final int LOGIN_THRESHOLD = 2;
+
+    private static long time;
+    private static List<Session> sessions;
+
+    @BeforeAll
+    static void setUpTestData() {
+        time = System.currentTimeMillis();
+        long week = TimeAmount.WEEK.toMillis(1L);
+
+        Random random = new Random(1L);
+        sessions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long start = time - (long) (random.nextDouble() * 12L * week);
+            long length = (long) (random.nextDouble() * TimeUnit.HOURS.toMillis(5L));
+            sessions.add(new Session(i, TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                    start, start + length, 0, 0, length / 4L));
+        }
+        // Sessions on the border of two weeks belong to both weeks
+        sessions.add(new Session(200, TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                time - week - TimeUnit.HOURS.toMillis(1L), time - week, 0, 0, 0L));
+        sessions.add(new Session(201, TestConstants.PLAYER_ONE_UUID, TestConstants.SERVER_UUID,
+                time - 2L * week, time - 2L * week + TimeUnit.HOURS.toMillis(1L), 0, 0, 0L));
+    }
+
+    private PlayerContainer createPlayer() {
+        PlayerContainer player = new PlayerContainer();
+        player.putRawData(PlayerKeys.SESSIONS, sessions);
+        return player;
+    }
+
+    @Test
+    void weeklyActivityMatchesSessionFiltering() {
+        PlayerContainer player = createPlayer();
+        WeeklyActivity weeklyActivity = WeeklyActivity.of(sessions, time);
+
+        for (long date = time; date >= time - TimeAmount.MONTH.toMillis(2L); date -= TimeAmount.WEEK.toMillis(1L)) {
+            double expected = new ActivityIndex(player, date, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD).getValue();
+            double result = new ActivityIndex(weeklyActivity, date, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD).getValue();
+            assertEquals(expected, result, 0.0001);
+        }
+    }
+
+    @Test
+    void memoizedActivityIndexDependsOnThresholds() {
+        PlayerContainer player = createPlayer();
+
+        double expected = new ActivityIndex(player, time, PLAYTIME_THRESHOLD * 2L, LOGIN_THRESHOLD).getValue();
+        player.getActivityIndex(time, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD);
+        double result = player.getActivityIndex(time, PLAYTIME_THRESHOLD * 2L, LOGIN_THRESHOLD).getValue();
+        assertEquals(expected, result, 0.0001);
+    }
+
+    @Test
+    void activityIndexOfDateBetweenWeeksMatchesSessionFiltering() {
+        PlayerContainer player = createPlayer();
+        player.getActivityIndex(time, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD);
+
+        long date = time - TimeUnit.DAYS.toMillis(10L);
+        double expected = new ActivityIndex(player, date, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD).getValue();
+        double result = player.getActivityIndex(date, PLAYTIME_THRESHOLD, LOGIN_THRESHOLD).getValue();
+        assertEquals(expected, result, 0.0001);
+    }
+}
\ No newline at end of file
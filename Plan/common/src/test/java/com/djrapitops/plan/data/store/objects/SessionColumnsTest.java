@@ -0,0 +1,166 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SessionColumns}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class SessionColumnsTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+
+    private final UUID playerOne = UUID.randomUUID();
+    private final UUID playerTwo = UUID.randomUUID();
+    private final UUID serverUUID = UUID.randomUUID();
+
+    // Midnight UTC, ten days before now.
+    private long dayStart;
+    private SessionColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        long now = System.currentTimeMillis();
+        dayStart = now - (now % DAY) - 10L * DAY;
+
+        // Sessions of the players are added interleaved, the builder should group them by player.
+        columns = SessionColumns.builder()
+                .add(playerOne, serverUUID, dayStart, dayStart + HOUR, 0L, 1, 0)
+                .add(playerTwo, serverUUID, dayStart + 2L * HOUR, dayStart + 4L * HOUR, HOUR, 5, 1)
+                .add(playerOne, serverUUID, dayStart + DAY, dayStart + DAY + 3L * HOUR, HOUR, 2, 2)
+                .build();
+    }
+
+    @Test
+    void sessionsAreGroupedByPlayer() {
+        assertEquals(2, columns.getPlayerCount());
+        assertEquals(3, columns.count());
+
+        int one = columns.indexOf(playerOne);
+        int two = columns.indexOf(playerTwo);
+        assertEquals(2, columns.rangeEnd(one) - columns.rangeStart(one));
+        assertEquals(1, columns.rangeEnd(two) - columns.rangeStart(two));
+        assertEquals(playerOne, columns.getPlayerUUID(one));
+        assertEquals(serverUUID, columns.getServerUUID(columns.rangeStart(two)));
+    }
+
+    @Test
+    void unknownPlayerHasNoIndex() {
+        assertEquals(-1, columns.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void perPlayerValuesAreCalculated() {
+        int one = columns.indexOf(playerOne);
+        assertEquals(4L * HOUR, columns.toPlaytime(one));
+        assertEquals(dayStart + DAY + 3L * HOUR, columns.toLastSeen(one));
+        assertEquals(dayStart + DAY, columns.toLatestStart(one));
+        assertEquals(2L * HOUR, columns.activePlaytimeBetween(one, dayStart + DAY, dayStart + 2L * DAY));
+        assertEquals(1, columns.countBetween(one, dayStart, dayStart + 2L * HOUR));
+    }
+
+    @Test
+    void playedBetweenMatchesSessionStartOrEnd() {
+        int two = columns.indexOf(playerTwo);
+        // Session ends inside the range
+        assertTrue(columns.playedBetween(two, dayStart + 3L * HOUR, dayStart + 5L * HOUR));
+        // Session starts inside the range
+        assertTrue(columns.playedBetween(two, dayStart + HOUR, dayStart + 3L * HOUR));
+        assertFalse(columns.playedBetween(two, dayStart + 5L * HOUR, dayStart + DAY));
+    }
+
+    @Test
+    void totalsAreCalculated() {
+        assertEquals(6L * HOUR, columns.toPlaytime());
+        assertEquals(2L * HOUR, columns.toAfkTime());
+        assertEquals(4L * HOUR, columns.toActivePlaytime());
+        assertEquals(8, columns.toMobKillCount());
+        assertEquals(3, columns.toDeathCount());
+        assertEquals(2, columns.countBetween(dayStart, dayStart + 5L * HOUR));
+        assertEquals(2, columns.toUniquePlayersBetween(dayStart, dayStart + 5L * HOUR));
+        assertEquals(1, columns.toUniquePlayersBetween(dayStart + DAY, dayStart + 2L * DAY));
+    }
+
+    @Test
+    void valuesAreGroupedByDay() {
+        TimeZone utc = TimeZone.getTimeZone("GMT");
+
+        TreeMap<Long, Integer> sessionsPerDay = columns.sessionsPerDay(utc);
+        assertEquals(2, sessionsPerDay.get(dayStart).intValue());
+        assertEquals(1, sessionsPerDay.get(dayStart + DAY).intValue());
+
+        TreeMap<Long, Long> playtimePerDay = columns.playtimePerDay(utc);
+        assertEquals(3L * HOUR, playtimePerDay.get(dayStart).longValue());
+        assertEquals(3L * HOUR, playtimePerDay.get(dayStart + DAY).longValue());
+
+        TreeMap<Long, Integer> uniquePerDay = columns.uniquePlayersPerDay(utc, 0L, Long.MAX_VALUE);
+        assertEquals(2, uniquePerDay.get(dayStart).intValue());
+        assertEquals(1, uniquePerDay.get(dayStart + DAY).intValue());
+        // Days without sessions are filled in
+        assertEquals(0, uniquePerDay.get(dayStart + 2L * DAY).intValue());
+    }
+
+    @Test
+    void dayGroupingUsesTimeZoneOffset() {
+        // 30 minute offset moves the sessions starting at midnight to the previous day.
+        TimeZone offset = TimeZone.getTimeZone("GMT-00:30");
+        TreeMap<Long, Integer> sessionsPerDay = columns.sessionsPerDay(offset);
+        assertEquals(1, sessionsPerDay.get(dayStart - DAY).intValue());
+        assertEquals(2, sessionsPerDay.get(dayStart).intValue());
+        assertFalse(sessionsPerDay.containsKey(dayStart + DAY));
+    }
+
+    @Test
+    void activeSessionEndsAtBuildTime() {
+        long before = System.currentTimeMillis();
+        SessionColumns active = SessionColumns.builder()
+                .add(playerOne, serverUUID, before - HOUR, -1L, 0L, 0, 0)
+                .build();
+        long after = System.currentTimeMillis();
+
+        long end = active.getEnd(0);
+        assertTrue(before <= end && end <= after);
+    }
+
+    @Test
+    void addAllCopiesColumns() {
+        SessionColumns copy = SessionColumns.builder()
+                .addAll(columns)
+                .add(playerTwo, serverUUID, dayStart + DAY, dayStart + DAY + HOUR, 0L, 0, 0)
+                .build();
+
+        assertEquals(4, copy.count());
+        int two = copy.indexOf(playerTwo);
+        assertEquals(2, copy.rangeEnd(two) - copy.rangeStart(two));
+        assertEquals(columns.toMobKillCount(), copy.toMobKillCount());
+    }
+}
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.db;
 
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.data.container.*;
 import com.djrapitops.plan.data.element.TableContainer;
@@ -25,9 +26,14 @@ import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
 import com.djrapitops.plan.data.store.keys.*;
+import com.djrapitops.plan.data.store.mutators.ActivityRollupMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.ActivityRollup;
 import com.djrapitops.plan.data.store.objects.DateObj;
 import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.data.store.objects.PlayerSummary;
+import com.djrapitops.plan.data.store.objects.ServerSummary;
+import com.djrapitops.plan.data.store.objects.TPSBuckets;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.db.access.Executable;
@@ -40,13 +46,16 @@ import com.djrapitops.plan.db.access.queries.objects.*;
 import com.djrapitops.plan.db.access.transactions.BackupCopyTransaction;
 import com.djrapitops.plan.db.access.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.db.access.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.db.access.transactions.StoreServerSummaryTransaction;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.access.transactions.commands.*;
 import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.db.access.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.db.access.transactions.init.RemoveDuplicateUserInfoTransaction;
+import com.djrapitops.plan.db.patches.ActivityRollupPatch;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.sql.tables.ExtensionPlayerValueTable;
 import com.djrapitops.plan.db.tasks.DBCleanTask;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.DataExtension;
@@ -66,8 +75,13 @@ import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionSer
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalPlayerResultsTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalServerResultsTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreResultsTransaction;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.system.PlanSystem;
+import com.djrapitops.plan.system.cache.DataChange;
+import com.djrapitops.plan.system.cache.InvalidationBus;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
+import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.locale.Locale;
@@ -75,6 +89,8 @@ import com.djrapitops.plan.system.settings.config.Config;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.djrapitops.plan.system.settings.paths.WebserverSettings;
+import com.djrapitops.plan.system.webserver.auth.WebUserAuthCache;
+import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plugin.logging.console.TestPluginLogger;
 import com.djrapitops.plugin.logging.error.ConsoleErrorLogger;
@@ -92,6 +108,8 @@ import java.lang.management.OperatingSystemMXBean;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
@@ -256,6 +274,27 @@ public abstract class CommonDBTest {
         assertEquals(expected, db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)));
     }
 
+    @Test
+    public void tpsIsAggregatedIntoBuckets() throws Exception {
+        long start = 1000L;
+        long minute = TimeUnit.MINUTES.toMillis(1L);
+        for (int i = 0; i < 6; i++) {
+            execute(DataStoreQueries.storeTPS(serverUUID, new TPS(start + i * minute, 20.0 - i, i, i, i, i, i, i)));
+        }
+
+        commitTest();
+
+        TPSBuckets buckets = db.query(TPSQueries.fetchTPSBuckets(serverUUID, start, start + 10L * minute, 3L * minute));
+        assertEquals(2, buckets.size());
+        assertEquals(start, buckets.getDates()[0]);
+        assertEquals(start + 3L * minute, buckets.getDates()[1]);
+        assertEquals(1.0, buckets.getAverages(TPSBuckets.Metric.PLAYERS_ONLINE)[0], 0.001);
+        assertEquals(4.0, buckets.getAverages(TPSBuckets.Metric.PLAYERS_ONLINE)[1], 0.001);
+        assertEquals(3.0, buckets.getMinimums(TPSBuckets.Metric.CHUNKS)[1], 0.001);
+        assertEquals(5.0, buckets.getMaximums(TPSBuckets.Metric.FREE_DISK)[1], 0.001);
+        assertEquals(18.0, buckets.getMinimums(TPSBuckets.Metric.TPS)[0], 0.001);
+    }
+
     private void saveUserOne() {
         playerIsRegisteredToBothTables();
         db.executeTransaction(new KickStoreTransaction(playerUUID));
@@ -321,6 +360,38 @@ public abstract class CommonDBTest {
         assertFalse(db.query(WebUserQueries.fetchWebUser(TestConstants.PLAYER_ONE_NAME)).isPresent());
     }
 
+    @Test
+    public void removedWebUserIsRemovedFromAuthCache() {
+        webUserIsRegistered();
+        String authentication = Base64Util.encode(TestConstants.PLAYER_ONE_NAME + ":password");
+        WebUserAuthCache.cacheVerified(
+                authentication, new WebUser(TestConstants.PLAYER_ONE_NAME, "RandomGarbageBlah", 0),
+                WebUserAuthCache.getGeneration(TestConstants.PLAYER_ONE_NAME)
+        );
+
+        db.executeTransaction(new RemoveWebUserTransaction(TestConstants.PLAYER_ONE_NAME));
+
+        assertFalse(WebUserAuthCache.getVerified(authentication).isPresent());
+    }
+
+    @Test
+    public void afterCommitActionsAreNotRunOnRollback() {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        try {
+            db.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    afterCommit(() -> ran.set(true));
+                    execute("SELECT * FROM nonexistent_table");
+                }
+            });
+        } catch (DBOpException expected) {
+            /* Transaction fails */
+        }
+
+        assertFalse(ran.get());
+    }
+
     @Test
     public void worldNamesAreStored() {
         String[] expected = {"Test", "Test2", "Test3"};
@@ -401,6 +472,253 @@ public abstract class CommonDBTest {
         assertEquals(0, afterTimeSessionsMutator.count());
     }
 
+    @Test
+    public void endedSessionIsRolledUpByHour() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        commitTest();
+
+        List<ActivityRollup> rollups = db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID));
+        assertEquals(1, rollups.size());
+        ActivityRollup rollup = rollups.get(0);
+        assertEquals(ActivityRollup.toHourStart(12345L), rollup.getDate());
+        assertEquals(1, rollup.getSessions());
+        assertEquals(10000L, rollup.getPlaytime());
+        assertEquals(2, rollup.getPlayerKills());
+        assertEquals(1, rollup.getNewPlayers());
+    }
+
+    @Test
+    public void sessionsStoredOnShutdownAreRolledUpByHour() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+
+        db.executeTransaction(new ServerShutdownTransaction(Collections.singletonList(session)));
+
+        commitTest();
+
+        ActivityRollupMutator rollups = new ActivityRollupMutator(db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID)));
+        assertEquals(1, rollups.toSessionCount());
+        assertEquals(10000L, rollups.toPlaytime());
+        assertEquals(2, rollups.toPlayerKillCount());
+    }
+
+    @Test
+    public void removedPlayerIsSubtractedFromRollups() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        db.executeTransaction(new RemovePlayerTransaction(playerUUID));
+
+        ActivityRollupMutator rollups = new ActivityRollupMutator(db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID)));
+        assertEquals(0, rollups.toNewPlayerCount());
+        assertEquals(0, rollups.toSessionCount());
+        assertEquals(0L, rollups.toPlaytime());
+        assertEquals(0, rollups.toPlayerKillCount());
+    }
+
+    @Test
+    public void rollupIsIncrementedOnceWhenHourHasMultipleRows() {
+        // Concurrent transactions can insert separate rows for the same hour.
+        execute(LargeStoreQueries.storeAllActivityRollups(Arrays.asList(
+                ActivityRollup.forNewPlayer(serverUUID, 12345L),
+                ActivityRollup.forNewPlayer(serverUUID, 12345L)
+        )));
+
+        execute(DataStoreQueries.storeActivityRollup(ActivityRollup.forNewPlayer(serverUUID, 12345L)));
+
+        ActivityRollupMutator rollups = new ActivityRollupMutator(db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID)));
+        assertEquals(3, rollups.toNewPlayerCount());
+    }
+
+    @Test
+    public void incompleteRollupsAreFilledAgain() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        execute(DataStoreQueries.storeSession(session));
+
+        ActivityRollupPatch patch = new ActivityRollupPatch();
+        db.executeTransaction(patch);
+
+        ActivityRollupMutator rollups = new ActivityRollupMutator(db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID)));
+        assertEquals(1, rollups.toNewPlayerCount());
+        assertEquals(1, rollups.toSessionCount());
+        assertEquals(2, rollups.toPlayerKillCount());
+        assertTrue(patch.hasBeenApplied());
+    }
+
+    @Test
+    public void committedSessionIsPublishedOnInvalidationBus() {
+        saveUserOne();
+
+        List<DataChange> published = new ArrayList<>();
+        Consumer<DataChange> subscriber = published::add;
+        InvalidationBus.subscribe(DataChange.Type.SESSION, subscriber);
+        try {
+            Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+            session.endSession(22345L);
+            session.setWorldTimes(createWorldTimes());
+            db.executeTransaction(new SessionEndTransaction(session));
+        } finally {
+            InvalidationBus.unsubscribe(DataChange.Type.SESSION, subscriber);
+        }
+
+        assertEquals(Collections.singletonList(DataChange.session(serverUUID, playerUUID)), published);
+    }
+
+    @Test
+    public void sessionsStoredOnShutdownArePublishedOnInvalidationBus() {
+        saveUserOne();
+
+        List<DataChange> published = new ArrayList<>();
+        Consumer<DataChange> subscriber = published::add;
+        InvalidationBus.subscribe(DataChange.Type.SESSION, subscriber);
+        try {
+            Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+            session.endSession(22345L);
+            session.setWorldTimes(createWorldTimes());
+            db.executeTransaction(new ServerShutdownTransaction(Collections.singletonList(session)));
+        } finally {
+            InvalidationBus.unsubscribe(DataChange.Type.SESSION, subscriber);
+        }
+
+        assertEquals(Collections.singletonList(DataChange.session(serverUUID, playerUUID)), published);
+    }
+
+    @Test
+    public void removedPlayerIsPublishedOnInvalidationBus() {
+        saveUserOne();
+
+        List<DataChange> published = new ArrayList<>();
+        Consumer<DataChange> subscriber = published::add;
+        InvalidationBus.subscribe(DataChange.Type.PLAYER_REMOVE, subscriber);
+        try {
+            db.executeTransaction(new RemovePlayerTransaction(playerUUID));
+        } finally {
+            InvalidationBus.unsubscribe(DataChange.Type.PLAYER_REMOVE, subscriber);
+        }
+
+        assertEquals(Collections.singletonList(DataChange.playerRemove(playerUUID)), published);
+    }
+
+    @Test
+    public void storedServerSummaryReplacesPreviousSummary() {
+        Map<String, Long> oldValues = new HashMap<>();
+        oldValues.put(ServerSummary.PLAYERS_TOTAL, 5L);
+        oldValues.put(ServerSummary.REGULAR_BEFORE, 2L);
+        db.executeTransaction(new StoreServerSummaryTransaction(new ServerSummary(serverUUID, 1000L, oldValues)));
+
+        Map<String, Long> values = new HashMap<>();
+        values.put(ServerSummary.PLAYERS_TOTAL, 6L);
+        ServerSummary expected = new ServerSummary(serverUUID, 2000L, values);
+        db.executeTransaction(new StoreServerSummaryTransaction(expected));
+
+        commitTest();
+
+        Map<UUID, ServerSummary> summaries = db.query(ServerSummaryQueries.fetchServerSummaries());
+        assertEquals(Collections.singletonMap(serverUUID, expected), summaries);
+    }
+
+    @Test
+    public void oldServerSummariesAreLeftOut() {
+        Map<String, Long> values = new HashMap<>();
+        values.put(ServerSummary.PLAYERS_TOTAL, 5L);
+        ServerSummary summary = new ServerSummary(serverUUID, 1000L, values);
+        db.executeTransaction(new StoreServerSummaryTransaction(summary));
+
+        assertEquals(Collections.singletonMap(serverUUID, summary), db.query(ServerSummaryQueries.fetchServerSummaries(1000L)));
+        assertTrue(db.query(ServerSummaryQueries.fetchServerSummaries(1001L)).isEmpty());
+    }
+
+    @Test
+    public void summaryOfUninstalledServerIsRemoved() {
+        Map<String, Long> values = new HashMap<>();
+        values.put(ServerSummary.PLAYERS_TOTAL, 5L);
+        db.executeTransaction(new StoreServerSummaryTransaction(new ServerSummary(serverUUID, 1000L, values)));
+
+        db.executeTransaction(new SetServerAsUninstalledTransaction(serverUUID));
+
+        assertTrue(db.query(ServerSummaryQueries.fetchServerSummaries()).isEmpty());
+    }
+
+    @Test
+    public void playersTablePageIsSortedAndFilteredByDatabase() {
+        saveUserOne();
+        db.executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> 123456789L, "Test", serverUUID));
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        commitTest();
+
+        assertEquals(2, (int) db.query(PlayerSummaryQueries.countPlayersOfServer(serverUUID)));
+        assertEquals(1, (int) db.query(PlayerSummaryQueries.countMatchingPlayers(serverUUID, "one")));
+        assertEquals(0, (int) db.query(PlayerSummaryQueries.countMatchingPlayers(serverUUID, "%")));
+        assertEquals(0, (int) db.query(PlayerSummaryQueries.countMatchingPlayers(serverUUID, "T_st")));
+
+        List<PlayerSummary> byPlaytime = db.query(PlayerSummaryQueries.fetchPage(
+                serverUUID, "", PlayerSummaryQueries.SortColumn.PLAYTIME, true, 0, 1
+        ));
+        assertEquals(1, byPlaytime.size());
+        PlayerSummary first = byPlaytime.get(0);
+        assertEquals(playerUUID, first.getPlayerUUID());
+        assertEquals(10000L, first.getPlaytime());
+        assertEquals(1, first.getSessionCount());
+        assertEquals(22345L, first.getLastSeen());
+
+        List<PlayerSummary> secondPage = db.query(PlayerSummaryQueries.fetchPage(
+                serverUUID, "", PlayerSummaryQueries.SortColumn.PLAYTIME, true, 1, 1
+        ));
+        assertEquals(player2UUID, secondPage.get(0).getPlayerUUID());
+        assertEquals(0, secondPage.get(0).getSessionCount());
+    }
+
+    @Test
+    public void sessionsStoredOnShutdownAreAddedToPlayerSummary() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        db.executeTransaction(new ServerShutdownTransaction(Collections.singletonList(session)));
+
+        commitTest();
+
+        List<PlayerSummary> byPlaytime = db.query(PlayerSummaryQueries.fetchPage(
+                serverUUID, "", PlayerSummaryQueries.SortColumn.PLAYTIME, true, 0, 1
+        ));
+        assertEquals(playerUUID, byPlaytime.get(0).getPlayerUUID());
+        assertEquals(10000L, byPlaytime.get(0).getPlaytime());
+        assertEquals(1, byPlaytime.get(0).getSessionCount());
+    }
+
     @Test
     public void sessionsAreStoredWithAllData() {
         saveUserOne();
@@ -580,15 +898,80 @@ public abstract class CommonDBTest {
             execute(DataStoreQueries.storeTPS(serverUUID, tps));
         }
 
-        db.executeTransaction(new PingStoreTransaction(
-                playerUUID, serverUUID,
-                Collections.singletonList(new DateObj<>(System.currentTimeMillis(), r.nextInt())))
-        );
+        db.executeTransaction(new PingBatchStoreTransaction(Collections.singletonMap(
+                playerUUID, new Ping(System.currentTimeMillis(), serverUUID, 20, 80, 40.5)
+        )));
 
         WebUser webUser = new WebUser(TestConstants.PLAYER_ONE_NAME, "RandomGarbageBlah", 0);
         db.executeTransaction(new RegisterWebUserTransaction(webUser));
     }
 
+    @Test
+    public void placeholderValuesAreCalculatedFromStoredAndActiveData() {
+        saveUserOne();
+        saveUserTwo();
+
+        long now = System.currentTimeMillis();
+        Session session = new Session(playerUUID, serverUUID, now - 10000L, worlds[0], "SURVIVAL");
+        session.endSession(now - 5000L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        Session activeSession = new Session(playerUUID, serverUUID, now - 1000L, worlds[0], "SURVIVAL");
+        activeSession.playerKilled(new PlayerKill(player2UUID, "Stick", now - 500L));
+        new SessionCache().cacheSession(playerUUID, activeSession);
+        try {
+            PlaceholderValueCache underTest = new PlaceholderValueCache(
+                    system.getConfigSystem().getConfig(),
+                    dbSystem,
+                    system.getServerInfo(),
+                    system.getHtmlUtilities().getFormatters(),
+                    new ConsoleErrorLogger(new TestPluginLogger())
+            );
+            underTest.refresh();
+
+            OptionalAssert.equals("1", underTest.getServerValue("players_total"));
+            OptionalAssert.equals("1", underTest.getServerValue("players_unique_day"));
+            OptionalAssert.equals("1", underTest.getServerValue("sessions_day"));
+            OptionalAssert.equals("2", underTest.getServerValue("kills_players"));
+
+            OptionalAssert.equals("2", underTest.getPlayerValue(playerUUID, "session_count"));
+            OptionalAssert.equals("3", underTest.getPlayerValue(playerUUID, "kills_players"));
+            assertTrue(underTest.getPlayerValue(playerUUID, "registered").isPresent());
+            assertFalse(underTest.getPlayerValue(player2UUID, "session_count").isPresent());
+        } finally {
+            SessionCache.clear();
+        }
+    }
+
+    @Test
+    public void pingBatchIsStored() {
+        saveUserOne();
+        saveUserTwo();
+
+        Map<UUID, Ping> pings = new HashMap<>();
+        pings.put(playerUUID, new Ping(12345L, serverUUID, 20, 80, 40.5));
+        pings.put(player2UUID, new Ping(23456L, serverUUID, 5, 10, 7.0));
+        db.executeTransaction(new PingBatchStoreTransaction(pings));
+
+        Map<UUID, List<Ping>> stored = db.query(PingQueries.fetchAllPingData());
+        assertEquals(2, stored.size());
+        for (Map.Entry<UUID, Ping> entry : pings.entrySet()) {
+            List<Ping> ofPlayer = stored.get(entry.getKey());
+            assertNotNull(ofPlayer);
+            assertEquals(1, ofPlayer.size());
+
+            Ping expected = entry.getValue();
+            Ping found = ofPlayer.get(0);
+            assertEquals(expected.getDate(), found.getDate());
+            assertEquals(expected.getServerUUID(), found.getServerUUID());
+            assertEquals(expected.getMin(), found.getMin());
+            assertEquals(expected.getMax(), found.getMax());
+            assertEquals(expected.getAverage(), found.getAverage(), 0.001);
+        }
+    }
+
     void saveGeoInfo(UUID uuid, GeoInfo geoInfo) {
         db.executeTransaction(new GeoInfoStoreTransaction(uuid, geoInfo));
     }
@@ -615,6 +998,26 @@ public abstract class CommonDBTest {
         assertEquals(session, sSessions.get(0));
     }
 
+    @Test
+    public void playerKillsOfServerAreFetchedByKillerRange() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        execute(DataStoreQueries.storeSession(session));
+
+        commitTest();
+
+        UUID first = playerUUID.compareTo(player2UUID) < 0 ? playerUUID : player2UUID;
+        UUID last = playerUUID.compareTo(player2UUID) < 0 ? player2UUID : playerUUID;
+        assertEquals(createKills(), db.query(KillQueries.fetchPlayerKillsOfServer(serverUUID, first, last)));
+        assertTrue(db.query(KillQueries.fetchPlayerKillsOfServer(serverUUID, player2UUID, player2UUID)).isEmpty());
+        assertTrue(db.query(KillQueries.fetchPlayerKillsOfServer(UUID.randomUUID(), first, last)).isEmpty());
+    }
+
     @Test
     public void cleanDoesNotCleanActivePlayers() {
         saveUserOne();
@@ -665,6 +1068,24 @@ public abstract class CommonDBTest {
         );
     }
 
+    @Test
+    public void removedDuplicateUserInfoIsSubtractedFromRollups() {
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(DataStoreQueries.registerUserInfo(playerUUID, 0L, serverUUID));
+                execute(DataStoreQueries.registerUserInfo(playerUUID, 0L, serverUUID));
+            }
+        });
+        // Rollups filled while the duplicate existed count both rows
+        db.executeTransaction(new ActivityRollupPatch());
+
+        db.executeTransaction(new RemoveDuplicateUserInfoTransaction());
+
+        ActivityRollupMutator rollups = new ActivityRollupMutator(db.query(ActivityRollupQueries.fetchActivityRollupsOfServer(serverUUID)));
+        assertEquals(1, rollups.toNewPlayerCount());
+    }
+
     @Test
     public void testKillTableGetKillsOfServer() {
         saveUserOne();
@@ -1118,6 +1539,24 @@ public abstract class CommonDBTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void serverPlayerContainersQueryReturnsOnlyPlayersOfRange() {
+        db.executeTransaction(TestData.storeServers());
+        executeTransactions(TestData.storePlayerOneData());
+        executeTransactions(TestData.storePlayerTwoData());
+
+        List<UUID> sorted = db.query(UserIdentifierQueries.fetchSortedPlayerUUIDsOfServer(TestConstants.SERVER_UUID));
+        assertEquals(2, sorted.size());
+
+        for (UUID playerInRange : sorted) {
+            List<UUID> result = db.query(new ServerPlayerContainersQuery(TestConstants.SERVER_UUID, playerInRange, playerInRange))
+                    .stream().map(player -> player.getUnsafe(PlayerKeys.UUID))
+                    .collect(Collectors.toList());
+
+            assertEquals(Collections.singletonList(playerInRange), result);
+        }
+    }
+
     @Test
     public void allPlayerContainersQueryDoesNotReturnDuplicatePlayers() {
         db.executeTransaction(TestData.storeServers());
@@ -1207,6 +1646,51 @@ public abstract class CommonDBTest {
         OptionalAssert.equals("Something", playerData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    public void unchangedExtensionValuesAreNotStoredAgain() {
+        ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system.getExtensionService();
+
+        extensionService.register(new PlayerExtension());
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        assertTrue(playerExtensionValueIsStored());
+
+        // Remove the values behind the back of the extension service
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute("DELETE FROM " + ExtensionPlayerValueTable.TABLE_NAME);
+            }
+        });
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        assertFalse("Unchanged value was stored again", playerExtensionValueIsStored());
+    }
+
+    private boolean playerExtensionValueIsStored() {
+        List<ExtensionPlayerData> ofServer = db.query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID);
+        return ofServer != null && ofServer.stream()
+                .flatMap(playerData -> playerData.getTabs().stream())
+                .anyMatch(tabData -> tabData.getNumber("value").isPresent());
+    }
+
+    @Test
+    public void storedResultsAreNotRecordedOnRollback() {
+        AtomicBoolean recorded = new AtomicBoolean(false);
+        Transaction failing = new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute("SELECT * FROM nonexistent_table");
+            }
+        };
+        try {
+            db.executeTransaction(new StoreResultsTransaction(Collections.singletonList(failing), null, () -> recorded.set(true)));
+        } catch (DBOpException expected) {
+            /* Transaction fails */
+        }
+
+        assertFalse(recorded.get());
+    }
+
     @Test
     public void extensionServerValuesAreStored() {
         ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system.getExtensionService();
@@ -1285,6 +1769,27 @@ public abstract class CommonDBTest {
         checkThatPlayerDataExists(ConditionalExtension.condition);
     }
 
+    @Test
+    public void unchangedConditionalResultsAreStoredAgainAfterCleaning() {
+        ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system.getExtensionService();
+
+        extensionService.register(new ConditionalExtension());
+
+        ConditionalExtension.condition = true;
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        ConditionalExtension.condition = false;
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        db.executeTransaction(new RemoveUnsatisfiedConditionalPlayerResultsTransaction());
+
+        // Conditional values have not changed since they were first stored, but were removed.
+        ConditionalExtension.condition = true;
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        db.executeTransaction(new RemoveUnsatisfiedConditionalPlayerResultsTransaction());
+
+        checkThatPlayerDataExists(ConditionalExtension.condition);
+    }
+
     private void checkThatPlayerDataExists(boolean condition) {
         if (condition) { // Condition is true, conditional values exist
             List<ExtensionPlayerData> ofServer = db.query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID);
@@ -0,0 +1,118 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.db.access.transactions.GroupedTransaction;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.access.transactions.init.OperationCriticalTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GroupCommitTransactionExecutor}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class GroupCommitTransactionExecutorTest {
+
+    private ExecutorService writer;
+    private CountDownLatch writerBlocked;
+    private List<Transaction> executed;
+    private GroupCommitTransactionExecutor underTest;
+
+    @BeforeEach
+    void setUp() {
+        writer = Executors.newSingleThreadExecutor();
+        writerBlocked = new CountDownLatch(1);
+        executed = new CopyOnWriteArrayList<>();
+        underTest = new GroupCommitTransactionExecutor(writer, executed::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdownNow();
+    }
+
+    private void blockWriter() {
+        writer.execute(() -> {
+            try {
+                writerBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Test
+    void queuedTransactionsAreCommittedTogether() throws Exception {
+        blockWriter();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(underTest.submit(new EmptyTransaction()));
+        }
+        assertEquals(3, underTest.getQueueSize());
+
+        writerBlocked.countDown();
+        for (Future<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0) instanceof GroupedTransaction);
+        assertEquals(3, ((GroupedTransaction) executed.get(0)).size());
+        assertEquals(0, underTest.getQueueSize());
+        assertEquals(1, underTest.getCommitCount());
+        assertEquals(3, underTest.getTransactionCount());
+    }
+
+    @Test
+    void criticalTransactionsAreCommittedAlone() throws Exception {
+        blockWriter();
+        Transaction critical = new OperationCriticalTransaction() {
+            @Override
+            protected void performOperations() {
+                // Nothing to execute
+            }
+        };
+        underTest.submit(new EmptyTransaction());
+        underTest.submit(critical);
+        Future<Void> last = underTest.submit(new EmptyTransaction());
+
+        writerBlocked.countDown();
+        last.get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, executed.size());
+        assertSame(critical, executed.get(1));
+    }
+
+    static class EmptyTransaction extends Transaction {
+        @Override
+        protected void performOperations() {
+            // Nothing to execute
+        }
+    }
+}
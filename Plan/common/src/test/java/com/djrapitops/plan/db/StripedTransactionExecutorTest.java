@@ -0,0 +1,162 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StripedTransactionExecutor}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class StripedTransactionExecutorTest {
+
+    private static final int THREAD_COUNT = 2;
+
+    private List<ExecutorService> threads;
+    private CountDownLatch blocked;
+    private List<Transaction> executed;
+    private StripedTransactionExecutor underTest;
+
+    @BeforeEach
+    void setUp() {
+        threads = new CopyOnWriteArrayList<>();
+        blocked = new CountDownLatch(1);
+        executed = new CopyOnWriteArrayList<>();
+        underTest = new StripedTransactionExecutor(THREAD_COUNT, () -> {
+            ExecutorService thread = Executors.newSingleThreadExecutor();
+            threads.add(thread);
+            return thread;
+        }, this::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.forEach(ExecutorService::shutdownNow);
+    }
+
+    private void run(Transaction transaction) {
+        if (transaction instanceof BlockingTransaction) {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (transaction instanceof FailingTransaction) {
+            throw new IllegalStateException("Test failure");
+        }
+        executed.add(transaction);
+    }
+
+    private static UUID keyForThread(int thread) {
+        UUID key;
+        do {
+            key = UUID.randomUUID();
+        } while (Math.floorMod(key.hashCode(), THREAD_COUNT) != thread);
+        return key;
+    }
+
+    @Test
+    void transactionsWithSameKeyAreExecutedInOrder() throws Exception {
+        UUID key = keyForThread(0);
+        Transaction first = new BlockingTransaction(key);
+        Transaction second = new KeyedTransaction(key);
+        Transaction otherPlayer = new KeyedTransaction(keyForThread(1));
+
+        underTest.submit(first);
+        Future<Void> secondFuture = underTest.submit(second);
+        underTest.submit(otherPlayer).get(10, TimeUnit.SECONDS);
+        assertFalse(secondFuture.isDone());
+
+        blocked.countDown();
+        secondFuture.get(10, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(otherPlayer, first, second), executed);
+    }
+
+    @Test
+    void transactionWithoutKeyIsExecutedBetweenEarlierAndLaterTransactions() throws Exception {
+        Transaction earlier = new BlockingTransaction(keyForThread(1));
+        Transaction barrier = new KeyedTransaction(null);
+        Transaction later = new KeyedTransaction(keyForThread(0));
+
+        underTest.submit(earlier);
+        Future<Void> barrierFuture = underTest.submit(barrier);
+        Future<Void> laterFuture = underTest.submit(later);
+
+        assertThrows(TimeoutException.class, () -> laterFuture.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(barrierFuture.isDone());
+
+        blocked.countDown();
+        laterFuture.get(10, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(earlier, barrier, later), executed);
+    }
+
+    @Test
+    void failedTransactionCompletesFutureExceptionally() throws Exception {
+        Future<Void> failed = underTest.submit(new FailingTransaction());
+        Transaction next = new KeyedTransaction(keyForThread(0));
+        underTest.submit(next).get(10, TimeUnit.SECONDS);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertEquals(Collections.singletonList(next), executed);
+    }
+
+    static class KeyedTransaction extends Transaction {
+        private final UUID key;
+
+        KeyedTransaction(UUID key) {
+            this.key = key;
+        }
+
+        @Override
+        protected void performOperations() {
+            // Nothing to execute
+        }
+
+        @Override
+        public Optional<UUID> getOrderingKey() {
+            return Optional.ofNullable(key);
+        }
+    }
+
+    static class BlockingTransaction extends KeyedTransaction {
+        BlockingTransaction(UUID key) {
+            super(key);
+        }
+    }
+
+    static class FailingTransaction extends KeyedTransaction {
+        FailingTransaction() {
+            super(null);
+        }
+    }
+}
\ No newline at end of file
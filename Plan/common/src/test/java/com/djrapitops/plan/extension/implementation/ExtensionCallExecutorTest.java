@@ -0,0 +1,190 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderCallBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ExtensionCallExecutor}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ExtensionCallExecutorTest {
+
+    private ProviderCallBudget callBudget;
+    private ExtensionCallExecutor underTest;
+
+    @BeforeEach
+    void setUp() {
+        callBudget = new ProviderCallBudget();
+        underTest = new ExtensionCallExecutor("Test", callBudget);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void queuedCallsForSameTargetAreMerged() throws Exception {
+        CountDownLatch blockingCallStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        underTest.submit("blocking", () -> {
+            blockingCallStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingCallStarted.await(5, TimeUnit.SECONDS);
+
+        AtomicInteger calls = new AtomicInteger();
+        Future<?> first = underTest.submit("player", calls::incrementAndGet);
+        Future<?> second = underTest.submit("player", calls::incrementAndGet);
+        assertSame(first, second);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, calls.get());
+        assertEquals(1, callBudget.getCoalescedCalls());
+    }
+
+    @Test
+    void mergedCallIsCancelledOnlyWhenNoCallerWaitsForIt() throws Exception {
+        CountDownLatch blockingCallStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        underTest.submit("blocking", () -> {
+            blockingCallStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingCallStarted.await(5, TimeUnit.SECONDS);
+
+        AtomicInteger calls = new AtomicInteger();
+        Future<?> first = underTest.submit("player", calls::incrementAndGet);
+        Future<?> second = underTest.submit("player", calls::incrementAndGet);
+
+        assertFalse(underTest.stopWaiting(first));
+        assertFalse(second.isCancelled());
+
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void callIsCancelledWhenLastCallerStopsWaiting() throws Exception {
+        CountDownLatch blockingCallStarted = new CountDownLatch(1);
+        underTest.submit("blocking", () -> {
+            blockingCallStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingCallStarted.await(5, TimeUnit.SECONDS);
+
+        Future<?> first = underTest.submit("player", () -> {});
+        Future<?> second = underTest.submit("player", () -> {});
+
+        assertFalse(underTest.stopWaiting(first));
+        assertTrue(underTest.stopWaiting(second));
+        assertTrue(first.isCancelled());
+    }
+
+    @Test
+    void startedCallIsNotMerged() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        underTest.submit("player", calls::incrementAndGet).get(5, TimeUnit.SECONDS);
+        underTest.submit("player", calls::incrementAndGet).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, callBudget.getCoalescedCalls());
+    }
+
+    @Test
+    void queuedCallsAreCancelledOnShutdown() throws Exception {
+        CountDownLatch blockingCallStarted = new CountDownLatch(1);
+        underTest.submit("blocking", () -> {
+            blockingCallStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingCallStarted.await(5, TimeUnit.SECONDS);
+        Future<?> queued = underTest.submit("player", () -> {});
+
+        underTest.shutdown();
+
+        assertTrue(queued.isCancelled());
+        assertThrows(CancellationException.class, () -> queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelledCallIsSeenAsCancelledEvenIfInterruptIsCleared() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        AtomicBoolean seenAsCancelled = new AtomicBoolean(false);
+        Future<?> call = underTest.submit("player", () -> {
+            callStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException clearsInterruptFlag) {
+                // Extension code that swallows the interrupt
+            }
+            seenAsCancelled.set(underTest.isRunningCallCancelled());
+            checked.countDown();
+        });
+        callStarted.await(5, TimeUnit.SECONDS);
+
+        call.cancel(true);
+
+        assertTrue(checked.await(5, TimeUnit.SECONDS));
+        assertTrue(seenAsCancelled.get());
+    }
+
+    @Test
+    void finishedCallIsNotSeenAsCancelled() throws Exception {
+        AtomicBoolean seenAsCancelled = new AtomicBoolean(true);
+        underTest.submit("player", () -> seenAsCancelled.set(underTest.isRunningCallCancelled())).get(5, TimeUnit.SECONDS);
+
+        assertFalse(seenAsCancelled.get());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.Group;
+import com.djrapitops.plan.extension.NotReadyException;
+import com.djrapitops.plan.extension.implementation.MethodType;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.*;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MethodWrapper}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class MethodWrapperTest {
+
+    private static final UUID PLAYER_UUID = UUID.randomUUID();
+    private static final String PLAYER_NAME = "Test";
+    private static final Group GROUP = () -> "TestGroup";
+
+    private final TestExtension extension = new TestExtension();
+
+    private static <T> MethodWrapper<T> wrap(String methodName, Class<T> resultType, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new MethodWrapper<>(TestExtension.class.getMethod(methodName, parameterTypes), resultType);
+    }
+
+    @Test
+    void serverMethodIsCalledWithoutParameters() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("server", String.class);
+
+        assertEquals(MethodType.SERVER, method.getMethodType());
+        assertEquals("server", method.callMethod(extension));
+    }
+
+    @Test
+    void playerUUIDMethodIsCalledWithUUID() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("playerUUID", String.class, UUID.class);
+
+        assertEquals(MethodType.PLAYER_UUID, method.getMethodType());
+        assertEquals(PLAYER_UUID.toString(), method.callMethod(extension, PLAYER_UUID, PLAYER_NAME));
+    }
+
+    @Test
+    void playerNameMethodIsCalledWithName() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("playerName", String.class, String.class);
+
+        assertEquals(MethodType.PLAYER_NAME, method.getMethodType());
+        assertEquals(PLAYER_NAME, method.callMethod(extension, PLAYER_UUID, PLAYER_NAME));
+    }
+
+    @Test
+    void groupMethodIsCalledWithGroup() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("group", String.class, Group.class);
+
+        assertEquals(MethodType.GROUP, method.getMethodType());
+        assertEquals("TestGroup", method.callMethod(extension, GROUP));
+    }
+
+    @Test
+    void primitiveResultsAreReturnedUnboxed() throws NoSuchMethodException {
+        assertEquals(5L, wrap("number", Long.class, UUID.class).callLongMethod(extension, PLAYER_UUID, PLAYER_NAME, null));
+        assertEquals(0.5, wrap("decimal", Double.class, String.class).callDoubleMethod(extension, PLAYER_UUID, PLAYER_NAME, null));
+    }
+
+    @Test
+    void notReadyMethodReturnsNull() throws NoSuchMethodException {
+        assertNull(wrap("notReady", String.class).callMethod(extension));
+    }
+
+    @Test
+    void notReadyPrimitiveMethodThrowsNotReady() throws NoSuchMethodException {
+        MethodWrapper<Long> method = wrap("notReadyNumber", Long.class);
+
+        assertThrows(NotReadyException.class, () -> method.callLongMethod(extension, null, null, null));
+    }
+
+    @Test
+    void failingMethodThrowsIllegalArgument() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("failing", String.class);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> method.callMethod(extension));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void deserializedWrapperCanBeCalled() throws NoSuchMethodException, IOException, ClassNotFoundException {
+        MethodWrapper<String> method = wrap("playerName", String.class, String.class);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(method);
+        }
+        MethodWrapper<?> deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (MethodWrapper<?>) in.readObject();
+        }
+
+        assertEquals(method, deserialized);
+        assertEquals(PLAYER_NAME, deserialized.callMethod(extension, PLAYER_UUID, PLAYER_NAME));
+    }
+
+    public static class TestExtension implements DataExtension {
+        public String server() {
+            return "server";
+        }
+
+        public String playerUUID(UUID playerUUID) {
+            return playerUUID.toString();
+        }
+
+        public String playerName(String playerName) {
+            return playerName;
+        }
+
+        public String group(Group group) {
+            return group.getGroupName();
+        }
+
+        public long number(UUID playerUUID) {
+            return 5L;
+        }
+
+        public double decimal(String playerName) {
+            return 0.5;
+        }
+
+        public String notReady() {
+            throw new NotReadyException();
+        }
+
+        public long notReadyNumber() {
+            throw new NotReadyException();
+        }
+
+        public String failing() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
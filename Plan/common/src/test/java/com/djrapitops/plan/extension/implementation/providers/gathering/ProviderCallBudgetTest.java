@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the circuit breaker of {@link ProviderCallBudget}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ProviderCallBudgetTest {
+
+    private static final long SLOW_CALL = TimeUnit.SECONDS.toNanos(1L);
+    private static final long FAST_CALL = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private ProviderCallBudget underTest;
+    private MethodWrapper<Long> method;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        underTest = new ProviderCallBudget();
+        method = new MethodWrapper<>(ProviderCallBudgetTest.class.getDeclaredMethod("value"), Long.class);
+    }
+
+    public long value() {
+        return 0L;
+    }
+
+    private void call(long callNanos) {
+        underTest.callStarted(method);
+        underTest.callFinished(method, callNanos);
+    }
+
+    @Test
+    void providerIsDisabledAfterThreeSlowCallsInARow() {
+        call(SLOW_CALL);
+        call(SLOW_CALL);
+        assertFalse(underTest.isDisabled(method));
+
+        call(SLOW_CALL);
+        assertTrue(underTest.isDisabled(method));
+        assertEquals(1, underTest.getDisabledProviderCount());
+        assertEquals(3, underTest.getOverBudgetCalls());
+    }
+
+    @Test
+    void fastCallResetsSlowCalls() {
+        call(SLOW_CALL);
+        call(SLOW_CALL);
+        call(FAST_CALL);
+        call(SLOW_CALL);
+        call(SLOW_CALL);
+
+        assertFalse(underTest.isDisabled(method));
+        assertEquals(0, underTest.getDisabledProviderCount());
+    }
+
+    @Test
+    void timeoutsCountAgainstTheProviderBeingCalled() {
+        for (int i = 0; i < 3; i++) {
+            underTest.callStarted(method);
+            underTest.timedOut();
+        }
+
+        assertTrue(underTest.isDisabled(method));
+        assertEquals(3, underTest.getTimeouts());
+    }
+
+    @Test
+    void timeoutBetweenCallsDisablesNothing() {
+        call(FAST_CALL);
+        underTest.timedOut();
+        underTest.timedOut();
+        underTest.timedOut();
+
+        assertFalse(underTest.isDisabled(method));
+        assertEquals(3, underTest.getTimeouts());
+    }
+}
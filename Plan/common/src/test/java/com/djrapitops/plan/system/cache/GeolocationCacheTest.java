@@ -22,6 +22,7 @@ import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
 import com.djrapitops.plugin.logging.console.TestPluginLogger;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -124,4 +125,42 @@ class GeolocationCacheTest {
             assertEquals(expIp, countryThirdCall);
         }
     }
+
+    @Test
+    void cacheHitsAndMissesAreCounted() {
+        underTest.getCountry("8.8.8.8");
+        underTest.getCountry("8.8.8.8");
+        underTest.getCountry("8.8.4.4");
+
+        CacheStats stats = underTest.getCacheStats();
+        assertEquals(1L, stats.hitCount());
+        assertEquals(2L, stats.missCount());
+    }
+
+    @Test
+    void replacedDatabaseIsReadAgain() throws IOException {
+        assertEquals("Canada", underTest.getCountry("205.210.42.205"));
+
+        byte[] contents = Files.readAllBytes(IP_STORE.toPath());
+        Files.write(IP_STORE.toPath(), contents);
+        assertTrue(IP_STORE.setLastModified(IP_STORE.lastModified() + 1000L));
+
+        assertEquals("United States", underTest.getCountry("8.8.8.8"));
+    }
+
+    @Test
+    void failedLookupsAreNotCached() throws IOException {
+        byte[] contents = Files.readAllBytes(IP_STORE.toPath());
+        Files.write(IP_STORE.toPath(), new byte[]{1, 2, 3});
+        assertTrue(IP_STORE.setLastModified(IP_STORE.lastModified() + 1000L));
+
+        assertEquals("Not Known", underTest.getCountry("8.8.8.8"));
+        assertFalse(underTest.isCached("8.8.8.8"));
+
+        Files.write(IP_STORE.toPath(), contents);
+        assertTrue(IP_STORE.setLastModified(IP_STORE.lastModified() + 2000L));
+
+        assertEquals("United States", underTest.getCountry("8.8.8.8"));
+        assertTrue(underTest.isCached("8.8.8.8"));
+    }
 }
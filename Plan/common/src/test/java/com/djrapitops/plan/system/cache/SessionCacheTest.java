@@ -24,16 +24,17 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 import utilities.TestConstants;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @RunWith(JUnitPlatform.class)
 class SessionCacheTest {
 
     private Session session;
+    private SessionCache sessionCache;
     private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
     private final UUID serverUUID = TestConstants.SERVER_UUID;
 
@@ -41,7 +42,7 @@ class SessionCacheTest {
     void setUp() {
         session = new Session(uuid, serverUUID, 12345L, "World1", "SURVIVAL");
 
-        SessionCache sessionCache = new SessionCache();
+        sessionCache = new SessionCache();
         sessionCache.cacheSession(uuid, session);
     }
 
@@ -56,4 +57,25 @@ class SessionCacheTest {
         assertTrue(cachedSession.isPresent());
         assertEquals(session, cachedSession.get());
     }
+
+    @Test
+    void activeSessionsAreNotCopiedWhenUnchanged() {
+        Map<UUID, Session> activeSessions = SessionCache.getActiveSessions();
+        assertSame(activeSessions, SessionCache.getActiveSessions());
+        assertEquals(session, activeSessions.get(uuid));
+    }
+
+    @Test
+    void activeSessionsChangeWhenSessionEnds() {
+        Map<UUID, Session> before = SessionCache.getActiveSessions();
+        long versionBefore = SessionCache.getActiveSessionsVersion();
+
+        Optional<Session> ended = sessionCache.endSession(uuid, 23456L);
+        assertTrue(ended.isPresent());
+
+        assertNotEquals(versionBefore, SessionCache.getActiveSessionsVersion());
+        assertTrue(before.containsKey(uuid));
+        assertTrue(SessionCache.getActiveSessions().isEmpty());
+        assertFalse(sessionCache.endSession(uuid, 34567L).isPresent());
+    }
 }
\ No newline at end of file
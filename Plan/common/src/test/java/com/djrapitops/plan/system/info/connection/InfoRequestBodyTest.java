@@ -0,0 +1,101 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link InfoRequestBody} formats.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class InfoRequestBodyTest {
+
+    private Map<String, String> createVariables() {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("sender", "e4ec2edd-e0ed-3c58-a87d-8a9021899479");
+        variables.put("type", "CacheAnalysisPageRequest");
+        variables.put("html", "<div>;&variable;a=b ÄÖ</div>");
+        return variables;
+    }
+
+    @Test
+    void binaryFormatIsReadBack() throws IOException {
+        Map<String, String> expected = createVariables();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InfoRequestBody.write(expected, out);
+        Map<String, String> result = InfoRequestBody.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void legacyFormatIsReadBack() throws IOException {
+        Map<String, String> expected = createVariables();
+        expected.put("html", "<div>ÄÖ</div>");
+
+        byte[] body = InfoRequestBody.toLegacyForm(expected).getBytes(StandardCharsets.UTF_8);
+        Map<String, String> result = InfoRequestBody.read(new ByteArrayInputStream(body));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void forgedVariableLengthIsRejected() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(InfoRequestBody.VERSION);
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(gzip);
+        data.writeInt(1);
+        data.writeInt(Integer.MAX_VALUE);
+        data.flush();
+        gzip.finish();
+
+        byte[] body = out.toByteArray();
+        assertThrows(IOException.class, () -> InfoRequestBody.read(new ByteArrayInputStream(body)));
+    }
+
+    @Test
+    void bodiesLargerThanLimitAreRejected() throws IOException {
+        Map<String, String> variables = createVariables();
+        variables.put("html", new String(new char[100000]).replace('\0', 'a'));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InfoRequestBody.write(variables, out);
+        byte[] binary = out.toByteArray();
+        byte[] legacy = InfoRequestBody.toLegacyForm(variables).getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> InfoRequestBody.read(new ByteArrayInputStream(binary), 10000));
+        assertThrows(IOException.class, () -> InfoRequestBody.read(new ByteArrayInputStream(legacy), 10000));
+    }
+}
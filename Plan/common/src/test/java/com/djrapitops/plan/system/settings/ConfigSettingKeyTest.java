@@ -121,6 +121,9 @@ public class ConfigSettingKeyTest {
         settings.remove(DisplaySettings.GRAPH_DISK_THRESHOLD_HIGH);
         settings.remove(DisplaySettings.WORLD_ALIASES);
         settings.remove(TimeSettings.ANALYSIS_REFRESH_PERIOD);
+        settings.remove(TimeSettings.SERVER_PLACEHOLDER_VALUES_REFRESH_PERIOD);
+        settings.remove(TimeSettings.PLAYER_PLACEHOLDER_VALUES_REFRESH_PERIOD);
+        settings.remove(TimeSettings.SERVER_SUMMARY_REFRESH_PERIOD);
         return settings;
     }
 
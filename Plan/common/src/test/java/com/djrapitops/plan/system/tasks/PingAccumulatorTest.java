@@ -0,0 +1,80 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks;
+
+import com.djrapitops.plan.data.container.Ping;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PingAccumulator}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class PingAccumulatorTest {
+
+    @Test
+    void aggregateValuesAreCalculated() {
+        PingAccumulator accumulator = new PingAccumulator();
+        accumulator.add(1000L, 50);
+        accumulator.add(2000L, 100);
+        accumulator.add(3000L, 30);
+
+        Ping ping = accumulator.toPing(TestConstants.SERVER_UUID);
+
+        assertEquals(3000L, ping.getDate());
+        assertEquals(30, ping.getMin());
+        assertEquals(100, ping.getMax());
+        assertEquals(60.0, ping.getAverage(), 0.001);
+    }
+
+    @Test
+    void invalidValuesAreNotAggregated() {
+        PingAccumulator accumulator = new PingAccumulator();
+        accumulator.add(1000L, -1);
+        accumulator.add(2000L, 5000);
+        assertFalse(accumulator.hasValues());
+
+        accumulator.add(3000L, 20);
+        Ping ping = accumulator.toPing(TestConstants.SERVER_UUID);
+
+        assertEquals(20, ping.getMin());
+        assertEquals(20, ping.getMax());
+        assertEquals(20.0, ping.getAverage(), 0.001);
+    }
+
+    @Test
+    void intervalIsFullAfterEnoughSamples() {
+        PingAccumulator accumulator = new PingAccumulator();
+        for (int i = 0; i < PingAccumulator.SAMPLES_PER_INTERVAL; i++) {
+            assertFalse(accumulator.isIntervalFull());
+            accumulator.add(i, 10);
+        }
+        assertTrue(accumulator.isIntervalFull());
+
+        accumulator.reset();
+        assertFalse(accumulator.isIntervalFull());
+        assertFalse(accumulator.hasValues());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RequestDispatcher} request routing.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RequestDispatcherTest {
+
+    @Test
+    void stylesAndScriptsUseStaticLane() {
+        assertEquals(RequestDispatcher.Lane.STATIC, RequestDispatcher.getLane("/css/style.css"));
+        assertEquals(RequestDispatcher.Lane.STATIC, RequestDispatcher.getLane("/js/sessionAccordion.js"));
+        assertEquals(RequestDispatcher.Lane.STATIC, RequestDispatcher.getLane("/favicon.ico"));
+    }
+
+    @Test
+    void expensiveRequestsUseGenerationLane() {
+        assertEquals(RequestDispatcher.Lane.GENERATION, RequestDispatcher.getLane("/json/players"));
+        assertEquals(RequestDispatcher.Lane.GENERATION, RequestDispatcher.getLane("/debug"));
+    }
+
+    @Test
+    void requestsOfOtherServersUseInfoLane() {
+        assertEquals(RequestDispatcher.Lane.INFO, RequestDispatcher.getLane("/info/generateAnalysisPageRequest"));
+    }
+
+    @Test
+    void pagesUsePageLane() {
+        assertEquals(RequestDispatcher.Lane.PAGE, RequestDispatcher.getLane("/server/Server 1"));
+        assertEquals(RequestDispatcher.Lane.PAGE, RequestDispatcher.getLane("/"));
+    }
+
+    @Test
+    void unknownRoutesAreGrouped() {
+        assertEquals("/player", RequestDispatcher.getRoute(RequestDispatcher.Lane.PAGE, "/player/Rsl1122"));
+        assertEquals("/", RequestDispatcher.getRoute(RequestDispatcher.Lane.PAGE, "/"));
+        assertEquals("other", RequestDispatcher.getRoute(RequestDispatcher.Lane.PAGE, "/wp-admin/index.php"));
+        assertEquals("static", RequestDispatcher.getRoute(RequestDispatcher.Lane.STATIC, "/css/style.css"));
+    }
+
+    @Test
+    void laneAdmitsOnlyItsCapacity() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            RequestDispatcher.LaneExecutor lane = new RequestDispatcher.LaneExecutor(executor, 2, null);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch finished = new CountDownLatch(2);
+            Runnable blocking = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            };
+
+            assertTrue(lane.tryExecute(blocking));
+            assertTrue(lane.tryExecute(blocking));
+            assertFalse(lane.tryExecute(blocking));
+
+            release.countDown();
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+            // Admission is released after the task has finished
+            CountDownLatch ran = new CountDownLatch(1);
+            long waitUntil = System.currentTimeMillis() + 5000L;
+            while (!lane.tryExecute(ran::countDown) && System.currentTimeMillis() < waitUntil) {
+                Thread.sleep(10L);
+            }
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectedRequestIsAnsweredWith503AndRetryAfter() throws Exception {
+        Theme theme = mock(Theme.class);
+        when(theme.replaceThemeColors(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        RequestLatencies latencies = mock(RequestLatencies.class);
+        // Not enabled, so no lane accepts the request
+        RequestDispatcher underTest = new RequestDispatcher(
+                new Locale(), mock(PlanConfig.class), theme, mock(RequestHandler.class), latencies, mock(PluginLogger.class)
+        );
+
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers responseHeaders = new Headers();
+        when(exchange.getRequestURI()).thenReturn(URI.create("/info/checkConnectionRequest"));
+        when(exchange.getRequestHeaders()).thenReturn(new Headers());
+        when(exchange.getResponseHeaders()).thenReturn(responseHeaders);
+        when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+
+        underTest.handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(503), anyLong());
+        verify(exchange).close();
+        verify(latencies).rejected("/info");
+        assertEquals("5", responseHeaders.getFirst("Retry-After"));
+    }
+}
\ No newline at end of file
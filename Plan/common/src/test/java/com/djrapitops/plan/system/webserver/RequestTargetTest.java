@@ -0,0 +1,50 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.net.URI;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link RequestTarget} parameter parsing.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RequestTargetTest {
+
+    @Test
+    void encodedSeparatorsStayInsideValue() {
+        RequestTarget target = new RequestTarget(URI.create("/json/players?draw=1&search%5Bvalue%5D=a%26b%3Dc"));
+
+        assertEquals(Optional.of("1"), target.getParameter("draw"));
+        assertEquals(Optional.of("a&b=c"), target.getParameter("search[value]"));
+    }
+
+    @Test
+    void plusIsDecodedAsSpace() {
+        RequestTarget target = new RequestTarget(URI.create("/json/players?search%5Bvalue%5D=(very+active)"));
+
+        assertEquals(Optional.of("(very active)"), target.getParameter("search[value]"));
+    }
+}
\ No newline at end of file
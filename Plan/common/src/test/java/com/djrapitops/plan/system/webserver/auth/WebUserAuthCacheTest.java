@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.auth;
+
+import com.djrapitops.plan.data.WebUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WebUserAuthCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class WebUserAuthCacheTest {
+
+    private static final String AUTHENTICATION = "dGVzdDpwYXNzd29yZA==";
+    private static final WebUser WEB_USER = new WebUser("test", "hash", 0);
+
+    @AfterEach
+    void clearCache() {
+        WebUserAuthCache.setTimeToLive(TimeUnit.SECONDS.toMillis(60L));
+        WebUserAuthCache.clearCache();
+    }
+
+    @Test
+    void verifiedUserIsCached() {
+        assertFalse(WebUserAuthCache.getVerified(AUTHENTICATION).isPresent());
+
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, WebUserAuthCache.getGeneration("test"));
+
+        assertEquals(Optional.of(WEB_USER), WebUserAuthCache.getVerified(AUTHENTICATION));
+    }
+
+    @Test
+    void otherCredentialsAreNotVerified() {
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, WebUserAuthCache.getGeneration("test"));
+
+        assertFalse(WebUserAuthCache.getVerified("dGVzdDp3cm9uZw==").isPresent());
+    }
+
+    @Test
+    void invalidatedUserIsRemoved() {
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, WebUserAuthCache.getGeneration("test"));
+
+        WebUserAuthCache.invalidate("TEST");
+
+        assertFalse(WebUserAuthCache.getVerified(AUTHENTICATION).isPresent());
+    }
+
+    @Test
+    void invalidationKeepsOtherUsers() {
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, WebUserAuthCache.getGeneration("test"));
+
+        WebUserAuthCache.invalidate("other");
+
+        assertTrue(WebUserAuthCache.getVerified(AUTHENTICATION).isPresent());
+    }
+
+    @Test
+    void userInvalidatedDuringVerificationIsNotCached() {
+        long generation = WebUserAuthCache.getGeneration("test");
+
+        WebUserAuthCache.invalidate("TEST");
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, generation);
+
+        assertFalse(WebUserAuthCache.getVerified(AUTHENTICATION).isPresent());
+    }
+
+    @Test
+    void zeroTimeToLiveDisablesCache() {
+        WebUserAuthCache.setTimeToLive(0L);
+        WebUserAuthCache.cacheVerified(AUTHENTICATION, WEB_USER, WebUserAuthCache.getGeneration("test"));
+
+        assertFalse(WebUserAuthCache.getVerified(AUTHENTICATION).isPresent());
+    }
+
+    @Test
+    void plainCredentialsAreNotUsedAsKey() {
+        assertNotEquals(AUTHENTICATION, WebUserAuthCache.digest(AUTHENTICATION));
+        assertEquals(WebUserAuthCache.digest(AUTHENTICATION), WebUserAuthCache.digest(AUTHENTICATION));
+    }
+}
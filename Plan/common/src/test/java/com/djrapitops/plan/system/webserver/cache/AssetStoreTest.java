@@ -0,0 +1,191 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.file.PlanFiles;
+import com.djrapitops.plan.system.file.Resource;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AssetStore}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AssetStoreTest {
+
+    private static final Pattern FINGERPRINTED_STYLE = Pattern.compile("href=\"css/style\\.css\\?v=([^\"]+)\"");
+
+    private Map<String, String> contents;
+    private PlanFiles files;
+    private Locale locale;
+    private Theme theme;
+    private AtomicLong time;
+    private AssetStore underTest;
+
+    @BeforeEach
+    void setUp() {
+        contents = new HashMap<>();
+        contents.put("web/server.html", "<link href=\"css/style.css\" rel=\"stylesheet\">" +
+                "<script src=\"https://cdn.example.com/library.js\"></script>" +
+                "<script src=\"js/missing.js\"></script>");
+        contents.put("web/css/style.css", "body {color: black;}");
+
+        files = mock(PlanFiles.class);
+        when(files.getCustomizableResourceOrDefault(anyString())).thenAnswer(invocation -> resource(invocation.getArgument(0)));
+        locale = new Locale();
+        theme = mock(Theme.class);
+        when(theme.replaceThemeColors(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        time = new AtomicLong(System.currentTimeMillis());
+        underTest = new AssetStore(files, locale, theme, mock(ErrorHandler.class), time::get);
+    }
+
+    private Resource resource(String fileName) {
+        return new Resource() {
+            @Override
+            public String getResourceName() {
+                return fileName;
+            }
+
+            @Override
+            public InputStream asInputStream() throws IOException {
+                return new ByteArrayInputStream(asString().getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public List<String> asLines() throws IOException {
+                return Arrays.asList(asString().split("\n"));
+            }
+
+            @Override
+            public String asString() throws IOException {
+                String content = contents.get(fileName);
+                if (content == null) {
+                    throw new IOException("Not found: " + fileName);
+                }
+                return content;
+            }
+        };
+    }
+
+    private String fingerprintInTemplate() throws IOException {
+        Matcher matcher = FINGERPRINTED_STYLE.matcher(underTest.getTemplate("web/server.html"));
+        assertTrue(matcher.find(), "Style sheet reference was not fingerprinted");
+        return matcher.group(1);
+    }
+
+    private String cacheControlOf(Response response) throws IOException {
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers responseHeaders = new Headers();
+        when(exchange.getRequestHeaders()).thenReturn(new Headers());
+        when(exchange.getResponseHeaders()).thenReturn(responseHeaders);
+        when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+        response.send(exchange, locale, theme);
+        return responseHeaders.getFirst("Cache-Control");
+    }
+
+    @Test
+    void onlyExistingLocalAssetsAreFingerprinted() throws IOException {
+        fingerprintInTemplate();
+        String template = underTest.getTemplate("web/server.html");
+
+        assertTrue(template.contains("src=\"https://cdn.example.com/library.js\""), template);
+        assertTrue(template.contains("src=\"js/missing.js\""), template);
+    }
+
+    @Test
+    void matchingFingerprintIsCachedIndefinitely() throws IOException {
+        String fingerprint = fingerprintInTemplate();
+        Response response = underTest.getAssetResponse("/server/css/style.css", fingerprint)
+                .orElseThrow(AssertionError::new);
+
+        assertEquals("public, max-age=31536000, immutable", cacheControlOf(response));
+    }
+
+    @Test
+    void mismatchedOrMissingFingerprintIsRevalidated() throws IOException {
+        fingerprintInTemplate();
+        Response mismatched = underTest.getAssetResponse("/server/css/style.css", "0123456789ab")
+                .orElseThrow(AssertionError::new);
+        Response missing = underTest.getAssetResponse("/server/css/style.css", null)
+                .orElseThrow(AssertionError::new);
+
+        assertEquals("no-cache", cacheControlOf(mismatched));
+        assertEquals("no-cache", cacheControlOf(missing));
+    }
+
+    @Test
+    void missingAssetIsNotFound() {
+        assertFalse(underTest.getAssetResponse("/js/missing.js", null).isPresent());
+    }
+
+    @Test
+    void customizedFilesAreReadAgainAfterReloadPeriod() throws IOException {
+        String oldFingerprint = fingerprintInTemplate();
+        contents.put("web/css/style.css", "body {color: red;}");
+
+        assertEquals(oldFingerprint, fingerprintInTemplate());
+
+        time.addAndGet(AssetStore.RELOAD_PERIOD + 1L);
+        String newFingerprint = fingerprintInTemplate();
+        assertNotEquals(oldFingerprint, newFingerprint);
+
+        Response old = underTest.getAssetResponse("/server/css/style.css", oldFingerprint)
+                .orElseThrow(AssertionError::new);
+        assertEquals("no-cache", cacheControlOf(old));
+    }
+
+    @Test
+    void errorPageIsNotPreloaded() {
+        underTest.enable();
+
+        verify(files).getCustomizableResourceOrDefault("web/server.html");
+        verify(files, never()).getCustomizableResourceOrDefault("web/error.html");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.cache.DataChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link FragmentCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class FragmentCacheTest {
+
+    private static final UUID SERVER_UUID = TestConstants.SERVER_UUID;
+    private static final long TTL = TimeUnit.MINUTES.toMillis(5L);
+    private static final Set<DataChange.Type> DEPENDENCIES = EnumSet.of(DataChange.Type.TPS);
+
+    private FragmentCache underTest;
+    private AtomicInteger renders;
+    private Supplier<Map<String, Serializable>> renderer;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new FragmentCache();
+        renders = new AtomicInteger();
+        renderer = () -> Collections.singletonMap("value", renders.incrementAndGet());
+    }
+
+    @Test
+    void fragmentIsRenderedOnlyOnceWithinTimeToLive() {
+        underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+        Map<String, Serializable> result = underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+
+        assertEquals(1, result.get("value"));
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void expiredFragmentIsRenderedAgain() {
+        underTest.getFragment(SERVER_UUID, "test", -1L, DEPENDENCIES, renderer);
+        Map<String, Serializable> result = underTest.getFragment(SERVER_UUID, "test", -1L, DEPENDENCIES, renderer);
+
+        assertEquals(2, result.get("value"));
+    }
+
+    @Test
+    void dependentChangeRemovesFragment() {
+        underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+        underTest.invalidate(DataChange.tps(SERVER_UUID));
+        Map<String, Serializable> result = underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+
+        assertEquals(2, result.get("value"));
+    }
+
+    @Test
+    void unrelatedChangesKeepFragment() {
+        underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+        underTest.invalidate(DataChange.serverExtensionData(SERVER_UUID));
+        underTest.invalidate(DataChange.tps(UUID.randomUUID()));
+        Map<String, Serializable> result = underTest.getFragment(SERVER_UUID, "test", TTL, DEPENDENCIES, renderer);
+
+        assertEquals(1, result.get("value"));
+    }
+}
\ No newline at end of file
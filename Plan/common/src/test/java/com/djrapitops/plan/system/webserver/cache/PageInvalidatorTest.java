@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.cache.DataChange;
+import com.djrapitops.plan.system.cache.InvalidationBus;
+import com.djrapitops.plan.system.webserver.response.TextResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PageInvalidator}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class PageInvalidatorTest {
+
+    private static final UUID SERVER_UUID = TestConstants.SERVER_UUID;
+    private static final UUID PLAYER_UUID = TestConstants.PLAYER_ONE_UUID;
+
+    private PageInvalidator underTest;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCache.clearCache();
+        underTest = new PageInvalidator(new FragmentCache());
+        underTest.register();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.unregister();
+        ResponseCache.clearCache();
+    }
+
+    @Test
+    void sessionMarksPagesStaleWithoutRemovingThem() {
+        cachePages(PageId.PLAYERS.id(), PageId.PLAYER.of(PLAYER_UUID), PageId.SERVER.of(SERVER_UUID));
+
+        InvalidationBus.publish(DataChange.session(SERVER_UUID, PLAYER_UUID));
+
+        for (String identifier : new String[]{PageId.PLAYERS.id(), PageId.PLAYER.of(PLAYER_UUID), PageId.SERVER.of(SERVER_UUID)}) {
+            assertTrue(ResponseCache.isCached(identifier), identifier);
+            assertTrue(ResponseCache.isStale(identifier), identifier);
+        }
+    }
+
+    @Test
+    void removedPlayerPageIsRemoved() {
+        cachePages(PageId.PLAYERS.id(), PageId.PLAYER.of(PLAYER_UUID), PageId.SERVER.of(SERVER_UUID));
+
+        InvalidationBus.publish(DataChange.playerRemove(PLAYER_UUID));
+
+        assertFalse(ResponseCache.isCached(PageId.PLAYER.of(PLAYER_UUID)));
+        assertTrue(ResponseCache.isStale(PageId.PLAYERS.id()));
+        assertTrue(ResponseCache.isStale(PageId.SERVER.of(SERVER_UUID)));
+    }
+
+    @Test
+    void unregisterKeepsOtherSubscribers() {
+        List<DataChange> published = new ArrayList<>();
+        Consumer<DataChange> subscriber = published::add;
+        InvalidationBus.subscribe(DataChange.Type.SESSION, subscriber);
+        try {
+            underTest.unregister();
+            cachePages(PageId.PLAYERS.id());
+
+            DataChange change = DataChange.session(SERVER_UUID, PLAYER_UUID);
+            InvalidationBus.publish(change);
+
+            assertEquals(Collections.singletonList(change), published);
+            assertFalse(ResponseCache.isStale(PageId.PLAYERS.id()));
+        } finally {
+            InvalidationBus.unsubscribe(DataChange.Type.SESSION, subscriber);
+        }
+    }
+
+    private void cachePages(String... identifiers) {
+        for (String identifier : identifiers) {
+            ResponseCache.cacheResponse(identifier, () -> new TextResponse(identifier));
+        }
+    }
+}
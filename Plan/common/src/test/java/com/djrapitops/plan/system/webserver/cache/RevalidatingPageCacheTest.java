@@ -0,0 +1,143 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.system.processing.Processing;
+import com.djrapitops.plan.system.webserver.response.Response;
+import com.djrapitops.plan.system.webserver.response.TextResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RevalidatingPageCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RevalidatingPageCacheTest {
+
+    private static final String PAGE_ID = "revalidatingTestPage";
+    private static final Runnable REGENERATOR = () -> {};
+
+    private Processing processing;
+    private AtomicLong time;
+    private RevalidatingPageCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCache.clearCache();
+        processing = mock(Processing.class);
+        time = new AtomicLong(System.currentTimeMillis());
+        underTest = new RevalidatingPageCache(processing, time::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ResponseCache.clearCache();
+    }
+
+    @Test
+    void missingPageIsRegeneratedOnlyOnce() {
+        assertFalse(underTest.getPage(PAGE_ID, REGENERATOR).isPresent());
+        assertFalse(underTest.getPage(PAGE_ID, REGENERATOR).isPresent());
+        underTest.regenerate(PAGE_ID, REGENERATOR);
+
+        assertTrue(underTest.isRegenerating(PAGE_ID));
+        verify(processing, times(1)).submitNonCritical(any(Runnable.class));
+    }
+
+    @Test
+    void freshPageIsServedWithoutRegeneration() {
+        ResponseCache.cacheResponse(PAGE_ID, () -> new TextResponse("fresh"));
+
+        Optional<Response> page = underTest.getPage(PAGE_ID, REGENERATOR);
+
+        assertTrue(page.isPresent());
+        verify(processing, never()).submitNonCritical(any(Runnable.class));
+    }
+
+    @Test
+    void stalePageIsServedWhileItIsRegenerated() {
+        Response cached = new TextResponse("stale");
+        ResponseCache.cacheResponse(PAGE_ID, () -> cached);
+        ResponseCache.markStale(PAGE_ID);
+        time.addAndGet(1000L);
+
+        Optional<Response> first = underTest.getPage(PAGE_ID, REGENERATOR);
+        Optional<Response> second = underTest.getPage(PAGE_ID, REGENERATOR);
+
+        assertSame(cached, first.orElse(null));
+        assertSame(cached, second.orElse(null));
+        verify(processing, times(1)).submitNonCritical(any(Runnable.class));
+    }
+
+    @Test
+    void regenerationIsStartedAgainAfterTimeout() {
+        underTest.getPage(PAGE_ID, REGENERATOR);
+        time.addAndGet(RevalidatingPageCache.REGENERATION_TIMEOUT - 1L);
+        underTest.getPage(PAGE_ID, REGENERATOR);
+        verify(processing, times(1)).submitNonCritical(any(Runnable.class));
+
+        time.addAndGet(1L);
+        assertFalse(underTest.isRegenerating(PAGE_ID));
+        underTest.getPage(PAGE_ID, REGENERATOR);
+
+        verify(processing, times(2)).submitNonCritical(any(Runnable.class));
+    }
+
+    @Test
+    void newPageEndsRegeneration() {
+        time.addAndGet(-1L);
+        underTest.getPage(PAGE_ID, REGENERATOR);
+        ResponseCache.cacheResponse(PAGE_ID, () -> new TextResponse("new"));
+
+        assertFalse(underTest.isRegenerating(PAGE_ID));
+        ResponseCache.markStale(PAGE_ID);
+        underTest.getPage(PAGE_ID, REGENERATOR);
+
+        verify(processing, times(2)).submitNonCritical(any(Runnable.class));
+    }
+
+    @Test
+    void pagesCanNotBeRemovedBeforeTheyAreRefreshed() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseCache.setTimeToLive(10L, 5L));
+    }
+
+    @Test
+    void onlyRecentlyCachedPagesAreRecent() {
+        assertFalse(ResponseCache.isRecent(PAGE_ID));
+        ResponseCache.cacheResponse(PAGE_ID, () -> new TextResponse("new"));
+
+        assertTrue(ResponseCache.isRecent(PAGE_ID));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.locale.Message;
+import com.djrapitops.plan.system.locale.lang.CommonHtmlLang;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ETag, 304 and gzip handling of {@link Response}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ResponseTest {
+
+    private static final String CONTENT = "<html>" + CommonHtmlLang.NAV_PLUGINS.getDefault() + "</html>";
+
+    private Locale locale;
+    private Theme theme;
+
+    @BeforeEach
+    void setUp() {
+        locale = new Locale();
+        theme = mock(Theme.class);
+        when(theme.replaceThemeColors(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static HttpExchange mockExchange(Headers requestHeaders, ByteArrayOutputStream body) {
+        HttpExchange exchange = mock(HttpExchange.class);
+        when(exchange.getRequestHeaders()).thenReturn(requestHeaders);
+        when(exchange.getResponseHeaders()).thenReturn(new Headers());
+        when(exchange.getResponseBody()).thenReturn(body);
+        return exchange;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String sendCached(Response response, Headers requestHeaders, ByteArrayOutputStream body) throws IOException {
+        HttpExchange exchange = mockExchange(requestHeaders, body);
+        response.send(exchange, locale, theme);
+        return exchange.getResponseHeaders().getFirst("ETag");
+    }
+
+    @Test
+    void cachedResponseHasETag() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+        response.markCached();
+
+        String eTag = sendCached(response, new Headers(), new ByteArrayOutputStream());
+
+        assertNotNull(eTag);
+        assertEquals(eTag, sendCached(response, new Headers(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void matchingETagIsAnsweredWithNotModified() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+        response.markCached();
+        String eTag = sendCached(response, new Headers(), new ByteArrayOutputStream());
+
+        Headers requestHeaders = new Headers();
+        requestHeaders.set("If-None-Match", eTag);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpExchange exchange = mockExchange(requestHeaders, body);
+        response.send(exchange, locale, theme);
+
+        verify(exchange).sendResponseHeaders(304, -1);
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    void gzipIsSentIfAccepted() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+        response.markCached();
+
+        Headers requestHeaders = new Headers();
+        requestHeaders.set("Accept-Encoding", "gzip, deflate");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpExchange exchange = mockExchange(requestHeaders, body);
+        response.send(exchange, locale, theme);
+
+        assertEquals("gzip", exchange.getResponseHeaders().getFirst("Content-Encoding"));
+        assertEquals(CONTENT, gunzip(body.toByteArray()));
+    }
+
+    @Test
+    void identityIsSentIfGzipIsNotAccepted() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+        response.markCached();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpExchange exchange = mockExchange(new Headers(), body);
+        response.send(exchange, locale, theme);
+
+        assertNull(exchange.getResponseHeaders().getFirst("Content-Encoding"));
+        assertEquals(CONTENT, new String(body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void uncachedResponseIsNotKept() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+
+        Headers requestHeaders = new Headers();
+        requestHeaders.set("Accept-Encoding", "gzip");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpExchange exchange = mockExchange(requestHeaders, body);
+        response.send(exchange, locale, theme);
+
+        assertNull(exchange.getResponseHeaders().getFirst("ETag"));
+        assertEquals(CONTENT, gunzip(body.toByteArray()));
+    }
+
+    @Test
+    void cachedResponseIsRenderedAgainAfterLocaleChange() throws IOException {
+        TextResponse response = new TextResponse(CONTENT);
+        response.markCached();
+        String eTag = sendCached(response, new Headers(), new ByteArrayOutputStream());
+
+        locale.put(CommonHtmlLang.NAV_PLUGINS, new Message("Lisäosat"));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        String newETag = sendCached(response, new Headers(), body);
+
+        assertNotEquals(eTag, newETag);
+        assertEquals("<html>Lisäosat</html>", new String(body.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response.data;
+
+import com.djrapitops.plan.data.container.GeoInfo;
+import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plan.data.store.Type;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.containers.DynamicDataContainer;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link RawDataJSONWriter}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RawDataJSONWriterTest {
+
+    private String write(Object value) throws IOException {
+        StringWriter out = new StringWriter();
+        new RawDataJSONWriter(out).value(value);
+        return out.toString();
+    }
+
+    @Test
+    void valuesAreWrittenLikeGson() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        map.put("text", "<b>\"quoted\"</b>\n\u2028");
+        map.put("number", 1.5);
+        map.put("flag", true);
+        map.put("nothing", null);
+        map.put("uuid", UUID.fromString("e4ec2edd-e0ed-3c58-a87d-8a9021899479"));
+        map.put("list", Arrays.asList(1, "two", null, Collections.singletonMap(3, "three")));
+        map.put("object", new GeoInfo("1.2.3.4", "Finland", 1000L));
+
+        Object expected = new JsonParser().parse(new Gson().toJson(map));
+        Object result = new JsonParser().parse(write(map));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void stringEscapesMatchGson() throws IOException {
+        String value = "<a href='x'>&=\u0001\t\\</a>";
+        assertEquals(new Gson().toJson(value), write(value));
+    }
+
+    @Test
+    void dataContainerValuesAreWrittenAsObject() throws IOException {
+        Key<String> name = new Key<>(String.class, "name");
+        Key<Integer> count = new Key<>(Integer.class, "count");
+        Key<List<DataContainer>> children = new Key<>(new Type<List<DataContainer>>() {}, "children");
+
+        DataContainer child = new DynamicDataContainer();
+        child.putRawData(count, 2);
+        DataContainer container = new DynamicDataContainer();
+        container.putRawData(name, "Test");
+        container.putSupplier(count, () -> 1);
+        container.putSupplier(children, () -> Collections.singletonList(child));
+
+        assertEquals("{\"children\":[{\"count\":2}],\"count\":1,\"name\":\"Test\"}", write(container));
+    }
+
+    @Test
+    void onlySelectedValuesAreWritten() throws IOException {
+        Key<String> name = new Key<>(String.class, "name");
+        Key<Integer> count = new Key<>(Integer.class, "count");
+        Key<Integer> missing = new Key<>(Integer.class, "missing");
+
+        DataContainer container = new DynamicDataContainer();
+        container.putRawData(name, "Test");
+        container.putSupplier(count, () -> {
+            throw new AssertionError("Supplier of a key that was not selected was called");
+        });
+
+        StringWriter out = new StringWriter();
+        RawDataJSONWriter json = new RawDataJSONWriter(out).beginObject();
+        json.writeSelectedValues(container, Arrays.asList(name, missing));
+        json.endObject();
+
+        assertEquals("{\"name\":\"Test\"}", out.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.formatting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link MultiPatternReplacer} and {@link PlaceholderReplacer}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class MultiPatternReplacerTest {
+
+    @Test
+    void allPatternsAreReplaced() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Players", "Pelaajat");
+        replacements.put("Sessions", "Sessiot");
+
+        String result = new MultiPatternReplacer(replacements).apply("<h1>Players</h1><p>Sessions & Players</p>");
+
+        assertEquals("<h1>Pelaajat</h1><p>Sessiot & Pelaajat</p>", result);
+    }
+
+    @Test
+    void longestMatchIsPreferred() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Players", "A");
+        replacements.put("Players Online", "B");
+        replacements.put("Online", "C");
+
+        String result = new MultiPatternReplacer(replacements).apply("Players Online, Players, Online");
+
+        assertEquals("B, A, C", result);
+    }
+
+    @Test
+    void leftmostMatchIsPreferred() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("abcd", "X");
+        replacements.put("bc", "Y");
+        replacements.put("she", "1");
+        replacements.put("hers", "2");
+
+        String result = new MultiPatternReplacer(replacements).apply("abcdbc ushers");
+
+        assertEquals("XY u1rs", result);
+    }
+
+    @Test
+    void replacementsAreNotReplacedAgain() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("#fff", "#000");
+        replacements.put("#000", "#fff");
+
+        String result = new MultiPatternReplacer(replacements).apply("#fff #000");
+
+        assertEquals("#000 #fff", result);
+    }
+
+    @Test
+    void textWithoutMatchesIsReturnedAsIs() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("missing", "value");
+        String text = "Text without patterns";
+
+        assertSame(text, new MultiPatternReplacer(replacements).apply(text));
+    }
+
+    @Test
+    void placeholdersInsideValuesAreReplaced() {
+        PlaceholderReplacer replacer = new PlaceholderReplacer();
+        replacer.put("playersGraphColor", "#1E90FF");
+        replacer.put("serverBoxes", "color: '${playersGraphColor}'");
+
+        String result = replacer.apply("${serverBoxes} ${unknown}");
+
+        assertEquals("color: '#1E90FF' ${unknown}", result);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.pages;
+
+import com.djrapitops.plan.system.cache.DataChange;
+import com.djrapitops.plan.system.webserver.cache.FragmentCache;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.djrapitops.plan.data.store.keys.AnalysisKeys.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the cached sections of {@link AnalysisPage}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AnalysisPageFragmentTest {
+
+    private static final UUID SERVER_UUID = TestConstants.SERVER_UUID;
+
+    private static final Set<AnalysisPage.Fragment> SESSION_FRAGMENTS = EnumSet.of(
+            AnalysisPage.Fragment.SESSION_STRUCTURES,
+            AnalysisPage.Fragment.SERVER_HEALTH,
+            AnalysisPage.Fragment.MISC_TOTALS,
+            AnalysisPage.Fragment.ONLINE_ACTIVITY_NUMBERS,
+            AnalysisPage.Fragment.PLAYER_CHART_SERIES
+    );
+
+    @Test
+    void sessionChangeRendersSessionFragmentsAgain() {
+        for (AnalysisPage.Fragment fragment : AnalysisPage.Fragment.values()) {
+            FragmentCache fragmentCache = new FragmentCache();
+            AtomicInteger renders = new AtomicInteger();
+            Supplier<Map<String, Serializable>> renderer = () -> Collections.singletonMap("value", renders.incrementAndGet());
+
+            fragmentCache.getFragment(SERVER_UUID, fragment.name(), fragment.timeToLive, fragment.dependencies, renderer);
+            fragmentCache.invalidate(DataChange.session(SERVER_UUID, TestConstants.PLAYER_ONE_UUID));
+            fragmentCache.getFragment(SERVER_UUID, fragment.name(), fragment.timeToLive, fragment.dependencies, renderer);
+
+            int expected = SESSION_FRAGMENTS.contains(fragment) ? 2 : 1;
+            assertEquals(expected, renders.get(), fragment.name());
+        }
+    }
+
+    @Test
+    void pingTableIsRenderedAgainOnPingChange() {
+        assertTrue(AnalysisPage.Fragment.SESSION_STRUCTURES.dependencies.contains(DataChange.Type.PING));
+    }
+
+    @Test
+    void playerRemovalRendersPlayerFragmentsAgain() {
+        for (AnalysisPage.Fragment fragment : SESSION_FRAGMENTS) {
+            assertTrue(fragment.dependencies.contains(DataChange.Type.PLAYER_REMOVE), fragment.name());
+        }
+    }
+
+    @Test
+    void commandsDependOnlyOnTimeToLive() {
+        assertTrue(AnalysisKeyDependencies.of(COMMAND_COUNT, COMMAND_COUNT_UNIQUE).isEmpty());
+    }
+
+    @Test
+    void dependenciesOfTpsKeysDoNotIncludeSessions() {
+        assertFalse(AnalysisKeyDependencies.of(TPS_SERIES, PLAYERS_ALL_TIME_PEAK).contains(DataChange.Type.SESSION));
+    }
+
+    @Test
+    void keysWithoutKnownDependenciesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AnalysisKeyDependencies.of(SERVER_NAME));
+    }
+}
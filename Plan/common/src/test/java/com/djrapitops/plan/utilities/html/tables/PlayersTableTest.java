@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.CommonAPI;
 import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.utilities.uuid.UUIDUtility;
 import com.djrapitops.plugin.logging.console.TestPluginLogger;
@@ -52,6 +53,7 @@ class PlayersTableTest {
                 Mockito.mock(DBSystem.class),
                 Mockito.mock(UUIDUtility.class),
                 Mockito.mock(HookHandler.class),
+                Mockito.mock(PlaceholderValueCache.class),
                 new TestPluginLogger(),
                 new ConsoleErrorLogger(new TestPluginLogger())
         );
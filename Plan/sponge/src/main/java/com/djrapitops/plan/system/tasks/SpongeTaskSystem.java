@@ -26,6 +26,8 @@ import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
 import com.djrapitops.plan.system.tasks.server.ConfigStoreTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderValueRefreshTask;
+import com.djrapitops.plan.system.tasks.server.ServerSummaryRefreshTask;
 import com.djrapitops.plan.system.tasks.sponge.PingCountTimerSponge;
 import com.djrapitops.plan.system.tasks.sponge.SpongeTPSCountTimer;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -58,7 +60,8 @@ public class SpongeTaskSystem extends ServerTaskSystem {
             PeriodicAnalysisTask periodicAnalysisTask,
             PingCountTimerSponge pingCountTimer,
             LogsFolderCleanTask logsFolderCleanTask,
-            PlayersPageRefreshTask playersPageRefreshTask,
+            PlaceholderValueRefreshTask placeholderValueRefreshTask,
+            ServerSummaryRefreshTask serverSummaryRefreshTask,
             ConfigStoreTask configStoreTask,
             DBCleanTask dbCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
@@ -70,7 +73,8 @@ public class SpongeTaskSystem extends ServerTaskSystem {
                 bootAnalysisTask,
                 periodicAnalysisTask,
                 logsFolderCleanTask,
-                playersPageRefreshTask);
+                placeholderValueRefreshTask,
+                serverSummaryRefreshTask);
         this.plugin = plugin;
         this.shutdownHook = shutdownHook;
         this.pingCountTimer = pingCountTimer;
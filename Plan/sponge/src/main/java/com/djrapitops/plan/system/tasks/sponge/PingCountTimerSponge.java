@@ -23,12 +23,13 @@
  */
 package com.djrapitops.plan.system.tasks.sponge;
 
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.db.access.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingAccumulator;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -48,7 +49,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class PingCountTimerSponge extends AbsRunnable {
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingAccumulator> playerHistory;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -72,12 +73,13 @@ public class PingCountTimerSponge extends AbsRunnable {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Map<UUID, Ping> aggregates = new HashMap<>();
+        Iterator<Map.Entry<UUID, PingAccumulator>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingAccumulator> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingAccumulator accumulator = entry.getValue();
             Optional<Player> player = Sponge.getServer().getPlayer(uuid);
             if (player.isPresent()) {
                 int ping = getPing(player.get());
@@ -85,21 +87,25 @@ public class PingCountTimerSponge extends AbsRunnable {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                accumulator.add(time, ping);
+                if (accumulator.isIntervalFull()) {
+                    if (accumulator.hasValues()) {
+                        aggregates.put(uuid, accumulator.toPing(serverInfo.getServerUUID()));
+                    }
+                    accumulator.reset();
                 }
             } else {
                 iterator.remove();
             }
         }
+
+        if (!aggregates.isEmpty()) {
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(aggregates));
+        }
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingAccumulator());
     }
 
     public void removePlayer(Player player) {
@@ -46,7 +46,6 @@ public class VelocityTaskSystem extends TaskSystem {
     private final NetworkPageRefreshTask networkPageRefreshTask;
     private final PingCountTimerVelocity pingCountTimer;
     private final LogsFolderCleanTask logsFolderCleanTask;
-    private final PlayersPageRefreshTask playersPageRefreshTask;
     private final NetworkConfigStoreTask networkConfigStoreTask;
     private final DBCleanTask dbCleanTask;
     private final ExtensionServerMethodCallerTask extensionServerMethodCallerTask;
@@ -60,7 +59,6 @@ public class VelocityTaskSystem extends TaskSystem {
             NetworkPageRefreshTask networkPageRefreshTask,
             PingCountTimerVelocity pingCountTimer,
             LogsFolderCleanTask logsFolderCleanTask,
-            PlayersPageRefreshTask playersPageRefreshTask,
             NetworkConfigStoreTask networkConfigStoreTask,
             DBCleanTask dbCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
@@ -72,7 +70,6 @@ public class VelocityTaskSystem extends TaskSystem {
         this.networkPageRefreshTask = networkPageRefreshTask;
         this.pingCountTimer = pingCountTimer;
         this.logsFolderCleanTask = logsFolderCleanTask;
-        this.playersPageRefreshTask = playersPageRefreshTask;
         this.networkConfigStoreTask = networkConfigStoreTask;
         this.dbCleanTask = dbCleanTask;
         this.extensionServerMethodCallerTask = extensionServerMethodCallerTask;
@@ -95,8 +92,6 @@ public class VelocityTaskSystem extends TaskSystem {
             registerTask(pingCountTimer).runTaskTimer(startDelay, 40L);
         }
 
-        registerTask(playersPageRefreshTask).runTaskTimerAsynchronously(TimeAmount.toTicks(5L, TimeUnit.MINUTES), TimeAmount.toTicks(5L, TimeUnit.MINUTES));
-
         // +40 ticks / 2 seconds so that update check task runs first.
         long storeDelay = TimeAmount.toTicks(config.get(TimeSettings.CONFIG_UPDATE_INTERVAL), TimeUnit.MILLISECONDS) + 40;
         registerTask(networkConfigStoreTask).runTaskLaterAsynchronously(storeDelay);
@@ -24,12 +24,13 @@
 package com.djrapitops.plan.system.tasks.velocity;
 
 import com.djrapitops.plan.PlanVelocity;
-import com.djrapitops.plan.data.store.objects.DateObj;
-import com.djrapitops.plan.db.access.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.data.container.Ping;
+import com.djrapitops.plan.db.access.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
+import com.djrapitops.plan.system.tasks.PingAccumulator;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -53,7 +54,7 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class PingCountTimerVelocity extends AbsRunnable {
 
-    final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    final Map<UUID, PingAccumulator> playerHistory;
 
     private final PlanVelocity plugin;
     private final PlanConfig config;
@@ -80,12 +81,13 @@ public class PingCountTimerVelocity extends AbsRunnable {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Map<UUID, Ping> aggregates = new HashMap<>();
+        Iterator<Map.Entry<UUID, PingAccumulator>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingAccumulator> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingAccumulator accumulator = entry.getValue();
             Player player = plugin.getProxy().getPlayer(uuid).orElse(null);
             if (player != null) {
                 int ping = getPing(player);
@@ -93,21 +95,25 @@ public class PingCountTimerVelocity extends AbsRunnable {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                accumulator.add(time, ping);
+                if (accumulator.isIntervalFull()) {
+                    if (accumulator.hasValues()) {
+                        aggregates.put(uuid, accumulator.toPing(serverInfo.getServerUUID()));
+                    }
+                    accumulator.reset();
                 }
             } else {
                 iterator.remove();
             }
         }
+
+        if (!aggregates.isEmpty()) {
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(aggregates));
+        }
     }
 
     void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingAccumulator());
     }
 
     public void removePlayer(Player player) {